@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import net.formio.domain.AttendanceReason;
+import net.formio.domain.Collegue;
+import net.formio.domain.RegDate;
+import net.formio.domain.Registration;
+import net.formio.inmemory.MapParams;
+
+/**
+ * Input data of benchmarks, complements data of tests.
+ * @author Radek Beran
+ */
+final class BenchmarkData {
+
+	static MapParams newPersonParams(String pathSep) {
+		MapParams reqParams = new MapParams();
+		reqParams.put("person" + pathSep + "personId", "1");
+		reqParams.put("person" + pathSep + "firstName", "Michel");
+		reqParams.put("person" + pathSep + "lastName", "Rider");
+		reqParams.put("person" + pathSep + "salary", "40000");
+		reqParams.put("person" + pathSep + "phone", "728111222");
+		reqParams.put("person" + pathSep + "male", "false");
+		reqParams.put("person" + pathSep + "birthDate", "23-4-1985 10-30");
+		reqParams.put("person" + pathSep + "nation", "JEDI_KNIGHT");
+		return reqParams;
+	}
+	
+	static MapParams newRegistrationParams(String pathSep, int colleguesCount) {
+		MapParams reqParams = new MapParams();
+		reqParams.put("registration" + pathSep + "email", "registration@email.com");
+		reqParams.put("registration" + pathSep + "attendanceReasons", 
+			new String[] { AttendanceReason.COMPANY_INTEREST.name(), AttendanceReason.CERTIFICATION.name() });
+		for (int i = 0; i < colleguesCount; i++) {
+			String prefix = "registration" + pathSep + "collegues[" + i + "]" + pathSep;
+			reqParams.put(prefix + "name", "Collegue " + i);
+			reqParams.put(prefix + "email", "collegue" + i + "@email.com");
+			reqParams.put(prefix + "regDate" + pathSep + "month", "" + (i % 12 + 1));
+			reqParams.put(prefix + "regDate" + pathSep + "year", "2014");
+		}
+		return reqParams;
+	}
+	
+	static Registration newRegistration(int colleguesCount) {
+		Registration reg = new Registration(new HashSet<AttendanceReason>());
+		reg.setEmail("registration@email.com");
+		List<Collegue> collegues = new ArrayList<Collegue>();
+		for (int i = 0; i < colleguesCount; i++) {
+			Collegue collegue = new Collegue();
+			collegue.setName("Collegue " + i);
+			collegue.setEmail("collegue" + i + "@email.com");
+			collegue.setRegDate(new RegDate(i % 12 + 1, 2014));
+			collegues.add(collegue);
+		}
+		reg.setCollegues(collegues);
+		return reg;
+	}
+	
+	private BenchmarkData() {
+	}
+}
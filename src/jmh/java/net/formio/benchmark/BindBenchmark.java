@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormData;
+import net.formio.data.TestData;
+import net.formio.data.TestForms;
+import net.formio.data.TestParams;
+import net.formio.domain.Person;
+import net.formio.domain.Registration;
+import net.formio.format.Location;
+import net.formio.inmemory.MapParams;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binding of request parameters to form data.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class BindBenchmark {
+	private static final Location LOCATION = Location.ENGLISH;
+	
+	private MapParams personParams;
+	private MapParams registrationParams;
+	
+	@Setup
+	public void setUp() {
+		String pathSep = TestForms.PERSON_FORM.getConfig().getPathSeparator();
+		personParams = BenchmarkData.newPersonParams(pathSep);
+		registrationParams = TestParams.newRegistrationParams(pathSep);
+	}
+	
+	@Benchmark
+	public FormData<Person> bindPerson() {
+		return TestForms.PERSON_FORM.bind(personParams, LOCATION);
+	}
+	
+	@Benchmark
+	public FormData<Registration> bindRegistration() {
+		return TestForms.BASIC_REG_FORM.bind(registrationParams, LOCATION);
+	}
+	
+	@Benchmark
+	public FormData<Person> bindPersonToInstance() {
+		return TestForms.PERSON_FORM.bind(personParams, LOCATION, TestData.newPerson());
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.data.TestData;
+import net.formio.data.TestForms;
+import net.formio.domain.Car;
+import net.formio.domain.Person;
+import net.formio.domain.inputs.Profile;
+import net.formio.format.Location;
+import net.formio.validation.ValidationResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filling of forms with data, with and without validation.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class FillBenchmark {
+	private static final Location LOCATION = Location.ENGLISH;
+	
+	private FormData<Person> personData;
+	private FormData<Car> carData;
+	private FormData<Profile> profileData;
+	
+	@Setup
+	public void setUp() {
+		personData = new FormData<Person>(TestData.newPerson(), ValidationResult.empty);
+		carData = new FormData<Car>(TestData.newCar(), ValidationResult.empty);
+		profileData = new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty);
+	}
+	
+	@Benchmark
+	public FormMapping<Person> fillPerson() {
+		return TestForms.PERSON_FORM.fill(personData, LOCATION);
+	}
+	
+	@Benchmark
+	public FormMapping<Car> fillCar() {
+		return TestForms.CAR_FORM.fill(carData, LOCATION);
+	}
+	
+	@Benchmark
+	public FormMapping<Profile> fillProfile() {
+		return TestForms.ALL_FIELDS_FORM.fill(profileData, LOCATION);
+	}
+	
+	@Benchmark
+	public FormMapping<Person> fillAndValidatePerson() {
+		return TestForms.PERSON_FORM.fillAndValidate(personData, LOCATION);
+	}
+	
+	@Benchmark
+	public FormMapping<Profile> fillAndValidateProfile() {
+		return TestForms.ALL_FIELDS_FORM.fillAndValidate(profileData, LOCATION);
+	}
+}
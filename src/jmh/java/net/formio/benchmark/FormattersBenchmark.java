@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import net.formio.format.BasicFormatters;
+import net.formio.format.Formatters;
+import net.formio.format.Location;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and formatting of values using {@link BasicFormatters}.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class FormattersBenchmark {
+	private static final Location LOCATION = Location.CZECH;
+	private static final String DECIMAL_PATTERN = "#,##0.00";
+	
+	private Formatters formatters;
+	private Date date;
+	private LocalDate localDate;
+	private BigDecimal decimal;
+	
+	@Setup
+	public void setUp() {
+		formatters = new BasicFormatters();
+		date = new Date(1418000000000L);
+		localDate = LocalDate.of(2014, 12, 8);
+		decimal = new BigDecimal("1234567.89");
+	}
+	
+	@Benchmark
+	public Integer parseInteger() {
+		return formatters.parseFromString("1234567", Integer.class, null, LOCATION);
+	}
+	
+	@Benchmark
+	public Double parseDouble() {
+		return formatters.parseFromString("-1234,5678", Double.class, null, LOCATION);
+	}
+	
+	@Benchmark
+	public BigDecimal parseBigDecimal() {
+		return formatters.parseFromString("1234567,89", BigDecimal.class, DECIMAL_PATTERN, LOCATION);
+	}
+	
+	@Benchmark
+	public Date parseDate() {
+		return formatters.parseFromString("8.12.2014", Date.class, null, LOCATION);
+	}
+	
+	@Benchmark
+	public LocalDate parseLocalDate() {
+		return formatters.parseFromString("8.12.2014", LocalDate.class, null, LOCATION);
+	}
+	
+	@Benchmark
+	public String formatInteger() {
+		return formatters.makeString(Integer.valueOf(1234567), null, LOCATION);
+	}
+	
+	@Benchmark
+	public String formatBigDecimal() {
+		return formatters.makeString(decimal, DECIMAL_PATTERN, LOCATION);
+	}
+	
+	@Benchmark
+	public String formatDate() {
+		return formatters.makeString(date, null, LOCATION);
+	}
+	
+	@Benchmark
+	public String formatLocalDate() {
+		return formatters.makeString(localDate, null, LOCATION);
+	}
+}
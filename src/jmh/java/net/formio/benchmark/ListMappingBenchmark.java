@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.data.TestForms;
+import net.formio.domain.Registration;
+import net.formio.format.Location;
+import net.formio.inmemory.MapParams;
+import net.formio.render.FormRenderer;
+import net.formio.validation.ValidationResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binding, filling and rendering of list mapping with variable count of rows.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ListMappingBenchmark {
+	private static final Location LOCATION = Location.ENGLISH;
+	
+	@Param({ "10", "100", "1000" })
+	private int rows;
+	
+	private MapParams params;
+	private FormData<Registration> formData;
+	private FormMapping<Registration> filledForm;
+	private FormRenderer renderer;
+	
+	@Setup
+	public void setUp() {
+		params = BenchmarkData.newRegistrationParams(TestForms.BASIC_REG_FORM.getConfig().getPathSeparator(), rows);
+		formData = new FormData<Registration>(BenchmarkData.newRegistration(rows), ValidationResult.empty);
+		filledForm = TestForms.BASIC_REG_FORM.fill(formData, LOCATION);
+		renderer = new FormRenderer(LOCATION);
+	}
+	
+	@Benchmark
+	public FormData<Registration> bind() {
+		return TestForms.BASIC_REG_FORM.bind(params, LOCATION);
+	}
+	
+	@Benchmark
+	public FormMapping<Registration> fill() {
+		return TestForms.BASIC_REG_FORM.fill(formData, LOCATION);
+	}
+	
+	@Benchmark
+	public String render() {
+		return renderer.renderElement(filledForm);
+	}
+}
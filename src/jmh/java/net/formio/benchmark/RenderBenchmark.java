@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.data.TestData;
+import net.formio.data.TestForms;
+import net.formio.domain.Car;
+import net.formio.domain.inputs.Profile;
+import net.formio.format.Location;
+import net.formio.render.CompiledFormRenderer;
+import net.formio.render.FormRenderer;
+import net.formio.validation.ValidationResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Rendering of filled forms to string and to a writer.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class RenderBenchmark {
+	private static final Location LOCATION = Location.ENGLISH;
+	
+	private FormRenderer renderer;
+	private CompiledFormRenderer<Profile> compiledProfileRenderer;
+	private FormMapping<Profile> filledProfile;
+	private FormMapping<Profile> validatedProfile;
+	private FormMapping<Car> filledCar;
+	
+	@Setup
+	public void setUp() {
+		renderer = new FormRenderer(LOCATION);
+		compiledProfileRenderer = renderer.compile(TestForms.ALL_FIELDS_FORM);
+		FormData<Profile> profileData = new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty);
+		filledProfile = TestForms.ALL_FIELDS_FORM.fill(profileData, LOCATION);
+		validatedProfile = TestForms.ALL_FIELDS_FORM.fillAndValidate(profileData, LOCATION);
+		filledCar = TestForms.CAR_ACCESSIBILITY_FORM.fill(new FormData<Car>(TestData.newCar(), ValidationResult.empty), LOCATION);
+	}
+	
+	@Benchmark
+	public String renderProfile() {
+		return renderer.renderElement(filledProfile);
+	}
+	
+	@Benchmark
+	public String renderValidatedProfile() {
+		return renderer.renderElement(validatedProfile);
+	}
+	
+	@Benchmark
+	public String renderCar() {
+		return renderer.renderElement(filledCar);
+	}
+	
+	@Benchmark
+	public void renderProfileToWriter(Blackhole bh) throws IOException {
+		renderer.renderElement(new BlackholeWriter(bh), filledProfile);
+	}
+	
+	@Benchmark
+	public void renderCompiledProfileToWriter(Blackhole bh) throws IOException {
+		compiledProfileRenderer.renderElement(new BlackholeWriter(bh), filledProfile);
+	}
+	
+	/**
+	 * Writer that consumes written markup without storing it 
+	 * (simulates writer of HTTP response).
+	 */
+	private static final class BlackholeWriter extends Writer {
+		private final Blackhole bh;
+		
+		BlackholeWriter(Blackhole bh) {
+			this.bh = bh;
+		}
+		
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			bh.consume(cbuf);
+		}
+		
+		@Override
+		public void write(String str, int off, int len) {
+			bh.consume(str);
+		}
+		
+		@Override
+		public Writer append(CharSequence csq) {
+			bh.consume(csq);
+			return this;
+		}
+		
+		@Override
+		public Writer append(CharSequence csq, int start, int end) {
+			bh.consume(csq);
+			return this;
+		}
+
+		@Override
+		public void flush() {
+			// nothing to flush
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	}
+}
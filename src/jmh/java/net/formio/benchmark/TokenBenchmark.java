@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.Forms;
+import net.formio.data.MockRequestContext;
+import net.formio.data.RequestContext;
+import net.formio.domain.Person;
+import net.formio.format.Location;
+import net.formio.security.HashTokenAuthorizer;
+import net.formio.security.HmacTokenAuthorizer;
+import net.formio.security.TokenAuthorizer;
+import net.formio.validation.ValidationResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generation and validation of authorization tokens by concurrent threads.
+ * @author Radek Beran
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(3)
+public class TokenBenchmark {
+	private static final String SECRET = "e#2fgTN^f31";
+	private static final TokenAuthorizer HASH_AUTHORIZER = new HashTokenAuthorizer();
+	private static final TokenAuthorizer HMAC_AUTHORIZER = new HmacTokenAuthorizer();
+	private static final FormMapping<Person> SECURED_PERSON_FORM = Forms.basic(Person.class, "person")
+		.fields("personId", "firstName", "lastName", "salary", "phone", "male", "nation")
+		.secured(true)
+		.build(Forms.config().tokenAuthorizer(HMAC_AUTHORIZER).build());
+	
+	private String hashToken;
+	private String hmacToken;
+	private FormData<Person> formData;
+	private RequestContext ctx;
+	
+	@Setup
+	public void setUp() {
+		hashToken = HASH_AUTHORIZER.generateToken(SECRET);
+		hmacToken = HMAC_AUTHORIZER.generateToken(SECRET);
+		formData = new FormData<Person>(new Person("Michael", "Rider"), ValidationResult.empty);
+		ctx = new MockRequestContext();
+	}
+	
+	@Benchmark
+	public String generateHashToken() {
+		return HASH_AUTHORIZER.generateToken(SECRET);
+	}
+	
+	@Benchmark
+	public String generateHmacToken() {
+		return HMAC_AUTHORIZER.generateToken(SECRET);
+	}
+	
+	@Benchmark
+	public boolean validateHashToken() {
+		return HASH_AUTHORIZER.isValidToken(hashToken, SECRET);
+	}
+	
+	@Benchmark
+	public boolean validateHmacToken() {
+		return HMAC_AUTHORIZER.isValidToken(hmacToken, SECRET);
+	}
+	
+	@Benchmark
+	public FormMapping<Person> fillSecuredForm() {
+		return SECURED_PERSON_FORM.fill(formData, Location.ENGLISH, ctx);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.formio.FormMapping;
+import net.formio.data.TestForms;
+import net.formio.domain.Registration;
+import net.formio.format.Location;
+import net.formio.inmemory.MapParams;
+import net.formio.validation.BeanValidator;
+import net.formio.validation.ValidationResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of list mapping with 50 rows.
+ * @author Radek Beran
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ValidationBenchmark {
+	private static final Location LOCATION = Location.ENGLISH;
+	private static final int ROWS = 50;
+	
+	private FormMapping<Registration> form;
+	private MapParams params;
+	private Registration registration;
+	private BeanValidator beanValidator;
+	
+	@Setup
+	public void setUp() {
+		form = TestForms.BASIC_REG_FORM;
+		params = BenchmarkData.newRegistrationParams(form.getConfig().getPathSeparator(), ROWS);
+		registration = BenchmarkData.newRegistration(ROWS);
+		beanValidator = form.getConfig().getBeanValidator();
+	}
+	
+	@Benchmark
+	public ValidationResult bindAndValidateList() {
+		return form.bind(params, LOCATION).getValidationResult();
+	}
+	
+	@Benchmark
+	public ValidationResult validateBean() {
+		return beanValidator.validate(registration, LOCATION.getLocale());
+	}
+}
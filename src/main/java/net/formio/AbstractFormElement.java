@@ -28,7 +28,6 @@ import javax.validation.constraints.NotNull;
 import net.formio.binding.DefaultBeanExtractor;
 import net.formio.binding.PropertyMethodRegex;
 import net.formio.internal.FormUtils;
-import net.formio.render.RenderUtils;
 import net.formio.validation.ConstraintViolationMessage;
 import net.formio.validation.Severity;
 import net.formio.validation.Validator;
@@ -55,6 +54,13 @@ public abstract class AbstractFormElement<T> implements FormElement<T> {
 		this.validators = validators; 
 	}
 	
+	/**
+	 * Returns name, identifiers and label key of this element computed when the element 
+	 * was attached to its parent.
+	 * @return
+	 */
+	abstract ElementNames getElementNames();
+	
 	/**
 	 * Returns validation messages of form element.
 	 * @return
@@ -195,6 +201,7 @@ public abstract class AbstractFormElement<T> implements FormElement<T> {
 		return required;
 	}
 	
+	@SuppressWarnings("unchecked") // value type of found element is declared by the caller, it cannot be checked (as in FormUtils.findElementRecursive)
 	@Override
 	public <U> FormElement<U> findElement(Class<U> cls, String name) {
 		FormElement<U> foundEl = null;
@@ -204,7 +211,9 @@ public abstract class AbstractFormElement<T> implements FormElement<T> {
 			}
 			if (foundEl == null) {
 				FormMapping<?> root = getRoot();
-				if (root != null) {
+				if (root instanceof BasicFormMapping<?>) {
+					foundEl = (FormElement<U>)((BasicFormMapping<?>)root).getElementByName(name);
+				} else if (root != null) {
 					foundEl = FormUtils.findElementRecursive(cls, name, root);
 				}
 			}
@@ -255,14 +264,12 @@ public abstract class AbstractFormElement<T> implements FormElement<T> {
 	
 	@Override
 	public String getElementId() {
-		return RenderUtils.getElementIdForName(getName());
+		return getElementNames().elementId;
 	}
 	
 	@Override
 	public String getElementPlaceholderId() {
-		Config c = getConfig();
-		String sep = c != null ? c.getPathSeparator() : Config.DEFAULT_PATH_SEP;
-		return getElementPlaceholderId(getName(), sep);
+		return getElementNames().elementPlaceholderId;
 	}
 	
 	public static String getElementPlaceholderId(String elementName, String pathSep) {
@@ -271,9 +278,8 @@ public abstract class AbstractFormElement<T> implements FormElement<T> {
 	
 	@Override
 	public String getElementIdWithIndex(int index) {
-		Config c = getConfig();
-		String sep = c != null ? c.getPathSeparator() : Config.DEFAULT_PATH_SEP;
-		return getElementId() + sep + index;
+		ElementNames names = getElementNames();
+		return names.elementId + names.pathSeparator + index;
 	}
 	
 	@Override
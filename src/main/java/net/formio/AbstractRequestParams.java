@@ -16,8 +16,6 @@
  */
 package net.formio;
 
-import java.util.Iterator;
-
 import net.formio.ajax.AjaxParams;
 import net.formio.internal.FormUtils;
 import net.formio.upload.UploadedFile;
@@ -27,6 +25,8 @@ import net.formio.upload.UploadedFile;
  * @author Radek Beran
  */
 public abstract class AbstractRequestParams implements RequestParams {
+	
+	private volatile RequestParamsIndex paramsIndex;
 
 	@Override
 	public String getParamValue(String paramName) {
@@ -74,18 +74,27 @@ public abstract class AbstractRequestParams implements RequestParams {
 		return sb.toString();
 	}
 	
-	protected boolean containsParam(String paramName) {
-		boolean found = false;
-		Iterable<String> params = getParamNames();
-		if (params != null) {
-			for (Iterator<String> it = params.iterator(); it.hasNext(); ) {
-				String param = it.next();
-				if (param != null && param.equals(paramName)) {
-					found = true;
-					break;
-				}
-			}
+	/**
+	 * Returns index of parameter names that is created when it is requested for the first time.
+	 * @return index of parameter names
+	 */
+	public RequestParamsIndex getParamsIndex() {
+		RequestParamsIndex index = this.paramsIndex;
+		if (index == null) {
+			index = new RequestParamsIndex(getParamNames());
+			this.paramsIndex = index;
 		}
-		return found;
+		return index;
+	}
+	
+	/**
+	 * Must be called by subclasses when names of parameters are changed.
+	 */
+	protected void invalidateParamsIndex() {
+		this.paramsIndex = null;
+	}
+	
+	protected boolean containsParam(String paramName) {
+		return getParamsIndex().contains(paramName);
 	}
 }
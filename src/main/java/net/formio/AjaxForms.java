@@ -16,7 +16,6 @@
  */
 package net.formio;
 
-import java.util.Iterator;
 
 import net.formio.ajax.AjaxParams;
 import net.formio.ajax.JsEvent;
@@ -66,7 +65,7 @@ class AjaxForms {
 		AjaxAction<T> action = null;
 		for (AjaxHandler<?> ev : element.getProperties().getAjaxHandlers()) {
 			if (ev.getRequestParam() != null && !ev.getRequestParam().isEmpty()
-				&& containsParam(requestParams.getParamNames(), ev.getRequestParam())) {
+				&& RequestParamsIndex.of(requestParams).contains(ev.getRequestParam())) {
 				action = (AjaxAction<T>)ev.getAction();
 				break;
 			}
@@ -83,20 +82,6 @@ class AjaxForms {
 		return action;
 	}
 
-	private static boolean containsParam(Iterable<String> paramNames, String requestParam) {
-		boolean found = false;
-		if (paramNames != null && requestParam != null) {
-			for (Iterator<String> it = paramNames.iterator(); it.hasNext();) {
-				String p = it.next();
-				if (p != null && p.equals(requestParam)) {
-					found = true;
-					break;
-				}
-			}
-		}
-		return found;
-	}
-
 	private AjaxForms() {
 		throw new AssertionError("Not instantiable, use static members.");
 	}
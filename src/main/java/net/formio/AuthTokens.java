@@ -17,19 +17,26 @@
 package net.formio;
 
 import net.formio.data.RequestContext;
-import net.formio.security.PasswordGenerator;
+import net.formio.security.InvalidTokenException;
+import net.formio.security.SecurityUtils;
 import net.formio.security.TokenAuthorizer;
 import net.formio.security.TokenMissingException;
 
 /**
  * Operations with authorization tokens.
+ * Secret of the token is either generated and stored in "user related" storage
+ * for each filled form, or (stateless tokens) it is derived from server-side signing key, 
+ * root mapping path and id of user's session, so no storage is needed.
  * @author Radek Beran
  */
 final class AuthTokens {
 	
 	/** Prefix of key under which the secret is stored. */
 	static final String SECRET_KEY_PREFIX = "formio_secret_";
-	static final String ALLOWED_TOKEN_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789_@#$%^&*";
+	/** Count of random bytes of generated secret. */
+	static final int SECRET_BYTES = 16;
+	/** Separates root mapping path, session id and signing key in the secret of stateless token. */
+	static final String STATELESS_SECRET_SEPARATOR = "|";
 	
 	/**
 	 * Generates authorization token and stores it in "user related" storage (on the server)
@@ -40,10 +47,33 @@ final class AuthTokens {
 	 * @return generated token
 	 */
 	static String generateAuthToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath) {
+		return generateAuthToken(ctx, tokenAuthorizer, rootMappingPath, null);
+	}
+	
+	/**
+	 * Generates authorization token. If signing key is given, stateless token is generated,
+	 * otherwise the secret of token is stored in "user related" storage (on the server)
+	 * for later verification.
+	 * @param ctx
+	 * @param tokenAuthorizer
+	 * @param rootMappingPath
+	 * @param signingKey server-side key for stateless tokens, or {@code null}
+	 * @return generated token
+	 */
+	static String generateAuthToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath, String signingKey) {
 		if (ctx == null) {
 			throw new IllegalStateException(RequestContext.class.getSimpleName() + " is required when the form is " + 
 				"defined as secured. Please specify not null context in fill method.");
 		}
+		if (signingKey != null) {
+			String secret = getStatelessSecret(ctx, rootMappingPath, signingKey);
+			if (secret == null) {
+				throw new IllegalStateException("Session of the user is required for stateless authorization token. " + 
+					"Please create the session before the secured form is filled, or provide its id by " + 
+					RequestContext.class.getSimpleName() + ".getSessionId.");
+			}
+			return tokenAuthorizer.generateToken(ctx.secretWithUserIdentification(secret));
+		}
 		String genSecret = generateSecret();
 		if (ctx.getSessionStorage() == null) {
 			throw new IllegalStateException("User related storage must exist to store CSRF token.");
@@ -64,6 +94,26 @@ final class AuthTokens {
 	 * @throws InvalidTokenException if token is invalid
 	 */
 	static void verifyAuthToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath, RequestParams requestParams, boolean rootMapping, String pathSep) {
+		verifyAuthToken(ctx, tokenAuthorizer, rootMappingPath, requestParams, rootMapping, pathSep, null);
+	}
+	
+	/**
+	 * Verification of authorization token. Must be called after the verification is done on nested
+	 * mappings.
+	 * @param ctx
+	 * @param tokenAuthorizer
+	 * @param rootMappingPath
+	 * @param requestParams
+	 * @param rootMapping true if this method is called from root mapping
+	 * @param pathSep
+	 * @param signingKey server-side key for stateless tokens, or {@code null}
+	 * @throws InvalidTokenException if token is invalid
+	 */
+	static void verifyAuthToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath, RequestParams requestParams, boolean rootMapping, String pathSep, String signingKey) {
+		if (signingKey != null) {
+			verifyStatelessAuthToken(ctx, tokenAuthorizer, rootMappingPath, requestParams, pathSep, signingKey);
+			return;
+		}
 		String secretKey = AuthTokens.getRootMappingSecretKey(rootMappingPath);
 		try {
 			if (ctx == null) {
@@ -93,6 +143,38 @@ final class AuthTokens {
 		}
 	}
 	
+	private static void verifyStatelessAuthToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath, RequestParams requestParams, String pathSep, String signingKey) {
+		if (ctx == null) {
+			throw new IllegalStateException(RequestContext.class.getSimpleName() + " is required when the form is " + 
+				"defined as secured. Please specify not null context in bind method.");
+		}
+		String token = getAuthTokenFromRequest(requestParams, rootMappingPath, pathSep);
+		if ("".equals(token)) {
+			throw new TokenMissingException("Unauthorized attempt. Authorization token is missing! It should be posted as " + Forms.AUTH_TOKEN_FIELD_NAME + 
+				" field. Maybe this is blocked CSRF attempt or the required field with token is not rendered in the form correctly.");
+		}
+		String secret = getStatelessSecret(ctx, rootMappingPath, signingKey);
+		if (secret == null) {
+			// session of the user is missing or expired, the token cannot belong to it
+			throw new InvalidTokenException("Unauthorized attempt. Session of the user the authorization token was issued for does not exist.", token);
+		}
+		// InvalidTokenException is thrown for invalid or expired token
+		tokenAuthorizer.validateToken(token, ctx.secretWithUserIdentification(secret));
+	}
+	
+	/**
+	 * Returns secret of stateless token, or {@code null} if there is no session of the user.
+	 */
+	private static String getStatelessSecret(RequestContext ctx, String rootMappingPath, String signingKey) {
+		// user identification (like user agent or IP address) can be chosen by an attacker who requests the form,
+		// the token must be bound to session of the user
+		String sessionId = ctx.getSessionId();
+		if (sessionId == null || sessionId.isEmpty()) {
+			return null;
+		}
+		return rootMappingPath + STATELESS_SECRET_SEPARATOR + sessionId + STATELESS_SECRET_SEPARATOR + signingKey;
+	}
+	
 	private static String getRootMappingSecretKey(String rootMappingPath) {
 		return SECRET_KEY_PREFIX + rootMappingPath;
 	}
@@ -106,7 +188,7 @@ final class AuthTokens {
 	}
 	
 	private static String generateSecret() {
-		return PasswordGenerator.generatePassword(20, ALLOWED_TOKEN_CHARS);
+		return SecurityUtils.generateSecret(SECRET_BYTES);
 	}
 	
 	private AuthTokens() {
@@ -19,6 +19,7 @@ package net.formio;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -38,6 +39,7 @@ import net.formio.internal.FormUtils;
 import net.formio.props.FormMappingProperties;
 import net.formio.props.FormMappingPropertiesImpl;
 import net.formio.upload.MaxSizeExceededError;
+import net.formio.upload.UploadRejectedError;
 import net.formio.upload.RequestProcessingError;
 import net.formio.upload.UploadedFile;
 import net.formio.validation.ConstraintViolationMessage;
@@ -63,12 +65,19 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 	final Map<String, FormField<?>> fields;
 	/** Mapping simple property names to nested mappings. Property name is a part of full path of nested mapping. */
 	final Map<String, FormMapping<?>> nested;
+	/** Fields and nested mappings ordered as they were declared. */
+	private final List<FormElement<?>> elements;
 	final ValidationResult validationResult;
 	final FormMappingProperties formProperties;
 	final boolean secured;
 	final String labelKey;
 	final int order;
 	final Integer index;
+	/** Configuration of this mapping, of its parent or default configuration. */
+	private final Config effectiveConfig;
+	private final ElementNames names;
+	/** Lazily built index of all elements of this (root) mapping by their names. */
+	private volatile Map<String, FormElement<?>> elementsByName;
 	
 	/**
 	 * Constructs a mapping from the given builder.
@@ -80,6 +89,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		super(builder.parent, builder.propertyName, builder.validators);
 		this.config = builder.config;
 		this.dataClass = assertNotNullArg(builder.dataClass, "data class must be filled before configuring fields");
+		this.effectiveConfig = effectiveConfig(builder.config, builder.parent, this.dataClass);
 		if (builder.instantiator != null) {
 			this.instantiator = builder.instantiator; 
 		} else {
@@ -89,13 +99,24 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		this.secured = builder.secured;
 		this.labelKey = builder.labelKey;
 		this.validationResult = builder.validationResult;
-		this.formProperties = new FormMappingPropertiesImpl(builder.properties);
+		this.formProperties = builder.srcProperties != null ? builder.srcProperties : new FormMappingPropertiesImpl(builder.properties);
 		this.order = builder.order;
 		this.index = builder.index;
-		this.fields = simpleCopy ? Collections.unmodifiableMap(builder.fields) : 
-			Clones.fieldsWithParent(this, builder.fields);
-		this.nested = simpleCopy ? Collections.unmodifiableMap(builder.nested) : 
-			Clones.mappingsWithParent(this, builder.nested, builder.dataClass, getConfig());
+		// name must be known before the fields and nested mappings are attached to this mapping
+		String pathSep = getPathSeparator();
+		this.names = new ElementNames(ElementNames.nameOf(this.parent, pathSep, this.propertyName, this.index), pathSep, this.labelKey);
+		Map<String, FormField<?>> srcFields = builder.fields;
+		Map<String, FormMapping<?>> srcNested = builder.nested;
+		if (builder.elementsFill != null) {
+			// filled fields and nested mappings are attached directly to this mapping
+			srcFields = builder.elementsFill.fillFields(this);
+			srcNested = builder.elementsFill.fillNestedMappings(this);
+		}
+		this.fields = simpleCopy ? Collections.unmodifiableMap(srcFields) : 
+			Clones.fieldsWithParent(this, srcFields);
+		this.nested = simpleCopy ? Collections.unmodifiableMap(srcNested) : 
+			Clones.mappingsWithParent(this, srcNested, builder.dataClass, getConfig());
+		this.elements = orderedElements(this.fields, this.nested);
 	}
 	
 	/**
@@ -132,21 +153,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 
 	@Override
 	public String getName() {
-		String name = null;
-		if (getParent() != null) {
-			String pathSep = getPathSeparator(); 
-			if (index != null) {
-				name = getParent().getName() + pathSep + propertyName + "[" + index + "]";
-			} else {
-				name = getParent().getName() + pathSep + propertyName;
-			}
-		} else {
-			if (index != null) {
-				name = propertyName + "[" + index + "]";
-			} else {
-				name = propertyName;
-			}
-		}
+		String name = names.name;
 		if (name == null || name.isEmpty()) {
 			throw new IllegalStateException("Name must be filled");
 		}
@@ -175,11 +182,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 	
 	@Override
 	public List<FormElement<?>> getElements() {
-		List<FormElement<?>> elems = new ArrayList<FormElement<?>>();
-		elems.addAll(this.nested.values());
-		elems.addAll(this.fields.values());
-		Collections.sort(elems, new FormElementOrderAscComparator());
-		return Collections.unmodifiableList(elems);
+		return this.elements;
 	}
 	
 	@Override
@@ -202,7 +205,8 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 	
 	@Override
 	public Map<String, FormMapping<?>> getNested() {
-		return Collections.unmodifiableMap(nested);
+		// already unmodifiable
+		return nested;
 	}
 	
 	@Override
@@ -329,9 +333,10 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 				givenOrCfgLoc));
 		}
 		
-		if (!(error instanceof MaxSizeExceededError) && this.secured) {
+		if (!(error instanceof MaxSizeExceededError || error instanceof UploadRejectedError) && this.secured) {
 			// Must be executed after processing of nested mappings
-			AuthTokens.verifyAuthToken(context, getConfig().getTokenAuthorizer(), getRootMappingPath(), paramsProvider, isRootMapping(), getPathSeparator());
+			AuthTokens.verifyAuthToken(context, getConfig().getTokenAuthorizer(), getRootMappingPath(), paramsProvider, isRootMapping(), getPathSeparator(), 
+				getConfig().getAuthTokenSigningKey());
 		}
 		
 		// binding data from "values" to resulting object for this mapping
@@ -361,11 +366,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 
 	@Override
 	public String getLabelKey() {
-		String key = labelKey;
-		if (key == null) {
-			key = FormUtils.labelKeyForName(getName());
-		}
-		return key;
+		return names.labelKey;
 	}
 	
 	/**
@@ -379,15 +380,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 	
 	@Override
 	public Config getConfig() {
-		Config cfg = this.config;
-		if (cfg == null && this.parent != null) {
-			cfg = this.parent.getConfig();
-		}
-		if (cfg == null) {
-			// fallback to default config
-			cfg = Forms.defaultConfig(this.dataClass);
-		}
-		return cfg;
+		return this.effectiveConfig;
 	}
 	
 	@Override
@@ -444,6 +437,48 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return getConfig().getPathSeparator();
 	}
 	
+	private static List<FormElement<?>> orderedElements(Map<String, FormField<?>> fields, Map<String, FormMapping<?>> nested) {
+		List<FormElement<?>> elems = new ArrayList<FormElement<?>>(nested.size() + fields.size());
+		elems.addAll(nested.values());
+		elems.addAll(fields.values());
+		Collections.sort(elems, new FormElementOrderAscComparator());
+		return Collections.unmodifiableList(elems);
+	}
+	
+	private static Config effectiveConfig(Config config, FormMapping<?> parent, Class<?> dataClass) {
+		Config cfg = config;
+		if (cfg == null && parent != null) {
+			cfg = parent.getConfig();
+		}
+		if (cfg == null) {
+			// fallback to default config
+			cfg = Forms.defaultConfig(dataClass);
+		}
+		return cfg;
+	}
+	
+	@Override
+	ElementNames getElementNames() {
+		return this.names;
+	}
+	
+	/**
+	 * Returns element of this mapping (including this mapping, nested elements and items of lists) with given name, 
+	 * or {@code null}. Elements are indexed by name on first use.
+	 * @param name
+	 * @return
+	 */
+	FormElement<?> getElementByName(String name) {
+		Map<String, FormElement<?>> index = this.elementsByName;
+		if (index == null) {
+			Map<String, FormElement<?>> elems = new HashMap<String, FormElement<?>>();
+			FormUtils.putElementsByName(this, elems);
+			index = Collections.unmodifiableMap(elems);
+			this.elementsByName = index;
+		}
+		return index.get(name);
+	}
+	
 	ValidationResult validate(Locale locale, Class<?> ... validationGroups) {
 		Collection<ValidationResult> validationResults = new ArrayList<ValidationResult>();
 		if (getFilledObject() != null) {
@@ -502,26 +537,36 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return outputData;
 	}
 	
-	BasicFormMappingBuilder<T> fillInternal(FormData<T> editedObj, Location loc, RequestContext ctx) {
+	BasicFormMappingBuilder<T> fillInternal(final FormData<T> editedObj, Location loc, final RequestContext ctx) {
 		final Location givenOrCfgLoc = getLocation(loc);
-		Map<String, FormMapping<?>> filledNestedMappings = fillNestedMappings(editedObj, givenOrCfgLoc, ctx);
 		
-		// Preparing values for this mapping
-		Map<String, Object> propValues = gatherPropertyValues(editedObj.getData(), FormUtils.getPropertiesFromFields(fields), ctx);
-		
-		// Fill the definitions of fields of this mapping with prepared values
-		Map<String, FormField<?>> filledFields = fillFields(
-			propValues, 
-			editedObj.getValidationResult().getFieldMessages(),
-			-1, 
-			givenOrCfgLoc);
-
-		// Returning copy of this form that is filled with form data
+		// Returning copy of this form that is filled with form data, fields and nested mappings 
+		// are filled when the copy is constructed
 		BasicFormMappingBuilder<T> builder = new BasicFormMappingBuilder<T>(this, 
-			filledFields, 
-			Collections.unmodifiableMap(filledNestedMappings))
+			Collections.<String, FormField<?>>emptyMap(), 
+			Collections.<String, FormMapping<?>>emptyMap())
 			.filledObject(editedObj.getData())
 			.validationResult(editedObj.getValidationResult());
+		builder.elementsFill = new ElementsFill() {
+			@Override
+			public Map<String, FormField<?>> fillFields(FormMapping<?> parent) {
+				// Preparing values for this mapping
+				Map<String, Object> propValues = gatherPropertyValues(editedObj.getData(), FormUtils.getPropertiesFromFields(fields), ctx);
+				
+				// Fill the definitions of fields of this mapping with prepared values
+				return BasicFormMapping.this.fillFields(
+					parent,
+					propValues, 
+					editedObj.getValidationResult().getFieldMessages(),
+					-1, 
+					givenOrCfgLoc);
+			}
+			
+			@Override
+			public Map<String, FormMapping<?>> fillNestedMappings(FormMapping<?> parent) {
+				return BasicFormMapping.this.fillNestedMappings(parent, editedObj, givenOrCfgLoc, ctx);
+			}
+		};
 		return builder;
 	}
 	
@@ -537,7 +582,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		Map<String, Object> propValues = new LinkedHashMap<String, Object>(beanValues);
 		if (isRootMapping() && secured) {
 			propValues.put(Forms.AUTH_TOKEN_FIELD_NAME, 
-				AuthTokens.generateAuthToken(ctx, getConfig().getTokenAuthorizer(), getRootMappingPath()));
+				AuthTokens.generateAuthToken(ctx, getConfig().getTokenAuthorizer(), getRootMappingPath(), getConfig().getAuthTokenSigningKey()));
 		}
 		return Collections.unmodifiableMap(propValues);
 	}
@@ -550,7 +595,17 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return rootMapping.getName();
 	}
 
+	/**
+	 * Returns fields of this mapping filled with given values and attached to given parent.
+	 * @param parent filled mapping that is being constructed
+	 * @param propValues
+	 * @param fieldMsgs
+	 * @param indexInList
+	 * @param loc
+	 * @return
+	 */
 	Map<String, FormField<?>> fillFields(
+		FormMapping<?> parent,
 		Map<String, Object> propValues, 
 		Map<String, List<ConstraintViolationMessage>> fieldMsgs, 
 		int indexInList, 
@@ -578,7 +633,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 				if (fieldMessages != null && !fieldMessages.isEmpty()) {
 					preferedStringValue = getOriginalStringValueFromParseError(fieldMessages);
 				}
-				filledField = createFilledFormField((FormField<Object>)field, value, loc, preferedStringValue);
+				filledField = createFilledFormField(parent, (FormField<Object>)field, value, loc, preferedStringValue);
 			}
 			filledFields.put(propertyName, filledField);
 		}
@@ -586,7 +641,15 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return filledFields;
 	}
 
-	Map<String, FormMapping<?>> fillNestedMappings(FormData<T> editedObj, Location loc, RequestContext ctx) {
+	/**
+	 * Returns nested mappings of this mapping filled with given data and attached to given parent.
+	 * @param parent filled mapping that is being constructed
+	 * @param editedObj
+	 * @param loc
+	 * @param ctx
+	 * @return
+	 */
+	Map<String, FormMapping<?>> fillNestedMappings(FormMapping<?> parent, FormData<T> editedObj, Location loc, RequestContext ctx) {
 		Map<String, FormMapping<?>> newNestedMappings = new LinkedHashMap<String, FormMapping<?>>();
 		// For each definition of nested mapping, fill this mapping with edited data -> filled mapping
 		for (Map.Entry<String, FormMapping<?>> e : this.nested.entrySet()) {
@@ -600,13 +663,30 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 				// the outer report is propagated to nested
 				FormData<Object> formData = new FormData<Object>(data, editedObj.getValidationResult());
 				FormMapping<Object> mapping = (FormMapping<Object>)e.getValue();
-				filledMapping = mapping.fill(formData, loc, ctx);
+				filledMapping = filledNestedMapping(mapping, parent, formData, loc, ctx);
 			}
 			newNestedMappings.put(e.getKey(), filledMapping);
 		}
 		return newNestedMappings;
 	}
 	
+	/**
+	 * Returns given nested mapping filled with given data. Filled {@link BasicFormMapping} is constructed 
+	 * directly with given parent (it is not copied again when attached to the parent).
+	 * @param mapping
+	 * @param parent filled mapping that is being constructed
+	 * @param formData
+	 * @param loc
+	 * @param ctx
+	 * @return
+	 */
+	static <U> FormMapping<U> filledNestedMapping(FormMapping<U> mapping, FormMapping<?> parent, FormData<U> formData, Location loc, RequestContext ctx) {
+		if (mapping instanceof BasicFormMapping) {
+			return ((BasicFormMapping<U>)mapping).fillInternal(formData, loc, ctx).parent(parent).build(mapping.getConfig());
+		}
+		return mapping.fill(formData, loc, ctx);
+	}
+	
 	/**
 	 * Returns nested object extracted as value of given property of given data.
 	 * @param propName
@@ -661,7 +741,7 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return values;
 	}
 
-	private <U> FormField<U> createFilledFormField(final FormField<U> field, U value, Location loc, String preferedStringValue) {
+	private <U> FormField<U> createFilledFormField(FormMapping<?> parent, final FormField<U> field, U value, Location loc, String preferedStringValue) {
 		ChoiceProvider<U> choiceProvider = field.getChoices();
 		if (choiceProvider == null && field.getType() != null && !field.getType().isEmpty()) {
 			Field formComponent = Field.findByType(field.getType());
@@ -670,6 +750,10 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 				// propagated here
 			}
 		}
+		if (field instanceof FormFieldImpl) {
+			// filled field shares definition with the field from form definition
+			return ((FormFieldImpl<U>)field).filledWith(parent, FormUtils.<U>convertObjectToList(value), loc, getConfig().getFormatters(), preferedStringValue);
+		}
 		return new FieldProps<U>(field, 
 			FormUtils.<U>convertObjectToList(value), 
 			loc, 
@@ -699,6 +783,17 @@ public class BasicFormMapping<T> extends AbstractFormElement<T> implements FormM
 		return a;
 	}
 	
+	/**
+	 * Fills fields and nested mappings of a filled mapping when the mapping is constructed,
+	 * so the filled elements are attached directly to it.
+	 * @author Radek Beran
+	 */
+	interface ElementsFill {
+		Map<String, FormField<?>> fillFields(FormMapping<?> parent);
+		
+		Map<String, FormMapping<?>> fillNestedMappings(FormMapping<?> parent);
+	}
+	
 	private static <U> U assertNotNullArg(U arg, String message) {
 		if (arg == null) throw new IllegalArgumentException(message);
 		return arg;
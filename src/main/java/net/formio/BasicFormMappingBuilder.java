@@ -39,6 +39,7 @@ import net.formio.common.heterog.HeterogCollections;
 import net.formio.common.heterog.HeterogMap;
 import net.formio.format.Location;
 import net.formio.props.FormElementProperty;
+import net.formio.props.FormMappingProperties;
 import net.formio.upload.UploadedFile;
 import net.formio.validation.ValidationResult;
 import net.formio.validation.Validator;
@@ -61,6 +62,8 @@ public class BasicFormMappingBuilder<T> {
 	List<FormMapping<T>> listOfMappings = new ArrayList<FormMapping<T>>();
 	Config config;
 	List<Validator<T>> validators;
+	/** True if validators are shared with the source mapping and must be copied before they are changed. */
+	private boolean validatorsShared;
 	ValidationResult validationResult;
 	MappingType mappingType;
 	T filledObject;
@@ -68,9 +71,14 @@ public class BasicFormMappingBuilder<T> {
 	boolean secured;
 	String labelKey;
 	HeterogMap<String> properties;
+	/** Properties of source mapping that are shared until a property is changed (then properties are {@code null}). */
+	FormMappingProperties srcProperties;
 	int order;
 	private int nextNestedElementOrder;
 	Integer index;
+	Integer maxListSize;
+	/** Filling of fields and nested mappings of constructed mapping, {@code null} if fields and nested mappings are given. */
+	BasicFormMapping.ElementsFill elementsFill;
 
 	/**
 	 * Should be constructed only via {@link Forms} entry point of API.
@@ -103,12 +111,16 @@ public class BasicFormMappingBuilder<T> {
 		this.nested = Collections.unmodifiableMap(nested);
 		this.secured = src.secured;
 		this.validationResult = src.validationResult;
-		final HeterogMap<String> properties = HeterogCollections.<String>newLinkedMap();
-		properties.putAllFromSource(src.formProperties.getHeterogMap());
-		this.properties = properties;
+		// definition of the source mapping is shared, it is copied only when it is changed
+		this.properties = null;
+		this.srcProperties = src.formProperties;
 		this.order = src.order;
 		this.index = src.index;
-		this.validators = new ArrayList<Validator<T>>(src.validators);
+		this.validators = src.validators;
+		this.validatorsShared = true;
+		if (src instanceof BasicListFormMapping) {
+			this.maxListSize = ((BasicListFormMapping<T>)src).maxListSize;
+		}
 	}
 	
 	/**
@@ -124,6 +136,19 @@ public class BasicFormMappingBuilder<T> {
 		return this;
 	}
 	
+	/**
+	 * Maximum count of items that can be bound by this {@link MappingType#LIST} mapping;
+	 * overrides {@link Config#getMaxListSize()}.
+	 * @param maxListSize
+	 * @return
+	 */
+	public BasicFormMappingBuilder<T> maxListSize(int maxListSize) {
+		if (this.mappingType != MappingType.LIST) throw new IllegalStateException("maxListSize can be specified only for list mapping");
+		if (maxListSize < 0) throw new IllegalArgumentException("maxListSize cannot be negative");
+		this.maxListSize = Integer.valueOf(maxListSize);
+		return this;
+	}
+	
 	/**
 	 * Key for translation of the label.
 	 * @param labelKey
@@ -188,7 +213,7 @@ public class BasicFormMappingBuilder<T> {
 	 * @return
 	 */
 	public BasicFormMappingBuilder<T> validator(Validator<T> validator) {
-		this.validators.add(validator);
+		ownValidators().add(validator);
 		return this;
 	}
 	
@@ -301,6 +326,12 @@ public class BasicFormMappingBuilder<T> {
 	}
 	
 	public <U> BasicFormMappingBuilder<T> property(FormElementProperty<U> fieldProperty, U value) {
+		if (this.properties == null) {
+			final HeterogMap<String> properties = HeterogCollections.<String>newLinkedMap();
+			properties.putAllFromSource(this.srcProperties.getHeterogMap());
+			this.properties = properties;
+			this.srcProperties = null;
+		}
 		this.properties.putTyped(fieldProperty, value);
 		return this;
 	}
@@ -321,12 +352,20 @@ public class BasicFormMappingBuilder<T> {
 		if (required) {
 			Validator<T> validator = RequiredValidator.getInstance();
 			if (!validators.contains(validator)) {
-				validators.add(validator);
+				ownValidators().add(validator);
 			}
 		}
 		return this;
 	}
 	
+	private List<Validator<T>> ownValidators() {
+		if (this.validatorsShared) {
+			this.validators = new ArrayList<Validator<T>>(this.validators);
+			this.validatorsShared = false;
+		}
+		return this.validators;
+	}
+	
 	public BasicFormMappingBuilder<T> help(String help) {
 		return property(FormElementProperty.HELP, help);
 	}
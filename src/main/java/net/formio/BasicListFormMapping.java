@@ -31,7 +31,9 @@ import net.formio.format.Location;
 import net.formio.internal.FormUtils;
 import net.formio.upload.MaxSizeExceededError;
 import net.formio.upload.RequestProcessingError;
+import net.formio.upload.UploadRejectedError;
 import net.formio.validation.ConstraintViolationMessage;
+import net.formio.validation.InterpolatedMessage;
 import net.formio.validation.ValidationResult;
 
 /**
@@ -51,6 +53,11 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 	 */
 	private final List<FormMapping<T>> listOfMappings;
 	
+	/**
+	 * Maximum count of bound items, {@code null} if the maximum is given by config.
+	 */
+	final Integer maxListSize;
+	
 	/**
 	 * Construct the mapping from given builder.
 	 * @param builder
@@ -60,6 +67,7 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 	BasicListFormMapping(BasicFormMappingBuilder<T> builder, boolean simpleCopy) {
 		super(builder, simpleCopy);
 		this.listOfMappings = newListOfMappings(builder.listOfMappings);
+		this.maxListSize = builder.maxListSize;
 	}
 	
 	/**
@@ -70,6 +78,7 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 	BasicListFormMapping(BasicListFormMapping<T> src, int order) {
 		super(src, order);
 		this.listOfMappings = newListOfMappings(src.listOfMappings);
+		this.maxListSize = src.maxListSize;
 	}
 	
 	/**
@@ -81,6 +90,7 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 	BasicListFormMapping(BasicListFormMapping<T> src, FormMapping<?> parent) {
 		super(src, parent);
 		this.listOfMappings = newListOfMappings(src.listOfMappings);
+		this.maxListSize = src.maxListSize;
 	}
 	
 	@Override
@@ -103,15 +113,28 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 		final Location givenOrCfgLoc = getLocation(loc);
 		final RequestProcessingError error = paramsProvider.getRequestError();
 		
-		// Finding how many parameters are in the request - check for max. index available in request params name, 
-		// according to this mapping path
-		int maxIndex = FormUtils.findMaxIndex(paramsProvider.getParamNames(), getName());
+		// Finding how many items are in the request - max. index available in request params names, 
+		// according to this mapping path; position of bound item is its index in the request
+		final RequestParamsIndex paramsIndex = RequestParamsIndex.of(paramsProvider);
+		int listSize = paramsIndex.getMaxIndex(getName()) + 1;
+		RequestProcessingError listSizeError = null;
+		if (listSize > getMaxListSize()) {
+			// items are not bound at all
+			listSizeError = new MaxListSizeExceededError(getName(), listSize, getMaxListSize());
+			listSize = 0;
+		} else if (listSize > 0 && !paramsIndex.reserveListItems(listSize, getConfig().getMaxBoundListItems())) {
+			// items of nested lists would multiply count of bound items, 
+			// count of items bound from the whole request is limited
+			listSizeError = new MaxListSizeExceededError(getName(), listSize, 
+				paramsIndex.getAvailableListItems(getConfig().getMaxBoundListItems()));
+			listSize = 0;
+		}
 		
 		// Constructing mappings for each index up to max. index.
 		// Nested mapping of this list mapping will become nested mappings of each
 		// index-related mapping.
 		List<FormMapping<T>> listMappings = new ArrayList<FormMapping<T>>();
-		for (int index = 0; index <= maxIndex; index++) {
+		for (int index = 0; index < listSize; index++) {
 			ValidationResult res = null;
 			if (this.getValidationResult() != null) {
 				res = new ValidationResult(
@@ -133,20 +156,19 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 		List<T> data = new ArrayList<T>();
 		Map<String, List<ConstraintViolationMessage>> fieldMsgs = new LinkedHashMap<String, List<ConstraintViolationMessage>>();
 		List<ConstraintViolationMessage> globalMsgs = new ArrayList<ConstraintViolationMessage>();
+		List<T> instanceItems = null;
+		if (instance != null && !listMappings.isEmpty()) {
+			instanceItems = new ArrayList<T>();
+			for (T itValue : this.<T>checkIterable(instance)) {
+				instanceItems.add(itValue);
+			}
+		}
 		for (int index = 0; index < listMappings.size(); index++) {
 			FormMapping<T> m = listMappings.get(index);
+			// instance prepared by client for the index
 			T instanceForIndex = null;
-			if (instance != null) {
-				Iterable<T> itColl = checkIterable(instance);
-				int j = 0;
-				for (Iterator<T> it = itColl.iterator(); it.hasNext(); ) {
-					T itValue = it.next();
-					if (j == index) {
-						instanceForIndex = itValue;
-						break;
-					}
-					j++;
-				}
+			if (instanceItems != null && index < instanceItems.size()) {
+				instanceForIndex = instanceItems.get(index);
 			}
 			FormData<T> formData = m.bind(paramsProvider, givenOrCfgLoc, instanceForIndex, context, validationGroups);
 			data.add(formData.getData());
@@ -154,19 +176,26 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 			globalMsgs.addAll(formData.getValidationResult().getGlobalMessages());
 		}
 		
-		if (!(error instanceof MaxSizeExceededError)) {
+		if (!(error instanceof MaxSizeExceededError || error instanceof UploadRejectedError)) {
 			// Must be executed after processing of nested mappings
 			if (this.secured && isRootMapping()) {
 				throw new UnsupportedOperationException("Verification of authorization token is not supported "
 					+ "in root list mapping. Please create SINGLE root mapping with nested list mapping.");
 			}
 			if (this.secured) {
-				AuthTokens.verifyAuthToken(context, getConfig().getTokenAuthorizer(), getRootMappingPath(), paramsProvider, isRootMapping(), getPathSeparator());
+				AuthTokens.verifyAuthToken(context, getConfig().getTokenAuthorizer(), getRootMappingPath(), paramsProvider, isRootMapping(), getPathSeparator(), 
+					getConfig().getAuthTokenSigningKey());
 			}
 		}
 		
-		ValidationResult validationRes = new ValidationResult(fieldMsgs, globalMsgs);
 		Object boundObjects = getConfig().getCollectionBuilders().buildCollection(getConfig().getListMappingCollection(), getDataClass(), data);
+		if (listSizeError != null) {
+			ValidationResult listSizeRes = getConfig().getBeanValidator().validate(boundObjects, getName(), 
+				Collections.<InterpolatedMessage>singletonList(listSizeError), givenOrCfgLoc.getLocale());
+			fieldMsgs.putAll(listSizeRes.getFieldMessages());
+			globalMsgs.addAll(listSizeRes.getGlobalMessages());
+		}
+		ValidationResult validationRes = new ValidationResult(fieldMsgs, globalMsgs);
 		FormData<Object> formData = new FormData<Object>(boundObjects, validationRes);
 		return (FormData<T>)formData;
 	}
@@ -179,40 +208,46 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 	}
 	
 	@Override
-	BasicFormMappingBuilder<T> fillInternal(FormData<T> editedObj, Location loc, RequestContext ctx) {
+	BasicFormMappingBuilder<T> fillInternal(FormData<T> editedObj, Location loc, final RequestContext ctx) {
 		final Location givenOrCfgLoc = getLocation(loc);
 		List<FormMapping<T>> newMappings = new ArrayList<FormMapping<T>>();
-		Set<String> propNames = FormUtils.getPropertiesFromFields(this.fields);
+		final Set<String> propNames = FormUtils.getPropertiesFromFields(this.fields);
 		if (editedObj != null && editedObj.getData() != null) {
 			Iterable<T> itColl = checkIterable(editedObj.getData());
+			final Map<String, List<ConstraintViolationMessage>> fieldMsgs = editedObj.getValidationResult() != null ?
+				editedObj.getValidationResult().getFieldMessages() : new LinkedHashMap<String, List<ConstraintViolationMessage>>();
 			int index = 0;
 			for (Iterator<T> it = itColl.iterator(); it.hasNext(); ) {
-				T dataAtIndex = it.next();
-				FormData<T> formDataAtIndex = new FormData<T>(dataAtIndex, editedObj.getValidationResult());
-				
-				// Create filled nested mappings for current list index (data at current index)
-				Map<String, FormMapping<?>> filledIndexedNestedMappings = indexAndFillNestedMappings(formDataAtIndex, givenOrCfgLoc, ctx);
-				
-				// Prepare values for mapping that is constructed for current list index.
-				// Previously created filled nested mappings will be assigned to mapping for current list index.
-				Map<String, Object> propValues = gatherPropertyValues(dataAtIndex, propNames, ctx);
-				
-				// Fill the fields of this mapping with prepared values for current list index
-				Map<String, FormField<?>> filledFields = fillFields(
-					propValues, 
-					editedObj.getValidationResult() != null ?
-						editedObj.getValidationResult().getFieldMessages() : new LinkedHashMap<String, List<ConstraintViolationMessage>>(),
-					index, 
-					givenOrCfgLoc);
+				final T dataAtIndex = it.next();
+				final FormData<T> formDataAtIndex = new FormData<T>(dataAtIndex, editedObj.getValidationResult());
+				final int indexInList = index;
 				
 				// Returning copy of this mapping (for current index) that is filled with form data,
 				// but with single mapping type (for an index) and now without list mappings
-				BasicFormMappingBuilder<T> builder = new BasicFormMappingBuilder<T>(this, filledFields, filledIndexedNestedMappings)
+				BasicFormMappingBuilder<T> builder = new BasicFormMappingBuilder<T>(this, 
+					Collections.<String, FormField<?>>emptyMap(), 
+					Collections.<String, FormMapping<?>>emptyMap())
 					.index(Integer.valueOf(index))
 					.order(index)
 					.validationResult(formDataAtIndex.getValidationResult())
 					.filledObject(formDataAtIndex.getData());
 				builder.mappingType = MappingType.SINGLE;
+				builder.elementsFill = new ElementsFill() {
+					@Override
+					public Map<String, FormField<?>> fillFields(FormMapping<?> parent) {
+						// Prepare values for mapping that is constructed for current list index
+						Map<String, Object> propValues = gatherPropertyValues(dataAtIndex, propNames, ctx);
+						
+						// Fill the fields of this mapping with prepared values for current list index
+						return BasicListFormMapping.this.fillFields(parent, propValues, fieldMsgs, indexInList, givenOrCfgLoc);
+					}
+					
+					@Override
+					public Map<String, FormMapping<?>> fillNestedMappings(FormMapping<?> parent) {
+						// Create filled nested mappings for current list index (data at current index)
+						return indexAndFillNestedMappings(parent, formDataAtIndex, givenOrCfgLoc, ctx);
+					}
+				};
 				newMappings.add(builder.build(getConfig()));
 				index++;
 			}
@@ -228,6 +263,14 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 		return builder;
 	}
 	
+	/**
+	 * Returns maximum count of items that can be bound by this list mapping.
+	 * @return
+	 */
+	public int getMaxListSize() {
+		return maxListSize != null ? maxListSize.intValue() : getConfig().getMaxListSize();
+	}
+	
 	@Override
 	public List<FormMapping<T>> getList() {
 		return this.listOfMappings;
@@ -253,14 +296,16 @@ public class BasicListFormMapping<T> extends BasicFormMapping<T> {
 		return Clones.mergedValidationResults(validationResults);
 	}
 	
-	Map<String, FormMapping<?>> indexAndFillNestedMappings(FormData<T> editedObj, Location loc, RequestContext ctx) {
+	@SuppressWarnings("unchecked") // type of nested data is given by the property the nested mapping is bound to, it is not known statically
+	Map<String, FormMapping<?>> indexAndFillNestedMappings(FormMapping<?> parent, FormData<T> editedObj, Location loc, RequestContext ctx) {
 		Map<String, FormMapping<?>> newNestedMappings = new LinkedHashMap<String, FormMapping<?>>();
 		for (Map.Entry<String, FormMapping<?>> e : this.nested.entrySet()) {
 			// nested data - nested object or list of nested objects in case of mapping to list
 			Object data = nestedData(e.getKey(), editedObj.getData());
 			// the outer report is propagated to nested
-			FormData formData = new FormData<Object>(data, editedObj.getValidationResult());
-			newNestedMappings.put(e.getKey(), e.getValue().fill(formData, loc, ctx));
+			FormData<Object> formData = new FormData<Object>(data, editedObj.getValidationResult());
+			FormMapping<Object> mapping = (FormMapping<Object>)e.getValue();
+			newNestedMappings.put(e.getKey(), filledNestedMapping(mapping, parent, formData, loc, ctx));
 		}
 		return newNestedMappings;
 	}
@@ -70,8 +70,13 @@ final class Clones {
 		for (Map.Entry<String, FormMapping<?>> e : nestedMappings.entrySet()) {
 			final String propertyName = e.getKey();
 			final FormMapping<?> nestedMapping = e.getValue();
-			// put copy of nested form mapping that is newly attached to the parent mapping
-			newNestedMappings.put(propertyName, nestedMapping.withParent(parent));
+			if (nestedMapping.getParent() == parent) {
+				// filled mapping that was constructed directly with this parent
+				newNestedMappings.put(propertyName, nestedMapping);
+			} else {
+				// put copy of nested form mapping that is newly attached to the parent mapping
+				newNestedMappings.put(propertyName, nestedMapping.withParent(parent));
+			}
 		}
 		return Collections.unmodifiableMap(newNestedMappings);
 	}
@@ -97,6 +102,14 @@ final class Clones {
 	}
 	
 	private static <T, U> FormField<U> fieldWithParent(FormMapping<?> parent, FormField<U> field) {
+		if (field.getParent() == parent) {
+			// filled field that was created directly with this parent
+			return field;
+		}
+		if (field instanceof FormFieldImpl) {
+			// definition of the field is shared
+			return ((FormFieldImpl<U>)field).withParent(parent);
+		}
 		return new FormFieldImpl<U>(field, parent);
 	}
 	
@@ -52,6 +52,16 @@ public class Config {
 	 */
 	public static final String DEFAULT_PATH_SEP = "-";
 	
+	/**
+	 * Default maximum count of items that can be bound by one list mapping.
+	 */
+	public static final int DEFAULT_MAX_LIST_SIZE = 1000;
+	
+	/**
+	 * Default maximum count of items that can be bound by all list mappings from one request params.
+	 */
+	public static final int DEFAULT_MAX_BOUND_LIST_ITEMS = 10 * DEFAULT_MAX_LIST_SIZE;
+	
 	private final Location location;
 	private final String messageBundleName;
 	private final Formatters formatters;
@@ -61,6 +71,7 @@ public class Config {
 	private final Binder binder;
 	private final BeanValidator beanValidator;
 	private final TokenAuthorizer tokenAuthorizer;
+	private final String authTokenSigningKey;
 	private final boolean inputTrimmed;
 	private final PropertyMethodRegex accessorRegex;
 	private final PropertyMethodRegex setterRegex;
@@ -71,6 +82,8 @@ public class Config {
 	private final Instantiator defaultInstantiator;
 	private final CollectionSpec<?> listMappingCollection;
 	private final String pathSeparator;
+	private final int maxListSize;
+	private final int maxBoundListItems;
 	
 	Config(Builder builder) {
 		this.location = builder.location;
@@ -82,6 +95,7 @@ public class Config {
 		this.binder = builder.binder;
 		this.beanValidator = builder.beanValidator;
 		this.tokenAuthorizer = builder.tokenAuthorizer;
+		this.authTokenSigningKey = builder.authTokenSigningKey;
 		this.inputTrimmed = builder.inputTrimmed;
 		this.accessorRegex = builder.accessorRegex;
 		this.setterRegex = builder.setterRegex;
@@ -92,6 +106,8 @@ public class Config {
 		this.defaultInstantiator = builder.defaultInstantiator;
 		this.listMappingCollection = builder.listMappingCollection;
 		this.pathSeparator = builder.pathSeparator;
+		this.maxListSize = builder.maxListSize;
+		this.maxBoundListItems = builder.maxBoundListItems;
 	}
 	
 	public static class Builder {
@@ -107,6 +123,7 @@ public class Config {
 		Binder binder;
 		BeanValidator beanValidator;
 		TokenAuthorizer tokenAuthorizer;
+		String authTokenSigningKey;
 		boolean extractorSpecified;
 		boolean binderSpecified;
 		boolean validatorSpecified;
@@ -118,6 +135,8 @@ public class Config {
 		Instantiator defaultInstantiator = new ConstructorInstantiator();
 		CollectionSpec<?> listMappingCollection = CollectionSpec.getInstance(List.class, ItemsOrder.LINEAR);
 		String pathSeparator = DEFAULT_PATH_SEP;
+		int maxListSize = DEFAULT_MAX_LIST_SIZE;
+		int maxBoundListItems = DEFAULT_MAX_BOUND_LIST_ITEMS;
 
 		Builder() {
 			// package-default access so only Forms (and classes in current package) can create the builder
@@ -179,11 +198,38 @@ public class Config {
 			return this;
 		}
 		
+		/**
+		 * Sets authorizer of tokens of secured forms, {@link HashTokenAuthorizer} is used by default.
+		 * Tokens signed by HMAC can be used by setting {@link net.formio.security.HmacTokenAuthorizer}.
+		 * @param tokenAuthorizer
+		 * @return this builder
+		 */
 		public Builder tokenAuthorizer(TokenAuthorizer tokenAuthorizer) {
 			this.tokenAuthorizer = tokenAuthorizer;
 			return this;
 		}
 		
+		/**
+		 * Switches secured forms to stateless authorization tokens: Token is signed
+		 * using given server-side key, path of root mapping, id of user's session from 
+		 * {@link net.formio.data.RequestContext#getSessionId()} and user identification 
+		 * from {@link net.formio.data.RequestContext#secretWithUserIdentification(String)}
+		 * and is valid for limited time given by the {@link TokenAuthorizer}. 
+		 * Filling and binding of the form does not use session storage, but the session 
+		 * of the user must already exist (filling of secured form fails otherwise).
+		 * <p>
+		 * The key must be kept secret and must be the same for all servers that bind the form. 
+		 * Unlike tokens with secrets in session storage, stateless token can be submitted repeatedly 
+		 * while it is valid, so the user identification should identify the user as exactly as possible.
+		 * @param signingKey server-side signing key, {@code null} to store secrets in session storage (default)
+		 * @return this builder for chaining calls
+		 */
+		public Builder statelessAuthTokens(String signingKey) {
+			if (signingKey != null && signingKey.isEmpty()) throw new IllegalArgumentException("signingKey cannot be empty");
+			this.authTokenSigningKey = signingKey;
+			return this;
+		}
+		
 		public Builder inputTrimmed(boolean inputTrimmed) {
 			this.inputTrimmed = inputTrimmed;
 			return this;
@@ -262,6 +308,34 @@ public class Config {
 			return this;
 		}
 		
+		/**
+		 * Maximum count of items that can be bound by one {@link MappingType#LIST} mapping 
+		 * (maximum index in request parameters plus one). Larger lists are not bound, 
+		 * {@link MaxListSizeExceededError} is reported instead.
+		 * Can be overriden for individual list mappings using {@link BasicFormMappingBuilder#maxListSize(int)}.
+		 * @param maxListSize maximum count of items of list mapping
+		 * @return this builder for chaining calls
+		 */
+		public Builder maxListSize(int maxListSize) {
+			if (maxListSize < 0) throw new IllegalArgumentException("maxListSize cannot be negative");
+			this.maxListSize = maxListSize;
+			return this;
+		}
+		
+		/**
+		 * Maximum count of items that can be bound by all {@link MappingType#LIST} mappings 
+		 * (including nested lists in items of other lists) from one request params. 
+		 * List mapping that would exceed this count is not bound, {@link MaxListSizeExceededError}
+		 * with count of items that remained available is reported instead.
+		 * @param maxBoundListItems maximum count of bound list items
+		 * @return this builder for chaining calls
+		 */
+		public Builder maxBoundListItems(int maxBoundListItems) {
+			if (maxBoundListItems < 0) throw new IllegalArgumentException("maxBoundListItems cannot be negative");
+			this.maxBoundListItems = maxBoundListItems;
+			return this;
+		}
+		
 		public Config build() {
 			if (this.location == null) this.location = DEFAULT_LOCATION;
 			if (this.messageBundleName == null) this.messageBundleName = DEFAULT_MESSAGE_BUNDLE_NAME;
@@ -348,6 +422,24 @@ public class Config {
 	public TokenAuthorizer getTokenAuthorizer() {
 		return tokenAuthorizer;
 	}
+	
+	/**
+	 * Returns server-side key for signing of stateless authorization tokens, 
+	 * or {@code null} if secrets of authorization tokens are stored in session storage.
+	 * @return
+	 */
+	public String getAuthTokenSigningKey() {
+		return authTokenSigningKey;
+	}
+	
+	/**
+	 * Returns true if secured forms use stateless authorization tokens
+	 * that do not require session storage.
+	 * @return
+	 */
+	public boolean isStatelessAuthTokens() {
+		return authTokenSigningKey != null;
+	}
 
 	/**
 	 * Returns true if text from the form inputs should be trimmed before binding to form data.
@@ -421,4 +513,20 @@ public class Config {
 	public String getPathSeparator() {
 		return pathSeparator;
 	}
+	
+	/**
+	 * Maximum count of items that can be bound by one {@link MappingType#LIST} mapping.
+	 * @return
+	 */
+	public int getMaxListSize() {
+		return maxListSize;
+	}
+	
+	/**
+	 * Maximum count of items that can be bound by all {@link MappingType#LIST} mappings from one request params.
+	 * @return
+	 */
+	public int getMaxBoundListItems() {
+		return maxBoundListItems;
+	}
 }
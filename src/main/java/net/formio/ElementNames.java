@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio;
+
+import net.formio.internal.FormUtils;
+import net.formio.render.RenderUtils;
+
+/**
+ * Names derived from full path of a form element. Computed once when the element 
+ * is attached to its parent, so they are only read when the form is bound or rendered.
+ * Immutable.
+ * @author Radek Beran
+ */
+final class ElementNames {
+	final String name;
+	final String pathSeparator;
+	final String elementId;
+	final String elementPlaceholderId;
+	final String labelKey;
+	
+	/**
+	 * @param name full path name of form element
+	 * @param pathSeparator separator of names in the path
+	 * @param labelKey custom label key or {@code null} if label key should be derived from name
+	 */
+	ElementNames(String name, String pathSeparator, String labelKey) {
+		this.name = name;
+		this.pathSeparator = pathSeparator;
+		this.elementId = RenderUtils.getElementIdForName(name);
+		this.elementPlaceholderId = AbstractFormElement.getElementPlaceholderId(name, pathSeparator);
+		this.labelKey = labelKey != null ? labelKey : FormUtils.labelKeyForName(name);
+	}
+	
+	/**
+	 * Returns full path name of element with given parent.
+	 * @param parent parent mapping or {@code null}
+	 * @param pathSeparator
+	 * @param propertyName
+	 * @param index index of element in list or {@code null}
+	 * @return
+	 */
+	static String nameOf(FormMapping<?> parent, String pathSeparator, String propertyName, Integer index) {
+		if (parent == null && index == null) {
+			return propertyName;
+		}
+		StringBuilder sb = new StringBuilder();
+		if (parent != null) {
+			sb.append(parent.getName()).append(pathSeparator);
+		}
+		sb.append(propertyName);
+		if (index != null) {
+			sb.append("[").append(index).append("]");
+		}
+		return sb.toString();
+	}
+}
@@ -433,7 +433,7 @@ public class FieldProps<T> implements Serializable {
 		return new FormFieldImpl<T>(this, order);
 	}
 	
-	private static <T> String valueAsString(T value, String pattern, Formatter<T> formatter, Location loc, Formatters formatters) {
+	static <T> String valueAsString(T value, String pattern, Formatter<T> formatter, Location loc, Formatters formatters) {
 		if (value == null) return null;
 		String str = null;
 		if (formatter != null) {
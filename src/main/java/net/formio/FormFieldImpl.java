@@ -17,15 +17,19 @@
 package net.formio;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import net.formio.choice.ChoiceProvider;
 import net.formio.choice.ChoiceRenderer;
+import net.formio.choice.DefaultChoiceRenderer;
 import net.formio.format.Formatter;
-import net.formio.internal.FormUtils;
+import net.formio.format.Formatters;
+import net.formio.format.Location;
 import net.formio.props.FormFieldProperties;
 import net.formio.props.FormFieldPropertiesImpl;
 import net.formio.validation.ValidationResult;
+import net.formio.validation.Validator;
 
 /**
  * Form field. Immutable.
@@ -46,6 +50,7 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 	private final String labelKey;
 	private final FormFieldProperties properties;
 	private final int order;
+	private final ElementNames names;
 
 	/**
 	 * Returns copy of field with given parent.
@@ -72,7 +77,8 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 	}
 	
 	FormFieldImpl(FieldProps<T> fieldProps, int order) {
-		super(fieldProps.getParent(), fieldProps.getPropertyName(), fieldProps.getValidators());
+		super(fieldProps.getParent(), fieldProps.getPropertyName(), 
+			Collections.unmodifiableList(new ArrayList<Validator<T>>(fieldProps.getValidators())));
 		this.type = fieldProps.getType() != null ? fieldProps.getType() : Field.TEXT.getType();
 		this.inputType = fieldProps.getInputType() != null ? fieldProps.getInputType() : null;
 		this.pattern = fieldProps.getPattern();
@@ -84,6 +90,34 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 		this.strValue = fieldProps.strValue;
 		this.labelKey = fieldProps.labelKey;
 		this.order = order;
+		this.names = elementNames();
+	}
+	
+	/**
+	 * Returns copy of given field with given parent, order and filled data. Definition of the field 
+	 * (properties, validators, formatter, choice provider, label key) is shared with the source field, 
+	 * it is not copied.
+	 * @param src
+	 * @param parent
+	 * @param order
+	 * @param filledObjects
+	 * @param strValue
+	 * @param choiceRenderer
+	 */
+	private FormFieldImpl(FormFieldImpl<T> src, FormMapping<?> parent, int order, List<T> filledObjects, String strValue, ChoiceRenderer<T> choiceRenderer) {
+		super(parent, src.propertyName, src.validators);
+		this.type = src.type;
+		this.inputType = src.inputType;
+		this.pattern = src.pattern;
+		this.formatter = src.formatter;
+		this.choiceProvider = src.choiceProvider;
+		this.choiceRenderer = choiceRenderer;
+		this.properties = src.properties;
+		this.filledObjects = filledObjects;
+		this.strValue = strValue;
+		this.labelKey = src.labelKey;
+		this.order = order;
+		this.names = elementNames();
 	}
 	
 	private FormFieldImpl(FieldProps<T> fieldProps) {
@@ -97,12 +131,7 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 
 	@Override
 	public String getName() {
-		String name = null;
-		if (getParent() != null) {
-			name = getParent().getName() + getConfig().getPathSeparator() + propertyName;
-		} else {
-			name = propertyName;
-		}
+		String name = names.name;
 		if (name == null || name.isEmpty()) {
 			throw new IllegalStateException("Name must be filled");
 		}
@@ -133,11 +162,7 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 	
 	@Override
 	public String getLabelKey() {
-		String key = labelKey;
-		if (key == null) {
-			key = FormUtils.labelKeyForName(getName());
-		}
-		return key;
+		return names.labelKey;
 	}
 	
 	@Override
@@ -149,6 +174,47 @@ public class FormFieldImpl<T> extends AbstractFormElement<T> implements FormFiel
 		return cfg;
 	}
 	
+	@Override
+	ElementNames getElementNames() {
+		return names;
+	}
+	
+	/**
+	 * Returns copy of this field attached to given parent.
+	 * @param parent
+	 * @return
+	 */
+	FormFieldImpl<T> withParent(FormMapping<?> parent) {
+		return new FormFieldImpl<T>(this, parent, this.order, this.filledObjects, this.strValue, this.choiceRenderer);
+	}
+	
+	/**
+	 * Returns copy of this field filled with given values and attached to given parent.
+	 * @param parent parent of filled field
+	 * @param values filled values
+	 * @param loc location for formatting of the value
+	 * @param formatters formatters used if the field has no formatter
+	 * @param preferedStringValue string value that is filled instead of formatted value, or {@code null}
+	 * @return
+	 */
+	FormFieldImpl<T> filledWith(FormMapping<?> parent, List<T> values, Location loc, Formatters formatters, String preferedStringValue) {
+		String str = preferedStringValue;
+		if (str == null && !values.isEmpty()) {
+			str = FieldProps.valueAsString(values.get(0), this.pattern, this.formatter, loc, formatters);
+		}
+		ChoiceRenderer<T> renderer = this.choiceRenderer;
+		if (renderer instanceof DefaultChoiceRenderer) {
+			renderer = new DefaultChoiceRenderer<T>(loc.getLocale());
+		}
+		return new FormFieldImpl<T>(this, parent, this.order, values, str, renderer);
+	}
+	
+	private ElementNames elementNames() {
+		Config cfg = getConfig();
+		String pathSep = cfg != null ? cfg.getPathSeparator() : Config.DEFAULT_PATH_SEP;
+		return new ElementNames(ElementNames.nameOf(this.parent, pathSep, this.propertyName, null), pathSep, this.labelKey);
+	}
+	
 	@Override
 	public List<T> getFilledObjects() {
 		return filledObjects;
@@ -21,6 +21,8 @@ import net.formio.binding.Instantiator;
 import net.formio.binding.StaticFactoryMethod;
 import net.formio.format.Location;
 import net.formio.internal.FormUtils;
+import net.formio.processing.CompiledForm;
+import net.formio.processing.CompiledForms;
 import net.formio.render.FormRenderer;
 import net.formio.render.WholeFormRenderer;
 
@@ -214,6 +216,35 @@ public final class Forms {
 		return mappingInternal(editedObjectClass, propertyName, instantiator, true, mappingType, true);
 	}
 	
+	/**
+	 * Starts building mapping with fields and nested mappings resolved at compile time 
+	 * by {@link net.formio.processing.FormBeanProcessor} for data class annotated with {@link net.formio.processing.FormBean}.
+	 * If the form support was not generated, automatic mapping is returned.
+	 * @param editedObjectClass class of form mapping data
+	 * @param propertyName name of the form/property with nested data
+	 * @return form mapping builder
+	 */
+	public static <T> BasicFormMappingBuilder<T> compiled(Class<T> editedObjectClass, String propertyName) {
+		return compiled(editedObjectClass, propertyName, DEFAULT_MAPPING_TYPE);
+	}
+	
+	/**
+	 * Starts building mapping with fields and nested mappings resolved at compile time 
+	 * by {@link net.formio.processing.FormBeanProcessor} for data class annotated with {@link net.formio.processing.FormBean}.
+	 * If the form support was not generated, automatic mapping is returned.
+	 * @param editedObjectClass class of form mapping data
+	 * @param propertyName name of the form/property with nested data
+	 * @param mappingType type of nested mapping
+	 * @return form mapping builder
+	 */
+	public static <T> BasicFormMappingBuilder<T> compiled(Class<T> editedObjectClass, String propertyName, MappingType mappingType) {
+		CompiledForm<T> compiledForm = CompiledForms.forClass(editedObjectClass);
+		if (compiledForm == null) {
+			return automatic(editedObjectClass, propertyName, mappingType);
+		}
+		return compiledForm.createMapping(propertyName, mappingType, (Config)null);
+	}
+	
 	/**
 	 * Instantiator that uses static factory method to construct object of type T.
 	 * @param constructedClass
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.formio.upload.RequestProcessingError;
+
+/**
+ * Count of items of list mapping in the request exceeded maximum allowed size of the list;
+ * items of the list were not bound.
+ * @author Radek Beran
+ */
+public class MaxListSizeExceededError extends RequestProcessingError {
+	private static final long serialVersionUID = 2270365710945235862L;
+	private final int listSize;
+	private final int maxListSize;
+
+	public MaxListSizeExceededError(String elementName, int listSize, int maxListSize) {
+		super(elementName, "Count of list items " + listSize + " exceeded maximum allowed count " + maxListSize);
+		this.listSize = listSize;
+		this.maxListSize = maxListSize;
+	}
+	
+	/**
+	 * Message parameters for translation file.
+	 * @return
+	 */
+	@Override
+	public Map<String, Serializable> getMessageParameters() {
+		Map<String, Serializable> params = new LinkedHashMap<String, Serializable>();
+		params.put("listSize", Integer.valueOf(listSize));
+		params.put("maxListSize", Integer.valueOf(maxListSize));
+		return params;
+	}
+
+	/**
+	 * Count of list items in the request.
+	 * @return
+	 */
+	public int getListSize() {
+		return listSize;
+	}
+
+	/**
+	 * Maximum allowed count of list items.
+	 * @return
+	 */
+	public int getMaxListSize() {
+		return maxListSize;
+	}
+}
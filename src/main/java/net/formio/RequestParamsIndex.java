@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of request parameter names parsed once per {@link RequestParams}. Answers whether
+ * a parameter is present, which list indexes occur under indexed path (e.g. indexes 0 and 2 
+ * for parameters "form-items[0]-name", "form-items[2]-name" and path "form-items")
+ * and which parameters start with given prefix, without scanning all parameter names.
+ * Indexes of a path are looked up among sorted names when the path is first queried.
+ * Instances are thread-safe.
+ * @author Radek Beran
+ */
+public final class RequestParamsIndex {
+	
+	private static final SortedSet<Integer> NO_INDEXES = Collections.unmodifiableSortedSet(new TreeSet<Integer>());
+	private static final int MAX_INDEX_DIGITS = 9;
+	
+	private final Set<String> names;
+	private final String[] sortedNames;
+	/** Indexes of queried paths, filled lazily. */
+	private final ConcurrentMap<String, SortedSet<Integer>> indexesByPath;
+	/** Count of list items reserved for binding by list mappings. */
+	private final AtomicInteger boundListItems;
+	
+	/**
+	 * Returns index of parameter names of given request params. Index is parsed only once 
+	 * for {@link AbstractRequestParams}, it is created each time for other implementations.
+	 * @param params
+	 * @return index of parameter names
+	 */
+	public static RequestParamsIndex of(RequestParams params) {
+		if (params == null) throw new IllegalArgumentException("params cannot be null");
+		if (params instanceof AbstractRequestParams) {
+			return ((AbstractRequestParams)params).getParamsIndex();
+		}
+		return new RequestParamsIndex(params.getParamNames());
+	}
+	
+	public RequestParamsIndex(Iterable<String> paramNames) {
+		Set<String> names = new HashSet<String>();
+		if (paramNames != null) {
+			for (String name : paramNames) {
+				if (name != null) {
+					names.add(name);
+				}
+			}
+		}
+		String[] sortedNames = names.toArray(new String[names.size()]);
+		Arrays.sort(sortedNames);
+		this.names = names;
+		this.sortedNames = sortedNames;
+		this.indexesByPath = new ConcurrentHashMap<String, SortedSet<Integer>>();
+		this.boundListItems = new AtomicInteger();
+	}
+	
+	/**
+	 * Returns true if parameter with given name is present.
+	 * @param paramName
+	 * @return
+	 */
+	public boolean contains(String paramName) {
+		return paramName != null && names.contains(paramName);
+	}
+	
+	/**
+	 * Returns maximum index that follows given path in parameter names 
+	 * (path "form-items" and parameter "form-items[3]-name" have index 3), or -1
+	 * if there is no indexed parameter with given path.
+	 * @param path
+	 * @return maximum index or -1
+	 */
+	public int getMaxIndex(String path) {
+		SortedSet<Integer> indexes = getIndexes(path);
+		return indexes.isEmpty() ? -1 : indexes.last().intValue();
+	}
+	
+	/**
+	 * Returns all indexes that follow given path in parameter names, in ascending order.
+	 * @param path
+	 * @return indexes following the path
+	 */
+	public SortedSet<Integer> getIndexes(String path) {
+		if (path == null) return NO_INDEXES;
+		SortedSet<Integer> indexes = indexesByPath.get(path);
+		if (indexes == null) {
+			indexes = findIndexes(path);
+			SortedSet<Integer> existing = indexesByPath.putIfAbsent(path, indexes);
+			if (existing != null) {
+				indexes = existing;
+			}
+		}
+		return indexes;
+	}
+	
+	/**
+	 * Reserves binding of given count of list items, if the count of all list items reserved
+	 * for the request params does not exceed given maximum.
+	 * @param count count of items of bound list
+	 * @param maxCount maximum count of list items bound from the request params
+	 * @return true if the items were reserved, false if the maximum would be exceeded
+	 */
+	boolean reserveListItems(int count, int maxCount) {
+		while (true) {
+			int reserved = boundListItems.get();
+			if ((long)reserved + count > maxCount) {
+				return false;
+			}
+			if (boundListItems.compareAndSet(reserved, reserved + count)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * Returns count of list items that can still be reserved for binding.
+	 * @param maxCount maximum count of list items bound from the request params
+	 * @return count of available list items
+	 */
+	int getAvailableListItems(int maxCount) {
+		return Math.max(0, maxCount - boundListItems.get());
+	}
+	
+	/**
+	 * Returns names of parameters that start with given prefix, in ascending order.
+	 * @param prefix
+	 * @return names of parameters with given prefix
+	 */
+	public List<String> getParamNames(String prefix) {
+		if (prefix == null || prefix.isEmpty()) {
+			return Collections.unmodifiableList(Arrays.asList(sortedNames));
+		}
+		int from = indexOfFirstWithPrefix(prefix);
+		int to = from;
+		while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+			to++;
+		}
+		return Collections.unmodifiableList(Arrays.asList(sortedNames).subList(from, to));
+	}
+	
+	/**
+	 * Collects indexes "[n]" that directly follow given path in parameter names. 
+	 * Only names starting with the path are visited and only the digits after the path 
+	 * are read, so the index of each path is built in time linear to the matching names 
+	 * and memory is retained only for the paths actually queried.
+	 */
+	private SortedSet<Integer> findIndexes(String path) {
+		String prefix = path + "[";
+		SortedSet<Integer> indexes = null;
+		for (int i = indexOfFirstWithPrefix(prefix); i < sortedNames.length && sortedNames[i].startsWith(prefix); i++) {
+			String name = sortedNames[i];
+			int start = prefix.length();
+			int end = start;
+			while (end < name.length() && end - start <= MAX_INDEX_DIGITS && name.charAt(end) >= '0' && name.charAt(end) <= '9') {
+				end++;
+			}
+			int digits = end - start;
+			if (end < name.length() && name.charAt(end) == ']' && digits > 0 && digits <= MAX_INDEX_DIGITS) {
+				if (indexes == null) {
+					indexes = new TreeSet<Integer>();
+				}
+				indexes.add(Integer.valueOf(name.substring(start, end)));
+			}
+		}
+		return indexes != null ? Collections.unmodifiableSortedSet(indexes) : NO_INDEXES;
+	}
+	
+	private int indexOfFirstWithPrefix(String prefix) {
+		int from = Arrays.binarySearch(sortedNames, prefix);
+		return from < 0 ? -from - 1 : from;
+	}
+}
@@ -16,11 +16,57 @@
  */
 package net.formio.binding;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
- * Abstract Instantiator.
+ * Abstract Instantiator. Caches construction descriptions per constructed class,
+ * instantiator settings and argument name resolver (compared using equals, see {@link ArgumentNameResolver}).
  * @author Radek Beran
  */
 abstract class AbstractInstantiator implements Instantiator {
+	
+	private static final ClassValue<ConcurrentMap<DescriptionKey, ConstructionDescription>> DESCRIPTIONS_CACHE = 
+		new ClassValue<ConcurrentMap<DescriptionKey, ConstructionDescription>>() {
+			@Override
+			protected ConcurrentMap<DescriptionKey, ConstructionDescription> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<DescriptionKey, ConstructionDescription>();
+			}
+		};
+	
+	@Override
+	public <T> ConstructionDescription getDescription(Class<T> objClass, ArgumentNameResolver argNameResolver) {
+		if (objClass == null) throw new IllegalArgumentException("objClass cannot be null");
+		if (argNameResolver == null) throw new IllegalArgumentException("argNameResolver cannot be null");
+		final ConcurrentMap<DescriptionKey, ConstructionDescription> descriptions = DESCRIPTIONS_CACHE.get(objClass);
+		final DescriptionKey key = new DescriptionKey(getDescriptionCacheKey(), argNameResolver);
+		ConstructionDescription desc = descriptions.get(key);
+		if (desc == null) {
+			desc = createDescription(objClass, argNameResolver);
+			ConstructionDescription existing = descriptions.putIfAbsent(key, desc);
+			if (existing != null) {
+				desc = existing;
+			}
+		}
+		return desc;
+	}
+	
+	/**
+	 * Finds construction method with max. usable arguments according to given argument name resolver.
+	 * Result is cached by {@link #getDescription(Class, ArgumentNameResolver)}.
+	 * @param objClass
+	 * @param argNameResolver
+	 * @return description of construction method
+	 * @throws IllegalStateException if no suitable method can be found
+	 */
+	protected abstract <T> ConstructionDescription createDescription(Class<T> objClass, ArgumentNameResolver argNameResolver);
+	
+	/**
+	 * Returns key identifying settings of this instantiator that influence resulting construction
+	 * description. Instantiators with equal keys share cached descriptions.
+	 * @return key of instantiator settings
+	 */
+	protected abstract Object getDescriptionCacheKey();
 
 	protected Object[] prepareArgs(Class<?>[] argTypes, Object[] args) {
 		Object[] arguments = new Object[args.length];
@@ -39,4 +85,31 @@ abstract class AbstractInstantiator implements Instantiator {
 		}
 		return arguments;
 	}
+	
+	private static final class DescriptionKey {
+		private final Object instantiatorKey;
+		private final ArgumentNameResolver argNameResolver;
+		private final int hash;
+		
+		DescriptionKey(Object instantiatorKey, ArgumentNameResolver argNameResolver) {
+			this.instantiatorKey = instantiatorKey;
+			this.argNameResolver = argNameResolver;
+			this.hash = 31 * instantiatorKey.hashCode() + argNameResolver.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof DescriptionKey))
+				return false;
+			DescriptionKey other = (DescriptionKey) obj;
+			return instantiatorKey.equals(other.instantiatorKey) && argNameResolver.equals(other.argNameResolver);
+		}
+	}
 }
@@ -50,4 +50,15 @@ public class AnnotationArgumentNameResolver implements ArgumentNameResolver {
 		return argName;
 	}
 	
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		// stateless resolver, all instances of the same class resolve the same names
+		return obj != null && obj.getClass() == getClass();
+	}
+	
 }
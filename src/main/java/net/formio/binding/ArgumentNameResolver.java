@@ -22,6 +22,11 @@ import java.lang.reflect.Method;
 
 /**
  * Resolves name of method's/constructor's argument.
+ * Construction descriptions found by {@link Instantiator} are cached per instance
+ * of argument name resolver, equal resolvers share cached descriptions.
+ * Implementations that are not stateless singletons should implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}; otherwise a new
+ * cache entry is held for each resolver instance as long as the constructed class is loaded.
  * @author Radek Beran
  */
 public interface ArgumentNameResolver {
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.formio.processing.CompiledForm;
+import net.formio.processing.CompiledForms;
+
+/**
+ * Immutable description of all setters of a class that are usable for binding,
+ * resolved once per (class, setter regex) and cached. Steady-state binding
+ * uses only the precomputed setters and does not scan methods of bound class.
+ * If a plan generated at compile time is available for the class (see {@link CompiledForms}) 
+ * and default setter regex is used, the generated plan is used instead. Plan of a binder that 
+ * recognizes setters itself (see {@link DefaultBinder#isPropertySetter(Method, String)})
+ * resolves setters of each property on its first use.
+ * 
+ * @author Radek Beran
+ */
+public final class BindingPlan {
+	
+	private static final ClassValue<ConcurrentMap<PropertyMethodRegex, BindingPlan>> PLANS_CACHE = 
+		new ClassValue<ConcurrentMap<PropertyMethodRegex, BindingPlan>>() {
+			@Override
+			protected ConcurrentMap<PropertyMethodRegex, BindingPlan> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<PropertyMethodRegex, BindingPlan>();
+			}
+		};
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	
+	private final Class<?> beanClass;
+	private final Map<String, List<PropertySetter>> settersByProperty;
+	private final SetterRecognizer setterRecognizer;
+	
+	/**
+	 * Returns (cached) binding plan for given class and regular expression for setters.
+	 * @param beanClass class of bound objects
+	 * @param setterRegex regular expression for recognizing setters
+	 * @return binding plan
+	 */
+	public static BindingPlan getInstance(Class<?> beanClass, PropertyMethodRegex setterRegex) {
+		if (beanClass == null) throw new IllegalArgumentException("beanClass cannot be null");
+		if (setterRegex == null) throw new IllegalArgumentException("setterRegex cannot be null");
+		ConcurrentMap<PropertyMethodRegex, BindingPlan> plans = PLANS_CACHE.get(beanClass);
+		BindingPlan plan = plans.get(setterRegex);
+		if (plan == null) {
+			plan = createPlan(beanClass, setterRegex);
+			BindingPlan existing = plans.putIfAbsent(setterRegex, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+	
+	/**
+	 * Returns builder of binding plan with explicitly specified setters
+	 * (used by code generated at compile time).
+	 * @param beanClass class of bound objects
+	 * @return builder of binding plan
+	 */
+	public static Builder builder(Class<?> beanClass) {
+		return new Builder(beanClass);
+	}
+	
+	/**
+	 * Returns plan that asks given recognizer for setters of each property on its first use.
+	 * @param beanClass class of bound objects
+	 * @param setterRecognizer recognizer of setters
+	 * @return binding plan
+	 */
+	static BindingPlan withSetterRecognizer(Class<?> beanClass, SetterRecognizer setterRecognizer) {
+		if (beanClass == null) throw new IllegalArgumentException("beanClass cannot be null");
+		if (setterRecognizer == null) throw new IllegalArgumentException("setterRecognizer cannot be null");
+		return new BindingPlan(beanClass, setterRecognizer);
+	}
+	
+	private static BindingPlan createPlan(Class<?> beanClass, PropertyMethodRegex setterRegex) {
+		if (DefaultBinder.DEFAULT_SETTER_REGEX.equals(setterRegex)) {
+			CompiledForm<?> compiledForm = CompiledForms.forClass(beanClass);
+			if (compiledForm != null) {
+				return compiledForm.getBindingPlan();
+			}
+		}
+		return new BindingPlan(beanClass, findSetters(beanClass, setterRegex));
+	}
+	
+	private static Map<String, List<PropertySetter>> findSetters(Class<?> beanClass, PropertyMethodRegex setterRegex) {
+		// property names are compared case insensitively (see PropertyMethodRegex.matchesPropertyMethod)
+		Map<String, List<PropertySetter>> setters = new TreeMap<String, List<PropertySetter>>(String.CASE_INSENSITIVE_ORDER);
+		for (Method method : beanClass.getMethods()) {
+			if (method.getParameterTypes().length != 1) {
+				continue;
+			}
+			String propName = setterRegex.getPropertyName(method.getName());
+			if (propName == null || propName.isEmpty()) {
+				continue;
+			}
+			addSetter(setters, propName, new PropertySetter(method));
+		}
+		return setters;
+	}
+	
+	private static void addSetter(Map<String, List<PropertySetter>> setters, String propName, PropertySetter setter) {
+		List<PropertySetter> propSetters = setters.get(propName);
+		if (propSetters == null) {
+			propSetters = new ArrayList<PropertySetter>(1);
+			setters.put(propName, propSetters);
+		}
+		propSetters.add(setter);
+	}
+	
+	private BindingPlan(Class<?> beanClass, Map<String, List<PropertySetter>> setters) {
+		this.beanClass = beanClass;
+		for (Map.Entry<String, List<PropertySetter>> entry : setters.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+		this.settersByProperty = Collections.unmodifiableMap(setters);
+		this.setterRecognizer = null;
+	}
+	
+	private BindingPlan(Class<?> beanClass, SetterRecognizer setterRecognizer) {
+		this.beanClass = beanClass;
+		this.settersByProperty = new ConcurrentHashMap<String, List<PropertySetter>>();
+		this.setterRecognizer = setterRecognizer;
+	}
+	
+	/**
+	 * Returns setters for given property (in the order of discovery), or empty list
+	 * if there is no setter for the property.
+	 * @param propertyName name of property (without set prefix), compared case insensitively
+	 * @return setters for given property
+	 */
+	public List<PropertySetter> getSetters(String propertyName) {
+		List<PropertySetter> setters = settersByProperty.get(propertyName);
+		if (setters == null) {
+			if (setterRecognizer != null) {
+				setters = recognizeSetters(propertyName);
+			} else {
+				setters = Collections.<PropertySetter>emptyList();
+			}
+		}
+		return setters;
+	}
+	
+	private List<PropertySetter> recognizeSetters(String propertyName) {
+		List<PropertySetter> setters = new ArrayList<PropertySetter>(1);
+		for (Method method : beanClass.getMethods()) {
+			if (setterRecognizer.isPropertySetter(method, propertyName)) {
+				setters.add(new PropertySetter(method));
+			}
+		}
+		List<PropertySetter> resolved = Collections.unmodifiableList(setters);
+		List<PropertySetter> existing = settersByProperty.putIfAbsent(propertyName, resolved);
+		return existing != null ? existing : resolved;
+	}
+	
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+	
+	/**
+	 * Sets value of a property without reflection.
+	 * @author Radek Beran
+	 */
+	public interface Setter {
+		/**
+		 * Sets value of the property.
+		 * @param bean object with property
+		 * @param value value to set, never {@code null} for primitive properties
+		 * @throws Exception exception thrown by the setter
+		 */
+		void set(Object bean, Object value) throws Exception;
+	}
+	
+	/**
+	 * Recognizes setters of a property.
+	 * @author Radek Beran
+	 */
+	interface SetterRecognizer {
+		/**
+		 * Returns true if given method is setter of given property.
+		 * @param method method of bound class
+		 * @param propertyName name of property
+		 * @return true if the method sets the property
+		 */
+		boolean isPropertySetter(Method method, String propertyName);
+	}
+	
+	/**
+	 * Builder of {@link BindingPlan} with explicitly specified setters.
+	 * @author Radek Beran
+	 */
+	public static final class Builder {
+		private final Class<?> beanClass;
+		private final Map<String, List<PropertySetter>> setters = new TreeMap<String, List<PropertySetter>>(String.CASE_INSENSITIVE_ORDER);
+		
+		Builder(Class<?> beanClass) {
+			if (beanClass == null) throw new IllegalArgumentException("beanClass cannot be null");
+			this.beanClass = beanClass;
+		}
+		
+		/**
+		 * Adds setter of a property.
+		 * @param propertyName name of property
+		 * @param setterName name of setter method (used in error messages)
+		 * @param paramClass class of the setter's parameter
+		 * @param genericParamType generic type of the setter's parameter
+		 * @param setter setter invoker
+		 * @return this builder
+		 */
+		public Builder setter(String propertyName, String setterName, Class<?> paramClass, Type genericParamType, Setter setter) {
+			if (propertyName == null || propertyName.isEmpty()) throw new IllegalArgumentException("propertyName must be filled");
+			addSetter(setters, propertyName, new PropertySetter(setterName, paramClass, genericParamType, setter));
+			return this;
+		}
+		
+		public BindingPlan build() {
+			return new BindingPlan(beanClass, new TreeMap<String, List<PropertySetter>>(setters));
+		}
+	}
+	
+	/**
+	 * Setter of one property with precomputed parameter types
+	 * and prepared invocation handle.
+	 * @author Radek Beran
+	 */
+	public static final class PropertySetter {
+		private final String name;
+		private final Method method;
+		private final Class<?> paramClass;
+		private final Type genericParamType;
+		private final Object defaultValue;
+		private final MethodHandle handle;
+		private final Setter setter;
+		
+		PropertySetter(Method method) {
+			this.name = method.getName();
+			this.method = method;
+			this.paramClass = method.getParameterTypes()[0];
+			this.genericParamType = method.getGenericParameterTypes()[0];
+			this.defaultValue = defaultValue(this.paramClass);
+			this.handle = unreflect(method);
+			this.setter = null;
+		}
+		
+		PropertySetter(String name, Class<?> paramClass, Type genericParamType, Setter setter) {
+			if (name == null) throw new IllegalArgumentException("name cannot be null");
+			if (paramClass == null) throw new IllegalArgumentException("paramClass cannot be null");
+			if (setter == null) throw new IllegalArgumentException("setter cannot be null");
+			this.name = name;
+			this.method = null;
+			this.paramClass = paramClass;
+			this.genericParamType = genericParamType != null ? genericParamType : paramClass;
+			this.defaultValue = defaultValue(paramClass);
+			this.handle = null;
+			this.setter = setter;
+		}
+
+		/**
+		 * Returns setter method, or {@code null} if the setter was generated at compile time.
+		 * @return setter method
+		 */
+		public Method getMethod() {
+			return method;
+		}
+		
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns class of the setter's parameter.
+		 * @return class of parameter
+		 */
+		public Class<?> getParamClass() {
+			return paramClass;
+		}
+
+		public Type getGenericParamType() {
+			return genericParamType;
+		}
+
+		/**
+		 * Returns value that is set instead of {@code null} - initial value
+		 * of primitive type or {@code null} for non-primitive types.
+		 * @return default value
+		 */
+		public Object getDefaultValue() {
+			return defaultValue;
+		}
+		
+		/**
+		 * Invokes the setter, {@code null} value is replaced by {@link #getDefaultValue()}.
+		 * @param bean object with property
+		 * @param value value to set
+		 * @throws Throwable exception thrown by the setter
+		 */
+		public void invoke(Object bean, Object value) throws Throwable {
+			Object v = value != null ? value : defaultValue;
+			if (setter != null) {
+				setter.set(bean, v);
+			} else if (handle != null) {
+				handle.invokeExact(bean, v);
+			} else {
+				try {
+					method.invoke(bean, v);
+				} catch (InvocationTargetException ex) {
+					throw ex.getCause() != null ? ex.getCause() : ex;
+				}
+			}
+		}
+		
+		private static Object defaultValue(Class<?> paramClass) {
+			PrimitiveType primitiveType = PrimitiveType.byPrimitiveClass(paramClass);
+			return primitiveType != null ? primitiveType.getInitialValue() : null;
+		}
+		
+		private static MethodHandle unreflect(Method method) {
+			MethodHandle mh = null;
+			try {
+				mh = MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				// method declared in inaccessible class, falling back to reflective invocation
+				mh = null;
+			}
+			return mh;
+		}
+	}
+}
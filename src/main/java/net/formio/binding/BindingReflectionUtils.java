@@ -16,6 +16,7 @@
  */
 package net.formio.binding;
 
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -98,6 +99,42 @@ public final class BindingReflectionUtils {
 		return obj;
 	}
 	
+	/**
+	 * Invokes construction handle of given construction description, 
+	 * rethrowing unchecked exceptions of the construction method.
+	 * @param cd construction description with construction handle
+	 * @param args prepared arguments of construction method
+	 * @return constructed object
+	 * @throws BindingException if checked exception is thrown by the construction method
+	 * or if the arguments do not match parameters of the construction method
+	 */
+	static Object invokeConstructionHandle(DefaultConstructionDescription cd, Object[] args) {
+		try {
+			return cd.getConstructionHandle().invokeExact(args);
+		} catch (WrongMethodTypeException ex) {
+			throw illegalArguments(cd, args, ex);
+		} catch (ClassCastException ex) {
+			// argument of another type, or exception thrown by the construction method itself
+			if (!matchArgTypes(cd.getArgTypes(), args)) throw illegalArguments(cd, args, ex);
+			throw ex;
+		} catch (NullPointerException ex) {
+			// null argument of primitive parameter (unboxing), or exception thrown by the construction method itself
+			if (!matchArgTypes(cd.getArgTypes(), args)) throw illegalArguments(cd, args, ex);
+			throw ex;
+		} catch (IllegalArgumentException ex) {
+			// wrong count of arguments, or exception thrown by the construction method itself
+			if (!matchArgTypes(cd.getArgTypes(), args)) throw illegalArguments(cd, args, ex);
+			throw ex;
+		} catch (RuntimeException ex) {
+			throw ex;
+		} catch (Error err) {
+			throw err;
+		} catch (Throwable ex) {
+			throw new BindingException("Instantiating failed when binding using " + cd.getConstructionMethod() + 
+				" and arguments " + asList(args) + ": " + ex.getMessage(), ex);
+		}
+	}
+	
 	/**
 	 * Returns type parameters of given type acquired via reflection.
 	 * @param type
@@ -133,6 +170,62 @@ public final class BindingReflectionUtils {
 		return (Class<I>)ret;
 	}
 	
+	/**
+	 * Returns parameterized type with given raw type and type arguments 
+	 * (for constructing generic types without reflective lookup).
+	 * @param rawType raw type
+	 * @param typeArguments type arguments
+	 * @return parameterized type
+	 */
+	public static ParameterizedType parameterizedType(final Class<?> rawType, final Type ... typeArguments) {
+		if (rawType == null) throw new IllegalArgumentException("rawType cannot be null");
+		final Type[] args = typeArguments != null ? typeArguments.clone() : new Type[0];
+		return new ParameterizedType() {
+			@Override
+			public Type[] getActualTypeArguments() {
+				return args.clone();
+			}
+
+			@Override
+			public Type getRawType() {
+				return rawType;
+			}
+
+			@Override
+			public Type getOwnerType() {
+				return rawType.getDeclaringClass();
+			}
+			
+			@Override
+			public String toString() {
+				StringBuilder sb = new StringBuilder(rawType.getName()).append("<");
+				for (int i = 0; i < args.length; i++) {
+					if (i > 0) sb.append(", ");
+					sb.append(args[i].getTypeName());
+				}
+				return sb.append(">").toString();
+			}
+		};
+	}
+	
+	private static BindingException illegalArguments(DefaultConstructionDescription cd, Object[] args, RuntimeException ex) {
+		return new BindingException("Illegal argument when binding using " + cd.getConstructionMethod() + 
+			" and arguments " + asList(args) + ": " + ex.getMessage(), ex);
+	}
+	
+	private static boolean matchArgTypes(Class<?>[] argTypes, Object[] args) {
+		if (args == null || args.length != argTypes.length) return false;
+		for (int i = 0; i < argTypes.length; i++) {
+			Class<?> argType = argTypes[i];
+			if (argType.isPrimitive()) {
+				if (args[i] == null || !PrimitiveType.byPrimitiveClass(argType).getWrapperClass().isInstance(args[i])) return false;
+			} else if (args[i] != null && !argType.isInstance(args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	private static <T> List<T> asList(T[] arr) {
 		List<T> list = new ArrayList<T>();
 		if (arr != null && arr.length > 0) {
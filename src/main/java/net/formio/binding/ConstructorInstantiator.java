@@ -42,13 +42,17 @@ public class ConstructorInstantiator extends AbstractInstantiator {
 				" is not equal to number of arguments " + args.length + 
 				" for constructor " + ((DefaultConstructionDescription)cd).getConstructionMethod());
 		}
+		DefaultConstructionDescription desc = (DefaultConstructionDescription)cd;
+		if (desc.getConstructionHandle() != null) {
+			return objClass.cast(BindingReflectionUtils.invokeConstructionHandle(desc, prepareArgs(cd.getArgTypes(), args)));
+		}
 		return BindingReflectionUtils.requireNewInstance(
-			(Constructor<T>)((DefaultConstructionDescription)cd).getConstructionMethod(),
+			(Constructor<T>)desc.getConstructionMethod(),
 			prepareArgs(cd.getArgTypes(), args));
 	}
 	
 	@Override
-	public <T> ConstructionDescription getDescription(Class<T> objClass, ArgumentNameResolver argNameResolver) {
+	protected <T> ConstructionDescription createDescription(Class<T> objClass, ArgumentNameResolver argNameResolver) {
 		DefaultConstructionDescription desc = null;
 		int maxArgCnt = -1; // we will choose the constructor with the max. count of usable named arguments
 		for (Constructor<?> c : objClass.getConstructors()) { // all public constructors
@@ -85,4 +89,10 @@ public class ConstructorInstantiator extends AbstractInstantiator {
 		}
 		return desc;
 	}
+	
+	@Override
+	protected Object getDescriptionCacheKey() {
+		// all constructor instantiators of the same class are equal
+		return getClass();
+	}
 }
@@ -16,21 +16,38 @@
  */
 package net.formio.binding;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import net.formio.processing.CompiledForm;
+import net.formio.processing.CompiledForms;
+
 /**
  * Extracts values from formProperties using regular expression for an accessor.
+ * Accessors of each class are discovered only once and cached in {@link ExtractionPlan}.
+ * For classes processed by annotation processor, accessors generated at compile time are used
+ * (when default accessor regex is used and the extractor is not subclassed).
  * @author Radek Beran
  */
 public class DefaultBeanExtractor implements BeanExtractor {
 	
 	private final PropertyMethodRegex accessorRegex;
-	private static final Object[] NO_ARGS = new Object[0];
+	private final ClassValue<ExtractionPlan> extractionPlans = new ClassValue<ExtractionPlan>() {
+		@Override
+		protected ExtractionPlan computeValue(Class<?> type) {
+			// subclass can customize discovery of accessors (e.g. isIgnored), generated accessors cannot be used
+			if (DefaultBeanExtractor.this.getClass() == DefaultBeanExtractor.class && DEFAULT_ACCESSOR_REGEX.equals(accessorRegex)) {
+				CompiledForm<?> compiledForm = CompiledForms.forClass(type);
+				if (compiledForm != null) {
+					return compiledForm.getExtractionPlan();
+				}
+			}
+			return new ExtractionPlan(type, accessorRegex, DefaultBeanExtractor.this);
+		}
+	};
 	
 	/**
 	 * Default regular expression for matching name of accessor of a property and 
@@ -49,11 +66,25 @@ public class DefaultBeanExtractor implements BeanExtractor {
 	
 	@Override
 	public Map<String, Object> extractBean(Object bean, final Set<String> allowedProperties) {
-		final Map<String, Object> valuesByNames = new LinkedHashMap<String, Object>();
-		if (bean != null) {
-			final Map<String, Method> properties = getClassPropertiesInternal(bean.getClass(), allowedProperties);
-			for (Map.Entry<String, Method> propEntry : properties.entrySet()) {
-				valuesByNames.put(propEntry.getKey(), invokeNoExc(propEntry.getValue(), bean, NO_ARGS));
+		if (bean == null || allowedProperties == null || allowedProperties.isEmpty()) {
+			return Collections.<String, Object>emptyMap();
+		}
+		final ExtractionPlan plan = getExtractionPlan(bean.getClass());
+		if (allowedProperties.size() == 1) {
+			// typically extraction of one nested object
+			final String propName = allowedProperties.iterator().next();
+			final ExtractionPlan.PropertyAccessor accessor = plan.getAccessor(propName);
+			if (accessor == null) {
+				return Collections.<String, Object>emptyMap();
+			}
+			return Collections.singletonMap(propName, accessor.getValue(bean));
+		}
+		final int expectedSize = Math.min(plan.size(), allowedProperties.size());
+		final Map<String, Object> valuesByNames = new LinkedHashMap<String, Object>(expectedSize * 4 / 3 + 1);
+		for (int i = 0; i < plan.size(); i++) {
+			final ExtractionPlan.PropertyAccessor accessor = plan.getAccessor(i);
+			if (allowedProperties.contains(accessor.getPropertyName())) {
+				valuesByNames.put(accessor.getPropertyName(), accessor.getValue(bean));
 			}
 		}
 		return Collections.unmodifiableMap(valuesByNames);
@@ -64,46 +95,12 @@ public class DefaultBeanExtractor implements BeanExtractor {
 		return method.getAnnotation(Ignored.class) != null;
 	}
 	
-	private Map<String, Method> getClassPropertiesInternal(Class<?> beanClass, Set<String> allowedProperties) {
-		final Map<String, Method> properties = new LinkedHashMap<String, Method>();
-        final Method[] objMethods = beanClass.getMethods();
-        for (Method objMethod : objMethods) {
-        	if (objMethod.getName().equals("getClass")) continue;
-            if (accessorRegex.isAccessor(objMethod)) {
-            	if (isIgnored(objMethod)) {
-            		// ignored property
-            	} else {
-	            	String propName = accessorRegex.getPropertyName(objMethod.getName());
-		            if (propName != null && allowedProperties != null && allowedProperties.contains(propName)) {
-		            	properties.put(propName, objMethod);
-		            }
-            	}
-            }
-        }
-		return Collections.unmodifiableMap(properties);
-	}
-	
 	/**
-	 * Invoke method, unwrapping InvocationTargetException
-	 * @param method method to call (not null)
-	 * @param instance instance to apply on (may be null for static methods)
-	 * @param args arguments (vararg)
-	 * @return invocation result (null for void method)
-	 * @throws RuntimeException exception thrown by method invocation
-	 * @throws RuntimeException if unexpected exception or IllegalAccessException is thrown
+	 * Returns cached table of accessors of given class.
+	 * @param beanClass
+	 * @return table of accessors
 	 */
-	private Object invokeNoExc(Method method, Object instance, Object... args) {
-		try {
-			return method.invoke(instance, args);
-		} catch (InvocationTargetException e) {
-			Throwable c = e.getCause();
-			if (c instanceof RuntimeException)
-				throw (RuntimeException) c;
-			if (c instanceof Error)
-				throw (Error) c;
-			throw new DataExtractionException("invocation of " + method + " failed: " + e.getMessage(), c);
-		} catch (IllegalAccessException e) {
-			throw new DataExtractionException("illegal access: " + e.getMessage(), e);
-		}
+	protected ExtractionPlan getExtractionPlan(Class<?> beanClass) {
+		return extractionPlans.get(beanClass);
 	}
 }
@@ -23,6 +23,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.formio.Forms;
 import net.formio.binding.collection.BasicCollectionBuilders;
@@ -47,6 +49,8 @@ public class DefaultBinder implements Binder {
 	private final ArgumentNameResolver argNameResolver;
 	private final CollectionBuilders collectionBuilders;
 	private final PropertyMethodRegex setterRegex;
+	/** Plans of setters recognized by overridden {@link #isPropertySetter(Method, String)}, {@code null} if it is not overridden. */
+	private final ConcurrentMap<Class<?>, BindingPlan> recognizedPlans;
 	
 	/**
 	 * Default regular expression for matching name of setter of a property and property name within it.
@@ -66,6 +70,7 @@ public class DefaultBinder implements Binder {
 		this.argNameResolver = argNameResolver;
 		this.collectionBuilders = collectionBuilders;
 		this.setterRegex = setterRegex;
+		this.recognizedPlans = isPropertySetterOverridden(getClass()) ? new ConcurrentHashMap<Class<?>, BindingPlan>() : null;
 	}
 	
 	public DefaultBinder(Formatters formatters, CollectionBuilders collBuilders, ArgumentNameResolver argNameResolver) {
@@ -112,13 +117,17 @@ public class DefaultBinder implements Binder {
 		T obj = instantiator.instantiate(objClass, cd, args);
 		
 		// Using setters for the rest of values
+		boolean clientProvidedInstance = instantiator instanceof InstanceHoldingInstantiator;
+		BindingPlan plan = null;
 		for (String paramName : notBoundYetParamNames) {
 			BoundValuesInfo valueInfo = values.get(paramName);
 			if (valueInfo == null) throw new BindingException("Property '" + paramName + 
 				" could not be bound. Value to bind was not found. " + 
 				"The appropriate field was probably not declared.");
-			boolean clientProvidedInstance = instantiator instanceof InstanceHoldingInstantiator;
-			propertyBindErrors.putAll(updatePropertyValue(objClass, obj, paramName, valueInfo, clientProvidedInstance));
+			if (plan == null) {
+				plan = getBindingPlan(obj.getClass());
+			}
+			propertyBindErrors.putAll(updatePropertyValue(plan, objClass, obj, paramName, valueInfo, clientProvidedInstance));
 			// notBoundYetParamNames cannot be reduced here in cycle (ConcurrentModificationException)
 		}
 		return new BoundData<T>(obj, propertyBindErrors);
@@ -140,6 +149,40 @@ public class DefaultBinder implements Binder {
 		return argNameResolver;
 	}
 	
+	/**
+	 * Returns cached plan of setters of given class. If {@link #isPropertySetter(Method, String)}
+	 * is overridden, setters of each property are recognized by it on first use.
+	 * @param objClass class of bound object
+	 * @return binding plan
+	 */
+	protected BindingPlan getBindingPlan(Class<?> objClass) {
+		if (recognizedPlans != null) {
+			BindingPlan plan = recognizedPlans.get(objClass);
+			if (plan == null) {
+				plan = BindingPlan.withSetterRecognizer(objClass, new BindingPlan.SetterRecognizer() {
+					@Override
+					public boolean isPropertySetter(Method method, String propertyName) {
+						return DefaultBinder.this.isPropertySetter(method, propertyName);
+					}
+				});
+				BindingPlan existing = recognizedPlans.putIfAbsent(objClass, plan);
+				if (existing != null) {
+					plan = existing;
+				}
+			}
+			return plan;
+		}
+		return BindingPlan.getInstance(objClass, setterRegex);
+	}
+	
+	/**
+	 * Returns true if given method is setter of given property. Setters recognized by setter regex 
+	 * are cached in {@link BindingPlan}; if this method is overridden, it is called once 
+	 * for each method of bound class and bound property.
+	 * @param method method of bound class
+	 * @param propertyName name of property
+	 * @return true if the method sets the property
+	 */
 	protected boolean isPropertySetter(Method method, String propertyName) {
 		return setterRegex.matchesPropertyMethod(method.getName(), propertyName) && method.getParameterTypes().length == 1;
 	}
@@ -175,6 +218,27 @@ public class DefaultBinder implements Binder {
 	 * @throws BindingException if setter was not found or some other error occurred
 	 */
 	protected Map<String, List<ParseError>> updatePropertyValue(
+		Class<?> parentClass,
+		Object obj, 
+		String propertyName,
+		BoundValuesInfo propertyValueInfo, 
+		boolean clientProvidedInstance) {
+		return updatePropertyValue(getBindingPlan(obj.getClass()), parentClass, obj, propertyName, propertyValueInfo, clientProvidedInstance);
+	}
+	
+	/**
+	 * Updates given property of given object to given value using setters from given binding plan.
+	 * @param plan binding plan for the class of given object
+	 * @param parentClass name of class for which the value of its property is converted
+	 * @param obj object with property
+	 * @param propertyName name of property (without set, get or is - according to JavaBeans convention)
+	 * @param propertyValueInfo value to set for the property
+	 * @param clientProvidedInstance flag that client provided own instance that should be filled
+	 * @return binding errors
+	 * @throws BindingException if setter was not found or some other error occurred
+	 */
+	protected Map<String, List<ParseError>> updatePropertyValue(
+		BindingPlan plan,
 		Class<?> parentClass,
 		Object obj, 
 		String propertyName,
@@ -187,30 +251,24 @@ public class DefaultBinder implements Binder {
 		boolean propertySet = false;
 		String setterName = null;
 		try {
-			Method[] objMethods = obj.getClass().getMethods();
-			for (Method objMethod : objMethods) {
-				if (!isPropertySetter(objMethod, propertyName)) {
-					continue;
-				}
-				setterName = objMethod.getName();
-				Class<?> methodParamClass = objMethod.getParameterTypes()[0];
-				Type genericParamType = objMethod.getGenericParameterTypes()[0];
-				ParsedValue parsedValue = convertToValue(parentClass, propertyName, propertyValueInfo, methodParamClass, genericParamType);
+			for (BindingPlan.PropertySetter setter : plan.getSetters(propertyName)) {
+				setterName = setter.getName();
+				Class<?> methodParamClass = setter.getParamClass();
+				ParsedValue parsedValue = convertToValue(parentClass, propertyName, propertyValueInfo, methodParamClass, setter.getGenericParamType());
 				Object propertyValue = parsedValue.getValue();
 				if (!parsedValue.isSuccessfullyParsed()) {
 					addParseError(propertyBindErrors, propertyName, parsedValue.getParseErrors());
 				}
 				if (propertyValue == null || canBeImplicitlyConverted(propertyValue, methodParamClass)) {
-					if (PrimitiveType.isPrimitiveType(methodParamClass) && propertyValue == null) {
-						// Using initial value for primitive type
-						propertyValue = PrimitiveType.byPrimitiveClass(methodParamClass).getInitialValue(); 
-					}
-					objMethod.invoke(obj, propertyValue);
+					// null is replaced by initial value for primitive type
+					setter.invoke(obj, propertyValue);
 					propertySet = true;
 					break;
 				}
 			}
-		} catch (Exception ex) {
+		} catch (Error err) {
+			throw err;
+		} catch (Throwable ex) {
 			throw new BindingException("Invoking setter " + setterName
 				+ " of class " + obj.getClass().getSimpleName()
 				+ " failed: " + ex.getMessage(), ex);
@@ -391,4 +449,16 @@ public class DefaultBinder implements Binder {
 		errors.addAll(errsToAdd);
 		parseErrors.put(propName, errors);
 	}
+	
+	private static boolean isPropertySetterOverridden(Class<?> binderClass) {
+		for (Class<?> cls = binderClass; cls != DefaultBinder.class; cls = cls.getSuperclass()) {
+			try {
+				cls.getDeclaredMethod("isPropertySetter", Method.class, String.class);
+				return true;
+			} catch (NoSuchMethodException ex) {
+				// not overridden in this class, checking superclass
+			}
+		}
+		return false;
+	}
 }
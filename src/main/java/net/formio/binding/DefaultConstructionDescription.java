@@ -16,39 +16,57 @@
  */
 package net.formio.binding;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Description of construction method (constructor or static factory method).
+ * Types of arguments and handle for invocation of the construction method are resolved 
+ * once when the description is created. Arrays returned by this description are shared 
+ * and must not be modified.
+ */
 public class DefaultConstructionDescription implements ConstructionDescription {
+	
+	private static final MethodType CONSTRUCTION_TYPE = MethodType.methodType(Object.class, Object[].class);
 
 	private final Class<?> constructedClass;
 	private final AccessibleObject constructionMethod;
 	private final List<String> argNames;
+	private final Class<?>[] argTypes;
+	private final Type[] genericParamTypes;
+	private final MethodHandle constructionHandle;
 
 	protected DefaultConstructionDescription(Class<?> constructedClass, final AccessibleObject constructionMethod, final List<String> argNames) {
 		if (argNames == null) throw new IllegalArgumentException("argNames cannot be null");
 		if (constructedClass == null) throw new IllegalArgumentException("constructedClass cannot be null");
 		this.constructedClass = constructedClass;
 		this.constructionMethod = constructionMethod; // can be null if instantiator for e.g. already holds pre-prepared instance
-		this.argNames = argNames;
-	}
-
-	@Override
-	public Type[] getGenericParamTypes() {
-		Type[] paramTypes = null;
+		this.argNames = Collections.unmodifiableList(argNames);
 		if (constructionMethod == null) {
-			paramTypes = new Type[0];
+			this.argTypes = new Class<?>[0];
+			this.genericParamTypes = new Type[0];
 		} else {
 			if (constructionMethod instanceof Constructor) {
-				paramTypes = ((Constructor<?>)constructionMethod).getGenericParameterTypes();
+				this.argTypes = ((Constructor<?>)constructionMethod).getParameterTypes();
+				this.genericParamTypes = ((Constructor<?>)constructionMethod).getGenericParameterTypes();
 			} else if (constructionMethod instanceof Method) {
-				paramTypes = ((Method)constructionMethod).getGenericParameterTypes();
+				this.argTypes = ((Method)constructionMethod).getParameterTypes();
+				this.genericParamTypes = ((Method)constructionMethod).getGenericParameterTypes();
 			} else throw new IllegalStateException("Unsupported construction method '" + constructionMethod + "'");
 		}
-		return paramTypes;
+		this.constructionHandle = createConstructionHandle(constructionMethod, this.argTypes.length);
+	}
+
+	@Override
+	public Type[] getGenericParamTypes() {
+		return genericParamTypes;
 	}
 
 	@Override
@@ -58,16 +76,6 @@ public class DefaultConstructionDescription implements ConstructionDescription {
 	
 	@Override
 	public Class<?>[] getArgTypes() {
-		Class<?>[] argTypes = null;
-		if (constructionMethod == null) {
-			argTypes = new Class<?>[0];
-		} else {
-			if (constructionMethod instanceof Constructor) {
-				argTypes = ((Constructor<?>)constructionMethod).getParameterTypes();
-			} else if (constructionMethod instanceof Method) {
-				argTypes = ((Method)constructionMethod).getParameterTypes();
-			} else throw new IllegalStateException("Unsupported construction method '" + constructionMethod + "'");
-		}
 		return argTypes;
 	}
 	
@@ -83,5 +91,32 @@ public class DefaultConstructionDescription implements ConstructionDescription {
 	AccessibleObject getConstructionMethod() {
 		return this.constructionMethod;
 	}
+	
+	/**
+	 * Auxiliary method, should be used only by instantiators that produce this construction description.
+	 * @return handle accepting array of arguments and returning constructed object, 
+	 * or {@code null} if construction method is not accessible via method handles
+	 */
+	MethodHandle getConstructionHandle() {
+		return this.constructionHandle;
+	}
+	
+	private static MethodHandle createConstructionHandle(AccessibleObject constructionMethod, int argCount) {
+		MethodHandle mh = null;
+		try {
+			if (constructionMethod instanceof Constructor) {
+				mh = MethodHandles.publicLookup().unreflectConstructor((Constructor<?>)constructionMethod);
+			} else if (constructionMethod instanceof Method) {
+				mh = MethodHandles.publicLookup().unreflect((Method)constructionMethod);
+			}
+			if (mh != null) {
+				mh = mh.asSpreader(Object[].class, argCount).asType(CONSTRUCTION_TYPE);
+			}
+		} catch (IllegalAccessException ex) {
+			// construction method of inaccessible class, reflective invocation will be used
+			mh = null;
+		}
+		return mh;
+	}
 
 }
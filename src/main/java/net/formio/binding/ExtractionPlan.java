@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable table of accessors (getters) of a class usable for extraction of bean values.
+ * The table is built once for a class, extraction then only invokes prepared accessors.
+ * Table with accessors generated at compile time can be created using {@link #builder(Class)}.
+ * 
+ * @author Radek Beran
+ */
+public final class ExtractionPlan {
+	
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+	
+	private final Class<?> beanClass;
+	/** Accessors in the order of discovery. */
+	private final PropertyAccessor[] accessors;
+	private final Map<String, PropertyAccessor> accessorsByProperty;
+	
+	/**
+	 * Creates accessor table for given class.
+	 * @param beanClass class of extracted beans
+	 * @param accessorRegex regular expression for recognizing accessors
+	 * @param extractor extractor that decides which accessors are ignored
+	 */
+	ExtractionPlan(Class<?> beanClass, PropertyMethodRegex accessorRegex, BeanExtractor extractor) {
+		this.beanClass = beanClass;
+		final Map<String, PropertyAccessor> accessorsMap = new LinkedHashMap<String, PropertyAccessor>();
+		for (Method objMethod : beanClass.getMethods()) {
+			if (objMethod.getName().equals("getClass")) continue;
+			if (accessorRegex.isAccessor(objMethod) && !extractor.isIgnored(objMethod)) {
+				String propName = accessorRegex.getPropertyName(objMethod.getName());
+				if (propName != null) {
+					accessorsMap.put(propName, new PropertyAccessor(propName, objMethod));
+				}
+			}
+		}
+		this.accessors = accessorsMap.values().toArray(new PropertyAccessor[0]);
+		this.accessorsByProperty = Collections.unmodifiableMap(new HashMap<String, PropertyAccessor>(accessorsMap));
+	}
+	
+	private ExtractionPlan(Class<?> beanClass, Map<String, PropertyAccessor> accessorsMap) {
+		this.beanClass = beanClass;
+		this.accessors = accessorsMap.values().toArray(new PropertyAccessor[0]);
+		this.accessorsByProperty = Collections.unmodifiableMap(new HashMap<String, PropertyAccessor>(accessorsMap));
+	}
+	
+	/**
+	 * Returns builder of accessor table with explicitly specified accessors
+	 * (used by code generated at compile time).
+	 * @param beanClass class of extracted beans
+	 * @return builder of accessor table
+	 */
+	public static Builder builder(Class<?> beanClass) {
+		return new Builder(beanClass);
+	}
+	
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+	
+	/**
+	 * Returns accessor of given property, or {@code null} if there is no such accessor.
+	 * @param propertyName
+	 * @return accessor of property
+	 */
+	public PropertyAccessor getAccessor(String propertyName) {
+		return accessorsByProperty.get(propertyName);
+	}
+	
+	/**
+	 * Returns number of properties that can be extracted.
+	 * @return number of properties
+	 */
+	public int size() {
+		return accessors.length;
+	}
+	
+	/**
+	 * Returns accessor on given position (in the order of discovery).
+	 * @param index
+	 * @return accessor
+	 */
+	public PropertyAccessor getAccessor(int index) {
+		return accessors[index];
+	}
+	
+	/**
+	 * Returns value of a property without reflection.
+	 * @author Radek Beran
+	 */
+	public interface Getter {
+		/**
+		 * Returns value of the property.
+		 * @param bean object with property
+		 * @return value of the property
+		 * @throws Exception exception thrown by the accessor
+		 */
+		Object get(Object bean) throws Exception;
+	}
+	
+	/**
+	 * Builder of {@link ExtractionPlan} with explicitly specified accessors.
+	 * @author Radek Beran
+	 */
+	public static final class Builder {
+		private final Class<?> beanClass;
+		private final Map<String, PropertyAccessor> accessors = new LinkedHashMap<String, PropertyAccessor>();
+		
+		Builder(Class<?> beanClass) {
+			if (beanClass == null) throw new IllegalArgumentException("beanClass cannot be null");
+			this.beanClass = beanClass;
+		}
+		
+		/**
+		 * Adds accessor of a property.
+		 * @param propertyName name of property
+		 * @param getter accessor invoker
+		 * @return this builder
+		 */
+		public Builder accessor(String propertyName, Getter getter) {
+			if (propertyName == null || propertyName.isEmpty()) throw new IllegalArgumentException("propertyName must be filled");
+			if (getter == null) throw new IllegalArgumentException("getter cannot be null");
+			accessors.put(propertyName, new PropertyAccessor(propertyName, getter));
+			return this;
+		}
+		
+		public ExtractionPlan build() {
+			return new ExtractionPlan(beanClass, accessors);
+		}
+	}
+	
+	/**
+	 * Accessor of one property with prepared invocation handle.
+	 * @author Radek Beran
+	 */
+	public static final class PropertyAccessor {
+		private final String propertyName;
+		private final Method method;
+		private final MethodHandle handle;
+		private final Getter getter;
+		
+		PropertyAccessor(String propertyName, Method method) {
+			this.propertyName = propertyName;
+			this.method = method;
+			this.handle = unreflect(method);
+			this.getter = null;
+		}
+		
+		PropertyAccessor(String propertyName, Getter getter) {
+			this.propertyName = propertyName;
+			this.method = null;
+			this.handle = null;
+			this.getter = getter;
+		}
+		
+		public String getPropertyName() {
+			return propertyName;
+		}
+		
+		/**
+		 * Returns accessor method, or {@code null} if the accessor was generated at compile time.
+		 * @return accessor method
+		 */
+		public Method getMethod() {
+			return method;
+		}
+		
+		/**
+		 * Returns value of the property of given bean.
+		 * @param bean
+		 * @return value of property
+		 * @throws RuntimeException exception thrown by the accessor
+		 * @throws DataExtractionException if checked exception is thrown or accessor is not accessible
+		 */
+		public Object getValue(Object bean) {
+			try {
+				if (getter != null) {
+					return getter.get(bean);
+				}
+				if (handle != null) {
+					return handle.invokeExact(bean);
+				}
+				return method.invoke(bean);
+			} catch (InvocationTargetException e) {
+				Throwable c = e.getCause();
+				if (c instanceof RuntimeException)
+					throw (RuntimeException) c;
+				if (c instanceof Error)
+					throw (Error) c;
+				throw new DataExtractionException("invocation of " + method + " failed: " + e.getMessage(), c);
+			} catch (IllegalAccessException e) {
+				throw new DataExtractionException("illegal access: " + e.getMessage(), e);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new DataExtractionException("invocation of accessor of " + propertyName + " failed: " + e.getMessage(), e);
+			}
+		}
+		
+		private static MethodHandle unreflect(Method method) {
+			MethodHandle mh = null;
+			try {
+				mh = MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+			} catch (IllegalAccessException ex) {
+				// method declared in inaccessible class, falling back to reflective invocation
+				mh = null;
+			}
+			return mh;
+		}
+	}
+}
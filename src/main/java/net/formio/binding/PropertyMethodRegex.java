@@ -76,4 +76,23 @@ public class PropertyMethodRegex {
 		return matchesMethod(method.getName()) && method.getParameterTypes().length == 0;
 	}
 
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + propertyNameGroup;
+		result = prime * result + regex.hashCode();
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof PropertyMethodRegex))
+			return false;
+		PropertyMethodRegex other = (PropertyMethodRegex) obj;
+		return propertyNameGroup == other.propertyNameGroup && regex.equals(other.regex);
+	}
+
 }
@@ -31,6 +31,7 @@ public class StaticFactoryMethod extends AbstractInstantiator {
 	private final Class<?> factoryClass;
 	private final String methodName;
 	private final Method[] instMethods;
+	private final FactoryMethodKey descriptionCacheKey;
 	
 	public StaticFactoryMethod(Class<?> factoryClass, String methodName) {
 		if (factoryClass == null) throw new IllegalArgumentException("factoryClass cannot be null");
@@ -48,17 +49,22 @@ public class StaticFactoryMethod extends AbstractInstantiator {
 			}
 		}
 		this.instMethods = instMethods.toArray(new Method[0]);
+		this.descriptionCacheKey = new FactoryMethodKey(factoryClass, methodName);
 	}
 	
 	@Override
 	public <T> T instantiate(Class<T> objClass, ConstructionDescription cd, Object ... args) {
+		DefaultConstructionDescription desc = (DefaultConstructionDescription)cd;
+		if (desc.getConstructionHandle() != null) {
+			return objClass.cast(BindingReflectionUtils.invokeConstructionHandle(desc, prepareArgs(cd.getArgTypes(), args)));
+		}
 		return BindingReflectionUtils.invokeStaticMethod(
-			(Method)((DefaultConstructionDescription)cd).getConstructionMethod(), 
+			(Method)desc.getConstructionMethod(), 
 			prepareArgs(cd.getArgTypes(), args));
 	}
 
 	@Override
-	public <T> ConstructionDescription getDescription(Class<T> objClass, ArgumentNameResolver argNameResolver) {
+	protected <T> ConstructionDescription createDescription(Class<T> objClass, ArgumentNameResolver argNameResolver) {
 		DefaultConstructionDescription desc = null;
 		int maxArgCnt = -1; // we will choose the construction method with the max. count of usable named arguments
 		for (Method c : this.instMethods) { // all public constructors
@@ -90,4 +96,37 @@ public class StaticFactoryMethod extends AbstractInstantiator {
 		return desc;
 	}
 	
+	@Override
+	protected Object getDescriptionCacheKey() {
+		return this.descriptionCacheKey;
+	}
+	
+	/**
+	 * Identifies factory method by its class (classes of the same name can be loaded by different class loaders)
+	 * and method name.
+	 */
+	private static final class FactoryMethodKey {
+		private final Class<?> factoryClass;
+		private final String methodName;
+		
+		FactoryMethodKey(Class<?> factoryClass, String methodName) {
+			this.factoryClass = factoryClass;
+			this.methodName = methodName;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * factoryClass.hashCode() + methodName.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof FactoryMethodKey))
+				return false;
+			FactoryMethodKey other = (FactoryMethodKey) obj;
+			return factoryClass.equals(other.factoryClass) && methodName.equals(other.methodName);
+		}
+	}
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache with limited number of entries. When the limit is exceeded,
+ * least recently used entries are evicted (approximately: entries are evicted in 
+ * insertion order, entries that were read since the last eviction round get a second chance).
+ * Reads do not lock. Counts of hits, misses and evictions are available via {@link #getStats()}.
+ * 
+ * @author Radek Beran
+ * @param <K> type of key
+ * @param <V> type of value
+ */
+public final class BoundedCache<K, V> {
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Entry<V>> entries;
+	private final ConcurrentLinkedQueue<K> evictionQueue;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param maxSize maximum number of entries held in cache
+	 */
+	public BoundedCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Maximum size of cache must be positive, but was " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.entries = new ConcurrentHashMap<K, Entry<V>>();
+		this.evictionQueue = new ConcurrentLinkedQueue<K>();
+	}
+	
+	/**
+	 * Returns value cached for given key.
+	 * @param key
+	 * @return cached value or {@code null}
+	 */
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		if (!entry.used) {
+			entry.used = true;
+		}
+		return entry.value;
+	}
+	
+	/**
+	 * Stores value for given key if there is no value for the key yet.
+	 * @param key
+	 * @param value
+	 * @return value that is cached for the key (the given value or value stored by another thread)
+	 */
+	public V putIfAbsent(K key, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Cached value cannot be null");
+		}
+		Entry<V> previous = entries.putIfAbsent(key, new Entry<V>(value));
+		if (previous != null) {
+			return previous.value;
+		}
+		evictionQueue.add(key);
+		if (entries.size() > maxSize) {
+			evict();
+		}
+		return value;
+	}
+	
+	/**
+	 * Removes all entries from the cache. Statistics are preserved.
+	 */
+	public void clear() {
+		entries.clear();
+		evictionQueue.clear();
+	}
+	
+	/**
+	 * Returns current number of entries.
+	 * @return number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * Returns snapshot of cache statistics.
+	 * @return statistics
+	 */
+	public CacheStats getStats() {
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size(), maxSize);
+	}
+	
+	private void evict() {
+		// each entry gets at most one second chance, so this ends after at most two rounds
+		int attempts = 2 * evictionQueue.size() + 1;
+		while (entries.size() > maxSize && attempts-- > 0) {
+			K key = evictionQueue.poll();
+			if (key == null) {
+				break;
+			}
+			Entry<V> entry = entries.get(key);
+			if (entry == null) {
+				continue;
+			}
+			if (entry.used) {
+				entry.used = false;
+				evictionQueue.add(key);
+			} else if (entries.remove(key, entry)) {
+				evictions.increment();
+			}
+		}
+	}
+	
+	private static final class Entry<V> {
+		final V value;
+		volatile boolean used;
+		
+		Entry(V value) {
+			this.value = value;
+		}
+	}
+}
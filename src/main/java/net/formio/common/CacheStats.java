@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.common;
+
+/**
+ * Snapshot of statistics of a {@link BoundedCache}.
+ * @author Radek Beran
+ */
+public final class CacheStats {
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final int size;
+	private final int maxSize;
+	
+	CacheStats(long hitCount, long missCount, long evictionCount, int size, int maxSize) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns number of lookups that found cached value.
+	 * @return number of hits
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns number of lookups that did not find cached value.
+	 * @return number of misses
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns number of entries evicted because the cache was full.
+	 * @return number of evictions
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns number of entries in the cache.
+	 * @return number of entries
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns maximum number of entries in the cache.
+	 * @return maximum number of entries
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * Returns ratio of hits to all lookups.
+	 * @return hit rate from 0 to 1; 1 if there was no lookup yet
+	 */
+	public double getHitRate() {
+		long lookups = hitCount + missCount;
+		return lookups == 0 ? 1.0 : (double)hitCount / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount 
+			+ ", size=" + size + ", maxSize=" + maxSize + "]";
+	}
+}
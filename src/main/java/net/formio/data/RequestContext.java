@@ -36,4 +36,14 @@ public interface RequestContext {
 	 */
 	String secretWithUserIdentification(String secret);
 	
+	/**
+	 * Returns identifier of existing session of current user (for e.g. id of HTTP session), 
+	 * or {@code null} if the user has no session. The identifier must not be chosen by the client 
+	 * and it must not create a new session. Required by stateless authorization tokens 
+	 * that are bound to the session of the user.
+	 * @return
+	 */
+	default String getSessionId() {
+		return null;
+	}
 }
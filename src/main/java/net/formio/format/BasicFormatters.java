@@ -18,14 +18,25 @@ package net.formio.format;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+
+import net.formio.common.CacheStats;
 
 /**
  * Transforms objects of common type(s) to a String and back from a String.
@@ -75,6 +86,16 @@ public class BasicFormatters implements Formatters {
 		return makeString(value, (String)null, loc);
 	}
 	
+	/**
+	 * Returns statistics of the cache of date and number formats that is shared 
+	 * by all formatters. Maximum size of the cache can be set using system property
+	 * "net.formio.format.cacheSize".
+	 * @return cache statistics
+	 */
+	public static CacheStats getFormatsCacheStats() {
+		return FormatsCache.getStats();
+	}
+	
 	@Override
 	public boolean canHandle(Class<?> cls) {
 		return cls.isAssignableFrom(String.class) || cls.isEnum() || this.formatters.containsKey(cls);
@@ -87,48 +108,47 @@ public class BasicFormatters implements Formatters {
 	 * @return
 	 */
 	protected Map<Class<?>, Formatter<?>> registerFormatters() {
-		final Class<? extends Formatters> formattersKey = getClass();
-		Map<Class<?>, Formatter<?>> formatters = FORMATTERS_CACHE.get(formattersKey);
+		// basic formatters do not depend on the subclass, they are shared by all instances
+		Map<Class<?>, Formatter<?>> formatters = basicFormatters;
 		if (formatters == null) {
 			formatters = new HashMap<Class<?>, Formatter<?>>();
 			formatters.put(Boolean.class, BOOLEAN_FORMATTER);
 			formatters.put(boolean.class, BOOLEAN_FORMATTER);
 			formatters.put(String.class, STRING_FORMATTER);
 			
-			final Formatter<Date> dateFormatter = new Formatter<Date>() {
+			final Formatter<Date> dateFormatter = new DateTimeValueFormatter<Date>(FormatsCache.DEFAULT_DATE_FORMAT) {
 
 				@Override
-				public Date parseFromString(String str, Class<Date> destClass,
-						String formatPattern, Location loc) {
-					try {
-						return FormatsCache.getOrCreateDateFormat(formatPattern, loc).parse(str);
-					} catch (Exception ex) {
-						throw new StringParseException(Date.class, str, ex);
-					}
+				protected Date fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+					return Date.from(toZonedDateTime(parsed, zone).toInstant());
 				}
 				
 				@Override
-				public String makeString(Date value, String formatPattern, Location loc) {
-					return FormatsCache.getOrCreateDateFormat(
-						formatPattern, loc).format(value);
+				protected TemporalAccessor toTemporal(Date value, ZoneId zone) {
+					// Date.toInstant is not supported by java.sql.Date
+					return Instant.ofEpochMilli(value.getTime()).atZone(zone);
 				}
 
 			};
 			
 			formatters.put(Date.class, dateFormatter);
+			formatters.put(LocalDate.class, LOCAL_DATE_FORMATTER);
+			formatters.put(LocalDateTime.class, LOCAL_DATE_TIME_FORMATTER);
+			formatters.put(LocalTime.class, LOCAL_TIME_FORMATTER);
+			formatters.put(YearMonth.class, YEAR_MONTH_FORMATTER);
+			formatters.put(Instant.class, INSTANT_FORMATTER);
+			formatters.put(ZonedDateTime.class, ZONED_DATE_TIME_FORMATTER);
 
 			final Formatter<Byte> byteFormatter = new Formatter<Byte>() {
 
 				@Override
 				public Byte parseFromString(String str, Class<Byte> destClass,
 						String formatPattern, Location loc) {
-					try {
-						String amendedStr = removeDecimalPart(str, loc.getLocale());
-						return Byte.valueOf(FormatsCache.getOrCreateDecimalFormat(formatPattern, loc)
-							.parse(amendedStr).byteValue());
-					} catch (Exception ex) {
-						throw new StringParseException(Byte.class, str, ex);
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return Byte.valueOf((byte)NumberParser.getInstance(loc.getLocale())
+							.parseLong(str, Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.class));
 					}
+					return Byte.valueOf((byte)parseIntegral(str, formatPattern, loc, Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.class));
 				}
 
 				@Override
@@ -146,13 +166,11 @@ public class BasicFormatters implements Formatters {
 				public Short parseFromString(String str,
 						Class<Short> destClass, String formatPattern,
 						Location loc) {
-					try {
-						String amendedStr = removeDecimalPart(str, loc.getLocale());
-						return Short.valueOf(FormatsCache.getOrCreateDecimalFormat(formatPattern, loc)
-							.parse(amendedStr).shortValue());
-					} catch (Exception ex) {
-						throw new StringParseException(Short.class, str, ex);
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return Short.valueOf((short)NumberParser.getInstance(loc.getLocale())
+							.parseLong(str, Short.MIN_VALUE, Short.MAX_VALUE, Short.class));
 					}
+					return Short.valueOf((short)parseIntegral(str, formatPattern, loc, Short.MIN_VALUE, Short.MAX_VALUE, Short.class));
 				}
 
 				@Override
@@ -170,13 +188,11 @@ public class BasicFormatters implements Formatters {
 				public Integer parseFromString(String str,
 						Class<Integer> destClass, String formatPattern,
 						Location loc) {
-					try {
-						String amendedStr = removeDecimalPart(str, loc.getLocale());
-						return Integer.valueOf(FormatsCache.getOrCreateDecimalFormat(formatPattern, loc)
-							.parse(amendedStr).intValue());
-					} catch (Exception ex) {
-						throw new StringParseException(Integer.class, str, ex);
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return Integer.valueOf((int)NumberParser.getInstance(loc.getLocale())
+							.parseLong(str, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.class));
 					}
+					return Integer.valueOf((int)parseIntegral(str, formatPattern, loc, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.class));
 				}
 
 				@Override
@@ -193,13 +209,11 @@ public class BasicFormatters implements Formatters {
 				@Override
 				public Long parseFromString(String str, Class<Long> destClass,
 						String formatPattern, Location loc) {
-					try {
-						String amendedStr = removeDecimalPart(str, loc.getLocale());
-						return Long.valueOf(FormatsCache.getOrCreateDecimalFormat(formatPattern, loc)
-							.parse(amendedStr).longValue());
-					} catch (Exception ex) {
-						throw new StringParseException(Long.class, str, ex);
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return Long.valueOf(NumberParser.getInstance(loc.getLocale())
+							.parseLong(str, Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
 					}
+					return Long.valueOf(parseIntegral(str, formatPattern, loc, Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
 				}
 
 				@Override
@@ -236,6 +250,9 @@ public class BasicFormatters implements Formatters {
 
 				@Override
 				public Double parseFromString(String str, Class<Double> destClass, String formatPattern, Location loc) {
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return NumberParser.getInstance(loc.getLocale()).parseDouble(str);
+					}
 					try {
 						return Double.valueOf(FormatsCache.getOrCreateDecimalFormat(formatPattern, loc)
 							.parse(str).doubleValue());
@@ -257,11 +274,12 @@ public class BasicFormatters implements Formatters {
 
 				@Override
 				public BigDecimal parseFromString(String str, Class<BigDecimal> destClass, String formatPattern, Location loc) {
+					if (formatPattern == null || formatPattern.isEmpty()) {
+						return NumberParser.getInstance(loc.getLocale()).parseBigDecimal(str);
+					}
 					BigDecimal bd = null;
 					try {
-						DecimalFormat format = FormatsCache.getOrCreateDecimalFormat(formatPattern, loc);
-						format.setParseBigDecimal(true);
-						bd = (BigDecimal) format.parseObject(str);
+						bd = (BigDecimal) FormatsCache.getOrCreateDecimalFormat(formatPattern, loc).parseObject(str);
 					} catch (Exception ex) {
 						throw new StringParseException(BigDecimal.class, str, ex);
 					}
@@ -278,7 +296,7 @@ public class BasicFormatters implements Formatters {
 			};
 			formatters.put(BigDecimal.class, bigDecimalFormatter);
 			formatters = Collections.unmodifiableMap(formatters);
-			FORMATTERS_CACHE.put(formattersKey, formatters);
+			basicFormatters = formatters;
 		}
 		return formatters;
 	}
@@ -315,6 +333,194 @@ public class BasicFormatters implements Formatters {
 
 	};
 
+	/**
+	 * Base class for formatters of date/time values. Uses immutable {@link DateTimeFormatter}s
+	 * that are shared by all threads. Values are formatted in the time zone of given location,
+	 * strings without time zone are parsed in the time zone of given location.
+	 */
+	protected static abstract class DateTimeValueFormatter<T> implements Formatter<T> {
+		private final String defaultPattern;
+		private final DateTimeFormatter defaultFormatter;
+		
+		/**
+		 * @param defaultPattern pattern (with letters of {@link java.text.SimpleDateFormat}) 
+		 * used when no format pattern is specified
+		 */
+		protected DateTimeValueFormatter(String defaultPattern) {
+			this.defaultPattern = defaultPattern;
+			this.defaultFormatter = null;
+		}
+		
+		/**
+		 * @param defaultFormatter formatter used when no format pattern is specified
+		 */
+		protected DateTimeValueFormatter(DateTimeFormatter defaultFormatter) {
+			this.defaultPattern = null;
+			this.defaultFormatter = defaultFormatter;
+		}
+
+		@Override
+		public T parseFromString(String str, Class<T> destClass, String formatPattern, Location loc) {
+			try {
+				return fromTemporal(getFormatter(formatPattern, loc).parse(str), loc.getZoneId());
+			} catch (Exception ex) {
+				throw new StringParseException(destClass, str, ex);
+			}
+		}
+
+		@Override
+		public String makeString(T value, String formatPattern, Location loc) {
+			return getFormatter(formatPattern, loc).format(toTemporal(value, loc.getZoneId()));
+		}
+		
+		/**
+		 * Creates value from parsed date/time fields.
+		 * @param parsed parsed fields
+		 * @param zone time zone of location, should be used if the string does not contain time zone
+		 * @return result value
+		 */
+		protected abstract T fromTemporal(TemporalAccessor parsed, ZoneId zone);
+		
+		/**
+		 * Converts value to date/time fields that are formatted.
+		 * @param value value to format
+		 * @param zone time zone of location
+		 * @return fields to format
+		 */
+		protected abstract TemporalAccessor toTemporal(T value, ZoneId zone);
+		
+		protected DateTimeFormatter getFormatter(String formatPattern, Location loc) {
+			if (formatPattern != null && !formatPattern.isEmpty()) {
+				return FormatsCache.getOrCreateDateTimeFormatter(formatPattern, loc);
+			}
+			if (defaultFormatter != null) {
+				return defaultFormatter;
+			}
+			return FormatsCache.getOrCreateDateTimeFormatter(defaultPattern, loc);
+		}
+		
+		/**
+		 * Resolves date and time from parsed fields. Missing date fields are defaulted
+		 * to 1.1.1970 (year, month and day separately), missing time to midnight 
+		 * and missing time zone to the given zone.
+		 * @param parsed parsed fields
+		 * @param zone default time zone
+		 * @return date and time
+		 */
+		protected static ZonedDateTime toZonedDateTime(TemporalAccessor parsed, ZoneId zone) {
+			ZoneId parsedZone = parsed.query(TemporalQueries.zone());
+			ZoneId usedZone = parsedZone != null ? parsedZone : zone;
+			if (parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+				return Instant.from(parsed).atZone(usedZone);
+			}
+			LocalDate date = parsed.query(TemporalQueries.localDate());
+			if (date == null) {
+				date = LocalDate.of(
+					getField(parsed, ChronoField.YEAR, 1970), 
+					getField(parsed, ChronoField.MONTH_OF_YEAR, 1), 
+					getField(parsed, ChronoField.DAY_OF_MONTH, 1));
+			}
+			LocalTime time = parsed.query(TemporalQueries.localTime());
+			if (time == null) {
+				time = LocalTime.MIDNIGHT;
+			}
+			return ZonedDateTime.of(date, time, usedZone);
+		}
+		
+		private static int getField(TemporalAccessor parsed, TemporalField field, int defaultValue) {
+			return parsed.isSupported(field) ? parsed.get(field) : defaultValue;
+		}
+	}
+	
+	protected static final Formatter<LocalDate> LOCAL_DATE_FORMATTER = new DateTimeValueFormatter<LocalDate>(FormatsCache.DEFAULT_DATE_FORMAT) {
+
+		@Override
+		protected LocalDate fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return LocalDate.from(parsed);
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(LocalDate value, ZoneId zone) {
+			return value;
+		}
+		
+	};
+	
+	protected static final Formatter<LocalDateTime> LOCAL_DATE_TIME_FORMATTER = new DateTimeValueFormatter<LocalDateTime>(FormatsCache.DEFAULT_DATE_TIME_FORMAT) {
+
+		@Override
+		protected LocalDateTime fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return LocalDateTime.from(parsed);
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(LocalDateTime value, ZoneId zone) {
+			return value;
+		}
+		
+	};
+	
+	protected static final Formatter<LocalTime> LOCAL_TIME_FORMATTER = new DateTimeValueFormatter<LocalTime>(FormatsCache.DEFAULT_TIME_FORMAT) {
+
+		@Override
+		protected LocalTime fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return LocalTime.from(parsed);
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(LocalTime value, ZoneId zone) {
+			return value;
+		}
+		
+	};
+	
+	protected static final Formatter<YearMonth> YEAR_MONTH_FORMATTER = new DateTimeValueFormatter<YearMonth>(FormatsCache.DEFAULT_YEAR_MONTH_FORMAT) {
+
+		@Override
+		protected YearMonth fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return YearMonth.from(parsed);
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(YearMonth value, ZoneId zone) {
+			return value;
+		}
+		
+	};
+	
+	/** Instant formatter, ISO-8601 format in UTC is used if no pattern is specified. */
+	protected static final Formatter<Instant> INSTANT_FORMATTER = new DateTimeValueFormatter<Instant>(DateTimeFormatter.ISO_INSTANT) {
+
+		@Override
+		protected Instant fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return toZonedDateTime(parsed, zone).toInstant();
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(Instant value, ZoneId zone) {
+			return value.atZone(zone);
+		}
+		
+	};
+	
+	/** 
+	 * Formatter of date/time with time zone, ISO-8601 format is used if no pattern is specified.
+	 * Values are formatted in time zone of location.  
+	 */
+	protected static final Formatter<ZonedDateTime> ZONED_DATE_TIME_FORMATTER = new DateTimeValueFormatter<ZonedDateTime>(DateTimeFormatter.ISO_ZONED_DATE_TIME) {
+
+		@Override
+		protected ZonedDateTime fromTemporal(TemporalAccessor parsed, ZoneId zone) {
+			return toZonedDateTime(parsed, zone);
+		}
+
+		@Override
+		protected TemporalAccessor toTemporal(ZonedDateTime value, ZoneId zone) {
+			return value.withZoneSameInstant(zone);
+		}
+		
+	};
+
 	/**
 	 * Enumeration formatter. Does not convert string to uppercase (not all
 	 * enumerations have their constants in uppercase form.
@@ -361,22 +567,31 @@ public class BasicFormatters implements Formatters {
 	// -- Internal implementation --
 	private final Map<Class<?>, Formatter<?>> formatters;
 
-	private static final Map<Class<? extends Formatters>, Map<Class<?>, Formatter<?>>> FORMATTERS_CACHE = 
-		new ConcurrentHashMap<Class<? extends Formatters>, Map<Class<?>, Formatter<?>>>();
+	private static volatile Map<Class<?>, Formatter<?>> basicFormatters;
 
-	static String removeDecimalPart(String str, Locale locale) {
-		char decimalSep = '.';
-		if (locale != null) {
-			DecimalFormatSymbols dfs = new DecimalFormatSymbols(locale);
-			decimalSep = dfs.getDecimalSeparator();
+	/**
+	 * Parses integral number using given format pattern. Number out of the range
+	 * of target type is not accepted (it would be truncated by conversion to the target type).
+	 */
+	static long parseIntegral(String str, String formatPattern, Location loc, long minValue, long maxValue, Class<?> targetClass) {
+		Number number = null;
+		try {
+			number = FormatsCache.getOrCreateDecimalFormat(formatPattern, loc).parse(removeDecimalPart(str, loc.getLocale()));
+		} catch (Exception ex) {
+			throw new StringParseException(targetClass, str, ex);
 		}
+		// decimal formats parse BigDecimals
+		BigDecimal value = number instanceof BigDecimal ? (BigDecimal)number : new BigDecimal(number.toString());
+		if (value.compareTo(BigDecimal.valueOf(minValue)) < 0 || value.compareTo(BigDecimal.valueOf(maxValue)) > 0) {
+			throw new StringParseException(targetClass, str, null);
+		}
+		return value.longValue();
+	}
+
+	static String removeDecimalPart(String str, Locale locale) {
 		String amendedStr = str;
 		if (amendedStr != null && !amendedStr.isEmpty()) {
-			int pointIndex = amendedStr.indexOf(decimalSep);
-			if (pointIndex == -1 && locale != null && locale.getLanguage().toLowerCase().equals("cs")) {
-				// Czech language does not use thousand separators...
-				pointIndex = amendedStr.indexOf(".");
-			}
+			int pointIndex = NumberParser.getInstance(locale).indexOfDecimalSeparator(amendedStr);
 			if (pointIndex > -1) {
 				amendedStr = amendedStr.substring(0, pointIndex);
 			}
@@ -16,43 +16,76 @@
  */
 package net.formio.format;
 
-import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.ZoneId;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+
+import net.formio.common.BoundedCache;
+import net.formio.common.CacheStats;
 
 /**
- * Common cache for {@link DateFormat}s, {@link NumberFormat}s and {@link DecimalFormat}s.
+ * Common cache for {@link DateTimeFormatter}s and {@link DecimalFormat}s.
+ * {@link DateTimeFormatter}s are immutable and are shared by all threads;
+ * {@link DecimalFormat}s are not thread-safe, so only their prototypes
+ * are cached and each caller obtains its own copy.
+ * <p>
+ * All formats share one cache with limited size (system property {@value #MAX_SIZE_PROPERTY}, 
+ * {@value #DEFAULT_MAX_SIZE} entries by default); least recently used formats are evicted.
+ * Formats that do not depend on time zone are shared by all time zones of the same locale.
  * @author Radek Beran
  */
 class FormatsCache {
 	
-	private static final Map<FormatKey, DateFormat> DATE_FORMATS_CACHE = new ConcurrentHashMap<FormatKey, DateFormat>();
-	private static final Map<FormatKey, DecimalFormat> DECIMAL_FORMATS_CACHE = new ConcurrentHashMap<FormatKey, DecimalFormat>();
+	static final String MAX_SIZE_PROPERTY = "net.formio.format.cacheSize";
+	static final int DEFAULT_MAX_SIZE = 512;
+	private static final BoundedCache<FormatKey, Object> CACHE = 
+		new BoundedCache<FormatKey, Object>(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE).intValue());
 	static final String DEFAULT_DATE_FORMAT = "d.M.yyyy";
+	static final String DEFAULT_DATE_TIME_FORMAT = "d.M.yyyy H:mm";
+	static final String DEFAULT_TIME_FORMAT = "H:mm";
+	static final String DEFAULT_YEAR_MONTH_FORMAT = "M.yyyy";
 	
-	static DateFormat getOrCreateDateFormat(String pattern, Location loc) {
-		// TODO: Use also time zone for formatting dates
-		final FormatKey formatterKey = FormatKey.getInstance(pattern, loc);
-		DateFormat format = DATE_FORMATS_CACHE.get(formatterKey);
-		if (format == null) {
-			if (pattern != null && !pattern.isEmpty()) {
-				format = new SimpleDateFormat(pattern, loc.getLocale());
-			} else {
-				// Note: full precision could be expressed using pattern "yyyy-MM-dd'T'HH:mm:ss,S z"
-				format = new SimpleDateFormat(DEFAULT_DATE_FORMAT, loc.getLocale());
-			}
-			format.setLenient(false); // without heuristics - allowing only strict pattern 
-			DATE_FORMATS_CACHE.put(formatterKey, format);
+	/**
+	 * Returns immutable (thread-safe) formatter for given pattern and location.
+	 * Pattern uses letters of {@link SimpleDateFormat}, see {@link #appendDateTimePattern(DateTimeFormatterBuilder, String)}
+	 * for letters that are translated (week in year "w" and week in month "W" use week definition 
+	 * of the locale as in {@link SimpleDateFormat}). Numeric fields are parsed leniently
+	 * regarding their width ("3" is accepted for "MM"), resulting values are resolved strictly
+	 * (no heuristics - 31.2. is rejected).
+	 * @param pattern date/time pattern; {@link #DEFAULT_DATE_FORMAT} is used if it is empty
+	 * @param loc location with locale for formatter
+	 * @return cached formatter
+	 */
+	static DateTimeFormatter getOrCreateDateTimeFormatter(String pattern, Location loc) {
+		final FormatKey formatterKey = FormatKey.getInstance(DateTimeFormatter.class, pattern, loc.getLocale(), null);
+		DateTimeFormatter formatter = (DateTimeFormatter)CACHE.get(formatterKey);
+		if (formatter == null) {
+			String usedPattern = pattern != null && !pattern.isEmpty() ? pattern : DEFAULT_DATE_FORMAT;
+			formatter = appendDateTimePattern(new DateTimeFormatterBuilder().parseLenient(), usedPattern)
+				.toFormatter(loc.getLocale())
+				.withResolverStyle(ResolverStyle.STRICT);
+			formatter = (DateTimeFormatter)CACHE.putIfAbsent(formatterKey, formatter);
 		}
-		return format;
+		return formatter;
 	}
-
+	
+	/**
+	 * Returns new decimal format for given pattern and location (a copy of cached prototype),
+	 * the result can be used only by the calling thread.
+	 * @param pattern decimal pattern; or {@code null} for default format of the locale
+	 * @param loc location with locale for decimal format
+	 * @return decimal format owned by the caller
+	 */
 	static DecimalFormat getOrCreateDecimalFormat(String pattern, Location loc) {
-		final FormatKey formatterKey = FormatKey.getInstance(pattern, loc);
-		DecimalFormat format = DECIMAL_FORMATS_CACHE.get(formatterKey);
+		final FormatKey formatterKey = FormatKey.getInstance(DecimalFormat.class, pattern, loc.getLocale(), null);
+		DecimalFormat format = (DecimalFormat)CACHE.get(formatterKey);
 		if (format == null) {
 			if (pattern != null && !pattern.isEmpty()) {
 				// Set grouping separator and decimal separator specific for given locale
@@ -67,55 +100,147 @@ class FormatsCache {
 				format.setMaximumFractionDigits(Short.MAX_VALUE);
 			}
 			format.setParseBigDecimal(true);
-			DECIMAL_FORMATS_CACHE.put(formatterKey, format);
+			format = (DecimalFormat)CACHE.putIfAbsent(formatterKey, format);
+		}
+		return (DecimalFormat)format.clone();
+	}
+	
+	/**
+	 * Returns parser of numbers in default number format of given locale.
+	 * @param locale
+	 * @return cached parser
+	 */
+	static NumberParser getOrCreateNumberParser(Locale locale) {
+		final FormatKey parserKey = FormatKey.getInstance(NumberParser.class, null, locale, null);
+		NumberParser parser = (NumberParser)CACHE.get(parserKey);
+		if (parser == null) {
+			parser = (NumberParser)CACHE.putIfAbsent(parserKey, new NumberParser(locale));
+		}
+		return parser;
+	}
+	
+	/**
+	 * Returns statistics of the cache of formats.
+	 * @return cache statistics
+	 */
+	static CacheStats getStats() {
+		return CACHE.getStats();
+	}
+	
+	/**
+	 * Removes all cached formats.
+	 */
+	static void clear() {
+		CACHE.clear();
+	}
+	
+	/**
+	 * Appends {@link SimpleDateFormat} pattern to given builder of {@link DateTimeFormatter}.
+	 * Letters that have different meaning in {@link DateTimeFormatter} are translated: 
+	 * year "y" (which is year-of-era in {@link DateTimeFormatter} and cannot be resolved
+	 * strictly without an era) is replaced by proleptic year "u", day number of week "u" 
+	 * (1 = Monday), day of week in month "F" and millisecond "S" are appended as numeric fields. 
+	 * Quoted literals are kept.
+	 * @param builder builder of formatter
+	 * @param pattern pattern using letters of {@link SimpleDateFormat}
+	 * @return given builder
+	 */
+	static DateTimeFormatterBuilder appendDateTimePattern(DateTimeFormatterBuilder builder, String pattern) {
+		final StringBuilder sb = new StringBuilder(pattern.length());
+		boolean quoted = false;
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (!quoted) {
+				ChronoField numericField = null;
+				if (c == 'u') {
+					numericField = ChronoField.DAY_OF_WEEK;
+				} else if (c == 'F') {
+					numericField = ChronoField.ALIGNED_WEEK_OF_MONTH;
+				} else if (c == 'S') {
+					numericField = ChronoField.MILLI_OF_SECOND;
+				} else if (c == 'y') {
+					c = 'u';
+				}
+				if (numericField != null) {
+					int count = 1;
+					while (i + count < pattern.length() && pattern.charAt(i + count) == pattern.charAt(i)) {
+						count++;
+					}
+					if (sb.length() > 0) {
+						builder.appendPattern(sb.toString());
+						sb.setLength(0);
+					}
+					// minimal width as in SimpleDateFormat
+					builder.appendValue(numericField, Math.min(count, 19), 19, SignStyle.NORMAL);
+					i += count;
+					continue;
+				}
+			}
+			sb.append(c);
+			i++;
+		}
+		if (sb.length() > 0) {
+			builder.appendPattern(sb.toString());
 		}
-		return format;
+		return builder;
 	}
 	
 	protected static final class FormatKey {
+		private final Class<?> formatClass;
 		private final String pattern;
-		private final Location location;
+		private final Locale locale;
+		private final ZoneId zoneId;
+		private final int hash;
 
-		protected static FormatKey getInstance(String pattern, Location loc) {
-			// Caching of FormatKey instances can be implemented here
-			return new FormatKey(pattern, loc);
+		protected static FormatKey getInstance(Class<?> formatClass, String pattern, Locale locale, ZoneId zoneId) {
+			return new FormatKey(formatClass, pattern, locale, zoneId);
 		}
 
-		private FormatKey(String pattern, Location loc) {
+		private FormatKey(Class<?> formatClass, String pattern, Locale locale, ZoneId zoneId) {
+			this.formatClass = formatClass;
 			this.pattern = pattern;
-			this.location = loc;
+			this.locale = locale;
+			this.zoneId = zoneId;
+			final int prime = 31;
+			int result = formatClass.hashCode();
+			result = prime * result + ((locale == null) ? 0 : locale.hashCode());
+			result = prime * result + ((pattern == null) ? 0 : pattern.hashCode());
+			result = prime * result + ((zoneId == null) ? 0 : zoneId.hashCode());
+			this.hash = result;
 		}
 
 		@Override
 		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result
-					+ ((location == null) ? 0 : location.hashCode());
-			result = prime * result
-					+ ((pattern == null) ? 0 : pattern.hashCode());
-			return result;
+			return hash;
 		}
 
 		@Override
 		public boolean equals(Object obj) {
 			if (this == obj)
 				return true;
-			if (obj == null)
-				return false;
 			if (!(obj instanceof FormatKey))
 				return false;
 			FormatKey other = (FormatKey) obj;
-			if (location == null) {
-				if (other.location != null)
+			if (hash != other.hash || formatClass != other.formatClass)
+				return false;
+			if (locale == null) {
+				if (other.locale != null)
 					return false;
-			} else if (!location.equals(other.location))
+			} else if (!locale.equals(other.locale))
 				return false;
 			if (pattern == null) {
 				if (other.pattern != null)
 					return false;
 			} else if (!pattern.equals(other.pattern))
 				return false;
+			if (zoneId == null) {
+				if (other.zoneId != null)
+					return false;
+			} else if (!zoneId.equals(other.zoneId))
+				return false;
 			return true;
 		}
 
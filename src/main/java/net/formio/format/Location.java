@@ -16,6 +16,7 @@
  */
 package net.formio.format;
 
+import java.time.ZoneId;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -29,6 +30,10 @@ public final class Location {
 	
 	private final TimeZone timeZone;
 	
+	private final ZoneId zoneId;
+	
+	private final int hash;
+	
 	private static final Location DEFAULT = new Location(Locale.getDefault(), TimeZone.getDefault());
 	
 	static public final Location CZECH = getInstance(new Locale("cs"));
@@ -104,6 +109,8 @@ public final class Location {
 	private Location(Locale locale, TimeZone timeZone) {
 		this.locale = locale;
 		this.timeZone = timeZone;
+		this.zoneId = timeZone != null ? timeZone.toZoneId() : ZoneId.systemDefault();
+		this.hash = computeHashCode();
 	}
 
 	public Locale getLocale() {
@@ -113,9 +120,22 @@ public final class Location {
 	public TimeZone getTimeZone() {
 		return timeZone;
 	}
+	
+	/**
+	 * Returns time zone of this location as {@link ZoneId} (converted once
+	 * when the location is created).
+	 * @return zone id; system default zone if this location has no time zone
+	 */
+	public ZoneId getZoneId() {
+		return zoneId;
+	}
 
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+	
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((locale == null) ? 0 : locale.hashCode());
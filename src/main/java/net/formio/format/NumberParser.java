@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.format;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Parser of numbers written in default number format of a locale
+ * (the format of {@link java.text.NumberFormat#getInstance(Locale)}).
+ * Scans the string only once, without creating intermediate objects,
+ * using grouping and decimal separators of the locale that are resolved
+ * only once per locale. Instances are immutable and thread-safe.
+ * <p>
+ * Parsing rules are the same as the (lenient) rules of {@link java.text.DecimalFormat}: 
+ * Optional minus sign is followed by digits, grouping separators can be used
+ * in the integer part, parsing stops at the first character that is not part of the number.
+ * For Czech locale, "." is also recognized as decimal separator when the fraction part
+ * of integral numbers is removed (Czech language does not use it as thousand separator),
+ * see {@link #indexOfDecimalSeparator(String)}; decimal numbers are parsed using
+ * the decimal separator of the locale only (as by {@link java.text.DecimalFormat}).
+ * 
+ * @author Radek Beran
+ */
+final class NumberParser {
+	
+	private static final NumberParser ROOT_PARSER = new NumberParser(Locale.ROOT);
+	
+	/** Mantissa is accumulated in long while it does not exceed this value. */
+	private static final long MAX_LONG_MANTISSA = (Long.MAX_VALUE - 9) / 10;
+	/** Greatest mantissa that is exactly representable by double. */
+	private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+	/** Powers of ten that are exactly representable by double. */
+	private static final double[] EXACT_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	private static final int MAX_EXPONENT = 99999999;
+	
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final char minusSign;
+	private final String exponentSeparator;
+	/** Whether "." is accepted as alternative decimal separator when the fraction part is removed. */
+	private final boolean decimalPoint;
+	
+	static NumberParser getInstance(Locale locale) {
+		if (locale == null) {
+			return ROOT_PARSER;
+		}
+		return FormatsCache.getOrCreateNumberParser(locale);
+	}
+	
+	NumberParser(Locale locale) {
+		DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+		this.decimalSeparator = symbols.getDecimalSeparator();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.minusSign = symbols.getMinusSign();
+		this.exponentSeparator = symbols.getExponentSeparator();
+		// Czech language does not use thousand separators...
+		this.decimalPoint = "cs".equals(locale.getLanguage().toLowerCase()) 
+			&& decimalSeparator != '.' && groupingSeparator != '.';
+	}
+	
+	/**
+	 * Parses integral part of a number. Fraction part (and everything else after 
+	 * the integral part) is ignored. 
+	 * @param str string to parse
+	 * @param minValue minimal allowed value
+	 * @param maxValue maximal allowed value
+	 * @param targetClass class of parsed value (for reporting of errors)
+	 * @return parsed value
+	 * @throws StringParseException if the string does not start with a number 
+	 * or the number is out of the allowed range
+	 */
+	long parseLong(String str, long minValue, long maxValue, Class<?> targetClass) {
+		final int len = str != null ? str.length() : 0;
+		int i = 0;
+		boolean negative = false;
+		if (i < len && isMinusSign(str.charAt(i))) {
+			negative = true;
+			i++;
+		}
+		// accumulated as negative number to cover also Long.MIN_VALUE
+		long result = 0;
+		int digits = 0;
+		for (; i < len; i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				int digit = c - '0';
+				if (result < (Long.MIN_VALUE + digit) / 10) {
+					throw new StringParseException(targetClass, str, null);
+				}
+				result = result * 10 - digit;
+				digits++;
+			} else if (c != groupingSeparator || digits == 0) {
+				break;
+			}
+		}
+		if (digits == 0) {
+			throw new StringParseException(targetClass, str, null);
+		}
+		if (!negative) {
+			if (result == Long.MIN_VALUE) {
+				throw new StringParseException(targetClass, str, null);
+			}
+			result = -result;
+		}
+		if (result < minValue || result > maxValue) {
+			throw new StringParseException(targetClass, str, null);
+		}
+		return result;
+	}
+	
+	/**
+	 * Parses double value.
+	 * @param str string to parse
+	 * @return parsed value
+	 * @throws StringParseException if the string does not start with a number 
+	 */
+	Double parseDouble(String str) {
+		return (Double)parseDecimal(str, false, Double.class);
+	}
+	
+	/**
+	 * Parses decimal value. Scale of the result corresponds to the number of 
+	 * written fraction digits. 
+	 * @param str string to parse
+	 * @return parsed value
+	 * @throws StringParseException if the string does not start with a number 
+	 */
+	BigDecimal parseBigDecimal(String str) {
+		return (BigDecimal)parseDecimal(str, true, BigDecimal.class);
+	}
+	
+	/**
+	 * Returns index of decimal separator in given string.
+	 * @param str
+	 * @return index of decimal separator or -1
+	 */
+	int indexOfDecimalSeparator(String str) {
+		int index = str.indexOf(decimalSeparator);
+		if (index == -1 && decimalPoint) {
+			index = str.indexOf('.');
+		}
+		return index;
+	}
+	
+	private Number parseDecimal(String str, boolean bigDecimal, Class<?> targetClass) {
+		final int len = str != null ? str.length() : 0;
+		int i = 0;
+		boolean negative = false;
+		if (i < len && isMinusSign(str.charAt(i))) {
+			negative = true;
+			i++;
+		}
+		final int start = i;
+		long mantissa = 0;
+		boolean longMantissa = true;
+		int digits = 0;
+		int scale = 0;
+		boolean fraction = false;
+		for (; i < len; i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (mantissa <= MAX_LONG_MANTISSA) {
+					mantissa = mantissa * 10 + (c - '0');
+				} else {
+					longMantissa = false;
+				}
+				digits++;
+				if (fraction) {
+					scale++;
+				}
+			} else if (fraction) {
+				break;
+			} else if (c == decimalSeparator) {
+				fraction = true;
+			} else if (c != groupingSeparator || digits == 0) {
+				break;
+			}
+		}
+		if (digits == 0) {
+			throw new StringParseException(targetClass, str, null);
+		}
+		final int end = i;
+		int exponent = 0;
+		if (str.startsWith(exponentSeparator, i)) {
+			i += exponentSeparator.length();
+			boolean negativeExponent = false;
+			if (i < len && isMinusSign(str.charAt(i))) {
+				negativeExponent = true;
+				i++;
+			}
+			for (; i < len; i++) {
+				char c = str.charAt(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				exponent = exponent * 10 + (c - '0');
+				if (exponent > MAX_EXPONENT) {
+					throw new StringParseException(targetClass, str, null);
+				}
+			}
+			if (negativeExponent) {
+				exponent = -exponent;
+			}
+		}
+		
+		if (bigDecimal) {
+			if (longMantissa) {
+				return BigDecimal.valueOf(negative ? -mantissa : mantissa, scale - exponent);
+			}
+			return toBigDecimal(str, start, end, negative, exponent - scale);
+		}
+		int powerOfTen = exponent - scale;
+		if (longMantissa && mantissa <= MAX_EXACT_DOUBLE_MANTISSA 
+			&& powerOfTen >= -(EXACT_POWERS_OF_TEN.length - 1) && powerOfTen < EXACT_POWERS_OF_TEN.length) {
+			if (mantissa == 0) {
+				return Double.valueOf(0.0);
+			}
+			// both operands are exact, the result is correctly rounded
+			double value = powerOfTen >= 0 ? 
+				mantissa * EXACT_POWERS_OF_TEN[powerOfTen] : 
+				mantissa / EXACT_POWERS_OF_TEN[-powerOfTen];
+			return Double.valueOf(negative ? -value : value);
+		}
+		return Double.valueOf(toBigDecimal(str, start, end, negative, powerOfTen).doubleValue());
+	}
+	
+	private boolean isMinusSign(char c) {
+		return c == minusSign || c == '-';
+	}
+	
+	private static BigDecimal toBigDecimal(String str, int start, int end, boolean negative, int powerOfTen) {
+		final char[] chars = new char[end - start + 1];
+		int n = 0;
+		if (negative) {
+			chars[n++] = '-';
+		}
+		for (int i = start; i < end; i++) {
+			char c = str.charAt(i);
+			if (c >= '0' && c <= '9') {
+				chars[n++] = c;
+			}
+		}
+		return new BigDecimal(chars, 0, n).scaleByPowerOfTen(powerOfTen);
+	}
+}
@@ -60,10 +60,12 @@ public class MapParams extends AbstractRequestParams {
 			values = new String[] { value };
 		}
 		this.params.put(key, values);
+		invalidateParamsIndex();
 	}
 	
 	public void put(String key, String[] values) {
 		this.params.put(key, values);
+		invalidateParamsIndex();
 	}
 	
 	public void put(String key, UploadedFile value) {
@@ -117,5 +119,6 @@ public class MapParams extends AbstractRequestParams {
 	public void clear() {
 		this.params.clear();
 		this.files.clear();
+		invalidateParamsIndex();
 	}
 }
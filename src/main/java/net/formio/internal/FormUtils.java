@@ -25,17 +25,15 @@ import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import net.formio.FormElement;
 import net.formio.FormField;
 import net.formio.FormMapping;
+import net.formio.RequestParamsIndex;
 
 /**
  * Utility methods for form processing.
@@ -94,7 +92,24 @@ public class FormUtils {
 	 */
 	public static String labelKeyForName(String path) {
 		if (path == null) return null;
-		return path.replaceAll("\\[[0-9]*\\]", "");
+		int bracket = path.indexOf('[');
+		if (bracket < 0) return path;
+		// removes all indexes in brackets (including empty brackets)
+		final StringBuilder sb = new StringBuilder(path.length());
+		int start = 0;
+		while (bracket >= 0) {
+			int end = bracket + 1;
+			while (end < path.length() && path.charAt(end) >= '0' && path.charAt(end) <= '9') {
+				end++;
+			}
+			if (end < path.length() && path.charAt(end) == ']') {
+				sb.append(path, start, bracket);
+				start = end + 1;
+			}
+			bracket = path.indexOf('[', end);
+		}
+		sb.append(path, start, path.length());
+		return sb.toString();
 	}
 	
 	/**
@@ -166,20 +181,7 @@ public class FormUtils {
 	 * @return
 	 */
 	public static int findMaxIndex(Iterable<String> params, String path) {
-		Pattern indexedPathPattern = Pattern.compile(path + "\\[([0-9]+)\\].*");
-		List<Integer> indexes = new ArrayList<Integer>();
-		for (String param : params) {
-			Matcher m = indexedPathPattern.matcher(param);
-			if (m.matches()) {
-				Integer index = Integer.valueOf(m.group(1));
-				indexes.add(index);
-			}
-		}
-		if (indexes.isEmpty()) {
-			return -1;
-		}
-		Collections.sort(indexes);
-		return indexes.get(indexes.size() - 1).intValue();
+		return new RequestParamsIndex(params).getMaxIndex(path);
 	}
 	
 	/**
@@ -213,6 +215,33 @@ public class FormUtils {
 		return foundEl;
 	}
 	
+	/**
+	 * This method is NOT intended as a part of public API and should not be used outside the library!
+	 * Puts given element and all elements nested in it to the map of elements by name. Elements are visited in the 
+	 * same order as in {@link #findElementRecursive(Class, String, FormElement)}; for duplicate names, the first 
+	 * visited element is kept.
+	 * @param startElem
+	 * @param elementsByName
+	 */
+	public static void putElementsByName(FormElement<?> startElem, Map<String, FormElement<?>> elementsByName) {
+		String name = startElem.getName();
+		if (!elementsByName.containsKey(name)) {
+			elementsByName.put(name, startElem);
+		}
+		if (startElem instanceof FormMapping<?>) {
+			FormMapping<?> fm = (FormMapping<?>)startElem;
+			if (fm.getList() != null && !fm.getList().isEmpty()) {
+				for (FormElement<?> element : fm.getList()) {
+					putElementsByName(element, elementsByName);
+				}
+			} else {
+				for (FormElement<?> element : fm.getElements()) {
+					putElementsByName(element, elementsByName);
+				}
+			}
+		}
+	}
+	
 	/**
 	 * This method is NOT intended as a part of public API and should not be used outside the library!
 	 * Opens given URL in default browser of operating system.
@@ -16,14 +16,16 @@
  */
 package net.formio.portlet;
 
+import java.io.IOException;
 import java.util.List;
 
 import javax.portlet.ActionRequest;
 
-import net.formio.upload.AbstractMultipartRequestParser;
+import net.formio.upload.AbstractStreamingMultipartRequestParser;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.portlet.PortletFileUpload;
 
@@ -31,7 +33,7 @@ import org.apache.commons.fileupload.portlet.PortletFileUpload;
  * Parser of multipart request for portlet API.
  * @author Radek Beran
  */
-class PortletMultipartRequestParser extends AbstractMultipartRequestParser {
+class PortletMultipartRequestParser extends AbstractStreamingMultipartRequestParser {
 	private final ActionRequest request;
 
 	public PortletMultipartRequestParser(ActionRequest request) {
@@ -45,4 +47,11 @@ class PortletMultipartRequestParser extends AbstractMultipartRequestParser {
 		configureUpload(upload, singleFileSizeMax, totalSizeMax, defaultEncoding);
 		return upload.parseRequest(request);
 	}
+	
+	@Override
+	protected FileItemIterator getItemIterator(long singleFileSizeMax, long totalSizeMax, String defaultEncoding) throws FileUploadException, IOException {
+		final PortletFileUpload upload = new PortletFileUpload();
+		configureUpload(upload, singleFileSizeMax, totalSizeMax, defaultEncoding);
+		return upload.getItemIterator(request);
+	}
 }
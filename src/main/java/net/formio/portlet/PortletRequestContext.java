@@ -47,6 +47,13 @@ public class PortletRequestContext implements RequestContext {
 		return new PortletSessionStorage(this.request.getPortletSession(), this.sessionScope);
 	}
 	
+	@Override
+	public String getSessionId() {
+		// existing session only, the client cannot choose id of the session that is not created by the server
+		PortletSession session = this.request.getPortletSession(false);
+		return session != null ? session.getId() : null;
+	}
+	
 	@Override
 	public String secretWithUserIdentification(String generatedSecret) {
 		return generatedSecret + SEPARATOR + getUserRequestIdentification();
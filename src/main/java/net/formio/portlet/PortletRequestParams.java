@@ -18,6 +18,7 @@ package net.formio.portlet;
 
 import java.io.File;
 import java.util.Collections;
+import java.util.List;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.PortletRequest;
@@ -27,6 +28,7 @@ import net.formio.RequestParams;
 import net.formio.ajax.AjaxParams;
 import net.formio.upload.MultipartRequestPreprocessor;
 import net.formio.upload.RequestProcessingError;
+import net.formio.upload.UploadSink;
 import net.formio.upload.UploadedFile;
 
 import org.apache.commons.fileupload.portlet.PortletFileUpload;
@@ -36,12 +38,16 @@ import org.apache.commons.fileupload.portlet.PortletFileUpload;
  * uses commons-fileupload library for uploading files. If this implementation
  * of {@link RequestParams} is used, portlet-api and commons-fileupload
  * libraries must be available in the classpath, otherwise they can be omitted.
+ * <p>
+ * Temporary files of uploaded files are deleted by {@link #close()}, which should be called 
+ * when processing of the request is finished (e.g. using try-with-resources).
  * 
  * @author Radek Beran
  */
-public class PortletRequestParams extends AbstractRequestParams {
+public class PortletRequestParams extends AbstractRequestParams implements AutoCloseable {
 	private final PortletRequest request;
 	private final RequestProcessingError error;
+	private List<String> paramNames;
 	
 	/**
 	 * Creates request params extractor.
@@ -66,6 +72,35 @@ public class PortletRequestParams extends AbstractRequestParams {
 		this.request = r;
 	}
 	
+	/**
+	 * Creates request params extractor that parses multipart request in streaming mode:
+	 * Uploaded files are passed to given sink while the request is parsed
+	 * (no temporary files are created by the parser).
+	 * @param request request
+	 * @param defaultEncoding header and request parameter encoding 
+	 * @param uploadSink destination of uploaded files
+	 * @param totalSizeMax maximum allowed size of the whole request in bytes
+	 * @param singleFileSizeMax maximum allowed size of a single uploaded file
+	 */
+	public PortletRequestParams(ActionRequest request, String defaultEncoding, UploadSink uploadSink, long totalSizeMax, long singleFileSizeMax) {
+		if (request == null) throw new IllegalArgumentException("request cannot be null");
+		PortletRequest r = null;
+		if (PortletFileUpload.isMultipartContent(request)) {
+			PortletFileUploadWrapper wr = new PortletFileUploadWrapper(request, defaultEncoding, uploadSink, totalSizeMax, singleFileSizeMax);
+			this.error = wr.getRequestProcessingError();
+			r = wr;
+		} else { 
+			r = request;
+			this.error = null;
+		}
+		this.request = r;
+	}
+	
+	public PortletRequestParams(ActionRequest request, UploadSink uploadSink) {
+		this(request, MultipartRequestPreprocessor.DEFAULT_ENCODING, uploadSink, MultipartRequestPreprocessor.TOTAL_SIZE_MAX, 
+			MultipartRequestPreprocessor.SINGLE_FILE_SIZE_MAX);
+	}
+	
 	public PortletRequestParams(ActionRequest request, String defaultEncoding, File tempDir, int sizeThreshold, long totalSizeMax) {
 		this(request, defaultEncoding, tempDir, sizeThreshold, totalSizeMax, MultipartRequestPreprocessor.SINGLE_FILE_SIZE_MAX);
 	}
@@ -86,8 +121,13 @@ public class PortletRequestParams extends AbstractRequestParams {
 	@Override
 	public Iterable<String> getParamNames() {
 		// PortletFileUploadWrapper has overriden method getParameterNames that returns also names
-		// of params with uploaded files
-		return Collections.<String>list(request.getParameterNames());
+		// of params with uploaded files; names are copied only once
+		List<String> names = this.paramNames;
+		if (names == null) {
+			names = Collections.unmodifiableList(Collections.<String>list(request.getParameterNames()));
+			this.paramNames = names;
+		}
+		return names;
 	}
 	
 	@Override
@@ -99,11 +139,22 @@ public class PortletRequestParams extends AbstractRequestParams {
 	public UploadedFile[] getUploadedFiles(String paramName) {
 		if (request instanceof PortletFileUploadWrapper) {
 			PortletFileUploadWrapper w = (PortletFileUploadWrapper)request;
-			return w.getUploadedFiles(paramName);
+			return w.getAllUploadedFiles(paramName);
 		}
 		return new UploadedFile[0];
 	}
 	
+	/**
+	 * Deletes temporary data of all files uploaded in the request.
+	 * Uploaded files cannot be read after the request params are closed.
+	 */
+	@Override
+	public void close() {
+		if (request instanceof PortletFileUploadWrapper) {
+			((PortletFileUploadWrapper)request).deleteTempFiles();
+		}
+	}
+	
 	@Override
 	public RequestProcessingError getRequestError() {
 		return error;
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.processing;
+
+import net.formio.BasicFormMappingBuilder;
+import net.formio.Config;
+import net.formio.MappingType;
+import net.formio.binding.BindingPlan;
+import net.formio.binding.ExtractionPlan;
+
+/**
+ * Form support for a data class generated at compile time by {@link FormBeanProcessor}.
+ * @author Radek Beran
+ * @param <T> type of form data
+ */
+public interface CompiledForm<T> {
+	
+	Class<T> getDataClass();
+	
+	/**
+	 * Returns plan of setters used for binding without reflection.
+	 * @return binding plan
+	 */
+	BindingPlan getBindingPlan();
+	
+	/**
+	 * Returns table of accessors used for extraction of values without reflection.
+	 * @return accessor table
+	 */
+	ExtractionPlan getExtractionPlan();
+	
+	/**
+	 * Returns builder of mapping with fields and nested mappings resolved at compile time.
+	 * @param propertyName name of mapping
+	 * @param mappingType type of mapping
+	 * @param config configuration used to build nested mappings, can be {@code null}
+	 * @return mapping builder
+	 */
+	BasicFormMappingBuilder<T> createMapping(String propertyName, MappingType mappingType, Config config);
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.processing;
+
+/**
+ * Access to form supports generated at compile time by {@link FormBeanProcessor}.
+ * @author Radek Beran
+ */
+public final class CompiledForms {
+	
+	/**
+	 * Suffix appended to the name of data class to get the name of generated form support class.
+	 */
+	public static final String GENERATED_CLASS_SUFFIX = "_Form";
+	
+	private static final ClassValue<CompiledForm<?>> COMPILED_FORMS = new ClassValue<CompiledForm<?>>() {
+		@Override
+		protected CompiledForm<?> computeValue(Class<?> type) {
+			return loadCompiledForm(type);
+		}
+	};
+	
+	/**
+	 * Returns form support generated for given data class, or {@code null} if the class is not
+	 * annotated with {@link FormBean} or the support was not generated.
+	 * @param dataClass
+	 * @return generated form support or {@code null}
+	 */
+	@SuppressWarnings("unchecked") // data class of loaded form is checked to be the given class, see loadCompiledForm
+	public static <T> CompiledForm<T> forClass(Class<T> dataClass) {
+		if (dataClass == null) throw new IllegalArgumentException("dataClass cannot be null");
+		return (CompiledForm<T>)COMPILED_FORMS.get(dataClass);
+	}
+	
+	/**
+	 * Returns binary name of form support class generated for data class with given binary name.
+	 * @param dataClassName binary name of data class
+	 * @return binary name of generated class
+	 */
+	public static String generatedClassName(String dataClassName) {
+		int lastDot = dataClassName.lastIndexOf('.');
+		String packagePrefix = lastDot >= 0 ? dataClassName.substring(0, lastDot + 1) : "";
+		String simpleName = dataClassName.substring(lastDot + 1).replace('$', '_');
+		return packagePrefix + simpleName + GENERATED_CLASS_SUFFIX;
+	}
+	
+	static CompiledForm<?> loadCompiledForm(Class<?> dataClass) {
+		if (!dataClass.isAnnotationPresent(FormBean.class)) {
+			return null;
+		}
+		CompiledForm<?> form = null;
+		try {
+			Class<?> generatedClass = Class.forName(generatedClassName(dataClass.getName()), true, dataClass.getClassLoader());
+			form = (CompiledForm<?>)generatedClass.getField("INSTANCE").get(null);
+			if (form == null || form.getDataClass() != dataClass) {
+				throw new IllegalStateException("Class generated for " + dataClass.getName() + " is not valid: INSTANCE does not support the data class");
+			}
+		} catch (ClassNotFoundException ex) {
+			// annotation processor was not used, reflection will be used
+			form = null;
+		} catch (NoSuchFieldException ex) {
+			throw new IllegalStateException("Class generated for " + dataClass.getName() + " is not valid: " + ex.getMessage(), ex);
+		} catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Class generated for " + dataClass.getName() + " is not accessible: " + ex.getMessage(), ex);
+		}
+		return form;
+	}
+	
+	private CompiledForms() {
+		throw new AssertionError("Not instantiable, use static members.");
+	}
+}
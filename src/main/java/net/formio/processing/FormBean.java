@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.processing;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks form data class for which {@link FormBeanProcessor} generates form mapping factory
+ * together with setters and accessors that are used for binding and extraction of data 
+ * instead of reflection. Generated class has the name of the data class with 
+ * {@link CompiledForms#GENERATED_CLASS_SUFFIX} suffix.
+ * @author Radek Beran
+ */
+@Target({TYPE})
+@Retention(RUNTIME)
+@Documented
+public @interface FormBean {
+	
+	/**
+	 * Name of public static factory method of the data class that should be used
+	 * to create instances instead of constructor.
+	 * @return name of factory method, empty for constructor
+	 */
+	String factoryMethod() default "";
+	
+	/**
+	 * Names of properties that should be mapped to simple form fields even if their
+	 * type is not recognized as simple type (e.g. types with custom formatter).
+	 * @return names of properties mapped to fields
+	 */
+	String[] fields() default {};
+}
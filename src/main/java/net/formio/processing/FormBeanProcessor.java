@@ -0,0 +1,468 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.processing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating form support classes for data classes annotated with {@link FormBean}.
+ * Generated class contains factory of form mapping with fields and nested mappings resolved
+ * at compile time, setters used by {@link net.formio.binding.DefaultBinder} and accessors
+ * used by {@link net.formio.binding.DefaultBeanExtractor} instead of reflection. 
+ * <p>
+ * The processor is not registered automatically, it must be enabled explicitly 
+ * (e.g. using javac option {@code -processor net.formio.processing.FormBeanProcessor}
+ * or annotation processor path of the build tool).
+ * Properties are recognized according to default accessor and setter regular expressions.
+ * 
+ * @author Radek Beran
+ */
+public class FormBeanProcessor extends AbstractProcessor {
+	
+	private static final String FORM_BEAN_ANNOTATION = FormBean.class.getName();
+	private static final String IGNORED_ANNOTATION = "net.formio.binding.Ignored";
+	private static final String ARGUMENT_NAME_ANNOTATION = "net.formio.binding.ArgumentName";
+	private static final String UPLOADED_FILE_TYPE = "net.formio.upload.UploadedFile";
+	// the same as DefaultBeanExtractor.DEFAULT_ACCESSOR_REGEX and DefaultBinder.DEFAULT_SETTER_REGEX
+	private static final Pattern ACCESSOR_PATTERN = Pattern.compile("(is|get)([_a-zA-Z][_a-zA-Z0-9]*)");
+	private static final Pattern SETTER_PATTERN = Pattern.compile("set([_a-zA-Z][_a-zA-Z0-9]*)");
+	private static final Set<String> FIELD_TYPES = new HashSet<String>(Arrays.asList(
+		String.class.getName(),
+		Boolean.class.getName(),
+		Byte.class.getName(),
+		Short.class.getName(),
+		Integer.class.getName(),
+		Long.class.getName(),
+		Float.class.getName(),
+		Double.class.getName(),
+		Character.class.getName(),
+		java.math.BigInteger.class.getName(),
+		java.math.BigDecimal.class.getName(),
+		java.util.Date.class.getName(),
+		java.time.LocalDate.class.getName(),
+		java.time.LocalDateTime.class.getName(),
+		java.time.LocalTime.class.getName(),
+		java.time.YearMonth.class.getName(),
+		java.time.Instant.class.getName(),
+		java.time.ZonedDateTime.class.getName()));
+	private static final Set<String> COLLECTION_TYPES = new HashSet<String>(Arrays.asList(
+		java.util.Collection.class.getName(),
+		List.class.getName(),
+		ArrayList.class.getName(),
+		Set.class.getName(),
+		java.util.LinkedHashSet.class.getName(),
+		HashSet.class.getName(),
+		java.util.TreeSet.class.getName()));
+	
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(FORM_BEAN_ANNOTATION);
+	}
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement formBean = processingEnv.getElementUtils().getTypeElement(FORM_BEAN_ANNOTATION);
+		if (formBean == null) {
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(formBean)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, 
+					"@" + FormBean.class.getSimpleName() + " can be used only on classes", element);
+				continue;
+			}
+			TypeElement dataType = (TypeElement)element;
+			try {
+				generateFormSupport(dataType);
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, 
+					"Form support for " + dataType.getQualifiedName() + " could not be generated: " + ex.getMessage(), element);
+			}
+		}
+		return true;
+	}
+	
+	private void generateFormSupport(TypeElement dataType) throws IOException {
+		final String dataClassName = processingEnv.getElementUtils().getBinaryName(dataType).toString();
+		final String generatedName = CompiledForms.generatedClassName(dataClassName);
+		final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(dataType);
+		final String generatedSimpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+		final String dataTypeName = processingEnv.getTypeUtils().erasure(dataType.asType()).toString();
+		
+		final String factoryMethod = annotationValue(dataType, "factoryMethod", "");
+		final Set<String> explicitFields = new HashSet<String>(annotationValues(dataType, "fields"));
+		final Map<String, ExecutableElement> accessors = findAccessors(dataType);
+		final Map<String, List<ExecutableElement>> setters = findSetters(dataType);
+		final Set<String> argNames = findArgumentNames(dataType, factoryMethod);
+		
+		StringBuilder sb = new StringBuilder();
+		if (!pkg.isUnnamed()) {
+			sb.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+		}
+		sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+		sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+		sb.append("public final class ").append(generatedSimpleName)
+			.append(" implements net.formio.processing.CompiledForm<").append(dataTypeName).append("> {\n\n");
+		
+		// setters
+		sb.append("\tprivate static final net.formio.binding.BindingPlan BINDING_PLAN = net.formio.binding.BindingPlan.builder(")
+			.append(dataTypeName).append(".class)\n");
+		for (Map.Entry<String, List<ExecutableElement>> e : setters.entrySet()) {
+			for (ExecutableElement setter : e.getValue()) {
+				TypeMirror paramType = setter.getParameters().get(0).asType();
+				sb.append("\t\t.setter(\"").append(e.getKey()).append("\", \"").append(setter.getSimpleName()).append("\", ")
+					.append(classLiteral(paramType)).append(", ")
+					.append(genericTypeExpression(paramType)).append(", ")
+					.append("(bean, value) -> ((").append(dataTypeName).append(") bean).").append(setter.getSimpleName())
+					.append("((").append(castType(paramType)).append(") value))\n");
+			}
+		}
+		sb.append("\t\t.build();\n\n");
+		
+		// accessors
+		sb.append("\tprivate static final net.formio.binding.ExtractionPlan EXTRACTION_PLAN = net.formio.binding.ExtractionPlan.builder(")
+			.append(dataTypeName).append(".class)\n");
+		for (Map.Entry<String, ExecutableElement> e : accessors.entrySet()) {
+			sb.append("\t\t.accessor(\"").append(e.getKey()).append("\", ")
+				.append("bean -> ((").append(dataTypeName).append(") bean).").append(e.getValue().getSimpleName()).append("())\n");
+		}
+		sb.append("\t\t.build();\n\n");
+		
+		sb.append("\tpublic static final ").append(generatedSimpleName).append(" INSTANCE = new ").append(generatedSimpleName).append("();\n\n");
+		
+		// mapping factory
+		sb.append("\tpublic static net.formio.BasicFormMappingBuilder<").append(dataTypeName).append("> mapping(String propertyName) {\n");
+		sb.append("\t\treturn mapping(propertyName, net.formio.MappingType.SINGLE, (net.formio.Config)null);\n");
+		sb.append("\t}\n\n");
+		sb.append("\tpublic static net.formio.BasicFormMappingBuilder<").append(dataTypeName)
+			.append("> mapping(String propertyName, net.formio.MappingType mappingType, net.formio.Config config) {\n");
+		sb.append("\t\treturn net.formio.Forms.basic(").append(dataTypeName).append(".class, propertyName, ");
+		if (!factoryMethod.isEmpty()) {
+			sb.append("net.formio.Forms.factoryMethod(").append(dataTypeName).append(".class, \"").append(factoryMethod).append("\"), ");
+		}
+		sb.append("mappingType)");
+		for (Map.Entry<String, ExecutableElement> e : accessors.entrySet()) {
+			String propertyName = e.getKey();
+			if (!isSettable(propertyName, setters, argNames)) {
+				continue;
+			}
+			appendMappedProperty(sb, dataType, propertyName, e.getValue().getReturnType(), explicitFields.contains(propertyName));
+		}
+		sb.append(";\n");
+		sb.append("\t}\n\n");
+		
+		// CompiledForm implementation
+		sb.append("\tprivate ").append(generatedSimpleName).append("() {\n\t}\n\n");
+		sb.append("\t@Override\n\tpublic Class<").append(dataTypeName).append("> getDataClass() {\n");
+		sb.append("\t\treturn ").append(dataTypeName).append(".class;\n\t}\n\n");
+		sb.append("\t@Override\n\tpublic net.formio.binding.BindingPlan getBindingPlan() {\n\t\treturn BINDING_PLAN;\n\t}\n\n");
+		sb.append("\t@Override\n\tpublic net.formio.binding.ExtractionPlan getExtractionPlan() {\n\t\treturn EXTRACTION_PLAN;\n\t}\n\n");
+		sb.append("\t@Override\n\tpublic net.formio.BasicFormMappingBuilder<").append(dataTypeName)
+			.append("> createMapping(String propertyName, net.formio.MappingType mappingType, net.formio.Config config) {\n");
+		sb.append("\t\treturn ").append(generatedSimpleName).append(".mapping(propertyName, mappingType, config);\n\t}\n");
+		sb.append("}\n");
+		
+		Writer writer = processingEnv.getFiler().createSourceFile(generatedName, dataType).openWriter();
+		try {
+			writer.write(sb.toString());
+		} finally {
+			writer.close();
+		}
+	}
+	
+	private void appendMappedProperty(StringBuilder sb, TypeElement dataType, String propertyName, TypeMirror type, boolean explicitField) {
+		if (explicitField || isFieldType(type)) {
+			sb.append("\n\t\t\t.field(\"").append(propertyName).append("\")");
+		} else if (isCollection(type)) {
+			TypeMirror itemType = itemType(type);
+			if (itemType == null) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, 
+					"Cannot resolve item type of collection type of property " + propertyName, dataType);
+			} else if (isFieldType(itemType)) {
+				sb.append("\n\t\t\t.field(\"").append(propertyName).append("\")");
+			} else {
+				appendNestedMapping(sb, propertyName, itemType, "net.formio.MappingType.LIST");
+			}
+		} else if (type.getKind() == TypeKind.DECLARED && !isType(type, Class.class.getName())) {
+			appendNestedMapping(sb, propertyName, type, "net.formio.MappingType.SINGLE");
+		} else {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, 
+				"Cannot map property " + propertyName + " of type " + type, dataType);
+		}
+	}
+	
+	private void appendNestedMapping(StringBuilder sb, String propertyName, TypeMirror type, String mappingType) {
+		Element typeElement = processingEnv.getTypeUtils().asElement(type);
+		String typeName = processingEnv.getTypeUtils().erasure(type).toString();
+		sb.append("\n\t\t\t.nested(");
+		if (typeElement != null && hasAnnotation(typeElement, FORM_BEAN_ANNOTATION)) {
+			String nestedBinaryName = processingEnv.getElementUtils().getBinaryName((TypeElement)typeElement).toString();
+			String nestedGenerated = CompiledForms.generatedClassName(nestedBinaryName);
+			sb.append(nestedGenerated).append(".mapping(\"").append(propertyName).append("\", ").append(mappingType).append(", config)");
+		} else {
+			sb.append("net.formio.Forms.automatic(").append(typeName).append(".class, \"").append(propertyName).append("\", ")
+				.append(mappingType).append(")");
+		}
+		sb.append(".build(config))");
+	}
+	
+	private Map<String, ExecutableElement> findAccessors(TypeElement dataType) {
+		final Map<String, ExecutableElement> accessors = new LinkedHashMap<String, ExecutableElement>();
+		for (ExecutableElement method : publicMethods(dataType)) {
+			String methodName = method.getSimpleName().toString();
+			if (methodName.equals("getClass") || !method.getParameters().isEmpty() 
+				|| method.getReturnType().getKind() == TypeKind.VOID || hasAnnotation(method, IGNORED_ANNOTATION)) {
+				continue;
+			}
+			String propName = propertyName(ACCESSOR_PATTERN, 2, methodName);
+			if (propName != null) {
+				accessors.put(propName, method);
+			}
+		}
+		return accessors;
+	}
+	
+	private Map<String, List<ExecutableElement>> findSetters(TypeElement dataType) {
+		final Map<String, List<ExecutableElement>> setters = new LinkedHashMap<String, List<ExecutableElement>>();
+		for (ExecutableElement method : publicMethods(dataType)) {
+			if (method.getParameters().size() != 1) {
+				continue;
+			}
+			String propName = propertyName(SETTER_PATTERN, 1, method.getSimpleName().toString());
+			if (propName != null) {
+				List<ExecutableElement> propSetters = setters.get(propName);
+				if (propSetters == null) {
+					propSetters = new ArrayList<ExecutableElement>();
+					setters.put(propName, propSetters);
+				}
+				propSetters.add(method);
+			}
+		}
+		return setters;
+	}
+	
+	private Set<String> findArgumentNames(TypeElement dataType, String factoryMethod) {
+		final Set<String> argNames = new HashSet<String>();
+		for (Element member : processingEnv.getElementUtils().getAllMembers(dataType)) {
+			boolean constructionMethod = false;
+			if (factoryMethod.isEmpty()) {
+				constructionMethod = member.getKind() == ElementKind.CONSTRUCTOR;
+			} else {
+				constructionMethod = member.getKind() == ElementKind.METHOD 
+					&& member.getModifiers().contains(Modifier.STATIC)
+					&& member.getSimpleName().contentEquals(factoryMethod);
+			}
+			if (constructionMethod && member.getModifiers().contains(Modifier.PUBLIC)) {
+				for (VariableElement param : ((ExecutableElement)member).getParameters()) {
+					String argName = annotationValue(param, ARGUMENT_NAME_ANNOTATION, "value", null);
+					if (argName != null) {
+						argNames.add(argName);
+					}
+				}
+			}
+		}
+		return argNames;
+	}
+	
+	private List<ExecutableElement> publicMethods(TypeElement dataType) {
+		final List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+		for (Element member : processingEnv.getElementUtils().getAllMembers(dataType)) {
+			if (member.getKind() == ElementKind.METHOD 
+				&& member.getModifiers().contains(Modifier.PUBLIC)
+				&& !member.getModifiers().contains(Modifier.STATIC)) {
+				methods.add((ExecutableElement)member);
+			}
+		}
+		return methods;
+	}
+	
+	private boolean isSettable(String propertyName, Map<String, List<ExecutableElement>> setters, Set<String> argNames) {
+		if (argNames.contains(propertyName)) {
+			return true;
+		}
+		for (String setterProperty : setters.keySet()) {
+			if (setterProperty.equalsIgnoreCase(propertyName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private boolean isFieldType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return true;
+		}
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+		Element element = processingEnv.getTypeUtils().asElement(type);
+		if (element.getKind() == ElementKind.ENUM) {
+			return true;
+		}
+		String typeName = processingEnv.getTypeUtils().erasure(type).toString();
+		if (FIELD_TYPES.contains(typeName)) {
+			return true;
+		}
+		TypeElement uploadedFile = processingEnv.getElementUtils().getTypeElement(UPLOADED_FILE_TYPE);
+		return uploadedFile != null && processingEnv.getTypeUtils().isAssignable(
+			processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(uploadedFile.asType()));
+	}
+	
+	private boolean isCollection(TypeMirror type) {
+		if (type.getKind() == TypeKind.ARRAY) {
+			return true;
+		}
+		return type.getKind() == TypeKind.DECLARED && COLLECTION_TYPES.contains(processingEnv.getTypeUtils().erasure(type).toString());
+	}
+	
+	private TypeMirror itemType(TypeMirror collectionType) {
+		if (collectionType.getKind() == TypeKind.ARRAY) {
+			return ((ArrayType)collectionType).getComponentType();
+		}
+		List<? extends TypeMirror> typeArgs = ((DeclaredType)collectionType).getTypeArguments();
+		if (typeArgs.isEmpty()) {
+			return null;
+		}
+		return typeArgument(typeArgs.get(0));
+	}
+	
+	private TypeMirror typeArgument(TypeMirror typeArg) {
+		if (typeArg.getKind() == TypeKind.WILDCARD) {
+			TypeMirror bound = ((WildcardType)typeArg).getExtendsBound();
+			return bound != null ? bound : processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+		}
+		return typeArg;
+	}
+	
+	private boolean isType(TypeMirror type, String className) {
+		return processingEnv.getTypeUtils().erasure(type).toString().equals(className);
+	}
+	
+	private String classLiteral(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString() + ".class";
+	}
+	
+	private String castType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType)type).getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+	
+	private String genericTypeExpression(TypeMirror type) {
+		if (type.getKind() == TypeKind.DECLARED && !((DeclaredType)type).getTypeArguments().isEmpty()) {
+			StringBuilder sb = new StringBuilder("net.formio.binding.BindingReflectionUtils.parameterizedType(");
+			sb.append(classLiteral(type));
+			for (TypeMirror typeArg : ((DeclaredType)type).getTypeArguments()) {
+				sb.append(", ").append(classLiteral(typeArgument(typeArg)));
+			}
+			return sb.append(")").toString();
+		}
+		return classLiteral(type);
+	}
+	
+	private static String propertyName(Pattern pattern, int group, String methodName) {
+		String prop = null;
+		Matcher matcher = pattern.matcher(methodName);
+		if (matcher.matches()) {
+			prop = matcher.group(group);
+		}
+		if (prop != null && !prop.isEmpty()) {
+			prop = Character.toLowerCase(prop.charAt(0)) + prop.substring(1);
+		}
+		return prop;
+	}
+	
+	private static boolean hasAnnotation(Element element, String annotationName) {
+		return findAnnotation(element, annotationName) != null;
+	}
+	
+	private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+		for (AnnotationMirror am : element.getAnnotationMirrors()) {
+			if (((TypeElement)am.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+				return am;
+			}
+		}
+		return null;
+	}
+	
+	private String annotationValue(Element element, String attribute, String defaultValue) {
+		return annotationValue(element, FORM_BEAN_ANNOTATION, attribute, defaultValue);
+	}
+	
+	private String annotationValue(Element element, String annotationName, String attribute, String defaultValue) {
+		AnnotationMirror am = findAnnotation(element, annotationName);
+		if (am != null) {
+			for (Map.Entry<? extends ExecutableElement, ? extends javax.lang.model.element.AnnotationValue> e : am.getElementValues().entrySet()) {
+				if (e.getKey().getSimpleName().contentEquals(attribute)) {
+					return String.valueOf(e.getValue().getValue());
+				}
+			}
+		}
+		return defaultValue;
+	}
+	
+	private List<String> annotationValues(Element element, String attribute) {
+		final List<String> values = new ArrayList<String>();
+		AnnotationMirror am = findAnnotation(element, FORM_BEAN_ANNOTATION);
+		if (am != null) {
+			for (Map.Entry<? extends ExecutableElement, ? extends javax.lang.model.element.AnnotationValue> e : am.getElementValues().entrySet()) {
+				if (e.getKey().getSimpleName().contentEquals(attribute)) {
+					for (Object v : (List<?>)e.getValue().getValue()) {
+						values.add(String.valueOf(((javax.lang.model.element.AnnotationValue)v).getValue()));
+					}
+				}
+			}
+		}
+		return values;
+	}
+}
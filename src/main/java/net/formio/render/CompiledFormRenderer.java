@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.render;
+
+import java.io.IOException;
+
+import net.formio.FormMapping;
+import net.formio.format.Location;
+
+/**
+ * <p>Renderer of filled forms created from one form definition. Markup of the form definition
+ * is compiled only once to static fragments interleaved with slots for the parts that depend
+ * on filled data (values, checked and selected items, validation messages and their severity classes).
+ * Rendering of filled form only copies static fragments and renders the slots.</p>
+ * <p>Elements with properties different from the definition (e.g. changed visibility or 
+ * enabled state) and list mappings are rendered dynamically using the wrapped {@link FormRenderer}.
+ * Customizations of {@link FormRenderer} that render other markup dependent on filled data 
+ * should not be compiled. Renderer that overrides String hooks of {@link FormRenderer} renders 
+ * all filled forms dynamically.</p>
+ * <p>Create instance by {@link FormRenderer#compile(FormMapping)} and keep it together with
+ * the form definition.</p>
+ * <p>Thread-safe: Immutable.</p>
+ * 
+ * @author Radek Beran
+ */
+public final class CompiledFormRenderer<T> {
+	private final FormRenderer renderer;
+	private final FormMapping<T> formDefinition;
+	private final Location location;
+	private final RenderTemplate template;
+	
+	CompiledFormRenderer(FormRenderer renderer, FormMapping<T> formDefinition) {
+		if (renderer == null) {
+			throw new IllegalArgumentException("renderer cannot be null");
+		}
+		if (formDefinition == null) {
+			throw new IllegalArgumentException("formDefinition cannot be null");
+		}
+		this.renderer = renderer;
+		this.formDefinition = formDefinition;
+		this.location = renderer.getLocation(formDefinition);
+		// markup of String hooks overridden by legacy subclasses is not split into static fragments and slots
+		this.template = renderer.hasStringHookOverrides() ? null : RenderTemplate.compile(renderer, formDefinition);
+	}
+	
+	/**
+	 * Renders given filled form, see {@link FormRenderer#renderElement(net.formio.FormElement)}.
+	 * @param filledForm form filled from the compiled form definition
+	 * @return
+	 */
+	public String renderElement(FormMapping<T> filledForm) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderElement(sb, filledForm);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Writes given filled form to the output, see {@link FormRenderer#renderElement(net.formio.FormElement)}.
+	 * @param out
+	 * @param filledForm form filled from the compiled form definition
+	 * @throws IOException
+	 */
+	public void renderElement(Appendable out, FormMapping<T> filledForm) throws IOException {
+		if (template != null
+			&& filledForm.getName().equals(formDefinition.getName())
+			&& location.equals(renderer.getLocation(filledForm))) {
+			template.render(out, filledForm);
+		} else {
+			renderer.renderElement(out, filledForm);
+		}
+	}
+	
+	public FormMapping<T> getFormDefinition() {
+		return formDefinition;
+	}
+	
+	public FormRenderer getRenderer() {
+		return renderer;
+	}
+}
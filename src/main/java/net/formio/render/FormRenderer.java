@@ -16,8 +16,10 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import net.formio.BasicListFormMapping;
 import net.formio.Field;
@@ -41,7 +43,14 @@ import net.formio.validation.ConstraintViolationMessage;
  * <p>Form renderer that is using Bootstrap markup and styles.</p>
  * <p>You probably want to override the rendered markup to meet your needs - you
  * can create custom subclass that uses your favorite templating system and
- * overrides some or all methods with "renderMarkup" prefix.</p>
+ * overrides some or all methods with "renderMarkup" prefix that take {@link Appendable}
+ * as the first argument (markup wrapping inner markup is rendered by Begin/End method pairs).</p>
+ * <p>Markup is written directly to given {@link Appendable} (e.g. {@link java.io.Writer}
+ * of HTTP response) by methods with {@link Appendable} as the first argument.
+ * Methods returning {@link String} are adapters that render to a string (protected ones are deprecated).
+ * String methods overridden by existing subclasses are still called in place of their {@link Appendable} 
+ * variants: markup of the overridden method (including its inner markup) is rendered to a string and then 
+ * written to the output, and such renderer does not compile static markup in {@link #compile(FormMapping)}.</p>
  * <p>Thread-safe: Immutable.</p>
  * 
  * @author Radek Beran
@@ -55,9 +64,20 @@ public class FormRenderer {
 	private final LabelRenderer labelRenderer;
 	private final DatePickerRenderer datePickerRenderer;
 	private final AjaxEventRenderer ajaxEventRenderer;
+	// Names of String hooks overridden by subclass
+	private final Set<String> stringHookOverrides;
 	
 	public static final Location DEFAULT_LOCATION = Location.ENGLISH;
 
+	private static final String NEW_LINE = System.getProperty("line.separator");
+	
+	private static final ClassValue<Set<String>> STRING_HOOK_OVERRIDES = new ClassValue<Set<String>>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			return RenderUtils.getOverriddenStringHooks(type, FormRenderer.class);
+		}
+	};
+
 	public FormRenderer(Location location) {
 		this.location = location;
 		this.styleRenderer = new StyleRenderer(this);
@@ -65,6 +85,7 @@ public class FormRenderer {
 		this.labelRenderer = new LabelRenderer(this, this.styleRenderer);
 		this.datePickerRenderer = new DatePickerRenderer(this);
 		this.ajaxEventRenderer = new AjaxEventRenderer(this);
+		this.stringHookOverrides = STRING_HOOK_OVERRIDES.get(getClass());
 	}
 	
 	public FormRenderer() {
@@ -84,14 +105,39 @@ public class FormRenderer {
 	 * @return
 	 */
 	public <T> String renderElement(FormElement<T> element) {
-		String markup = renderMarkupElementPlaceholder(element, renderElementMarkup(element));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderElement(sb, element);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes given form element to the output, see {@link #renderElement(FormElement)}.
+	 * @param out
+	 * @param element
+	 * @throws IOException
+	 */
+	public <T> void renderElement(Appendable out, FormElement<T> element) throws IOException {
+		FormField<?> formGroupField = null;
 		if (element instanceof FormField<?>) {
 			FormField<?> field = (FormField<?>)element;
 			if (!Field.HIDDEN.getType().equals(field.getType())) {
-				markup = renderMarkupFormGroup(field, markup);
+				formGroupField = field;
 			}
 		}
-		return markup;
+		Appendable groupOut = out;
+		if (formGroupField != null) {
+			groupOut = beginFormGroup(out, formGroupField);
+		}
+		Appendable placeholderOut = beginElementPlaceholder(groupOut, element);
+		callRenderElementMarkup(placeholderOut, element);
+		endElementPlaceholder(groupOut, placeholderOut, element);
+		if (formGroupField != null) {
+			endFormGroup(out, groupOut, formGroupField);
+		}
 	}
 
 	/**
@@ -101,12 +147,27 @@ public class FormRenderer {
 	 * @return
 	 */
 	public <T> String renderElementMarkup(FormElement<T> element) {
-		StringBuilder sb = new StringBuilder("");
-		if (element.isVisible()) {
-			sb.append(renderVisibleElement(element));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderElementMarkup(sb, element);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
 		}
 		return sb.toString();
 	}
+
+	/**
+	 * Writes the element itself without the surrounding placeholder tag.
+	 * If the given element is invisible, nothing is written.
+	 * @param out
+	 * @param element
+	 * @throws IOException
+	 */
+	public <T> void renderElementMarkup(Appendable out, FormElement<T> element) throws IOException {
+		if (element.isVisible()) {
+			callRenderVisibleElement(out, element);
+		}
+	}
 		
 	/**
 	 * Renders element in visible state (assuming the element is visible).
@@ -114,15 +175,32 @@ public class FormRenderer {
 	 * @return
 	 */
 	public <T> String renderVisibleElement(FormElement<T> element) {
-		String html = null;
+		if (element == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderVisibleElement(sb, element);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes element in visible state (assuming the element is visible).
+	 * @param out
+	 * @param element
+	 * @throws IOException
+	 */
+	public <T> void renderVisibleElement(Appendable out, FormElement<T> element) throws IOException {
 		if (element instanceof FormMapping) {
-			html = renderVisibleMapping((FormMapping<?>)element);
+			callRenderVisibleMapping(out, (FormMapping<?>)element);
 		} else if (element instanceof FormField) {
-			html = renderVisibleField((FormField<?>)element);
+			callRenderVisibleField(out, (FormField<?>)element);
 		} else if (element != null) {
 			throw new UnsupportedOperationException("Unsupported element " + element.getClass().getName());
 		}
-		return html;
 	}
 
 	/**
@@ -132,54 +210,87 @@ public class FormRenderer {
 	 */
 	public <T> String renderVisibleMapping(FormMapping<T> mapping) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderVisibleMapping(sb, mapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes form mapping in visible state (assuming the mapping is visible).
+	 * @param out
+	 * @param mapping
+	 * @throws IOException
+	 */
+	public <T> void renderVisibleMapping(Appendable out, FormMapping<T> mapping) throws IOException {
+		out.append(newLine());
+		Appendable boxOut = beginMappingBox(out, mapping);
 		
 		if (mapping.getProperties().isFieldsetDisplayed()) {
-			sb.append("<fieldset");
+			boxOut.append("<fieldset");
 			if (!mapping.isEnabled()) {
-				sb.append(" disabled=\"disabled\"");
+				boxOut.append(" disabled=\"disabled\"");
 			}
-			sb.append(">");
+			boxOut.append(">");
 		}
 		
 		// Label
-		sb.append(renderMarkupMappingLabel(mapping));
+		callRenderMarkupMappingLabel(boxOut, mapping);
 
 		// Mapping messages
-		sb.append(renderMarkupMessageList(mapping));
+		renderDynamic(boxOut, mapping, RenderSlot.MESSAGES);
 		
 		// Nested mappings and fields
 		if (mapping instanceof BasicListFormMapping) {
 			BasicListFormMapping<?> listMapping = (BasicListFormMapping<?>)mapping; 
-			sb.append(renderMarkupListMapping(listMapping));
+			callRenderMarkupListMapping(boxOut, listMapping);
 		} else {
 			for (FormElement<?> el : mapping.getElements()) {
-				sb.append(renderElement(el));
+				renderDynamic(boxOut, el, RenderSlot.ELEMENT);
 			}
 		}
 		
 		if (mapping.getProperties().isFieldsetDisplayed()) {
-			sb.append("</fieldset>").append(newLine());
+			boxOut.append("</fieldset>").append(newLine());
 		}
 		
-		return newLine() + renderMarkupMappingBox(mapping, sb.toString());
+		endMappingBox(out, boxOut, mapping);
 	}
 
 	/**
 	 * Renders visible list mapping.
 	 * @param listMapping
 	 * @return
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupListMapping(Appendable, BasicListFormMapping)} instead.
 	 */
+	@Deprecated
 	protected <T> String renderMarkupListMapping(BasicListFormMapping<T> listMapping) {
-		String pathSep = listMapping.getConfig().getPathSeparator();
 		StringBuilder sb = new StringBuilder();
-		sb.append("<div id=\"").append(listMapping.getName()).append(pathSep).append("begin\"></div>").append(newLine());
-		for (FormMapping<?> m : listMapping.getList()) {
-			sb.append(renderElement(m));
+		try {
+			renderMarkupListMapping(sb, listMapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
 		}
-		sb.append("<div id=\"").append(listMapping.getName()).append(pathSep).append("end\"></div>").append(newLine());
 		return sb.toString();
 	}
 
+	/**
+	 * Writes visible list mapping.
+	 * @param out
+	 * @param listMapping
+	 * @throws IOException
+	 */
+	protected <T> void renderMarkupListMapping(Appendable out, BasicListFormMapping<T> listMapping) throws IOException {
+		String pathSep = listMapping.getConfig().getPathSeparator();
+		out.append("<div id=\"").append(listMapping.getName()).append(pathSep).append("begin\"></div>").append(newLine());
+		for (FormMapping<?> m : listMapping.getList()) {
+			callRenderElement(out, m);
+		}
+		out.append("<div id=\"").append(listMapping.getName()).append(pathSep).append("end\"></div>").append(newLine());
+	}
+
 	/**
 	 * Renders form field in visible state (assuming the field is visible).
 	 * @param field
@@ -187,84 +298,102 @@ public class FormRenderer {
 	 */
 	public <T> String renderVisibleField(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderVisibleField(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes form field in visible state (assuming the field is visible).
+	 * @param out
+	 * @param field
+	 * @throws IOException
+	 */
+	public <T> void renderVisibleField(Appendable out, FormField<T> field) throws IOException {
 		String type = field.getType();
 		Field formComponent = Field.findByType(type);
+		if (formComponent != null && renderFieldByStringHook(out, field, formComponent)) {
+			return;
+		}
 		if (formComponent != null) {
 			switch (formComponent) {
 			case HIDDEN:
-				sb.append(renderFieldHidden(field));
+				renderFieldHidden(out, field);
 				break;
 			case TEXT:
-				sb.append(renderFieldText(field));
+				renderFieldText(out, field);
 				break;
 			case TEXT_AREA:
-				sb.append(renderFieldTextArea(field));
+				renderFieldTextArea(out, field);
 				break;
 			case PASSWORD:
-				sb.append(renderFieldPassword(field));
+				renderFieldPassword(out, field);
 				break;
 			case CHECK_BOX:
-				sb.append(renderFieldCheckbox(field));
+				renderFieldCheckbox(out, field);
 				break;
 			case DATE_PICKER:
-				sb.append(renderFieldDatePicker(field));
+				renderFieldDatePicker(out, field);
 				break;
 			case DROP_DOWN_CHOICE:
-				sb.append(renderFieldDropDownChoice(field));
+				renderFieldDropDownChoice(out, field);
 				break;
 			case FILE_UPLOAD:
-				sb.append(renderFieldFileUpload(field));
+				renderFieldFileUpload(out, field);
 				break;
 			case MULTIPLE_CHECK_BOX:
-				sb.append(renderFieldMultipleCheckbox(field));
+				renderFieldMultipleCheckbox(out, field);
 				break;
 			case RADIO_CHOICE:
-				sb.append(renderFieldRadioChoice(field));
+				renderFieldRadioChoice(out, field);
 				break;
 			case COLOR:
-				sb.append(renderFieldColor(field));
+				renderFieldColor(out, field);
 				break;
 			case DATE:
-				sb.append(renderFieldDate(field));
+				renderFieldDate(out, field);
 				break;
 			case DATE_TIME:
-				sb.append(renderFieldDateTime(field));
+				renderFieldDateTime(out, field);
 				break;
 			case DATE_TIME_LOCAL:
-				sb.append(renderFieldDateTimeLocal(field));
+				renderFieldDateTimeLocal(out, field);
 				break;
 			case TIME:
-				sb.append(renderFieldTime(field));
+				renderFieldTime(out, field);
 				break;
 			case EMAIL:
-				sb.append(renderFieldEmail(field));
+				renderFieldEmail(out, field);
 				break;
 			case MONTH:
-				sb.append(renderFieldMonth(field));
+				renderFieldMonth(out, field);
 				break;
 			case NUMBER:
-				sb.append(renderFieldNumber(field));
+				renderFieldNumber(out, field);
 				break;
 			case RANGE:
-				sb.append(renderFieldRange(field));
+				renderFieldRange(out, field);
 				break;
 			case SEARCH:
-				sb.append(renderFieldSearch(field));
+				renderFieldSearch(out, field);
 				break;
 			case TEL:
-				sb.append(renderFieldTel(field));
+				renderFieldTel(out, field);
 				break;
 			case URL:
-				sb.append(renderFieldUrl(field));
+				renderFieldUrl(out, field);
 				break;
 			case WEEK:
-				sb.append(renderFieldWeek(field));
+				renderFieldWeek(out, field);
 				break;
 			case BUTTON:
-				sb.append(renderFieldButton(field));
+				renderFieldButton(out, field);
 				break;
 			case LINK:
-				sb.append(renderFieldLink(field));
+				renderFieldLink(out, field);
 				break;
 			default:
 				throw new UnsupportedOperationException("Cannot render component with type " + type);
@@ -272,11 +401,20 @@ public class FormRenderer {
 		} else {
 			throw new UnsupportedOperationException("Unsupported component with type " + type);
 		}
+	}
+
+	public <T> String renderMarkupGlobalMessages(FormMapping<T> formMapping) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupGlobalMessages(sb, formMapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
 		return sb.toString();
 	}
 	
-	public <T> String renderMarkupGlobalMessages(FormMapping<T> formMapping) {
-		return messageRenderer.renderGlobalMessages(formMapping);
+	public <T> void renderMarkupGlobalMessages(Appendable out, FormMapping<T> formMapping) throws IOException {
+		messageRenderer.renderGlobalMessages(out, formMapping);
 	}
 
 	/**
@@ -287,157 +425,320 @@ public class FormRenderer {
 		return new TdiResponseBuilder(this);
 	}
 	
+	/**
+	 * Creates renderer of filled forms created from given form definition.
+	 * Static markup of the definition is rendered only once, only the parts that
+	 * change with filled data (values, selected items, validation messages...) are
+	 * rendered for each filled form.
+	 * @param formDefinition
+	 * @return
+	 */
+	public <T> CompiledFormRenderer<T> compile(FormMapping<T> formDefinition) {
+		return new CompiledFormRenderer<T>(this, formDefinition);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupElementPlaceholderBegin(Appendable, FormElement)} and {@link #renderMarkupElementPlaceholderEnd(Appendable, FormElement)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupElementPlaceholder(FormElement<T> element, String innerMarkup) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupElementPlaceholderBegin(sb, element);
+			sb.append(innerMarkup);
+			renderMarkupElementPlaceholderEnd(sb, element);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupElementPlaceholderBegin(Appendable out, FormElement<T> element) throws IOException {
 		// Element placeholder begin - rendered even for invisible element so there is reserved
 		// identified place that can be updated if the element becomes visible.
-		sb.append("<div id=\"").append(element.getElementPlaceholderId()).append("\">").append(newLine());
+		out.append("<div id=\"").append(element.getElementPlaceholderId()).append("\">").append(newLine());
+	}
 
-		// The element itself
-		sb.append(innerMarkup);
-		
-		// Element placeholder end
-		sb.append("</div>").append(newLine());
-		return sb.toString();
+	protected <T> void renderMarkupElementPlaceholderEnd(Appendable out, FormElement<T> element) throws IOException {
+		out.append("</div>").append(newLine());
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupMappingBoxBegin(Appendable, FormMapping)} and {@link #renderMarkupMappingBoxEnd(Appendable, FormMapping)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupMappingBox(FormMapping<T> mapping, String innerMarkup) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupMappingBoxBegin(sb, mapping);
+			sb.append(innerMarkup);
+			renderMarkupMappingBoxEnd(sb, mapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	protected <T> void renderMarkupMappingBoxBegin(Appendable out, FormMapping<T> mapping) throws IOException {
 		String maxSevClass = getMaxSeverityClass(mapping);
 		if (maxSevClass != null && !maxSevClass.isEmpty()) {
-			sb.append("<div class=\"").append(maxSevClass).append("\">").append(newLine());
+			out.append("<div class=\"").append(maxSevClass).append("\">").append(newLine());
 		}
-		sb.append(innerMarkup);
+	}
+
+	protected <T> void renderMarkupMappingBoxEnd(Appendable out, FormMapping<T> mapping) throws IOException {
+		String maxSevClass = getMaxSeverityClass(mapping);
 		if (maxSevClass != null && !maxSevClass.isEmpty()) {
-			sb.append("</div>").append(newLine());
+			out.append("</div>").append(newLine());
 		}
-		return sb.toString();
 	}
-	
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupFormGroupBegin(Appendable, FormField)} and {@link #renderMarkupFormGroupEnd(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupFormGroup(FormField<T> field, String innerMarkup) {
 		StringBuilder sb = new StringBuilder();
-		String maxSevClass = getMaxSeverityClass(field);
-		int colFormWidth = field.getParent().getConfig().getColFormWidth();
+		try {
+			renderMarkupFormGroupBegin(sb, field);
+			sb.append(innerMarkup);
+			renderMarkupFormGroupEnd(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupFormGroupBegin(Appendable out, FormField<T> field) throws IOException {
 		InlinePosition inlinePos = field.getProperties().getInline();
 		if (inlinePos == null || InlinePosition.FIRST.equals(inlinePos)) {
-			sb.append("<div class=\"row\">").append(newLine());
-			sb.append("<div class=\"").append(styleRenderer.getFormGroupClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(colFormWidth).append(" ").append(maxSevClass).append("\">").append(newLine());
+			int colFormWidth = field.getParent().getConfig().getColFormWidth();
+			out.append("<div class=\"row\">").append(newLine());
+			out.append("<div class=\"").append(styleRenderer.getFormGroupClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(String.valueOf(colFormWidth)).append(" ");
+			renderDynamic(out, field, RenderSlot.SEVERITY_CLASS);
+			out.append("\">").append(newLine());
 		}
-		
-		sb.append(innerMarkup);
-		
+	}
+
+	protected <T> void renderMarkupFormGroupEnd(Appendable out, FormField<T> field) throws IOException {
+		InlinePosition inlinePos = field.getProperties().getInline();
 		if (inlinePos == null || InlinePosition.LAST.equals(inlinePos)) {
-			sb.append("</div>").append(newLine());
-			sb.append("</div>").append(newLine()).append(newLine());
+			out.append("</div>").append(newLine());
+			out.append("</div>").append(newLine()).append(newLine());
 		}
-		return sb.toString();
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupInputEnvelopeBegin(Appendable, FormField)} and {@link #renderMarkupInputEnvelopeEnd(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupInputEnvelope(FormField<T> field, String innerMarkup) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<div class=\"").append(styleRenderer.getInputEnvelopeClasses(field)).append("\">").append(newLine());
-		sb.append(innerMarkup);
-		sb.append("</div>").append(newLine());
+		try {
+			renderMarkupInputEnvelopeBegin(sb, field);
+			sb.append(innerMarkup);
+			renderMarkupInputEnvelopeEnd(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
 		return sb.toString();
 	}
 
+	protected <T> void renderMarkupInputEnvelopeBegin(Appendable out, FormField<T> field) throws IOException {
+		out.append("<div class=\"").append(styleRenderer.getInputEnvelopeClasses(field)).append("\">").append(newLine());
+	}
+
+	protected <T> void renderMarkupInputEnvelopeEnd(Appendable out, FormField<T> field) throws IOException {
+		out.append("</div>").append(newLine());
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupMessageList(Appendable, FormElement)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupMessageList(FormElement<T> element) {
-		return messageRenderer.renderMessageList(element);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupMessageList(sb, element);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderMarkupMessageList(Appendable out, FormElement<T> element) throws IOException {
+		messageRenderer.renderMessageList(out, element);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupMappingLabel(Appendable, FormMapping)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupMappingLabel(FormMapping<T> mapping) {
-		return labelRenderer.renderMappingLabel(mapping);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupMappingLabel(sb, mapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupMappingLabel(Appendable out, FormMapping<T> mapping) throws IOException {
+		labelRenderer.renderMappingLabel(out, mapping);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupFieldLabel(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupFieldLabel(FormField<T> field) {
-		return labelRenderer.renderFieldLabel(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupFieldLabel(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupFieldLabel(Appendable out, FormField<T> field) throws IOException {
+		labelRenderer.renderFieldLabel(out, field);
 	}
 	
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupTextArea(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupTextArea(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<textarea name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\" class=\"").append(getInputClasses(field)).append("\"");
+		try {
+			renderMarkupTextArea(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupTextArea(Appendable out, FormField<T> field) throws IOException {
+		out.append("<textarea name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\" class=\"").append(getInputClasses(field)).append("\"");
 		Integer cols = field.getProperties().getProperty(FormElementProperty.COLS);
 		if (cols != null) {
-			sb.append(" cols=\"").append(cols.intValue()).append("\"");
+			out.append(" cols=\"").append(String.valueOf(cols.intValue())).append("\"");
 		}
 		Integer rows = field.getProperties().getProperty(FormElementProperty.ROWS);
 		if (rows != null) {
-			sb.append(" rows=\"").append(rows.intValue()).append("\"");
+			out.append(" rows=\"").append(String.valueOf(rows.intValue())).append("\"");
 		}
-		sb.append(getElementAttributes(field));
-		sb.append(getInputPlaceholderAttribute(field));
-		sb.append(">");
-		sb.append(escapeHtml(field.getValue()));
-		sb.append("</textarea>").append(newLine());
-		sb.append(renderFieldScript(field, InputMultiplicity.SINGLE));
-		return sb.toString();
+		out.append(getElementAttributes(field));
+		out.append(getInputPlaceholderAttribute(field));
+		out.append(">");
+		renderDynamic(out, field, RenderSlot.VALUE);
+		out.append("</textarea>").append(newLine());
+		out.append(renderFieldScript(field, InputMultiplicity.SINGLE));
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupInput(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupInput(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupInput(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupInput(Appendable out, FormField<T> field) throws IOException {
 		String typeId = field.getType();
-		sb.append("<input type=\"").append(field.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\"");
+		out.append("<input type=\"").append(field.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\"");
 		if (Field.FILE_UPLOAD.getType().equals(typeId)) {
 			String accept = field.getProperties().getProperty(FormElementProperty.ACCEPT);
 			if (accept != null) {
-				sb.append(" accept=\"").append(accept).append("\"");
+				out.append(" accept=\"").append(accept).append("\"");
 			}
 		} else {
-			String value = escapeHtml(field.getValue());
-			sb.append(" value=\"").append(value).append("\"");
+			out.append(" value=\"");
+			renderDynamic(out, field, RenderSlot.VALUE);
+			out.append("\"");
 			Integer size = field.getProperties().getProperty(FormElementProperty.SIZE);
 			if (size != null) {
-				sb.append(" size=\"").append(size.intValue()).append("\"");
+				out.append(" size=\"").append(String.valueOf(size.intValue())).append("\"");
 			}
 			Integer maxlength = field.getProperties().getProperty(FormElementProperty.MAX_LENGTH);
 			if (maxlength != null) {
-				sb.append(" maxlength=\"").append(maxlength.intValue()).append("\"");
+				out.append(" maxlength=\"").append(String.valueOf(maxlength.intValue())).append("\"");
 			}
 		}
-		sb.append(getElementAttributes(field));
-		sb.append(" class=\"").append(getInputClasses(field)).append("\"");
-		sb.append(getInputPlaceholderAttribute(field));
-		sb.append("/>").append(newLine());
-		sb.append(renderFieldScript(field, InputMultiplicity.SINGLE));
-		return sb.toString();
+		out.append(getElementAttributes(field));
+		out.append(" class=\"").append(getInputClasses(field)).append("\"");
+		out.append(getInputPlaceholderAttribute(field));
+		out.append("/>").append(newLine());
+		out.append(renderFieldScript(field, InputMultiplicity.SINGLE));
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupCheckbox(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupCheckbox(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<input type=\"").append(Field.CHECK_BOX.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\" value=\"1\"");
-		if (field.isFilledWithTrue()) {
-			sb.append(" checked=\"checked\" ");
+		try {
+			renderMarkupCheckbox(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
 		}
-		sb.append(getElementAttributes(field));
-		sb.append(" class=\"").append(getInputClasses(field)).append("\"");
-		sb.append("/>").append(newLine());
-		sb.append(renderFieldScript(field, InputMultiplicity.SINGLE));
 		return sb.toString();
 	}
 
+	protected <T> void renderMarkupCheckbox(Appendable out, FormField<T> field) throws IOException {
+		out.append("<input type=\"").append(Field.CHECK_BOX.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\" value=\"1\"");
+		renderDynamic(out, field, RenderSlot.CHECKED);
+		out.append(getElementAttributes(field));
+		out.append(" class=\"").append(getInputClasses(field)).append("\"");
+		out.append("/>").append(newLine());
+		out.append(renderFieldScript(field, InputMultiplicity.SINGLE));
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupSelect(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupSelect(FormField<T> field) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupSelect(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupSelect(Appendable out, FormField<T> field) throws IOException {
 		if (field.getChoiceRenderer() == null) {
 			throw new IllegalStateException("Form field should have ChoiceRenderer defined");
 		}
-		StringBuilder sb = new StringBuilder();
-		sb.append("<select name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\"");
+		out.append("<select name=\"").append(field.getName()).append("\" id=\"").append(field.getElementId()).append("\"");
 		Boolean multiple = field.getProperties().getProperty(FormElementProperty.MULTIPLE);
 		if (multiple != null && multiple.booleanValue()) {
-			sb.append(" multiple=\"multiple\"");
+			out.append(" multiple=\"multiple\"");
 		}
 		Integer size = field.getProperties().getProperty(FormElementProperty.SIZE);
 		if (size != null) {
-			sb.append(" size=\"").append(size.intValue()).append("\"");
+			out.append(" size=\"").append(String.valueOf(size.intValue())).append("\"");
 		}
-		sb.append(" class=\"").append(getInputClasses(field)).append("\"");
-		sb.append(getElementAttributes(field));
-		sb.append(">").append(newLine());
+		out.append(" class=\"").append(getInputClasses(field)).append("\"");
+		out.append(getElementAttributes(field));
+		out.append(">").append(newLine());
 		if (field.getChoices() != null) {
 			List<T> items = toSimplyTypedItems(field.getChoices().getItems());
 			if (items != null) {
 				// First "Choose One" option
 				if (field.getProperties().isChooseOptionDisplayed()) {
-					sb.append(renderMarkupOption("", field.getProperties().getChooseOptionTitle(), false));
+					renderMarkupOption(out, "", field.getProperties().getChooseOptionTitle(), false);
 				}
 				ChoiceRenderer<T> choiceRenderer = field.getChoiceRenderer();
 				int itemIndex = 0;
@@ -445,21 +746,33 @@ public class FormRenderer {
 					String value = getChoiceValue(choiceRenderer, item, itemIndex);
 					String title = getChoiceTitle(choiceRenderer, item, itemIndex);
 					boolean selected = field.getFilledObjects().contains(item);
-					sb.append(renderMarkupOption(value, title, selected));
+					renderMarkupOption(out, value, title, selected);
 					itemIndex++;
 				}
 			}
 		}
-		sb.append("</select>").append(newLine());
-		sb.append(renderFieldScript(field, InputMultiplicity.SINGLE));
-		return sb.toString();
+		out.append("</select>").append(newLine());
+		out.append(renderFieldScript(field, InputMultiplicity.SINGLE));
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupChecks(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupChecks(FormField<T> field) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupChecks(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupChecks(Appendable out, FormField<T> field) throws IOException {
 		if (field.getChoiceRenderer() == null) {
 			throw new IllegalStateException("Form field should have ChoiceRenderer defined");
 		}
-		StringBuilder sb = new StringBuilder();
 		if (field.getChoices() != null) {
 			List<T> items = toSimplyTypedItems(field.getChoices().getItems());
 			if (items != null) {
@@ -470,60 +783,85 @@ public class FormRenderer {
 					String title = getChoiceTitle(choiceRenderer, item, itemIndex);
 					String itemId = field.getElementIdWithIndex(itemIndex);
 
-					sb.append("<div class=\"").append(field.getInputType()).append("\">").append(newLine());
+					out.append("<div class=\"").append(field.getInputType()).append("\">").append(newLine());
 					if (field.getProperties().isLabelVisible()) {
-						sb.append("<label>");
+						out.append("<label>");
 					}
 
-					sb.append("<input type=\"").append(field.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(itemId).append("\" value=\"").append(value).append("\"");
+					out.append("<input type=\"").append(field.getInputType()).append("\" name=\"").append(field.getName()).append("\" id=\"").append(itemId).append("\" value=\"").append(value).append("\"");
 					if (field.getFilledObjects().contains(item)) {
-						sb.append(" checked=\"checked\"");
+						out.append(" checked=\"checked\"");
 					}
-					sb.append(getElementAttributes(field));
-					sb.append(" class=\"").append(getInputClasses(field)).append("\"");
-					sb.append("/>");
+					out.append(getElementAttributes(field));
+					out.append(" class=\"").append(getInputClasses(field)).append("\"");
+					out.append("/>");
 					if (field.getProperties().isLabelVisible()) {
-						sb.append(" ").append(title).append("</label>");
+						out.append(" ").append(title).append("</label>");
 					}
-					sb.append("</div>").append(newLine());
+					out.append("</div>").append(newLine());
 					itemIndex++;
 				}
-				sb.append(renderFieldScript(field, InputMultiplicity.MULTIPLE));
+				out.append(renderFieldScript(field, InputMultiplicity.MULTIPLE));
 			}
 		}
-		return sb.toString();
 	}
-	
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupButton(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupButton(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupButton(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	protected <T> void renderMarkupButton(Appendable out, FormField<T> field) throws IOException {
 		String type = ButtonType.SUBMIT.getTypeName();
 		ButtonType buttonType = field.getProperties().getProperty(FormElementProperty.BUTTON_TYPE);
 		if (buttonType != null) {
 			type = buttonType.getTypeName();
 		}
-		sb.append("<button type=\"").append(type).append("\" name=\"").append(field.getName()).append("\" value=\"").append(escapeHtml(field.getValue())).append("\" class=\"").append(getInputClasses(field)).append("\">");
+		out.append("<button type=\"").append(type).append("\" name=\"").append(field.getName()).append("\" value=\"");
+		renderDynamic(out, field, RenderSlot.VALUE);
+		out.append("\" class=\"").append(getInputClasses(field)).append("\">");
 		MessageTranslator tr = getMessageTranslator(field);
-		String text = escapeHtml(tr.getMessage(field.getLabelKey()));
-		sb.append(text);
-		sb.append("</button>").append(newLine());
-		return sb.toString();
+		RenderUtils.escapeHtml(out, tr.getMessage(field.getLabelKey()));
+		out.append("</button>").append(newLine());
 	}
 	
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderMarkupLink(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderMarkupLink(FormField<T> field) {
 		StringBuilder sb = new StringBuilder();
+		try {
+			renderMarkupLink(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderMarkupLink(Appendable out, FormField<T> field) throws IOException {
 		String url = field.getValue();
 		if (url == null || url.isEmpty()) {
 			url = ajaxEventRenderer.getActionLinkUrl(field);
 		}
-		sb.append("<a href=\"").append(escapeHtml(url)).append("\"");
-		sb.append(getElementAttributes(field));
-		sb.append(" class=\"").append(getInputClasses(field)).append("\">");
+		out.append("<a href=\"");
+		RenderUtils.escapeHtml(out, url);
+		out.append("\"");
+		out.append(getElementAttributes(field));
+		out.append(" class=\"").append(getInputClasses(field)).append("\">");
 		MessageTranslator tr = getMessageTranslator(field);
-		String text = escapeHtml(tr.getMessage(field.getLabelKey()));
-		sb.append(text);
-		sb.append("</a>").append(newLine());
-		sb.append(renderFieldScript(field, InputMultiplicity.SINGLE));
-		return sb.toString();
+		RenderUtils.escapeHtml(out, tr.getMessage(field.getLabelKey()));
+		out.append("</a>").append(newLine());
+		out.append(renderFieldScript(field, InputMultiplicity.SINGLE));
 	}
 
 	protected <T> MessageTranslator getMessageTranslator(FormElement<T> element) {
@@ -633,147 +971,524 @@ public class FormRenderer {
 		return ajaxEventRenderer.renderFieldScript(field, inputMultiplicity);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderTextFieldInternal(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderTextFieldInternal(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupInput(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderTextFieldInternal(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderTextFieldInternal(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupInput(envelopeOut, field);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
 	// --- Various field types - begin ---
+	// String variants are adapters of the variants writing to Appendable
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldButton(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldButton(FormField<T> field) {
-		return renderMarkupInputEnvelope(field, 
-			renderMarkupButton(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldButton(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldButton(Appendable out, FormField<T> field) throws IOException {
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupButton(envelopeOut, field);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 	
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldLink(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldLink(FormField<T> field) {
-		return renderMarkupInputEnvelope(field, 
-				renderMarkupLink(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldLink(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldLink(Appendable out, FormField<T> field) throws IOException {
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		renderDynamic(envelopeOut, field, RenderSlot.LINK);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldHidden(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldHidden(FormField<T> field) {
-		return renderMarkupInput(field) + newLine();
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldHidden(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldHidden(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupInput(out, field);
+		out.append(newLine());
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldText(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldText(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldText(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldText(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldColor(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldColor(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldColor(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldColor(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldDate(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldDate(FormField<T> field) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldDate(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldDate(Appendable out, FormField<T> field) throws IOException {
 		// TODO: Support for min, max attributes
-		return renderTextFieldInternal(field);
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldDateTime(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldDateTime(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldDateTime(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldDateTime(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldDateTimeLocal(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldDateTimeLocal(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldDateTimeLocal(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldDateTimeLocal(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldTime(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldTime(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldTime(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldTime(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldEmail(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldEmail(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldEmail(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldEmail(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldMonth(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldMonth(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldMonth(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldMonth(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldNumber(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldNumber(FormField<T> field) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldNumber(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldNumber(Appendable out, FormField<T> field) throws IOException {
 		// TODO: Support for min, max, step attributes
-		return renderTextFieldInternal(field);
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldRange(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldRange(FormField<T> field) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldRange(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldRange(Appendable out, FormField<T> field) throws IOException {
 		// TODO: Support for min, max attributes
-		return renderTextFieldInternal(field);
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldSearch(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldSearch(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldSearch(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldSearch(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldTel(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldTel(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldTel(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldTel(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldUrl(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldUrl(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldUrl(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldUrl(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldWeek(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldWeek(FormField<T> field) {
-		return renderTextFieldInternal(field);
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldWeek(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldWeek(Appendable out, FormField<T> field) throws IOException {
+		callRenderTextFieldInternal(out, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldTextArea(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldTextArea(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupTextArea(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldTextArea(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldTextArea(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupTextArea(envelopeOut, field);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldCheckbox(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldCheckbox(FormField<T> field) {
-		return "<div class=\"" + Field.CHECK_BOX.getInputType() + "\">" + newLine() +
-			renderMarkupInputEnvelope(field,
-				"<label>" +
-				renderMarkupCheckbox(field) + 
-				getLabelText(field) +
-				"</label>" +
-				renderMarkupMessageList(field)
-		) + "</div>" + newLine();
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldCheckbox(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldCheckbox(Appendable out, FormField<T> field) throws IOException {
+		out.append("<div class=\"").append(Field.CHECK_BOX.getInputType()).append("\">").append(newLine());
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		envelopeOut.append("<label>");
+		callRenderMarkupCheckbox(envelopeOut, field);
+		envelopeOut.append(getLabelText(field));
+		envelopeOut.append("</label>");
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
+		out.append("</div>").append(newLine());
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldPassword(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldPassword(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupInput(field) +
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldPassword(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldPassword(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupInput(envelopeOut, field);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldFileUpload(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldFileUpload(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupInput(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldFileUpload(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldFileUpload(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupInput(envelopeOut, field);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldDatePicker(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldDatePicker(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupInput(field) + 
-				renderDatePickerScript(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldDatePicker(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
 	}
 
+	protected <T> void renderFieldDatePicker(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		callRenderMarkupInput(envelopeOut, field);
+		envelopeOut.append(renderDatePickerScript(field));
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
+	}
+
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldDropDownChoice(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldDropDownChoice(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupSelect(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldDropDownChoice(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldDropDownChoice(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		renderDynamic(envelopeOut, field, RenderSlot.SELECT);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldMultipleCheckbox(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldMultipleCheckbox(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupChecks(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldMultipleCheckbox(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldMultipleCheckbox(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		renderDynamic(envelopeOut, field, RenderSlot.CHECKS);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderFieldRadioChoice(Appendable, FormField)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderFieldRadioChoice(FormField<T> field) {
-		return renderMarkupFieldLabel(field) + 
-			renderMarkupInputEnvelope(field, 
-				renderMarkupChecks(field) + 
-				renderMarkupMessageList(field));
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderFieldRadioChoice(sb, field);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+
+	protected <T> void renderFieldRadioChoice(Appendable out, FormField<T> field) throws IOException {
+		callRenderMarkupFieldLabel(out, field);
+		Appendable envelopeOut = beginInputEnvelope(out, field);
+		renderDynamic(envelopeOut, field, RenderSlot.CHECKS);
+		renderDynamic(envelopeOut, field, RenderSlot.MESSAGES);
+		endInputEnvelope(out, envelopeOut, field);
 	}
 
 	// --- /Various field types - end ---
@@ -822,21 +1537,402 @@ public class FormRenderer {
 	}
 	
 	String newLine() {
-		return System.getProperty("line.separator");
+		return NEW_LINE;
 	}
 	
 	String renderMarkupMessage(ConstraintViolationMessage msg) {
 		return messageRenderer.renderMessage(msg);
 	}
-	
-	private <T> String getChoiceTitle(ChoiceRenderer<T> choiceRenderer, T item, int itemIndex) {
-		return escapeHtml(choiceRenderer.getItem(item, itemIndex).getTitle());
+
+	void renderMarkupMessage(Appendable out, ConstraintViolationMessage msg) throws IOException {
+		messageRenderer.renderMessage(out, msg);
 	}
 
-	private <T> String getChoiceValue(ChoiceRenderer<T> choiceRenderer, T item, int itemIndex) {
-		return escapeHtml(choiceRenderer.getItem(item, itemIndex).getId());
+	/**
+	 * Writes part of the markup that depends on the filled data of given element.
+	 * @param out
+	 * @param element
+	 * @param slot
+	 * @throws IOException
+	 */
+	<T> void renderSlot(Appendable out, FormElement<T> element, RenderSlot slot) throws IOException {
+		switch (slot) {
+		case ELEMENT:
+			callRenderElement(out, element);
+			break;
+		case MAPPING_BOX_BEGIN:
+			renderMarkupMappingBoxBegin(out, (FormMapping<?>)element);
+			break;
+		case MAPPING_BOX_END:
+			renderMarkupMappingBoxEnd(out, (FormMapping<?>)element);
+			break;
+		case SEVERITY_CLASS:
+			out.append(getMaxSeverityClass(element));
+			break;
+		case MESSAGES:
+			callRenderMarkupMessageList(out, element);
+			break;
+		case VALUE:
+			RenderUtils.escapeHtml(out, ((FormField<?>)element).getValue());
+			break;
+		case CHECKED:
+			if (((FormField<?>)element).isFilledWithTrue()) {
+				out.append(" checked=\"checked\" ");
+			}
+			break;
+		case SELECT:
+			callRenderMarkupSelect(out, (FormField<?>)element);
+			break;
+		case CHECKS:
+			callRenderMarkupChecks(out, (FormField<?>)element);
+			break;
+		case LINK:
+			callRenderMarkupLink(out, (FormField<?>)element);
+			break;
+		default:
+			throw new UnsupportedOperationException("Unsupported render slot " + slot);
+		}
+	}
+
+	/**
+	 * Writes part of the markup that depends on the filled data, or only records
+	 * the slot if a template is being compiled from form definition.
+	 */
+	private <T> void renderDynamic(Appendable out, FormElement<T> element, RenderSlot slot) throws IOException {
+		if (out instanceof RenderTemplate.Builder) {
+			((RenderTemplate.Builder)out).addSlot(this, element, slot);
+		} else {
+			renderSlot(out, element, slot);
+		}
+	}
+
+	/**
+	 * Returns true if given String hook is overridden by subclass of this renderer,
+	 * so it must be called in place of its {@link Appendable} variant.
+	 * @param hookName name of method returning String
+	 * @return
+	 */
+	boolean isStringHookOverridden(String hookName) {
+		return !stringHookOverrides.isEmpty() && stringHookOverrides.contains(hookName);
+	}
+	
+	/**
+	 * Returns true if some String hook is overridden by subclass of this renderer.
+	 * @return
+	 */
+	boolean hasStringHookOverrides() {
+		return !stringHookOverrides.isEmpty();
+	}
+	
+	// Methods calling String hook if it is overridden by subclass, the variant writing to Appendable otherwise
+	
+	<T> void callRenderElement(Appendable out, FormElement<T> element) throws IOException {
+		if (isStringHookOverridden("renderElement")) {
+			out.append(renderElement(element));
+		} else {
+			renderElement(out, element);
+		}
+	}
+	
+	<T> void callRenderElementMarkup(Appendable out, FormElement<T> element) throws IOException {
+		if (isStringHookOverridden("renderElementMarkup")) {
+			out.append(renderElementMarkup(element));
+		} else {
+			renderElementMarkup(out, element);
+		}
+	}
+	
+	<T> void callRenderVisibleElement(Appendable out, FormElement<T> element) throws IOException {
+		if (isStringHookOverridden("renderVisibleElement")) {
+			out.append(renderVisibleElement(element));
+		} else {
+			renderVisibleElement(out, element);
+		}
+	}
+	
+	<T> void callRenderVisibleMapping(Appendable out, FormMapping<T> mapping) throws IOException {
+		if (isStringHookOverridden("renderVisibleMapping")) {
+			out.append(renderVisibleMapping(mapping));
+		} else {
+			renderVisibleMapping(out, mapping);
+		}
+	}
+	
+	<T> void callRenderVisibleField(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderVisibleField")) {
+			out.append(renderVisibleField(field));
+		} else {
+			renderVisibleField(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupListMapping(Appendable out, BasicListFormMapping<T> listMapping) throws IOException {
+		if (isStringHookOverridden("renderMarkupListMapping")) {
+			out.append(renderMarkupListMapping(listMapping));
+		} else {
+			renderMarkupListMapping(out, listMapping);
+		}
+	}
+	
+	<T> void callRenderMarkupGlobalMessages(Appendable out, FormMapping<T> formMapping) throws IOException {
+		if (isStringHookOverridden("renderMarkupGlobalMessages")) {
+			out.append(renderMarkupGlobalMessages(formMapping));
+		} else {
+			renderMarkupGlobalMessages(out, formMapping);
+		}
+	}
+	
+	<T> void callRenderMarkupMessageList(Appendable out, FormElement<T> element) throws IOException {
+		if (isStringHookOverridden("renderMarkupMessageList")) {
+			out.append(renderMarkupMessageList(element));
+		} else {
+			renderMarkupMessageList(out, element);
+		}
+	}
+	
+	<T> void callRenderMarkupMappingLabel(Appendable out, FormMapping<T> mapping) throws IOException {
+		if (isStringHookOverridden("renderMarkupMappingLabel")) {
+			out.append(renderMarkupMappingLabel(mapping));
+		} else {
+			renderMarkupMappingLabel(out, mapping);
+		}
+	}
+	
+	<T> void callRenderMarkupFieldLabel(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupFieldLabel")) {
+			out.append(renderMarkupFieldLabel(field));
+		} else {
+			renderMarkupFieldLabel(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupTextArea(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupTextArea")) {
+			out.append(renderMarkupTextArea(field));
+		} else {
+			renderMarkupTextArea(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupInput(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupInput")) {
+			out.append(renderMarkupInput(field));
+		} else {
+			renderMarkupInput(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupCheckbox(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupCheckbox")) {
+			out.append(renderMarkupCheckbox(field));
+		} else {
+			renderMarkupCheckbox(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupSelect(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupSelect")) {
+			out.append(renderMarkupSelect(field));
+		} else {
+			renderMarkupSelect(out, field);
+		}
 	}
 	
+	<T> void callRenderMarkupChecks(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupChecks")) {
+			out.append(renderMarkupChecks(field));
+		} else {
+			renderMarkupChecks(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupButton(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupButton")) {
+			out.append(renderMarkupButton(field));
+		} else {
+			renderMarkupButton(out, field);
+		}
+	}
+	
+	<T> void callRenderMarkupLink(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupLink")) {
+			out.append(renderMarkupLink(field));
+		} else {
+			renderMarkupLink(out, field);
+		}
+	}
+	
+	<T> void callRenderTextFieldInternal(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderTextFieldInternal")) {
+			out.append(renderTextFieldInternal(field));
+		} else {
+			renderTextFieldInternal(out, field);
+		}
+	}
+	
+	/**
+	 * Begins markup of the input envelope. Returns given output if the begin markup was written to it,
+	 * or a buffer for the inner markup if the envelope is rendered by overridden String hook.
+	 */
+	private <T> Appendable beginInputEnvelope(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupInputEnvelope")) {
+			return new StringBuilder();
+		}
+		renderMarkupInputEnvelopeBegin(out, field);
+		return out;
+	}
+	
+	private <T> void endInputEnvelope(Appendable out, Appendable innerOut, FormField<T> field) throws IOException {
+		if (innerOut != out) {
+			out.append(renderMarkupInputEnvelope(field, innerOut.toString()));
+		} else {
+			renderMarkupInputEnvelopeEnd(out, field);
+		}
+	}
+	
+	private <T> Appendable beginFormGroup(Appendable out, FormField<T> field) throws IOException {
+		if (isStringHookOverridden("renderMarkupFormGroup")) {
+			return new StringBuilder();
+		}
+		renderMarkupFormGroupBegin(out, field);
+		return out;
+	}
+	
+	private <T> void endFormGroup(Appendable out, Appendable innerOut, FormField<T> field) throws IOException {
+		if (innerOut != out) {
+			out.append(renderMarkupFormGroup(field, innerOut.toString()));
+		} else {
+			renderMarkupFormGroupEnd(out, field);
+		}
+	}
+	
+	private <T> Appendable beginElementPlaceholder(Appendable out, FormElement<T> element) throws IOException {
+		if (isStringHookOverridden("renderMarkupElementPlaceholder")) {
+			return new StringBuilder();
+		}
+		renderMarkupElementPlaceholderBegin(out, element);
+		return out;
+	}
+	
+	private <T> void endElementPlaceholder(Appendable out, Appendable innerOut, FormElement<T> element) throws IOException {
+		if (innerOut != out) {
+			out.append(renderMarkupElementPlaceholder(element, innerOut.toString()));
+		} else {
+			renderMarkupElementPlaceholderEnd(out, element);
+		}
+	}
+	
+	private <T> Appendable beginMappingBox(Appendable out, FormMapping<T> mapping) throws IOException {
+		if (isStringHookOverridden("renderMarkupMappingBox")) {
+			return new StringBuilder();
+		}
+		renderDynamic(out, mapping, RenderSlot.MAPPING_BOX_BEGIN);
+		return out;
+	}
+	
+	private <T> void endMappingBox(Appendable out, Appendable innerOut, FormMapping<T> mapping) throws IOException {
+		if (innerOut != out) {
+			out.append(renderMarkupMappingBox(mapping, innerOut.toString()));
+		} else {
+			renderDynamic(out, mapping, RenderSlot.MAPPING_BOX_END);
+		}
+	}
+	
+	/**
+	 * Renders field of given type using String hook if it is overridden by subclass.
+	 * @return true if the field was rendered by String hook
+	 */
+	<T> boolean renderFieldByStringHook(Appendable out, FormField<T> field, Field formComponent) throws IOException {
+		if (stringHookOverrides.isEmpty()) {
+			return false;
+		}
+		String markup = null;
+		switch (formComponent) {
+		case HIDDEN:
+			markup = isStringHookOverridden("renderFieldHidden") ? renderFieldHidden(field) : null;
+			break;
+		case TEXT:
+			markup = isStringHookOverridden("renderFieldText") ? renderFieldText(field) : null;
+			break;
+		case TEXT_AREA:
+			markup = isStringHookOverridden("renderFieldTextArea") ? renderFieldTextArea(field) : null;
+			break;
+		case PASSWORD:
+			markup = isStringHookOverridden("renderFieldPassword") ? renderFieldPassword(field) : null;
+			break;
+		case CHECK_BOX:
+			markup = isStringHookOverridden("renderFieldCheckbox") ? renderFieldCheckbox(field) : null;
+			break;
+		case DATE_PICKER:
+			markup = isStringHookOverridden("renderFieldDatePicker") ? renderFieldDatePicker(field) : null;
+			break;
+		case DROP_DOWN_CHOICE:
+			markup = isStringHookOverridden("renderFieldDropDownChoice") ? renderFieldDropDownChoice(field) : null;
+			break;
+		case FILE_UPLOAD:
+			markup = isStringHookOverridden("renderFieldFileUpload") ? renderFieldFileUpload(field) : null;
+			break;
+		case MULTIPLE_CHECK_BOX:
+			markup = isStringHookOverridden("renderFieldMultipleCheckbox") ? renderFieldMultipleCheckbox(field) : null;
+			break;
+		case RADIO_CHOICE:
+			markup = isStringHookOverridden("renderFieldRadioChoice") ? renderFieldRadioChoice(field) : null;
+			break;
+		case COLOR:
+			markup = isStringHookOverridden("renderFieldColor") ? renderFieldColor(field) : null;
+			break;
+		case DATE:
+			markup = isStringHookOverridden("renderFieldDate") ? renderFieldDate(field) : null;
+			break;
+		case DATE_TIME:
+			markup = isStringHookOverridden("renderFieldDateTime") ? renderFieldDateTime(field) : null;
+			break;
+		case DATE_TIME_LOCAL:
+			markup = isStringHookOverridden("renderFieldDateTimeLocal") ? renderFieldDateTimeLocal(field) : null;
+			break;
+		case TIME:
+			markup = isStringHookOverridden("renderFieldTime") ? renderFieldTime(field) : null;
+			break;
+		case EMAIL:
+			markup = isStringHookOverridden("renderFieldEmail") ? renderFieldEmail(field) : null;
+			break;
+		case MONTH:
+			markup = isStringHookOverridden("renderFieldMonth") ? renderFieldMonth(field) : null;
+			break;
+		case NUMBER:
+			markup = isStringHookOverridden("renderFieldNumber") ? renderFieldNumber(field) : null;
+			break;
+		case RANGE:
+			markup = isStringHookOverridden("renderFieldRange") ? renderFieldRange(field) : null;
+			break;
+		case SEARCH:
+			markup = isStringHookOverridden("renderFieldSearch") ? renderFieldSearch(field) : null;
+			break;
+		case TEL:
+			markup = isStringHookOverridden("renderFieldTel") ? renderFieldTel(field) : null;
+			break;
+		case URL:
+			markup = isStringHookOverridden("renderFieldUrl") ? renderFieldUrl(field) : null;
+			break;
+		case WEEK:
+			markup = isStringHookOverridden("renderFieldWeek") ? renderFieldWeek(field) : null;
+			break;
+		case BUTTON:
+			markup = isStringHookOverridden("renderFieldButton") ? renderFieldButton(field) : null;
+			break;
+		case LINK:
+			markup = isStringHookOverridden("renderFieldLink") ? renderFieldLink(field) : null;
+			break;
+		default:
+			break;
+		}
+		if (markup == null) {
+			return false;
+		}
+		out.append(markup);
+		return true;
+	}
+
 	private <T> String getMaxSeverityClass(FormElement<T> mapping) {
 		String maxSevClass = mapping.getMaxSeverityClass();
 		if (maxSevClass != null && !maxSevClass.isEmpty()) {
@@ -845,14 +1941,24 @@ public class FormRenderer {
 		return maxSevClass;
 	}
 	
-	private String renderMarkupOption(String value, String title, boolean selected) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("<option value=\"").append(escapeHtml(value)).append("\"");
+	private <T> String getChoiceTitle(ChoiceRenderer<T> choiceRenderer, T item, int itemIndex) {
+		return escapeHtml(choiceRenderer.getItem(item, itemIndex).getTitle());
+	}
+
+	private <T> String getChoiceValue(ChoiceRenderer<T> choiceRenderer, T item, int itemIndex) {
+		return escapeHtml(choiceRenderer.getItem(item, itemIndex).getId());
+	}
+	
+	private void renderMarkupOption(Appendable out, String value, String title, boolean selected) throws IOException {
+		out.append("<option value=\"");
+		RenderUtils.escapeHtml(out, value);
+		out.append("\"");
 		if (selected) {
-			sb.append(" selected=\"selected\"");
+			out.append(" selected=\"selected\"");
 		}
-		sb.append(">").append(escapeHtml(title)).append("</option>").append(newLine());
-		return sb.toString();
+		out.append(">");
+		RenderUtils.escapeHtml(out, title);
+		out.append("</option>").append(newLine());
 	}
 	
 	private <T> List<T> toSimplyTypedItems(List<? extends T> items) {
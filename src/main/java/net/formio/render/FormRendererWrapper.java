@@ -16,7 +16,10 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
+
 import net.formio.BasicListFormMapping;
+import net.formio.Field;
 import net.formio.FormElement;
 import net.formio.FormField;
 import net.formio.FormMapping;
@@ -26,6 +29,10 @@ import net.formio.validation.ConstraintViolationMessage;
 /**
  * Wrapper of {@link FormRenderer} that allows convenient implementations that are extending
  * {@link FormRenderer}'s functionality. 
+ * Methods writing to {@link Appendable} are delegated to the wrapped renderer (String hooks overridden 
+ * by the wrapped renderer are called in their place, except for hooks wrapping inner markup that 
+ * are used only when the wrapped renderer renders the wrapping element),
+ * methods returning {@link String} are the adapters inherited from {@link FormRenderer}.
  * 
  * @author Radek Beran
  */
@@ -46,53 +53,58 @@ public class FormRendererWrapper extends FormRenderer {
 	 * <p>Visible mapping consists of mapping box with label and nested elements, 
 	 * visible form field consists of field box with label and field envelope (with nested form input).</p>
 	 * 
+	 * @param out
 	 * @param element
-	 * @return
+	 * @throws IOException
 	 */
 	@Override
-	public <T> String renderElement(FormElement<T> element) {
-		return getInnerRenderer().renderElement(element);
+	public <T> void renderElement(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().callRenderElement(out, element);
 	}
 
 	/**
 	 * Renders the element itself without the surrounding placeholder tag.
-	 * If the given element is invisible, returns empty string.
+	 * If the given element is invisible, nothing is written.
+	 * @param out
 	 * @param element
-	 * @return
+	 * @throws IOException
 	 */
 	@Override
-	public <T> String renderElementMarkup(FormElement<T> element) {
-		return getInnerRenderer().renderElementMarkup(element);
+	public <T> void renderElementMarkup(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().callRenderElementMarkup(out, element);
 	}
 		
 	/**
 	 * Renders element in visible state (assuming the element is visible).
+	 * @param out
 	 * @param element
-	 * @return
+	 * @throws IOException
 	 */
 	@Override
-	public <T> String renderVisibleElement(FormElement<T> element) {
-		return getInnerRenderer().renderVisibleElement(element);
+	public <T> void renderVisibleElement(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().callRenderVisibleElement(out, element);
 	}
 
 	/**
 	 * Renders form mapping in visible state (assuming the mapping is visible).
+	 * @param out
 	 * @param mapping
-	 * @return
+	 * @throws IOException
 	 */
 	@Override
-	public <T> String renderVisibleMapping(FormMapping<T> mapping) {
-		return getInnerRenderer().renderVisibleMapping(mapping);
+	public <T> void renderVisibleMapping(Appendable out, FormMapping<T> mapping) throws IOException {
+		getInnerRenderer().callRenderVisibleMapping(out, mapping);
 	}
 
 	/**
 	 * Renders form field in visible state (assuming the field is visible).
+	 * @param out
 	 * @param field
-	 * @return
+	 * @throws IOException
 	 */
 	@Override
-	public <T> String renderVisibleField(FormField<T> field) {
-		return getInnerRenderer().renderVisibleField(field);
+	public <T> void renderVisibleField(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderVisibleField(out, field);
 	}
 
 	/**
@@ -105,83 +117,103 @@ public class FormRendererWrapper extends FormRenderer {
 	}
 	
 	@Override
-	protected <T> String renderMarkupListMapping(BasicListFormMapping<T> listMapping) {
-		return getInnerRenderer().renderMarkupListMapping(listMapping);
+	protected <T> void renderMarkupListMapping(Appendable out, BasicListFormMapping<T> listMapping) throws IOException {
+		getInnerRenderer().callRenderMarkupListMapping(out, listMapping);
 	}
 	
 	@Override
-	protected <T> String renderMarkupElementPlaceholder(FormElement<T> element, String innerMarkup) {
-		return getInnerRenderer().renderMarkupElementPlaceholder(element, innerMarkup);
+	protected <T> void renderMarkupElementPlaceholderBegin(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().renderMarkupElementPlaceholderBegin(out, element);
 	}
 
 	@Override
-	protected <T> String renderMarkupMappingBox(FormMapping<T> mapping, String innerMarkup) {
-		return getInnerRenderer().renderMarkupMappingBox(mapping, innerMarkup);
+	protected <T> void renderMarkupElementPlaceholderEnd(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().renderMarkupElementPlaceholderEnd(out, element);
 	}
 	
 	@Override
-	protected <T> String renderMarkupFormGroup(FormField<T> field, String innerMarkup) {
-		return getInnerRenderer().renderMarkupFormGroup(field, innerMarkup);
+	protected <T> void renderMarkupMappingBoxBegin(Appendable out, FormMapping<T> mapping) throws IOException {
+		getInnerRenderer().renderMarkupMappingBoxBegin(out, mapping);
 	}
 
 	@Override
-	protected <T> String renderMarkupInputEnvelope(FormField<T> field, String innerMarkup) {
-		return getInnerRenderer().renderMarkupInputEnvelope(field, innerMarkup);
+	protected <T> void renderMarkupMappingBoxEnd(Appendable out, FormMapping<T> mapping) throws IOException {
+		getInnerRenderer().renderMarkupMappingBoxEnd(out, mapping);
 	}
 	
 	@Override
-	public <T> String renderMarkupGlobalMessages(FormMapping<T> formMapping) {
-		return getInnerRenderer().renderMarkupGlobalMessages(formMapping);
+	protected <T> void renderMarkupFormGroupBegin(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().renderMarkupFormGroupBegin(out, field);
 	}
 
 	@Override
-	protected <T> String renderMarkupMessageList(FormElement<T> element) {
-		return getInnerRenderer().renderMarkupMessageList(element);
+	protected <T> void renderMarkupFormGroupEnd(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().renderMarkupFormGroupEnd(out, field);
 	}
 
 	@Override
-	protected String renderMarkupMessage(ConstraintViolationMessage msg) {
-		return getInnerRenderer().renderMarkupMessage(msg);
+	protected <T> void renderMarkupInputEnvelopeBegin(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().renderMarkupInputEnvelopeBegin(out, field);
 	}
 
 	@Override
-	protected <T> String renderMarkupMappingLabel(FormMapping<T> mapping) {
-		return getInnerRenderer().renderMarkupMappingLabel(mapping);
+	protected <T> void renderMarkupInputEnvelopeEnd(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().renderMarkupInputEnvelopeEnd(out, field);
 	}
 
 	@Override
-	protected <T> String renderMarkupFieldLabel(FormField<T> field) {
-		return getInnerRenderer().renderMarkupFieldLabel(field);
+	public <T> void renderMarkupGlobalMessages(Appendable out, FormMapping<T> formMapping) throws IOException {
+		getInnerRenderer().callRenderMarkupGlobalMessages(out, formMapping);
 	}
 	
 	@Override
-	protected <T> String renderMarkupTextArea(FormField<T> field) {
-		return getInnerRenderer().renderMarkupTextArea(field);
+	protected <T> void renderMarkupMessageList(Appendable out, FormElement<T> element) throws IOException {
+		getInnerRenderer().callRenderMarkupMessageList(out, element);
 	}
 
 	@Override
-	protected <T> String renderMarkupInput(FormField<T> field) {
-		return getInnerRenderer().renderMarkupInput(field);
+	protected void renderMarkupMessage(Appendable out, ConstraintViolationMessage msg) throws IOException {
+		getInnerRenderer().renderMarkupMessage(out, msg);
 	}
 
 	@Override
-	protected <T> String renderMarkupCheckbox(FormField<T> field) {
-		return getInnerRenderer().renderMarkupCheckbox(field);
+	protected <T> void renderMarkupMappingLabel(Appendable out, FormMapping<T> mapping) throws IOException {
+		getInnerRenderer().callRenderMarkupMappingLabel(out, mapping);
 	}
 
 	@Override
-	protected <T> String renderMarkupSelect(FormField<T> field) {
-		return getInnerRenderer().renderMarkupSelect(field);
+	protected <T> void renderMarkupFieldLabel(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupFieldLabel(out, field);
 	}
 
 	@Override
-	protected <T> String renderMarkupChecks(FormField<T> field) {
-		return getInnerRenderer().renderMarkupChecks(field);
+	protected <T> void renderMarkupTextArea(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupTextArea(out, field);
 	}
 	
 	@Override
-	protected <T> String renderMarkupButton(FormField<T> field) {
-		return getInnerRenderer().renderMarkupButton(field);
+	protected <T> void renderMarkupInput(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupInput(out, field);
+	}
+
+	@Override
+	protected <T> void renderMarkupCheckbox(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupCheckbox(out, field);
+	}
+
+	@Override
+	protected <T> void renderMarkupSelect(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupSelect(out, field);
+	}
+
+	@Override
+	protected <T> void renderMarkupChecks(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupChecks(out, field);
+	}
+	
+	@Override
+	protected <T> void renderMarkupButton(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderMarkupButton(out, field);
 	}
 	
 	/**
@@ -227,130 +259,185 @@ public class FormRendererWrapper extends FormRenderer {
 	}
 
 	@Override
-	protected <T> String renderTextFieldInternal(FormField<T> field) {
-		return getInnerRenderer().renderTextFieldInternal(field);
+	protected <T> void renderTextFieldInternal(Appendable out, FormField<T> field) throws IOException {
+		getInnerRenderer().callRenderTextFieldInternal(out, field);
 	}
 
 	// --- Various field types - begin ---
 
 	@Override
-	protected <T> String renderFieldButton(FormField<T> field) {
-		return getInnerRenderer().renderFieldButton(field);
+	protected <T> void renderFieldButton(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.BUTTON)) {
+			getInnerRenderer().renderFieldButton(out, field);
+		}
+	}
+
+	@Override
+	protected <T> void renderFieldLink(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.LINK)) {
+			getInnerRenderer().renderFieldLink(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldHidden(FormField<T> field) {
-		return getInnerRenderer().renderFieldHidden(field);
+	protected <T> void renderFieldHidden(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.HIDDEN)) {
+			getInnerRenderer().renderFieldHidden(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldText(FormField<T> field) {
-		return getInnerRenderer().renderFieldText(field);
+	protected <T> void renderFieldText(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.TEXT)) {
+			getInnerRenderer().renderFieldText(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldColor(FormField<T> field) {
-		return getInnerRenderer().renderFieldColor(field);
+	protected <T> void renderFieldColor(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.COLOR)) {
+			getInnerRenderer().renderFieldColor(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldDate(FormField<T> field) {
-		return getInnerRenderer().renderFieldDate(field);
+	protected <T> void renderFieldDate(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.DATE)) {
+			getInnerRenderer().renderFieldDate(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldDateTime(FormField<T> field) {
-		return getInnerRenderer().renderFieldDateTime(field);
+	protected <T> void renderFieldDateTime(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.DATE_TIME)) {
+			getInnerRenderer().renderFieldDateTime(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldDateTimeLocal(FormField<T> field) {
-		return getInnerRenderer().renderFieldDateTimeLocal(field);
+	protected <T> void renderFieldDateTimeLocal(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.DATE_TIME_LOCAL)) {
+			getInnerRenderer().renderFieldDateTimeLocal(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldTime(FormField<T> field) {
-		return getInnerRenderer().renderFieldTime(field);
+	protected <T> void renderFieldTime(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.TIME)) {
+			getInnerRenderer().renderFieldTime(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldEmail(FormField<T> field) {
-		return getInnerRenderer().renderFieldEmail(field);
+	protected <T> void renderFieldEmail(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.EMAIL)) {
+			getInnerRenderer().renderFieldEmail(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldMonth(FormField<T> field) {
-		return getInnerRenderer().renderFieldMonth(field);
+	protected <T> void renderFieldMonth(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.MONTH)) {
+			getInnerRenderer().renderFieldMonth(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldNumber(FormField<T> field) {
-		return getInnerRenderer().renderFieldNumber(field);
+	protected <T> void renderFieldNumber(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.NUMBER)) {
+			getInnerRenderer().renderFieldNumber(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldRange(FormField<T> field) {
-		return getInnerRenderer().renderFieldRange(field);
+	protected <T> void renderFieldRange(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.RANGE)) {
+			getInnerRenderer().renderFieldRange(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldSearch(FormField<T> field) {
-		return getInnerRenderer().renderFieldSearch(field);
+	protected <T> void renderFieldSearch(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.SEARCH)) {
+			getInnerRenderer().renderFieldSearch(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldTel(FormField<T> field) {
-		return getInnerRenderer().renderFieldTel(field);
+	protected <T> void renderFieldTel(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.TEL)) {
+			getInnerRenderer().renderFieldTel(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldUrl(FormField<T> field) {
-		return getInnerRenderer().renderFieldUrl(field);
+	protected <T> void renderFieldUrl(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.URL)) {
+			getInnerRenderer().renderFieldUrl(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldWeek(FormField<T> field) {
-		return getInnerRenderer().renderFieldWeek(field);
+	protected <T> void renderFieldWeek(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.WEEK)) {
+			getInnerRenderer().renderFieldWeek(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldTextArea(FormField<T> field) {
-		return getInnerRenderer().renderFieldTextArea(field);
+	protected <T> void renderFieldTextArea(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.TEXT_AREA)) {
+			getInnerRenderer().renderFieldTextArea(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldCheckbox(FormField<T> field) {
-		return getInnerRenderer().renderFieldCheckbox(field);
+	protected <T> void renderFieldCheckbox(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.CHECK_BOX)) {
+			getInnerRenderer().renderFieldCheckbox(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldPassword(FormField<T> field) {
-		return getInnerRenderer().renderFieldPassword(field);
+	protected <T> void renderFieldPassword(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.PASSWORD)) {
+			getInnerRenderer().renderFieldPassword(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldFileUpload(FormField<T> field) {
-		return getInnerRenderer().renderFieldFileUpload(field);
+	protected <T> void renderFieldFileUpload(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.FILE_UPLOAD)) {
+			getInnerRenderer().renderFieldFileUpload(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldDatePicker(FormField<T> field) {
-		return getInnerRenderer().renderFieldDatePicker(field);
+	protected <T> void renderFieldDatePicker(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.DATE_PICKER)) {
+			getInnerRenderer().renderFieldDatePicker(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldDropDownChoice(FormField<T> field) {
-		return getInnerRenderer().renderFieldDropDownChoice(field);
+	protected <T> void renderFieldDropDownChoice(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.DROP_DOWN_CHOICE)) {
+			getInnerRenderer().renderFieldDropDownChoice(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldMultipleCheckbox(FormField<T> field) {
-		return getInnerRenderer().renderFieldMultipleCheckbox(field);
+	protected <T> void renderFieldMultipleCheckbox(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.MULTIPLE_CHECK_BOX)) {
+			getInnerRenderer().renderFieldMultipleCheckbox(out, field);
+		}
 	}
 
 	@Override
-	protected <T> String renderFieldRadioChoice(FormField<T> field) {
-		return getInnerRenderer().renderFieldRadioChoice(field);
+	protected <T> void renderFieldRadioChoice(Appendable out, FormField<T> field) throws IOException {
+		if (!getInnerRenderer().renderFieldByStringHook(out, field, Field.RADIO_CHOICE)) {
+			getInnerRenderer().renderFieldRadioChoice(out, field);
+		}
 	}
 
 	// --- /Various field types - end ---
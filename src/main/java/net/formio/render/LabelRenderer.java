@@ -16,6 +16,8 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
+
 import net.formio.BasicListFormMapping;
 import net.formio.FormElement;
 import net.formio.FormMapping;
@@ -40,8 +42,7 @@ class LabelRenderer {
 		this.styleRenderer = styleRenderer;
 	}
 	
-	protected <T> String renderMappingLabel(FormMapping<T> mapping) {
-		StringBuilder sb = new StringBuilder("");
+	protected <T> void renderMappingLabel(Appendable out, FormMapping<T> mapping) throws IOException {
 		if (mapping.getProperties().isLabelVisible() && !mapping.isRootMapping()) {
 			int colLabelWidth = mapping.getConfig().getColLabelWidth();
 			if (mapping.getProperties().getColLabelWidth() != null) {
@@ -49,35 +50,32 @@ class LabelRenderer {
 			}
 			int colFormWidth = mapping.getConfig().getColFormWidth();
 			if (mapping.getProperties().isFieldsetDisplayed()) {
-				sb.append("<legend class=\"mapping-legend\">").append(renderer.getLabelText(mapping)).append(":</legend>").append(renderer.newLine());
+				out.append("<legend class=\"mapping-legend\">").append(renderer.getLabelText(mapping)).append(":</legend>").append(renderer.newLine());
 			} else {
-				sb.append("<div class=\"row\">").append(renderer.newLine());
-				sb.append("<div class=\"").append(styleRenderer.getFormGroupClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(colFormWidth).append("\">").append(renderer.newLine());
-				sb.append("<div class=\"").append(styleRenderer.getLabelClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(colLabelWidth).append(" mapping-label\">").append(renderer.newLine());
-				sb.append("<label>").append(renderer.getLabelText(mapping)).append(":</label>").append(renderer.newLine());
-				sb.append("</div>").append(renderer.newLine());
-				sb.append("</div>").append(renderer.newLine());
-				sb.append("</div>").append(renderer.newLine());
+				out.append("<div class=\"row\">").append(renderer.newLine());
+				out.append("<div class=\"").append(styleRenderer.getFormGroupClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(String.valueOf(colFormWidth)).append("\">").append(renderer.newLine());
+				out.append("<div class=\"").append(styleRenderer.getLabelClasses()).append(" ").append(styleRenderer.getColWidthClassPrefix()).append(String.valueOf(colLabelWidth)).append(" mapping-label\">").append(renderer.newLine());
+				out.append("<label>").append(renderer.getLabelText(mapping)).append(":</label>").append(renderer.newLine());
+				out.append("</div>").append(renderer.newLine());
+				out.append("</div>").append(renderer.newLine());
+				out.append("</div>").append(renderer.newLine());
 			}
 		}
-		return sb.toString();
 	}
 
-	protected <T> String renderFieldLabel(FormElement<T> element) {
-		StringBuilder sb = new StringBuilder("");
+	protected <T> void renderFieldLabel(Appendable out, FormElement<T> element) throws IOException {
 		int colLabelWidth = element.getParent().getConfig().getColLabelWidth();
 		if (element.getProperties().getColLabelWidth() != null) {
 			colLabelWidth = element.getProperties().getColLabelWidth().intValue(); 
 		}
 		if (element.getProperties().isLabelVisible()) {
-			sb.append("<div class=\"").append(styleRenderer.getColWidthClassPrefix()).append(colLabelWidth).append(" field-label\">").append(renderer.newLine());
-			sb.append("<label for=\"id-").append(element.getName()).append("\" class=\"").append(styleRenderer.getLabelClasses()).append("\">");
-			sb.append(renderer.getLabelText(element));
-			sb.append(":");
-			sb.append("</label>").append(renderer.newLine());
-			sb.append("</div>").append(renderer.newLine());
+			out.append("<div class=\"").append(styleRenderer.getColWidthClassPrefix()).append(String.valueOf(colLabelWidth)).append(" field-label\">").append(renderer.newLine());
+			out.append("<label for=\"id-").append(element.getName()).append("\" class=\"").append(styleRenderer.getLabelClasses()).append("\">");
+			out.append(renderer.getLabelText(element));
+			out.append(":");
+			out.append("</label>").append(renderer.newLine());
+			out.append("</div>").append(renderer.newLine());
 		}
-		return sb.toString();
 	}
 
 	protected <T> String getLabelText(FormElement<T> formElement) {
@@ -16,6 +16,7 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
 import java.util.List;
 
 import net.formio.FormElement;
@@ -37,34 +38,40 @@ class MessageRenderer {
 		this.renderer = renderer;
 	}
 	
-	protected <T> String renderGlobalMessages(FormMapping<T> formMapping) {
-		StringBuilder sb = new StringBuilder();
+	protected <T> void renderGlobalMessages(Appendable out, FormMapping<T> formMapping) throws IOException {
 		ValidationResult validationResult = formMapping.getValidationResult();
 		if (!validationResult.isEmpty() && !validationResult.isSuccess()) {
-			sb.append("<div class=\"alert alert-danger\">").append(renderer.newLine());
-			sb.append("<div>Form contains validation errors.</div>").append(renderer.newLine());
+			out.append("<div class=\"alert alert-danger\">").append(renderer.newLine());
+			out.append("<div>Form contains validation errors.</div>").append(renderer.newLine());
 			for (ConstraintViolationMessage msg : validationResult.getGlobalMessages()) {
-				sb.append(renderer.renderMarkupMessage(msg));
+				renderer.renderMarkupMessage(out, msg);
 			}
-			sb.append("</div>").append(renderer.newLine());
+			out.append("</div>").append(renderer.newLine());
 		}
-		return sb.toString();
 	}
 	
-	protected <T> String renderMessageList(FormElement<T> element) {
-		StringBuilder sb = new StringBuilder();
+	protected <T> void renderMessageList(Appendable out, FormElement<T> element) throws IOException {
 		List<ConstraintViolationMessage> messages = element.getValidationMessages();
 		if (messages != null && !messages.isEmpty()) {
 			for (ConstraintViolationMessage msg : messages) {
-				sb.append(renderer.renderMarkupMessage(msg));
+				renderer.renderMarkupMessage(out, msg);
 			}
 		}
-		return sb.toString();
 	}
 
 	protected String renderMessage(ConstraintViolationMessage msg) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<div class=\"").append(msg.getSeverity().getStyleClass()).append("\">").append(renderer.escapeHtml(msg.getText())).append("</div>").append(renderer.newLine());
+		try {
+			renderMessage(sb, msg);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
 		return sb.toString();
 	}
+	
+	protected void renderMessage(Appendable out, ConstraintViolationMessage msg) throws IOException {
+		out.append("<div class=\"").append(msg.getSeverity().getStyleClass()).append("\">");
+		RenderUtils.escapeHtml(out, msg.getText());
+		out.append("</div>").append(renderer.newLine());
+	}
 }
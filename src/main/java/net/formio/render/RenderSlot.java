@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.render;
+
+/**
+ * Part of the form markup that depends on the filled data of a form element
+ * and must be rendered for each filled form.
+ * @author Radek Beran
+ */
+enum RenderSlot {
+	/** Whole nested element. */
+	ELEMENT,
+	/** Beginning of the box surrounding form mapping (depends on validation messages). */
+	MAPPING_BOX_BEGIN,
+	/** End of the box surrounding form mapping (depends on validation messages). */
+	MAPPING_BOX_END,
+	/** Class of the most severe validation message. */
+	SEVERITY_CLASS,
+	/** Validation messages. */
+	MESSAGES,
+	/** Escaped value of form field. */
+	VALUE,
+	/** Checked attribute of check box. */
+	CHECKED,
+	/** Select with options and their selected state. */
+	SELECT,
+	/** Check boxes or radio buttons with their checked state. */
+	CHECKS,
+	/** Link with its URL. */
+	LINK
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.render;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.formio.BasicListFormMapping;
+import net.formio.FormElement;
+import net.formio.FormField;
+import net.formio.FormMapping;
+
+/**
+ * Markup of form element definition compiled to static fragments interleaved
+ * with slots that are rendered using filled form element.
+ * <p>Thread-safe: Immutable.</p>
+ * @author Radek Beran
+ */
+final class RenderTemplate {
+	private final FormElement<?> definition;
+	private final FormRenderer renderer;
+	/** Compiled fragments; or {@code null} if the element is always rendered dynamically. */
+	private final Fragment[] fragments;
+	
+	private RenderTemplate(FormRenderer renderer, FormElement<?> definition, Fragment[] fragments) {
+		this.renderer = renderer;
+		this.definition = definition;
+		this.fragments = fragments;
+	}
+	
+	/**
+	 * Compiles markup of given form element definition rendered by given renderer.
+	 * @param renderer
+	 * @param definition
+	 * @return
+	 */
+	static <T> RenderTemplate compile(FormRenderer renderer, FormElement<T> definition) {
+		Fragment[] fragments = null;
+		// list mapping has variable count of nested mappings (and items count in label)
+		if (!(definition instanceof BasicListFormMapping)) {
+			Builder builder = new Builder();
+			try {
+				renderer.renderElement(builder, definition);
+			} catch (IOException ex) {
+				throw RenderUtils.unexpectedIOException(ex);
+			}
+			fragments = builder.build();
+		}
+		return new RenderTemplate(renderer, definition, fragments);
+	}
+	
+	/**
+	 * Returns true if compiled markup can be used for given filled element.
+	 * @param element
+	 * @return
+	 */
+	<T> boolean isApplicable(FormElement<T> element) {
+		return fragments != null && definition.getProperties().equals(element.getProperties());
+	}
+	
+	/**
+	 * Writes given filled element using compiled markup, or renders it dynamically
+	 * if the compiled markup cannot be used.
+	 * @param out
+	 * @param element
+	 * @throws IOException
+	 */
+	<T> void render(Appendable out, FormElement<T> element) throws IOException {
+		if (!isApplicable(element)) {
+			renderer.renderSlot(out, element, RenderSlot.ELEMENT);
+			return;
+		}
+		for (Fragment f : fragments) {
+			if (f.markup != null) {
+				out.append(f.markup);
+			} else if (f.nested != null) {
+				FormElement<?> nestedElement = f.nested.findFilledElement((FormMapping<?>)element);
+				if (nestedElement != null) {
+					f.nested.render(out, nestedElement);
+				}
+			} else {
+				f.renderer.renderSlot(out, element, f.slot);
+			}
+		}
+	}
+	
+	private FormElement<?> findFilledElement(FormMapping<?> filledParent) {
+		FormElement<?> element = null;
+		if (definition instanceof FormField) {
+			element = filledParent.getFields().get(definition.getPropertyName());
+		} else {
+			element = filledParent.getNested().get(definition.getPropertyName());
+		}
+		return element;
+	}
+	
+	private static final class Fragment {
+		final String markup;
+		final RenderSlot slot;
+		final FormRenderer renderer;
+		final RenderTemplate nested;
+		
+		Fragment(String markup, RenderSlot slot, FormRenderer renderer, RenderTemplate nested) {
+			this.markup = markup;
+			this.slot = slot;
+			this.renderer = renderer;
+			this.nested = nested;
+		}
+	}
+	
+	/**
+	 * Output that records static markup of form definition and slots
+	 * for the dynamic parts.
+	 */
+	static final class Builder implements Appendable {
+		private final List<Fragment> fragments = new ArrayList<Fragment>();
+		private final StringBuilder markup = new StringBuilder();
+		
+		<T> void addSlot(FormRenderer renderer, FormElement<T> element, RenderSlot slot) {
+			flushMarkup();
+			if (slot == RenderSlot.ELEMENT) {
+				fragments.add(new Fragment(null, null, renderer, compile(renderer, element)));
+			} else {
+				fragments.add(new Fragment(null, slot, renderer, null));
+			}
+		}
+		
+		@Override
+		public Appendable append(CharSequence csq) {
+			markup.append(csq);
+			return this;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) {
+			markup.append(csq, start, end);
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			markup.append(c);
+			return this;
+		}
+		
+		Fragment[] build() {
+			flushMarkup();
+			return fragments.toArray(new Fragment[fragments.size()]);
+		}
+		
+		private void flushMarkup() {
+			if (markup.length() > 0) {
+				fragments.add(new Fragment(markup.toString(), null, null, null));
+				markup.setLength(0);
+			}
+		}
+	}
+}
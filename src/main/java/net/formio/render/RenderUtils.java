@@ -16,7 +16,16 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import net.formio.FormElement;
 import net.formio.FormMapping;
@@ -49,54 +58,153 @@ public class RenderUtils {
 		if (s == null || s.isEmpty()) {
 			return "";
 		}
-		StringBuffer sb = new StringBuffer();
-		for (int i = 0; i < s.length(); i++) {
-			char c = s.charAt(i);
-			switch (c) {
-				case '<':
-					sb.append("&lt;");
-					break;
-				case '>':
-					sb.append("&gt;");
-					break;
-				case '&':
-					sb.append("&amp;");
-					break;
-				case '"':
-					sb.append("&#034;");
-					break;
-				case '\'':
-					sb.append("&#039;");
-					break;
-				case '(':
-					sb.append("&#040;");
-					break;
-				case ')':
-					sb.append("&#041;");
-					break;
-				case '#':
-					sb.append("&#035;");
-					break;
-				case '%':
-					sb.append("&#037;");
-					break;
-				case ';':
-					sb.append("&#059;");
-					break;
-				case '+':
-					sb.append("&#043;");
-					break;
-				case '-':
-					sb.append("&#045;");
-					break;
-				default:
-					sb.append(c);
-					break;
-			}
+		int firstEscaped = 0;
+		while (firstEscaped < s.length() && getHtmlEntity(s.charAt(firstEscaped)) == null) {
+			firstEscaped++;
+		}
+		if (firstEscaped == s.length()) {
+			// nothing to escape
+			return s;
+		}
+		StringBuilder sb = new StringBuilder(s.length() + 16);
+		sb.append(s, 0, firstEscaped);
+		try {
+			appendEscapedHtml(sb, s, firstEscaped);
+		} catch (IOException ex) {
+			throw unexpectedIOException(ex);
 		}
 		return sb.toString();
 	}
 	
+	/**
+	 * Writes escaped HTML (HTML text converted to XML entities) to given output.
+	 * Escape using XSS recommendations from https://www.owasp.org/index.php/Cross_Site_Scripting
+	 * @param out
+	 * @param s
+	 * @throws IOException
+	 */
+	public static void escapeHtml(Appendable out, String s) throws IOException {
+		if (s != null && !s.isEmpty()) {
+			appendEscapedHtml(out, s, 0);
+		}
+	}
+	
+	private static void appendEscapedHtml(Appendable out, String s, int from) throws IOException {
+		int unescapedFrom = from;
+		for (int i = from; i < s.length(); i++) {
+			String entity = getHtmlEntity(s.charAt(i));
+			if (entity != null) {
+				out.append(s, unescapedFrom, i).append(entity);
+				unescapedFrom = i + 1;
+			}
+		}
+		out.append(s, unescapedFrom, s.length());
+	}
+	
+	/**
+	 * Returns exception for {@link IOException} that cannot occur (when writing to a {@link StringBuilder}).
+	 * @param ex
+	 * @return
+	 */
+	public static IllegalStateException unexpectedIOException(IOException ex) {
+		return new IllegalStateException("Unexpected I/O error while rendering to a string: " + ex.getMessage(), ex);
+	}
+	
+	/**
+	 * Returns names of methods returning {@link String} that are declared by given base class 
+	 * (or its subclass that is a superclass of given type) and overridden in given type or its superclass. 
+	 * Only the methods that are adapters of a method with the same name writing to {@link Appendable} 
+	 * or deprecated methods are considered - String hooks that are called in place of the {@link Appendable} 
+	 * variants when they are overridden by existing subclasses.
+	 * @param type class of the renderer
+	 * @param baseClass class on which the search of declared methods ends
+	 * @return names of overridden String hooks
+	 */
+	public static Set<String> getOverriddenStringHooks(Class<?> type, Class<?> baseClass) {
+		List<Class<?>> hierarchy = new ArrayList<Class<?>>();
+		for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+			hierarchy.add(cls);
+			if (cls.equals(baseClass)) {
+				break;
+			}
+		}
+		Set<String> names = new HashSet<String>();
+		for (int i = 1; i < hierarchy.size(); i++) {
+			Class<?> declaringClass = hierarchy.get(i);
+			for (Method m : declaringClass.getDeclaredMethods()) {
+				if (isStringHook(declaringClass, m)) {
+					for (int j = 0; j < i; j++) {
+						if (declaresMethod(hierarchy.get(j), m)) {
+							names.add(m.getName());
+							break;
+						}
+					}
+				}
+			}
+		}
+		return names.isEmpty() ? Collections.<String>emptySet() : Collections.unmodifiableSet(names);
+	}
+	
+	private static boolean isStringHook(Class<?> declaringClass, Method m) {
+		if (!String.class.equals(m.getReturnType()) || m.isSynthetic() 
+			|| Modifier.isStatic(m.getModifiers()) || Modifier.isPrivate(m.getModifiers())) {
+			return false;
+		}
+		if (m.isAnnotationPresent(Deprecated.class)) {
+			return true;
+		}
+		for (Method appendableVariant : declaringClass.getDeclaredMethods()) {
+			Class<?>[] paramTypes = appendableVariant.getParameterTypes();
+			if (appendableVariant.getName().equals(m.getName()) 
+				&& paramTypes.length == m.getParameterTypes().length + 1
+				&& Appendable.class.equals(paramTypes[0])
+				&& Arrays.equals(Arrays.copyOfRange(paramTypes, 1, paramTypes.length), m.getParameterTypes())) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static boolean declaresMethod(Class<?> cls, Method m) {
+		try {
+			cls.getDeclaredMethod(m.getName(), m.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+	
+	private static String getHtmlEntity(char c) {
+		switch (c) {
+			case '<':
+				return "&lt;";
+			case '>':
+				return "&gt;";
+			case '&':
+				return "&amp;";
+			case '"':
+				return "&#034;";
+			case '\'':
+				return "&#039;";
+			case '(':
+				return "&#040;";
+			case ')':
+				return "&#041;";
+			case '#':
+				return "&#035;";
+			case '%':
+				return "&#037;";
+			case ';':
+				return "&#059;";
+			case '+':
+				return "&#043;";
+			case '-':
+				return "&#045;";
+			default:
+				return null;
+		}
+	}
+	
 	/**
 	 * Returns translator of message keys to localized messages for given form element.
 	 * @param element
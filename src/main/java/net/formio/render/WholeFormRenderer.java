@@ -16,6 +16,8 @@
  */
 package net.formio.render;
 
+import java.io.IOException;
+
 import net.formio.Field;
 import net.formio.FormField;
 import net.formio.FormMapping;
@@ -37,64 +39,88 @@ public class WholeFormRenderer extends FormRendererWrapper {
 	
 	public <T> String renderHtmlFormPage(FormMapping<T> formMapping) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<!DOCTYPE html>").append(newLine());
-		sb.append("<html lang=\"en\">").append(newLine());
-		sb.append("<head>").append(newLine());
-		sb.append("<meta charset=\"utf-8\">").append(newLine());
-		sb.append("<meta http-equiv=\"X-UA-Compatible\" content=\"IE=edge\">").append(newLine());
-		sb.append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">").append(newLine());
-		sb.append("<title>Form rendering test</title>").append(newLine());
+		try {
+			renderHtmlFormPage(sb, formMapping);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	public <T> void renderHtmlFormPage(Appendable out, FormMapping<T> formMapping) throws IOException {
+		out.append("<!DOCTYPE html>").append(newLine());
+		out.append("<html lang=\"en\">").append(newLine());
+		out.append("<head>").append(newLine());
+		out.append("<meta charset=\"utf-8\">").append(newLine());
+		out.append("<meta http-equiv=\"X-UA-Compatible\" content=\"IE=edge\">").append(newLine());
+		out.append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">").append(newLine());
+		out.append("<title>Form rendering test</title>").append(newLine());
 
 		// Bootstrap CSS and JavaScript
-		sb.append("<!-- Latest compiled and minified CSS -->").append(newLine());
-		sb.append("<link rel=\"stylesheet\" href=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/css/bootstrap.min.css\">").append(newLine());
+		out.append("<!-- Latest compiled and minified CSS -->").append(newLine());
+		out.append("<link rel=\"stylesheet\" href=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/css/bootstrap.min.css\">").append(newLine());
 
-		sb.append("<!-- JQuery UI for datepicker -->").append(newLine());
-		sb.append("<link rel=\"stylesheet\" href=\"http://ajax.googleapis.com/ajax/libs/jqueryui/1.10.3/themes/ui-lightness/jquery-ui.min.css\">");
-		sb.append("<!-- Optional theme -->").append(newLine());
-		sb.append("<link rel=\"stylesheet\" href=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/css/bootstrap-theme.min.css\">").append(newLine());
+		out.append("<!-- JQuery UI for datepicker -->").append(newLine());
+		out.append("<link rel=\"stylesheet\" href=\"http://ajax.googleapis.com/ajax/libs/jqueryui/1.10.3/themes/ui-lightness/jquery-ui.min.css\">");
+		out.append("<!-- Optional theme -->").append(newLine());
+		out.append("<link rel=\"stylesheet\" href=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/css/bootstrap-theme.min.css\">").append(newLine());
 
-		sb.append("<!-- jQuery (necessary for Bootstrap's JavaScript plugins) -->").append(newLine());
-		sb.append("<script src=\"https://ajax.googleapis.com/ajax/libs/jquery/1.11.1/jquery.min.js\"></script>").append(newLine());
-		sb.append("<!-- jQuery UI -->").append(newLine());
-		sb.append("<script src=\"http://ajax.googleapis.com/ajax/libs/jqueryui/1.10.3/jquery-ui.min.js\"></script>").append(newLine());
-		sb.append("<!-- Latest compiled and minified JavaScript -->").append(newLine());
-		sb.append("<script src=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/js/bootstrap.min.js\"></script>").append(newLine());
+		out.append("<!-- jQuery (necessary for Bootstrap's JavaScript plugins) -->").append(newLine());
+		out.append("<script src=\"https://ajax.googleapis.com/ajax/libs/jquery/1.11.1/jquery.min.js\"></script>").append(newLine());
+		out.append("<!-- jQuery UI -->").append(newLine());
+		out.append("<script src=\"http://ajax.googleapis.com/ajax/libs/jqueryui/1.10.3/jquery-ui.min.js\"></script>").append(newLine());
+		out.append("<!-- Latest compiled and minified JavaScript -->").append(newLine());
+		out.append("<script src=\"https://maxcdn.bootstrapcdn.com/bootstrap/3.3.1/js/bootstrap.min.js\"></script>").append(newLine());
 
-		sb.append("<script>").append(newLine());
-		sb.append("$(function(){").append(newLine());
-		sb.append("	$.datepicker.setDefaults(").append(newLine());
-		sb.append("	  $.extend($.datepicker.regional[''])").append(newLine());
-		sb.append(");").append(newLine());
-		sb.append("});").append(newLine());
-		sb.append("</script>").append(newLine());
+		out.append("<script>").append(newLine());
+		out.append("$(function(){").append(newLine());
+		out.append("	$.datepicker.setDefaults(").append(newLine());
+		out.append("	  $.extend($.datepicker.regional[''])").append(newLine());
+		out.append(");").append(newLine());
+		out.append("});").append(newLine());
+		out.append("</script>").append(newLine());
 
-		sb.append("<style>").append(newLine());
-		sb.append(".field-label, .mapping-label { text-align: right; }").append(newLine());
-		sb.append("</style>").append(newLine());
+		out.append("<style>").append(newLine());
+		out.append(".field-label, .mapping-label { text-align: right; }").append(newLine());
+		out.append("</style>").append(newLine());
 
-		sb.append("</head>").append(newLine());
-		sb.append("<body style=\"margin:1em\">").append(newLine());
+		out.append("</head>").append(newLine());
+		out.append("<body style=\"margin:1em\">").append(newLine());
 
-		sb.append(renderHtmlForm(formMapping, "#", FormMethod.POST));
+		if (isStringHookOverridden("renderHtmlForm")) {
+			out.append(renderHtmlForm(formMapping, "#", FormMethod.POST));
+		} else {
+			renderHtmlForm(out, formMapping, "#", FormMethod.POST);
+		}
 
-		sb.append("</body>").append(newLine());
-		sb.append("</html>").append(newLine());
-		return sb.toString();
+		out.append("</body>").append(newLine());
+		out.append("</html>").append(newLine());
 	}
 
 	public <T> String renderHtmlForm(FormMapping<T> formMapping, String actionUrl, FormMethod method) {
 		StringBuilder sb = new StringBuilder();
-		sb.append("<form action=\"").append(actionUrl).append("\" method=\"").append(method.name()).append("\" role=\"form\">").append(newLine());
+		try {
+			renderHtmlForm(sb, formMapping, actionUrl, method);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	public <T> void renderHtmlForm(Appendable out, FormMapping<T> formMapping, String actionUrl, FormMethod method) throws IOException {
+		out.append("<form action=\"").append(actionUrl).append("\" method=\"").append(method.name()).append("\" role=\"form\">").append(newLine());
 		if (formMapping.isVisible()) {
-			sb.append(renderMarkupGlobalMessages(formMapping));
-			sb.append(renderElement(formMapping));
+			callRenderMarkupGlobalMessages(out, formMapping);
+			callRenderElement(out, formMapping);
 			if (!containsSubmitButton(formMapping)) {
-				sb.append(renderDefaultSubmitButton());
+				if (isStringHookOverridden("renderDefaultSubmitButton")) {
+					out.append(renderDefaultSubmitButton());
+				} else {
+					renderDefaultSubmitButton(out);
+				}
 			}
 		}
-		sb.append("</form>").append(newLine());
-		return sb.toString();
+		out.append("</form>").append(newLine());
 	}
 	
 	protected <T> boolean containsSubmitButton(FormMapping<T> mapping) {
@@ -111,9 +137,22 @@ public class WholeFormRenderer extends FormRendererWrapper {
 	}
 	
 	protected String renderDefaultSubmitButton() {
-		return renderFieldButton(Forms.<String> field(
+		StringBuilder sb = new StringBuilder();
+		try {
+			renderDefaultSubmitButton(sb);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
+		}
+		return sb.toString();
+	}
+	
+	protected void renderDefaultSubmitButton(Appendable out) throws IOException {
+		FormField<String> button = Forms.<String> field(
 			PROPERTY_DEFAULT_SUBMIT,
-			Field.BUTTON.getType()).build());
+			Field.BUTTON.getType()).build();
+		if (!renderFieldByStringHook(out, button, Field.BUTTON)) {
+			renderFieldButton(out, button);
+		}
 	}
 	
 	private final String PROPERTY_DEFAULT_SUBMIT = "_defaultSubmitButton";
@@ -16,9 +16,11 @@
  */
 package net.formio.render.tdi;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import net.formio.AbstractFormElement;
 import net.formio.FormElement;
@@ -31,12 +33,29 @@ import net.formio.render.RenderUtils;
  */
 public class TdiResponseBuilder {
 	
+	private static final ClassValue<Set<String>> BUILDER_STRING_HOOK_OVERRIDES = new ClassValue<Set<String>>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			return RenderUtils.getOverriddenStringHooks(type, TdiResponseBuilder.class);
+		}
+	};
+	private static final ClassValue<Set<String>> RENDERER_STRING_HOOK_OVERRIDES = new ClassValue<Set<String>>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			return RenderUtils.getOverriddenStringHooks(type, FormRenderer.class);
+		}
+	};
+	
 	private final FormRenderer renderer;
-	private final List<String> instructions;
+	private final List<Instruction> instructions;
+	private boolean statusFound;
+	// Names of String hooks overridden by subclass
+	private final Set<String> stringHookOverrides;
 	
 	public TdiResponseBuilder(FormRenderer renderer) {
 		this.renderer = renderer;
-		this.instructions = new ArrayList<String>();
+		this.instructions = new ArrayList<Instruction>();
+		this.stringHookOverrides = BUILDER_STRING_HOOK_OVERRIDES.get(getClass());
 	}
 	
 	public TdiResponseBuilder() {
@@ -51,7 +70,7 @@ public class TdiResponseBuilder {
 	 * @return
 	 */
 	public TdiResponseBuilder status(String status) {
-		instructions.add(getStatus(status));
+		addInstruction(getStatus(status));
 		return this;
 	}
 	
@@ -64,7 +83,7 @@ public class TdiResponseBuilder {
 	 * @return
 	 */
 	public TdiResponseBuilder script(String script, String src, String id) {
-		instructions.add(getScript(script, src, id));
+		addInstruction(getScript(script, src, id));
 		return this;
 	}
 	
@@ -117,8 +136,14 @@ public class TdiResponseBuilder {
 		if (element == null) {
 			throw new IllegalArgumentException("inserted element cannot be null");
 		}
-		// Render all element, including element placeholder tag
-		return insert(position, targetElementId, renderElement(element));
+		checkInsertTarget(position, targetElementId);
+		// Render all element, including element placeholder tag,
+		// the element is rendered not until the response is written
+		instructions.add(new Instruction(
+			renderInsertBeginTag(position, targetElementId) + renderCDataBegin(),
+			element, true,
+			renderCDataEnd() + renderInsertEndTag()));
+		return this;
 	}
 	
 	/**
@@ -130,18 +155,13 @@ public class TdiResponseBuilder {
 	 * @return
 	 */
 	public TdiResponseBuilder insert(InsertionPosition position, String targetElementId, String contentMarkup) {
-		if (position == null) {
-			throw new IllegalArgumentException("insertion position cannot be null");
-		}
-		if (targetElementId == null || targetElementId.isEmpty()) {
-			throw new IllegalArgumentException("targetElementId must be specified");
-		}
+		checkInsertTarget(position, targetElementId);
 		String str = renderInsertBeginTag(position, targetElementId) +
 			renderCDataBegin() +
 			contentMarkup +
 			renderCDataEnd() +
 			renderInsertEndTag();
-		instructions.add(str);
+		addInstruction(str);
 		return this;
 	}
 	
@@ -154,7 +174,13 @@ public class TdiResponseBuilder {
 		if (element == null) {
 			throw new IllegalArgumentException("updated element cannot be null");
 		}
-		return update(AbstractFormElement.getElementPlaceholderId(element.getName(), element.getConfig().getPathSeparator()), renderElementMarkup(element));
+		String elementId = AbstractFormElement.getElementPlaceholderId(element.getName(), element.getConfig().getPathSeparator());
+		// the element is rendered not until the response is written
+		instructions.add(new Instruction(
+			renderUpdateBeginTag(elementId) + renderCDataBegin(),
+			element, false,
+			renderCDataEnd() + renderUpdateEndTag()));
+		return this;
 	}
 	
 	/**
@@ -169,7 +195,7 @@ public class TdiResponseBuilder {
 			elementMarkup +
 			renderCDataEnd() +
 			renderUpdateEndTag();
-		instructions.add(str);
+		addInstruction(str);
 		return this;
 	}
 	
@@ -202,7 +228,7 @@ public class TdiResponseBuilder {
 	 * @return
 	 */
 	public TdiResponseBuilder reload() {
-		instructions.add("<reload></reload>" + newLine());
+		addInstruction("<reload></reload>" + newLine());
 		return this;
 	}
 	
@@ -213,7 +239,7 @@ public class TdiResponseBuilder {
 	 * @return
 	 */
 	public TdiResponseBuilder redirect(String url) {
-		instructions.add("<redirect href=\"" + url + "\"></redirect>" + newLine());
+		addInstruction("<redirect href=\"" + url + "\"></redirect>" + newLine());
 		return this;
 	}
 
@@ -223,24 +249,29 @@ public class TdiResponseBuilder {
 	 */
 	public String asString() {
 		StringBuilder sb = new StringBuilder();
-		sb.append(renderXmlDeclaration()).append(renderResponseBeginTag());
-		boolean statusFound = false;
-		for (String i : instructions) {
-			if (i.contains("<" + getStatusTagName())) {
-				statusFound = true;
-				break;
-			}
+		try {
+			writeTo(sb);
+		} catch (IOException ex) {
+			throw RenderUtils.unexpectedIOException(ex);
 		}
-		List<String> completeInstructions = new ArrayList<String>();
+		return sb.toString();
+	}
+	
+	/**
+	 * Writes AJAX response to given output (e.g. {@link java.io.Writer} of HTTP response).
+	 * Inserted and updated form elements are rendered directly to the output.
+	 * @param out
+	 * @throws IOException
+	 */
+	public void writeTo(Appendable out) throws IOException {
+		out.append(renderXmlDeclaration()).append(renderResponseBeginTag());
 		if (!statusFound) {
-			completeInstructions.add(getStatus("OK"));
+			out.append(getStatus("OK"));
 		}
-		completeInstructions.addAll(instructions);
-		for (String i : completeInstructions) {
-			sb.append(i);
+		for (Instruction i : instructions) {
+			i.writeTo(out, this);
 		}
-		sb.append(renderResponseEndTag());
-		return sb.toString();
+		out.append(renderResponseEndTag());
 	}
 	
 	protected String renderXmlDeclaration() {
@@ -286,20 +317,82 @@ public class TdiResponseBuilder {
 		return renderer;
 	}
 	
+	/**
+	 * Returns markup of instructions added so far (form elements are rendered by this call).
+	 * @return
+	 */
 	protected List<String> getInstructions() {
-		return instructions;
+		List<String> markups = new ArrayList<String>();
+		for (Instruction i : instructions) {
+			StringBuilder sb = new StringBuilder();
+			try {
+				i.writeTo(sb, this);
+			} catch (IOException ex) {
+				throw RenderUtils.unexpectedIOException(ex);
+			}
+			markups.add(sb.toString());
+		}
+		return markups;
 	}
 	
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderElementMarkup(Appendable, FormElement)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderElementMarkup(FormElement<T> element) {
 		if (getRenderer() == null) return "";
 		return getRenderer().renderElementMarkup(element);
 	}
 	
+	protected <T> void renderElementMarkup(Appendable out, FormElement<T> element) throws IOException {
+		if (getRenderer() != null) {
+			if (isRendererStringHookOverridden("renderElementMarkup")) {
+				out.append(getRenderer().renderElementMarkup(element));
+			} else {
+				getRenderer().renderElementMarkup(out, element);
+			}
+		}
+	}
+	
+	/**
+	 * @deprecated Adapter rendering to a string, called in place of the Appendable variant only if it is overridden. Override {@link #renderElement(Appendable, FormElement)} instead.
+	 */
+	@Deprecated
 	protected <T> String renderElement(FormElement<T> element) {
 		if (getRenderer() == null) return "";
 		return getRenderer().renderElement(element);
 	}
 	
+	protected <T> void renderElement(Appendable out, FormElement<T> element) throws IOException {
+		if (getRenderer() != null) {
+			if (isRendererStringHookOverridden("renderElement")) {
+				out.append(getRenderer().renderElement(element));
+			} else {
+				getRenderer().renderElement(out, element);
+			}
+		}
+	}
+	
+	private boolean isRendererStringHookOverridden(String hookName) {
+		return RENDERER_STRING_HOOK_OVERRIDES.get(getRenderer().getClass()).contains(hookName);
+	}
+	
+	private void addInstruction(String markup) {
+		if (markup.contains("<" + getStatusTagName())) {
+			statusFound = true;
+		}
+		instructions.add(new Instruction(markup, null, false, null));
+	}
+	
+	private void checkInsertTarget(InsertionPosition position, String targetElementId) {
+		if (position == null) {
+			throw new IllegalArgumentException("insertion position cannot be null");
+		}
+		if (targetElementId == null || targetElementId.isEmpty()) {
+			throw new IllegalArgumentException("targetElementId must be specified");
+		}
+	}
+	
 	private String newLine() {
 		return System.getProperty("line.separator");
 	}
@@ -328,4 +421,44 @@ public class TdiResponseBuilder {
 	private String getStatusTagName() {
 		return "status";
 	}
+	
+	/**
+	 * Instruction of TDI response - static markup, optionally surrounding
+	 * form element that is rendered when the response is written.
+	 */
+	private static final class Instruction {
+		private final String beginMarkup;
+		private final FormElement<?> element;
+		private final boolean withPlaceholder;
+		private final String endMarkup;
+		
+		Instruction(String beginMarkup, FormElement<?> element, boolean withPlaceholder, String endMarkup) {
+			this.beginMarkup = beginMarkup;
+			this.element = element;
+			this.withPlaceholder = withPlaceholder;
+			this.endMarkup = endMarkup;
+		}
+		
+		void writeTo(Appendable out, TdiResponseBuilder builder) throws IOException {
+			out.append(beginMarkup);
+			if (element != null) {
+				if (withPlaceholder) {
+					if (builder.stringHookOverrides.contains("renderElement")) {
+						out.append(builder.renderElement(element));
+					} else {
+						builder.renderElement(out, element);
+					}
+				} else {
+					if (builder.stringHookOverrides.contains("renderElementMarkup")) {
+						out.append(builder.renderElementMarkup(element));
+					} else {
+						builder.renderElementMarkup(out, element);
+					}
+				}
+			}
+			if (endMarkup != null) {
+				out.append(endMarkup);
+			}
+		}
+	}
 }
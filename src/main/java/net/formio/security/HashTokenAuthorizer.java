@@ -16,6 +16,9 @@
  */
 package net.formio.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 /**
  * Implementation of {@link TokenAuthorizer} using hash-based tokens. Immutable.
  * @author Radek Beran
@@ -38,7 +41,7 @@ public class HashTokenAuthorizer extends AbstractTokenAuthorizer {
 		if (secret == null || secret.isEmpty()) return false;
 		long tokenTime = getTimeFromToken(token);
 		String reconstructedToken = tokenFromSecretAndTime(secret, tokenTime);
-		if (!token.equals(reconstructedToken)) {
+		if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), reconstructedToken.getBytes(StandardCharsets.UTF_8))) {
 			// input token was not constructed using the same secret
 			return false;
 		}
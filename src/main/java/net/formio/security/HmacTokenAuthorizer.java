@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Implementation of {@link TokenAuthorizer} using tokens signed by HMAC (HmacSHA256 by default).
+ * Token consists of URL-safe Base64 encoded signature of token time and of the time itself.
+ * Signatures are compared in constant time. {@link Mac} instances are reused by each thread. Immutable.
+ * @author Radek Beran
+ */
+public class HmacTokenAuthorizer extends AbstractTokenAuthorizer {
+	
+	private static final String TOKEN_PART_SEPARATOR = "_";
+	
+	private final ThreadLocal<Mac> macs = new ThreadLocal<Mac>();
+	
+	@Override
+	public String generateToken(String secret) {
+		if (secret == null || secret.isEmpty()) throw new IllegalArgumentException("secret cannot be empty");
+		return tokenFromSecretAndTime(secret, System.currentTimeMillis());
+	}
+
+	@Override
+	public boolean isValidToken(String token, String secret) {
+		if (token == null || token.isEmpty()) return false;
+		if (secret == null || secret.isEmpty()) return false;
+		int idxOfSep = token.lastIndexOf(TOKEN_PART_SEPARATOR);
+		if (idxOfSep <= 0) return false;
+		long tokenTime;
+		byte[] signature;
+		try {
+			tokenTime = Long.parseLong(token.substring(idxOfSep + TOKEN_PART_SEPARATOR.length()));
+			signature = Base64.getUrlDecoder().decode(token.substring(0, idxOfSep));
+		} catch (IllegalArgumentException ex) {
+			// malformed time or signature (NumberFormatException is IllegalArgumentException)
+			return false;
+		}
+		if (!MessageDigest.isEqual(signature, sign(secret, tokenTime))) {
+			// input token was not constructed using the same secret
+			return false;
+		}
+		long currentTime = System.currentTimeMillis();
+		if (Math.abs(currentTime - tokenTime) > getMaxAllowedTimeDifference()) {
+			// validity of input token has expired
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns name of MAC algorithm used to sign tokens.
+	 * @return
+	 */
+	protected String getMacAlgorithm() {
+		return "HmacSHA256";
+	}
+	
+	/**
+	 * Returns maximum allowed difference between time of token generation
+	 * and time of token validation in milliseconds.
+	 * @return
+	 */
+	protected long getMaxAllowedTimeDifference() {
+		return 6 * 60 * 60 * 1000; // 6 h
+	}
+	
+	String tokenFromSecretAndTime(String secret, long time) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(secret, time)) + TOKEN_PART_SEPARATOR + time;
+	}
+	
+	private byte[] sign(String secret, long time) {
+		try {
+			Mac mac = macs.get();
+			if (mac == null) {
+				mac = Mac.getInstance(getMacAlgorithm());
+				macs.set(mac);
+			}
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), getMacAlgorithm()));
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				mac.update((byte)(time >>> shift));
+			}
+			return mac.doFinal();
+		} catch (GeneralSecurityException ex) {
+			throw new SecurityException(ex.getMessage(), ex);
+		}
+	}
+}
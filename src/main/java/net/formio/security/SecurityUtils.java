@@ -17,6 +17,8 @@
 package net.formio.security;
 
 import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
 
 /**
  * Security utilities.
@@ -29,6 +31,9 @@ public final class SecurityUtils {
 		'4', '5', '6', '7',
 		'8', '9', 'a', 'b',
 		'c', 'd', 'e', 'f',};
+	
+	/** Shared generator (SecureRandom is thread-safe), default algorithm does not block waiting for entropy. */
+	private static final SecureRandom RANDOM = new SecureRandom();
 
 	/**
 	 * Computes hash using the given algorithm. 
@@ -48,6 +53,18 @@ public final class SecurityUtils {
         }
     }
     
+    /**
+     * Generates random secret with given count of random bytes.
+     * @param byteCount count of random bytes
+     * @return random bytes encoded using URL-safe Base64 encoding without padding
+     */
+    public static String generateSecret(int byteCount) {
+    	if (byteCount <= 0) throw new IllegalArgumentException("byteCount must be positive");
+    	byte[] bytes = new byte[byteCount];
+    	RANDOM.nextBytes(bytes);
+    	return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
     /**
      * Turns array of bytes into string representing each byte as
      * unsigned hex number.
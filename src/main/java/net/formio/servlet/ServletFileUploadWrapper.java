@@ -26,6 +26,8 @@ import javax.servlet.http.HttpServletRequestWrapper;
 import net.formio.upload.MultipartRequestPreprocessor;
 import net.formio.upload.RequestProcessingError;
 import net.formio.upload.RequestUploadedFile;
+import net.formio.upload.UploadSink;
+import net.formio.upload.UploadedFile;
 
 import org.apache.commons.fileupload.FileItem;
 
@@ -60,6 +62,25 @@ class ServletFileUploadWrapper extends HttpServletRequestWrapper {
 		);
 		this.reqPreprocessor = reqPreprocessor;
 	}
+	
+	/**
+	 * Wrapper which preprocesses multipart request in streaming mode.
+	 * @param req request
+	 * @param defaultEncoding header and request parameter encoding 
+	 * @param uploadSink destination of uploaded files
+	 * @param totalSizeMax maximum allowed size of the whole request in bytes
+	 * @param singleFileSizeMax maximum allowed size of a single uploaded file
+	 */
+	public ServletFileUploadWrapper(HttpServletRequest req, String defaultEncoding, UploadSink uploadSink, long totalSizeMax, long singleFileSizeMax) {
+		super(req);
+		this.reqPreprocessor = new MultipartRequestPreprocessor(
+			new ServletMultipartRequestParser(req),
+			defaultEncoding, 
+			uploadSink,
+			totalSizeMax,
+			singleFileSizeMax
+		);
+	}
 
 	/**
 	 * Return all request parameter names, for both regular form fields and file
@@ -116,6 +137,16 @@ class ServletFileUploadWrapper extends HttpServletRequestWrapper {
 		return reqPreprocessor.getUploadedFiles(paramName);		
 	}
 	
+	/**
+	 * Return uploaded files of the given name, including files stored by upload sink 
+	 * in streaming mode.
+	 * <p>
+	 * If the name is unknown, then return <tt>null</tt>.
+	 */
+	public UploadedFile[] getAllUploadedFiles(String paramName) {
+		return reqPreprocessor.getAllUploadedFiles(paramName);
+	}
+	
 	/**
 	 * Returns error from processing the request if there was one, or {@code null}.
 	 * @return
@@ -123,4 +154,11 @@ class ServletFileUploadWrapper extends HttpServletRequestWrapper {
 	public RequestProcessingError getRequestProcessingError() {
 		return reqPreprocessor.getError();
 	}
+	
+	/**
+	 * Deletes temporary data of all uploaded files.
+	 */
+	public void deleteTempFiles() {
+		reqPreprocessor.deleteTempFiles();
+	}
 }
@@ -16,14 +16,16 @@
  */
 package net.formio.servlet;
 
+import java.io.IOException;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 
-import net.formio.upload.AbstractMultipartRequestParser;
+import net.formio.upload.AbstractStreamingMultipartRequestParser;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 
@@ -31,7 +33,7 @@ import org.apache.commons.fileupload.servlet.ServletFileUpload;
  * Parser of multipart request for servlet API.
  * @author Radek Beran
  */
-class ServletMultipartRequestParser extends AbstractMultipartRequestParser {
+class ServletMultipartRequestParser extends AbstractStreamingMultipartRequestParser {
 	private final HttpServletRequest request;
 
 	public ServletMultipartRequestParser(HttpServletRequest request) {
@@ -45,4 +47,11 @@ class ServletMultipartRequestParser extends AbstractMultipartRequestParser {
 		configureUpload(upload, singleFileSizeMax, totalSizeMax, defaultEncoding);
 		return upload.parseRequest(request);
 	}
+	
+	@Override
+	protected FileItemIterator getItemIterator(long singleFileSizeMax, long totalSizeMax, String defaultEncoding) throws FileUploadException, IOException {
+		final ServletFileUpload upload = new ServletFileUpload();
+		configureUpload(upload, singleFileSizeMax, totalSizeMax, defaultEncoding);
+		return upload.getItemIterator(request);
+	}
 }
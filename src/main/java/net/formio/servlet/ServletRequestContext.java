@@ -17,6 +17,7 @@
 package net.formio.servlet;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
 
 import net.formio.data.RequestContext;
 import net.formio.data.SessionStorage;
@@ -40,6 +41,13 @@ public class ServletRequestContext implements RequestContext {
 		return new HttpSessionStorage(this.request.getSession());
 	}
 	
+	@Override
+	public String getSessionId() {
+		// existing session only, the client cannot choose id of the session that is not created by the server
+		HttpSession session = this.request.getSession(false);
+		return session != null ? session.getId() : null;
+	}
+	
 	@Override
 	public String secretWithUserIdentification(String secret) {
 		return secret + SEPARATOR + getUserRequestIdentification();
@@ -44,13 +44,8 @@ public abstract class AbstractMultipartRequestParser implements MultipartRequest
 		RequestProcessingError err = null;
 		try {
 			fileItems = parseRequest(fif, singleFileSizeMax, totalSizeMax, defaultEncoding);
-		} catch (FileSizeLimitExceededException ex) {
-			err = new MaxFileSizeExceededError(ex.getMessage(), ex, ex.getActualSize(), ex.getPermittedSize(),
-				FormUtils.removeTrailingBrackets(ex.getFieldName()));
-		} catch (SizeLimitExceededException ex) {
-			err = new MaxRequestSizeExceededError(ex.getMessage(), ex, ex.getActualSize(), ex.getPermittedSize());
 		} catch (FileUploadException ex) {
-			err = new RequestProcessingError(null, ex.getMessage(), ex);
+			err = toError(ex);
 		} finally {
 			this.error = err;
 		}
@@ -61,6 +56,10 @@ public abstract class AbstractMultipartRequestParser implements MultipartRequest
 	public RequestProcessingError getError() {
 		return error;
 	}
+	
+	void setError(RequestProcessingError error) {
+		this.error = error;
+	}
 		
 	/**
 	 * Should be implemented by subclasses. All exceptions should be thrown - they are handled
@@ -93,4 +92,19 @@ public abstract class AbstractMultipartRequestParser implements MultipartRequest
 			upload.setHeaderEncoding(defaultEncoding);
 		}
 	}
+	
+	RequestProcessingError toError(FileUploadException ex) {
+		RequestProcessingError err = null;
+		if (ex instanceof FileSizeLimitExceededException) {
+			FileSizeLimitExceededException fex = (FileSizeLimitExceededException)ex;
+			err = new MaxFileSizeExceededError(ex.getMessage(), ex, fex.getActualSize(), fex.getPermittedSize(),
+				FormUtils.removeTrailingBrackets(fex.getFieldName()));
+		} else if (ex instanceof SizeLimitExceededException) {
+			SizeLimitExceededException sex = (SizeLimitExceededException)ex;
+			err = new MaxRequestSizeExceededError(ex.getMessage(), ex, sex.getActualSize(), sex.getPermittedSize());
+		} else {
+			err = new RequestProcessingError(null, ex.getMessage(), ex);
+		}
+		return err;
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileUploadBase.FileUploadIOException;
+import org.apache.commons.fileupload.FileUploadException;
+
+/**
+ * Common implementation of multipart request parsers that support also streaming mode.
+ * @author Radek Beran
+ */
+public abstract class AbstractStreamingMultipartRequestParser extends AbstractMultipartRequestParser implements StreamingMultipartRequestParser {
+
+	public AbstractStreamingMultipartRequestParser() {
+	}
+	
+	@Override
+	public void parseItemStreams(ItemStreamHandler handler, long singleFileSizeMax, long totalSizeMax, String defaultEncoding) {
+		RequestProcessingError err = null;
+		try {
+			FileItemIterator iterator = getItemIterator(singleFileSizeMax, totalSizeMax, defaultEncoding);
+			while (iterator.hasNext()) {
+				handler.handle(iterator.next());
+			}
+		} catch (UploadRejectedException ex) {
+			// uploaded file violated its constraint
+			err = ex.getError();
+		} catch (FileUploadIOException ex) {
+			// size limits exceeded while reading the content of an item
+			err = ex.getCause() instanceof FileUploadException ? 
+				toError((FileUploadException)ex.getCause()) : new RequestProcessingError(null, ex.getMessage(), ex);
+		} catch (FileUploadException ex) {
+			err = toError(ex);
+		} catch (IOException ex) {
+			err = new RequestProcessingError(null, ex.getMessage(), ex);
+		} finally {
+			setError(err);
+		}
+	}
+	
+	/**
+	 * Should be implemented by subclasses to parse the request in streaming mode. 
+	 * All exceptions should be thrown - they are handled properly by this abstract class.
+	 * @param singleFileSizeMax
+	 * @param totalSizeMax
+	 * @param defaultEncoding
+	 * @return iterator of request items
+	 * @throws FileUploadException
+	 * @throws IOException
+	 */
+	protected abstract FileItemIterator getItemIterator(long singleFileSizeMax, long totalSizeMax, String defaultEncoding) throws FileUploadException, IOException;
+}
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import net.formio.FormElement;
+import net.formio.FormField;
+import net.formio.FormMapping;
+import net.formio.validation.InterpolatedMessage;
+import net.formio.validation.Validator;
+
+/**
+ * {@link UploadSink} that enforces {@link UploadConstraint}s of form fields while the request
+ * is being parsed. Name, content type and leading bytes of uploaded file are checked before 
+ * the file is passed to the delegate sink, size of the file is checked as its content is read.
+ * Violation of a constraint aborts parsing of the request (the delegate stores no data of the file, 
+ * or it deletes partially stored data) and the violation is reported as {@link UploadRejectedError} 
+ * of the request. The rest of the request is not read by the parser (servlet container can still
+ * consume remaining body of the request when the response is sent).
+ * <p>
+ * Constraints are validators of form fields that implement {@link UploadConstraint}.
+ * Indexes of list mappings are ignored when names of request parameters are matched
+ * with names of form fields. Files of fields without constraints are passed to the delegate 
+ * without checks.
+ * @author Radek Beran
+ */
+public class ConstrainedUploadSink implements UploadSink {
+	
+	private static final Pattern INDEX_PATTERN = Pattern.compile("\\[\\d*\\]");
+	private final UploadSink delegate;
+	private final Map<String, List<UploadConstraint>> constraints;
+
+	/**
+	 * @param delegate sink that stores accepted files
+	 * @param mapping form definition with constraints registered on form fields 
+	 * (validators implementing {@link UploadConstraint})
+	 */
+	public ConstrainedUploadSink(UploadSink delegate, FormMapping<?> mapping) {
+		this(delegate, collectConstraints(mapping));
+	}
+	
+	/**
+	 * @param delegate sink that stores accepted files
+	 * @param constraints constraints of uploaded files by names of request parameters
+	 */
+	public ConstrainedUploadSink(UploadSink delegate, Map<String, List<UploadConstraint>> constraints) {
+		if (delegate == null) throw new IllegalArgumentException("delegate cannot be null");
+		if (constraints == null) throw new IllegalArgumentException("constraints cannot be null");
+		this.delegate = delegate;
+		Map<String, List<UploadConstraint>> normalized = new HashMap<String, List<UploadConstraint>>();
+		for (Map.Entry<String, List<UploadConstraint>> e : constraints.entrySet()) {
+			if (e.getValue() != null && !e.getValue().isEmpty()) {
+				normalized.put(normalizeName(e.getKey()), new ArrayList<UploadConstraint>(e.getValue()));
+			}
+		}
+		this.constraints = Collections.unmodifiableMap(normalized);
+	}
+
+	@Override
+	public UploadedFile store(String paramName, String fileName, String contentType, InputStream content) throws IOException {
+		List<UploadConstraint> fieldConstraints = constraints.get(normalizeName(paramName));
+		if (fieldConstraints == null) {
+			return delegate.store(paramName, fileName, contentType, content);
+		}
+		String elementName = normalizeElementName(paramName);
+		int leadingBytesCount = 0;
+		UploadConstraint sizeConstraint = null;
+		for (UploadConstraint c : fieldConstraints) {
+			leadingBytesCount = Math.max(leadingBytesCount, c.getLeadingBytesCount());
+			if (c.getMaxSize() >= 0 && (sizeConstraint == null || c.getMaxSize() < sizeConstraint.getMaxSize())) {
+				sizeConstraint = c;
+			}
+		}
+		byte[] leadingBytes = readLeadingBytes(content, leadingBytesCount);
+		UploadPreview preview = new UploadPreview(fileName, contentType, leadingBytes.length, leadingBytes);
+		for (UploadConstraint c : fieldConstraints) {
+			checkConstraint(c, elementName, preview);
+		}
+		InputStream in = content;
+		if (leadingBytes.length > 0) {
+			in = new SequenceInputStream(new ByteArrayInputStream(leadingBytes), content);
+		}
+		if (sizeConstraint != null) {
+			in = new SizeLimitingInputStream(in, sizeConstraint, elementName, fileName, contentType, leadingBytes);
+		}
+		return delegate.store(paramName, fileName, contentType, in);
+	}
+	
+	/**
+	 * Returns constraints of uploaded files by names of form fields.
+	 * @return constraints of uploaded files
+	 */
+	public Map<String, List<UploadConstraint>> getConstraints() {
+		return constraints;
+	}
+	
+	/**
+	 * Collects constraints of uploaded files from form fields of given mapping and its nested mappings.
+	 * @param mapping
+	 * @return constraints by names of form fields
+	 */
+	public static Map<String, List<UploadConstraint>> collectConstraints(FormMapping<?> mapping) {
+		if (mapping == null) throw new IllegalArgumentException("mapping cannot be null");
+		Map<String, List<UploadConstraint>> constraints = new HashMap<String, List<UploadConstraint>>();
+		collectConstraints(constraints, mapping);
+		return constraints;
+	}
+	
+	private static void collectConstraints(Map<String, List<UploadConstraint>> constraints, FormMapping<?> mapping) {
+		for (FormField<?> field : mapping.getFields().values()) {
+			addFieldConstraints(constraints, field);
+		}
+		for (FormMapping<?> nested : mapping.getNested().values()) {
+			collectConstraints(constraints, nested);
+		}
+	}
+	
+	private static <T> void addFieldConstraints(Map<String, List<UploadConstraint>> constraints, FormElement<T> field) {
+		for (Validator<T> validator : field.getValidators()) {
+			if (validator instanceof UploadConstraint) {
+				String name = normalizeName(field.getName());
+				List<UploadConstraint> fieldConstraints = constraints.get(name);
+				if (fieldConstraints == null) {
+					fieldConstraints = new ArrayList<UploadConstraint>();
+					constraints.put(name, fieldConstraints);
+				}
+				fieldConstraints.add((UploadConstraint)validator);
+			}
+		}
+	}
+	
+	private static String normalizeName(String name) {
+		if (name == null || name.indexOf('[') < 0) return name;
+		return INDEX_PATTERN.matcher(name).replaceAll("");
+	}
+	
+	private static String normalizeElementName(String paramName) {
+		// element name is without trailing brackets (multiple files of the same field)
+		if (paramName != null && paramName.endsWith("[]")) {
+			return paramName.substring(0, paramName.length() - 2);
+		}
+		return paramName;
+	}
+	
+	private static void checkConstraint(UploadConstraint constraint, String elementName, UploadedFile file) throws UploadRejectedException {
+		List<InterpolatedMessage> msgs = constraint.check(elementName, file);
+		if (msgs != null && !msgs.isEmpty()) {
+			throw new UploadRejectedException(new UploadRejectedError(elementName, msgs.get(0)));
+		}
+	}
+	
+	private static byte[] readLeadingBytes(InputStream in, int count) throws IOException {
+		if (count <= 0) return new byte[0];
+		byte[] buf = new byte[count];
+		int len = 0;
+		int n;
+		while (len < count && (n = in.read(buf, len, count - len)) >= 0) {
+			len += n;
+		}
+		if (len < count) {
+			byte[] data = new byte[len];
+			System.arraycopy(buf, 0, data, 0, len);
+			return data;
+		}
+		return buf;
+	}
+	
+	/**
+	 * Partially received uploaded file that is checked by constraints.
+	 */
+	private static final class UploadPreview extends AbstractUploadedFile {
+		private static final long serialVersionUID = 7620339432745127025L;
+		private final byte[] leadingBytes;
+		
+		UploadPreview(String fileName, String contentType, long size, byte[] leadingBytes) {
+			super(fileName, contentType, size);
+			this.leadingBytes = leadingBytes;
+		}
+
+		@Override
+		public ReadableByteChannel getContent() {
+			return Channels.newChannel(new ByteArrayInputStream(leadingBytes));
+		}
+
+		@Override
+		public void deleteTempFile() {
+			// nothing stored
+		}
+	}
+	
+	/**
+	 * Content of uploaded file that is rejected as soon as it exceeds maximum allowed size.
+	 */
+	private static final class SizeLimitingInputStream extends FilterInputStream {
+		private final UploadConstraint constraint;
+		private final String elementName;
+		private final String fileName;
+		private final String contentType;
+		private final byte[] leadingBytes;
+		private long count;
+		
+		SizeLimitingInputStream(InputStream in, UploadConstraint constraint, String elementName, 
+			String fileName, String contentType, byte[] leadingBytes) {
+			super(in);
+			this.constraint = constraint;
+			this.elementName = elementName;
+			this.fileName = fileName;
+			this.contentType = contentType;
+			this.leadingBytes = leadingBytes;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				count(1);
+			}
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count(n);
+			}
+			return n;
+		}
+		
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count(skipped);
+			return skipped;
+		}
+		
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+		
+		private void count(long n) throws UploadRejectedException {
+			count += n;
+			if (count > constraint.getMaxSize()) {
+				checkConstraint(constraint, elementName, new UploadPreview(fileName, contentType, count, leadingBytes));
+				// constraint does not report exceeded size as a violation
+				throw new UploadRejectedException(new UploadRejectedError(elementName, 
+					new MaxFileSizeExceededError("Maximum allowed size of file exceeded", null, count, constraint.getMaxSize(), elementName)));
+			}
+		}
+	}
+}
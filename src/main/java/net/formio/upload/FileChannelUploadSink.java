@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sink that writes uploaded files directly to given directory using {@link FileChannel}.
+ * Files are written only once while the request is parsed; if the directory is in the final 
+ * storage (or in the same file system), the file can be moved to its final location 
+ * without copying (see {@link PathUploadedFile#getPath()}). Immutable.
+ * @author Radek Beran
+ */
+public class FileChannelUploadSink implements UploadSink {
+	
+	private static final String FILE_PREFIX = "upload";
+	private static final String FILE_SUFFIX = ".tmp";
+	private final Path directory;
+	
+	public FileChannelUploadSink(Path directory) {
+		if (directory == null) throw new IllegalArgumentException("directory cannot be null");
+		this.directory = directory;
+	}
+
+	@Override
+	public UploadedFile store(String paramName, String fileName, String contentType, InputStream content) throws IOException {
+		Path target = createTarget(paramName, fileName);
+		boolean stored = false;
+		try {
+			long size;
+			FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			try {
+				size = UploadStreams.copy(content, channel);
+			} finally {
+				channel.close();
+			}
+			stored = true;
+			return new PathUploadedFile(fileName, contentType, size, target);
+		} finally {
+			if (!stored) {
+				// partially written file (e.g. maximum allowed size was exceeded)
+				Files.deleteIfExists(target);
+			}
+		}
+	}
+	
+	/**
+	 * Creates new empty file for uploaded file with given name. 
+	 * Can be overriden in subclasses to name the files differently.
+	 * @param paramName name of request parameter with the file
+	 * @param fileName name of uploaded file
+	 * @return created file
+	 * @throws IOException
+	 */
+	protected Path createTarget(String paramName, String fileName) throws IOException {
+		return Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+	}
+	
+	public Path getDirectory() {
+		return directory;
+	}
+}
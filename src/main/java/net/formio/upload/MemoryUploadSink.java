@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sink that holds uploaded files in memory. Data are read using transfer buffer
+ * pooled per thread. Suitable for small files, size of files is limited by maximum 
+ * allowed size of single file. Immutable.
+ * @author Radek Beran
+ */
+public class MemoryUploadSink implements UploadSink {
+	
+	private static final MemoryUploadSink INSTANCE = new MemoryUploadSink();
+	
+	public static MemoryUploadSink getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public UploadedFile store(String paramName, String fileName, String contentType, InputStream content) throws IOException {
+		return new MemoryUploadedFile(fileName, contentType, UploadStreams.readAll(content));
+	}
+}
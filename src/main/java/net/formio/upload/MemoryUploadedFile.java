@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Uploaded file held in memory (by {@link MemoryUploadSink}).
+ * @author Radek Beran
+ */
+public class MemoryUploadedFile extends AbstractUploadedFile {
+	private static final long serialVersionUID = 7403719036853329547L;
+	private volatile byte[] data;
+	
+	public MemoryUploadedFile(String fileName, String contentType, byte[] data) {
+		super(fileName, contentType, data.length);
+		this.data = data;
+	}
+
+	@Override
+	public ReadableByteChannel getContent() throws IOException {
+		byte[] d = this.data;
+		if (d == null) throw new IllegalStateException("file data has been already cleared");
+		return Channels.newChannel(new ByteArrayInputStream(d));
+	}
+	
+	@Override
+	public long transferTo(WritableByteChannel target) throws IOException {
+		byte[] d = this.data;
+		if (d == null) throw new IllegalStateException("file data has been already cleared");
+		return UploadStreams.write(d, target);
+	}
+
+	/**
+	 * Releases data of the file.
+	 */
+	@Override
+	public void deleteTempFile() {
+		this.data = null;
+	}
+}
@@ -17,6 +17,8 @@
 package net.formio.upload;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,11 +35,15 @@ import net.formio.EncodingException;
 import net.formio.internal.FormUtils;
 
 import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
+import org.apache.commons.fileupload.util.Streams;
 
 /**
- * Preprocesses multipart/form-data request to {@link RequestUploadedFile}(s) and
- * string request parameters.
+ * Preprocesses multipart/form-data request to {@link UploadedFile}(s) and
+ * string request parameters. Files are either stored as {@link RequestUploadedFile}s 
+ * (in memory or in temporary files) or they are passed to given {@link UploadSink} 
+ * while the request is parsed (streaming mode).
  * @author Radek Beran
  */
 public class MultipartRequestPreprocessor {
@@ -79,6 +85,32 @@ public class MultipartRequestPreprocessor {
 			this.error = parser.getError();
 		}
 	}
+	
+	/**
+	 * Wrapper which preprocesses multipart request in streaming mode: Uploaded files are
+	 * passed to given sink while the request is parsed, they are not stored in temporary files 
+	 * by the parser.
+	 * @param parser multipart request parser that supports streaming mode
+	 * @param defaultEncoding header and request parameter encoding
+	 * @param uploadSink destination of uploaded files
+	 * @param totalSizeMax maximum allowed size of the whole request in bytes
+	 * @param singleFileSizeMax maximum allowed size of a single uploaded file
+	 */
+	public MultipartRequestPreprocessor(StreamingMultipartRequestParser parser, String defaultEncoding, final UploadSink uploadSink, long totalSizeMax, long singleFileSizeMax) {
+		if (parser == null) throw new IllegalArgumentException("parser cannot be null");
+		if (uploadSink == null) throw new IllegalArgumentException("uploadSink cannot be null");
+		this.defaultEncoding = defaultEncoding;
+		try {
+			parser.parseItemStreams(new StreamingMultipartRequestParser.ItemStreamHandler() {
+				@Override
+				public void handle(FileItemStream item) throws IOException {
+					handleItemStream(item, uploadSink);
+				}
+			}, singleFileSizeMax, totalSizeMax, defaultEncoding);
+		} finally {
+			this.error = parser.getError();
+		}
+	}
 
 	/**
 	 * Return all request parameter names, for both regular form fields and file
@@ -151,9 +183,40 @@ public class MultipartRequestPreprocessor {
 	 * If the name is unknown, then return <tt>null</tt>.
 	 */
 	public RequestUploadedFile[] getUploadedFiles(String paramName) {
-		List<RequestUploadedFile> files = fileParams.get(paramName);
+		List<UploadedFile> files = fileParams.get(paramName);
 		if (files == null) return null;
-		return files.toArray(new RequestUploadedFile[files.size()]);
+		// files passed to upload sink in streaming mode are not RequestUploadedFiles
+		List<RequestUploadedFile> requestFiles = new ArrayList<RequestUploadedFile>();
+		for (UploadedFile file : files) {
+			if (file instanceof RequestUploadedFile) {
+				requestFiles.add((RequestUploadedFile)file);
+			}
+		}
+		return requestFiles.toArray(new RequestUploadedFile[requestFiles.size()]);
+	}
+	
+	/**
+	 * Returns files uploaded under given name, including files stored by {@link UploadSink}
+	 * in streaming mode.
+	 * <p>
+	 * If the name is unknown, then return <tt>null</tt>.
+	 */
+	public UploadedFile[] getAllUploadedFiles(String paramName) {
+		List<UploadedFile> files = fileParams.get(paramName);
+		if (files == null) return null;
+		return files.toArray(new UploadedFile[files.size()]);
+	}
+	
+	/**
+	 * Deletes temporary data of all files uploaded in the request.
+	 * Should be called when processing of the request is finished.
+	 */
+	public void deleteTempFiles() {
+		for (List<UploadedFile> files : fileParams.values()) {
+			for (UploadedFile file : files) {
+				file.deleteTempFile();
+			}
+		}
 	}
 	
 	/**
@@ -170,7 +233,7 @@ public class MultipartRequestPreprocessor {
 	private final Map<String, List<String>> regularParams = new LinkedHashMap<String, List<String>>();
 
 	/** Store file params only. */
-	private final Map<String, List<RequestUploadedFile>> fileParams = new LinkedHashMap<String, List<RequestUploadedFile>>();
+	private final Map<String, List<UploadedFile>> fileParams = new LinkedHashMap<String, List<UploadedFile>>();
 	private static final int FIRST_VALUE = 0;
 	private static final Pattern EXTRACT_LASTPART_PATTERN = Pattern.compile(".*[\\\\/]([^\\\\/]+)");
 
@@ -182,29 +245,11 @@ public class MultipartRequestPreprocessor {
 				// not simple form field
 				String filename = item.getName();
 				long size = item.getSize(); // size in bytes
-				// some browsers are sending "files" even if none is selected?
-				if (size == 0 && ((cts == null || cts.isEmpty()) 
-					|| "application/octet-stream".equalsIgnoreCase(cts)) && (filename == null || filename.isEmpty()))
+				if (isNotSelectedFile(size, cts, filename))
 					continue;
 
-				String fileNameLastPart = filename;
-				if (filename != null) {
-					Matcher m = EXTRACT_LASTPART_PATTERN.matcher(filename);
-					if (m.matches()) {
-						fileNameLastPart = m.group(1);
-					}
-				}
-				String mime = cts;
-				if (mime == null) {
-					mime = guessContentType(filename);
-				}
-
-				RequestUploadedFile file = new RequestUploadedFile(fileNameLastPart, mime, size, item);
-				if (fileParams.get(item.getFieldName()) != null) {
-					addMultivaluedFile(file, item);
-				} else {
-					addSingleValueFile(file, item);
-				}
+				RequestUploadedFile file = new RequestUploadedFile(getFileNameLastPart(filename), getContentType(cts, filename), size, item);
+				addFile(item.getFieldName(), file);
 			} else {
 				if (regularParams.get(item.getFieldName()) != null) {
 					addMultivaluedItem(item);
@@ -215,6 +260,77 @@ public class MultipartRequestPreprocessor {
 		}
 	}
 
+	private void handleItemStream(FileItemStream item, UploadSink uploadSink) throws IOException {
+		InputStream in = item.openStream();
+		boolean rejected = false;
+		try {
+			if (!item.isFormField()) {
+				String cts = item.getContentType();
+				String filename = item.getName();
+				UploadedFile file = uploadSink.store(item.getFieldName(), getFileNameLastPart(filename), getContentType(cts, filename), in);
+				if (file != null) {
+					if (isNotSelectedFile(file.getSize(), cts, filename)) {
+						file.deleteTempFile();
+					} else {
+						addFile(item.getFieldName(), file);
+					}
+				}
+			} else {
+				List<String> values = regularParams.get(item.getFieldName());
+				if (values == null) {
+					values = new ArrayList<String>();
+					regularParams.put(item.getFieldName(), values);
+				}
+				values.add(defaultEncoding != null ? Streams.asString(in, defaultEncoding) : Streams.asString(in));
+			}
+		} catch (UploadRejectedException ex) {
+			rejected = true;
+			throw ex;
+		} catch (UnsupportedEncodingException ex) {
+			throw new EncodingException(ex.getMessage(), ex);
+		} finally {
+			// closing of the item stream would read the rest of the rejected file from the request,
+			// parsing of the request is aborted instead
+			if (!rejected) {
+				in.close();
+			}
+		}
+	}
+	
+	private boolean isNotSelectedFile(long size, String cts, String filename) {
+		// some browsers are sending "files" even if none is selected?
+		return size == 0 && ((cts == null || cts.isEmpty()) 
+			|| "application/octet-stream".equalsIgnoreCase(cts)) && (filename == null || filename.isEmpty());
+	}
+	
+	private String getFileNameLastPart(String filename) {
+		String fileNameLastPart = filename;
+		if (filename != null) {
+			Matcher m = EXTRACT_LASTPART_PATTERN.matcher(filename);
+			if (m.matches()) {
+				fileNameLastPart = m.group(1);
+			}
+		}
+		return fileNameLastPart;
+	}
+	
+	private String getContentType(String cts, String filename) {
+		String mime = cts;
+		if (mime == null) {
+			mime = guessContentType(filename);
+		}
+		return mime;
+	}
+	
+	private void addFile(String paramName, UploadedFile file) {
+		List<UploadedFile> files = fileParams.get(paramName);
+		if (files == null) {
+			files = new ArrayList<UploadedFile>();
+			fileParams.put(paramName, files);
+		}
+		files.add(file);
+	}
+
 	private void addSingleValueItem(FileItem item) {
 		List<String> list = new ArrayList<String>();
 		addItemValue(list, item);
@@ -226,17 +342,6 @@ public class MultipartRequestPreprocessor {
 		addItemValue(values, item);
 	}
 	
-	private void addSingleValueFile(RequestUploadedFile file, FileItem item) {
-		List<RequestUploadedFile> list = new ArrayList<RequestUploadedFile>();
-		list.add(file);
-		fileParams.put(item.getFieldName(), list);
-	}
-
-	private void addMultivaluedFile(RequestUploadedFile file, FileItem item) {
-		List<RequestUploadedFile> values = fileParams.get(item.getFieldName());
-		values.add(file);
-	}
-
 	private void addItemValue(List<String> list, FileItem item) {
 		try {
 			list.add(item.getString(defaultEncoding));
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Uploaded file stored in a file system (by {@link FileChannelUploadSink}).
+ * Stored file that was neither moved nor deleted explicitly is deleted after the uploaded file 
+ * becomes unreachable. Deserialized copy does not own the stored file (the file is not deleted 
+ * when the copy becomes unreachable, the original can still use it).
+ * @author Radek Beran
+ */
+public class PathUploadedFile extends AbstractUploadedFile {
+	private static final long serialVersionUID = -2480412545290165478L;
+	// Path is not serializable
+	private final String path;
+	private transient Cleaner.Cleanable cleanable;
+	
+	public PathUploadedFile(String fileName, String contentType, long size, Path path) {
+		super(fileName, contentType, size);
+		if (path == null) throw new IllegalArgumentException("path cannot be null");
+		this.path = path.toString();
+		registerCleanup();
+	}
+
+	@Override
+	public ReadableByteChannel getContent() throws IOException {
+		return FileChannel.open(getPath(), StandardOpenOption.READ);
+	}
+	
+	@Override
+	public long transferTo(WritableByteChannel target) throws IOException {
+		return UploadStreams.transfer(getPath(), target);
+	}
+	
+	@Override
+	public void transferTo(Path target) throws IOException {
+		UploadStreams.move(getPath(), target);
+	}
+
+	@Override
+	public void deleteTempFile() {
+		try {
+			Files.deleteIfExists(getPath());
+		} catch (IOException ex) {
+			throw new RuntimeException(ex.getMessage(), ex);
+		}
+		if (cleanable != null) {
+			cleanable.clean();
+			cleanable = null;
+		}
+	}
+	
+	/**
+	 * Returns location of stored file. The file can be moved to its final destination 
+	 * (within the same file system without copying the data).
+	 * @return
+	 */
+	public Path getPath() {
+		return Paths.get(path);
+	}
+	
+	private void registerCleanup() {
+		this.cleanable = UploadStreams.registerCleanup(this, new PathCleanup(path));
+	}
+	
+	/**
+	 * Deletes stored file of unreachable uploaded file.
+	 * Must not reference the uploaded file, otherwise it would never become unreachable.
+	 */
+	private static final class PathCleanup implements Runnable {
+		private final String path;
+		
+		PathCleanup(String path) {
+			this.path = path;
+		}
+		
+		@Override
+		public void run() {
+			try {
+				Files.deleteIfExists(Paths.get(path));
+			} catch (IOException ex) {
+				// file cannot be deleted, nothing else can be done in cleanup
+			}
+		}
+	}
+}
@@ -16,23 +16,36 @@
  */
 package net.formio.upload;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.ref.Cleaner;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.disk.DiskFileItem;
 
 /**
  * Implementation of {@link UploadedFile} that uses {@link FileItem} from commons-fileupload library.
+ * Temporary file of the file item should be deleted explicitly using {@link #deleteTempFile()}
+ * (or when the whole request is processed, see {@link MultipartRequestPreprocessor#deleteTempFiles()}); 
+ * file items that were not deleted are deleted after the uploaded file becomes unreachable.
+ * Deserialized copy does not own the file item (it is not deleted when the copy becomes unreachable,
+ * the original can still use it).
  * @author Radek Beran
  */
 public class RequestUploadedFile extends AbstractUploadedFile {
 	private static final long serialVersionUID = 4928481456790370482L;
 	protected FileItem fileItem;
+	private transient Cleaner.Cleanable cleanable;
 
 	public RequestUploadedFile(String fileName, String contentType, long size, FileItem fileItem) {
 		super(fileName, contentType, size);
 		this.fileItem = fileItem;
+		registerCleanup();
 	}
 	
 	@Override
@@ -40,14 +53,38 @@ public class RequestUploadedFile extends AbstractUploadedFile {
 		assertNotCleared();
 		return Channels.newChannel(fileItem.getInputStream());
 	}
-
-	/**
-	 * @see java.lang.Object#finalize()
-	 */
+	
 	@Override
-	protected void finalize() throws Throwable {
-		super.finalize();
-		deleteTempFile();
+	public long transferTo(WritableByteChannel target) throws IOException {
+		assertNotCleared();
+		File storeLocation = getStoreLocation();
+		if (storeLocation != null) {
+			return UploadStreams.transfer(storeLocation.toPath(), target);
+		}
+		if (fileItem.isInMemory()) {
+			return UploadStreams.write(fileItem.get(), target);
+		}
+		return super.transferTo(target);
+	}
+	
+	@Override
+	public void transferTo(Path target) throws IOException {
+		assertNotCleared();
+		File storeLocation = getStoreLocation();
+		if (storeLocation != null) {
+			UploadStreams.move(storeLocation.toPath(), target);
+			deleteTempFile();
+		} else if (fileItem.isInMemory()) {
+			FileChannel out = UploadStreams.openTarget(target);
+			try {
+				UploadStreams.write(fileItem.get(), out);
+			} finally {
+				out.close();
+			}
+			deleteTempFile();
+		} else {
+			super.transferTo(target);
+		}
 	}
 
 	@Override
@@ -56,6 +93,11 @@ public class RequestUploadedFile extends AbstractUploadedFile {
 			fileItem.delete();
 			fileItem = null;
 		}
+		if (cleanable != null) {
+			// deregisters the cleanup, repeated deletion of the file item is harmless
+			cleanable.clean();
+			cleanable = null;
+		}
 	}
 	
 	@Override
@@ -63,8 +105,46 @@ public class RequestUploadedFile extends AbstractUploadedFile {
 		return "File " + getFileName() + ", size=" + getSize()+", type=" + getContentType();
 	}
 	
+	/**
+	 * Returns temporary file with data of the file item, or {@code null} if the data are not stored
+	 * in a temporary file.
+	 * @return
+	 */
+	private File getStoreLocation() {
+		if (fileItem instanceof DiskFileItem && !fileItem.isInMemory()) {
+			File storeLocation = ((DiskFileItem)fileItem).getStoreLocation();
+			if (storeLocation != null && storeLocation.exists()) {
+				return storeLocation;
+			}
+		}
+		return null;
+	}
+	
+	private void registerCleanup() {
+		if (fileItem != null) {
+			this.cleanable = UploadStreams.registerCleanup(this, new FileItemCleanup(fileItem));
+		}
+	}
+	
 	private void assertNotCleared() {
 		if (fileItem == null) throw new IllegalStateException("file item has been already cleared");
 	}
+	
+	/**
+	 * Deletes file item of unreachable uploaded file.
+	 * Must not reference the uploaded file, otherwise it would never become unreachable.
+	 */
+	private static final class FileItemCleanup implements Runnable {
+		private final FileItem fileItem;
+		
+		FileItemCleanup(FileItem fileItem) {
+			this.fileItem = fileItem;
+		}
+		
+		@Override
+		public void run() {
+			fileItem.delete();
+		}
+	}
 
 }
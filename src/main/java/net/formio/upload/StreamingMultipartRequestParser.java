@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+
+import org.apache.commons.fileupload.FileItemStream;
+
+/**
+ * Parser of multipart request that can parse the request also in streaming mode.
+ * @author Radek Beran
+ */
+public interface StreamingMultipartRequestParser extends MultipartRequestParser {
+	
+	/**
+	 * Parses multipart request in streaming mode: Each item is passed to given handler
+	 * while the request is read, items are not stored.
+	 * @param handler
+	 * @param singleFileSizeMax
+	 * @param totalSizeMax
+	 * @param defaultEncoding
+	 */
+	void parseItemStreams(ItemStreamHandler handler, long singleFileSizeMax, long totalSizeMax, String defaultEncoding);
+	
+	/**
+	 * Processes items of multipart request parsed in streaming mode.
+	 */
+	interface ItemStreamHandler {
+		/**
+		 * Processes item of multipart request. Content of the item 
+		 * is available only until this method returns.
+		 * @param item
+		 * @throws IOException
+		 */
+		void handle(FileItemStream item) throws IOException;
+	}
+}
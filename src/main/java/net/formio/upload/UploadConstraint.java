@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.util.List;
+
+import net.formio.validation.InterpolatedMessage;
+
+/**
+ * Constraint of uploaded file that can be checked while the file is being uploaded,
+ * before its whole content is received (see {@link ConstrainedUploadSink}).
+ * Typically implemented by validators of form fields with uploaded files.
+ * @author Radek Beran
+ */
+public interface UploadConstraint {
+	
+	/**
+	 * Returns maximum allowed size of uploaded file in bytes, or -1 if this constraint
+	 * does not limit the size.
+	 * @return maximum allowed size in bytes
+	 */
+	long getMaxSize();
+	
+	/**
+	 * Returns count of leading bytes of the file content this constraint needs 
+	 * to check the file; 0 if only name and content type of the file are checked.
+	 * @return count of leading bytes needed for the check
+	 */
+	int getLeadingBytesCount();
+	
+	/**
+	 * Checks uploaded file. The file can be only partially received: Its content 
+	 * contains at most {@link #getLeadingBytesCount()} leading bytes and its size is count 
+	 * of bytes received so far.
+	 * @param elementName name of form element with uploaded file
+	 * @param file (partially) uploaded file
+	 * @return messages describing violations of the constraint, empty list if the file is valid
+	 */
+	List<InterpolatedMessage> check(String elementName, UploadedFile file);
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import net.formio.validation.InterpolatedMessage;
+
+/**
+ * Uploaded file was rejected by {@link UploadConstraint} while the request was being parsed.
+ * Message key and parameters are taken from the violation message of the constraint, 
+ * so the error is reported in the same way as validation of uploaded file after the request is parsed.
+ * @author Radek Beran
+ */
+public class UploadRejectedError extends RequestProcessingError {
+	private static final long serialVersionUID = -1549021570652376458L;
+	private final InterpolatedMessage violation;
+
+	public UploadRejectedError(String elementName, InterpolatedMessage violation) {
+		super(elementName, "Uploaded file was rejected: " + violation.getMessageKey());
+		this.violation = violation;
+	}
+	
+	@Override
+	public String getMessageKey() {
+		return violation.getMessageKey();
+	}
+	
+	@Override
+	public Map<String, Serializable> getMessageParameters() {
+		return violation.getMessageParameters();
+	}
+
+	/**
+	 * Violation message of the constraint that rejected uploaded file.
+	 * @return
+	 */
+	public InterpolatedMessage getViolation() {
+		return violation;
+	}
+}
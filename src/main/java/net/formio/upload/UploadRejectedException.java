@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+
+/**
+ * Thrown when uploaded file violates {@link UploadConstraint} while the request is being parsed;
+ * parsing of the request is aborted.
+ * @author Radek Beran
+ */
+public class UploadRejectedException extends IOException {
+	private static final long serialVersionUID = 4306410335129658315L;
+	private final UploadRejectedError error;
+
+	public UploadRejectedException(UploadRejectedError error) {
+		super(error.getCauseMessage());
+		this.error = error;
+	}
+
+	public UploadRejectedError getError() {
+		return error;
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Destination of uploaded files used when multipart request is parsed in streaming mode.
+ * Content of each file part is passed to the sink while the request is parsed,
+ * so the file does not need to be stored in a temporary file and copied afterwards.
+ * Implementations must be thread-safe.
+ * @author Radek Beran
+ */
+public interface UploadSink {
+	
+	/**
+	 * Stores content of uploaded file.
+	 * @param paramName name of request parameter with the file
+	 * @param fileName name of the file (without path)
+	 * @param contentType MIME content type of the file
+	 * @param content content of the file, it need not be closed; reading from the stream can throw
+	 * {@link IOException} if maximum allowed size of file or request is exceeded
+	 * @return stored file, or {@code null} if the file should be discarded
+	 * @throws IOException
+	 */
+	UploadedFile store(String paramName, String fileName, String contentType, InputStream content) throws IOException;
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Copying of uploaded data using transfer buffer pooled per thread, 
+ * cleanup of temporary files of uploaded files.
+ * @author Radek Beran
+ */
+final class UploadStreams {
+	
+	static final int BUFFER_SIZE = 8192;
+	private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<byte[]>();
+	private static final Cleaner CLEANER = Cleaner.create();
+	
+	/**
+	 * Registers action that deletes temporary data of given uploaded file when the file becomes 
+	 * phantom reachable. This is only a safety net for files that were not deleted explicitly.
+	 * @param file uploaded file
+	 * @param cleanup cleanup action; must not reference the uploaded file
+	 * @return cleanable that runs the action at most once
+	 */
+	static Cleaner.Cleanable registerCleanup(UploadedFile file, Runnable cleanup) {
+		return CLEANER.register(file, cleanup);
+	}
+	
+	/**
+	 * Copies all data from given input stream to given channel.
+	 * @param in
+	 * @param out
+	 * @return count of copied bytes
+	 * @throws IOException
+	 */
+	static long copy(InputStream in, WritableByteChannel out) throws IOException {
+		byte[] buf = getBuffer();
+		ByteBuffer bb = ByteBuffer.wrap(buf);
+		long count = 0;
+		int n;
+		while ((n = in.read(buf)) >= 0) {
+			bb.clear().limit(n);
+			while (bb.hasRemaining()) {
+				out.write(bb);
+			}
+			count += n;
+		}
+		return count;
+	}
+	
+	/**
+	 * Reads all data from given input stream.
+	 * @param in
+	 * @return read data
+	 * @throws IOException
+	 */
+	static byte[] readAll(InputStream in) throws IOException {
+		byte[] buf = getBuffer();
+		byte[] data = new byte[0];
+		int size = 0;
+		int n;
+		while ((n = in.read(buf)) >= 0) {
+			if (size + n > data.length) {
+				byte[] newData = new byte[Math.max(size + n, data.length * 2)];
+				System.arraycopy(data, 0, newData, 0, size);
+				data = newData;
+			}
+			System.arraycopy(buf, 0, data, size, n);
+			size += n;
+		}
+		if (size == data.length) {
+			return data;
+		}
+		byte[] result = new byte[size];
+		System.arraycopy(data, 0, result, 0, size);
+		return result;
+	}
+	
+	/**
+	 * Copies all data from given channel to another channel.
+	 * @param in
+	 * @param out
+	 * @return count of copied bytes
+	 * @throws IOException
+	 */
+	static long copy(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+		ByteBuffer bb = ByteBuffer.wrap(getBuffer());
+		long count = 0;
+		int n;
+		while ((n = in.read(bb)) >= 0) {
+			bb.flip();
+			while (bb.hasRemaining()) {
+				out.write(bb);
+			}
+			bb.clear();
+			count += n;
+		}
+		return count;
+	}
+	
+	/**
+	 * Writes given data to the channel.
+	 * @param data
+	 * @param out
+	 * @return count of written bytes
+	 * @throws IOException
+	 */
+	static long write(byte[] data, WritableByteChannel out) throws IOException {
+		ByteBuffer bb = ByteBuffer.wrap(data);
+		while (bb.hasRemaining()) {
+			out.write(bb);
+		}
+		return data.length;
+	}
+	
+	/**
+	 * Transfers data of given file to the channel using {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+	 * @param file
+	 * @param out
+	 * @return count of transferred bytes
+	 * @throws IOException
+	 */
+	static long transfer(Path file, WritableByteChannel out) throws IOException {
+		FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long size = in.size();
+			long position = 0;
+			while (position < size) {
+				position += in.transferTo(position, size - position, out);
+			}
+			return position;
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * Moves given file atomically; if that is not possible (different file systems), 
+	 * data of the file are transferred to the target and the source is deleted.
+	 * @param source
+	 * @param target
+	 * @throws IOException
+	 */
+	static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException ex) {
+			FileChannel out = openTarget(target);
+			try {
+				transfer(source, out);
+			} finally {
+				out.close();
+			}
+			Files.delete(source);
+		}
+	}
+	
+	/**
+	 * Opens given file for writing, the file is created or truncated.
+	 * @param target
+	 * @return
+	 * @throws IOException
+	 */
+	static FileChannel openTarget(Path target) throws IOException {
+		return FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+	}
+	
+	private static byte[] getBuffer() {
+		byte[] buf = BUFFERS.get();
+		if (buf == null) {
+			buf = new byte[BUFFER_SIZE];
+			BUFFERS.set(buf);
+		}
+		return buf;
+	}
+	
+	private UploadStreams() {
+		throw new AssertionError("Not instantiable, use static members");
+	}
+}
@@ -18,7 +18,10 @@ package net.formio.upload;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 /**
  * Data of uploaded file.
@@ -33,6 +36,43 @@ public interface UploadedFile extends Serializable {
 	 */
 	ReadableByteChannel getContent() throws IOException;
 	
+	/**
+	 * Writes data of the file to given channel. The file remains available.
+	 * Data stored on disk are transferred using {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}, 
+	 * data held in memory are written directly. Default implementation copies data from {@link #getContent()}.
+	 * @param target
+	 * @return count of transferred bytes
+	 * @throws IOException
+	 */
+	default long transferTo(WritableByteChannel target) throws IOException {
+		ReadableByteChannel content = getContent();
+		try {
+			return UploadStreams.copy(content, target);
+		} finally {
+			content.close();
+		}
+	}
+	
+	/**
+	 * Moves the file to given location (existing file is replaced). File stored on disk is moved atomically
+	 * if the target is in the same file system, otherwise its data are transferred to the target 
+	 * and the temporary file is deleted. Data held in memory are written directly.
+	 * Data of this uploaded file are no longer available after the transfer.
+	 * Default implementation writes data using {@link #transferTo(WritableByteChannel)} 
+	 * and deletes the temporary file.
+	 * @param target
+	 * @throws IOException
+	 */
+	default void transferTo(Path target) throws IOException {
+		FileChannel out = UploadStreams.openTarget(target);
+		try {
+			transferTo(out);
+		} finally {
+			out.close();
+		}
+		deleteTempFile();
+	}
+	
 	/**
 	 * Deletes uploaded file from temporary directory
 	 * (should be called after the file is processed/stored
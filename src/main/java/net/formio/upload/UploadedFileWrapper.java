@@ -16,7 +16,10 @@
  */
 package net.formio.upload;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 /**
  * Complex object wrapping up one uploaded file.
@@ -43,6 +46,29 @@ public class UploadedFileWrapper implements Serializable {
 		return file == null || file.getFileName() == null;
 	}
 	
+	/**
+	 * Writes data of wrapped file to given channel.
+	 * @param target
+	 * @return count of transferred bytes
+	 * @throws IOException
+	 * @see UploadedFile#transferTo(WritableByteChannel)
+	 */
+	public long transferTo(WritableByteChannel target) throws IOException {
+		assertNotEmpty();
+		return file.transferTo(target);
+	}
+	
+	/**
+	 * Moves wrapped file to given location.
+	 * @param target
+	 * @throws IOException
+	 * @see UploadedFile#transferTo(Path)
+	 */
+	public void transferTo(Path target) throws IOException {
+		assertNotEmpty();
+		file.transferTo(target);
+	}
+	
 	@Override
 	public String toString() {
 		String str = null;
@@ -53,5 +79,9 @@ public class UploadedFileWrapper implements Serializable {
 		}
 		return str;
 	}
+	
+	private void assertNotEmpty() {
+		if (isEmpty()) throw new IllegalStateException("no file was uploaded");
+	}
 
 }
@@ -47,19 +47,27 @@ import net.formio.FormMapping;
 import net.formio.binding.BeanExtractor;
 import net.formio.binding.HumanReadableType;
 import net.formio.binding.ParseError;
+import net.formio.common.BoundedCache;
 import net.formio.internal.FormUtils;
 import net.formio.upload.MaxRequestSizeExceededError;
 
 /**
  * Object validation using {@link ValidatorFactory} (bean validation API).
+ * Message interpolator and validator are created once for each locale
+ * and reused by subsequent validations.
  *
  * @author Radek Beran
  */
 public class DefaultBeanValidator implements BeanValidator {
 	
+	/** Maximum number of locales with cached message interpolator and validator. */
+	static final int MAX_CACHED_LOCALES = 64;
+	
 	private final ValidatorFactory validatorFactory;
 	private final BeanExtractor beanExtractor;
 	private final String messageBundleName;
+	private final BoundedCache<Locale, LocalizedValidator> localizedValidators = 
+		new BoundedCache<Locale, LocalizedValidator>(MAX_CACHED_LOCALES);
 	
 	public DefaultBeanValidator(ValidatorFactory validatorFactory, BeanExtractor beanExtractor, String messageBundleName) {
 		if (validatorFactory == null) throw new IllegalArgumentException("validatorFactory cannot be null");
@@ -85,8 +93,9 @@ public class DefaultBeanValidator implements BeanValidator {
 		if (mappingBoundValue == null) {
 			throw new IllegalArgumentException("Validated object cannot be null");
 		}
-		MessageInterpolator msgInterpolator = createMessageInterpolator(this.validatorFactory, this.messageBundleName, locale);
-		Validator beanValidator = createValidator(this.validatorFactory, msgInterpolator);
+		LocalizedValidator localizedValidator = getLocalizedValidator(locale);
+		MessageInterpolator msgInterpolator = localizedValidator.msgInterpolator;
+		Validator beanValidator = localizedValidator.validator;
 		
 		// Unfortunately, implementation of bean validation API can return violations 
 		// in nondeterministic order as a HashSet (Hibernate validator)
@@ -149,7 +158,8 @@ public class DefaultBeanValidator implements BeanValidator {
 	
 	/**
 	 * Returns message interpolator used in validation.
-	 * Can be overriden in subclasses.
+	 * Can be overriden in subclasses. Created interpolator is cached for given locale,
+	 * so it must be thread-safe.
 	 * @param validatorFactory
 	 * @param locale
 	 * @return
@@ -171,6 +181,14 @@ public class DefaultBeanValidator implements BeanValidator {
 		return ((ResBundleMessageInterpolator)msgInterpolator).interpolateMessage(message, parameters, locale);
 	}
 	
+	/**
+	 * Returns validator using given message interpolator.
+	 * Can be overriden in subclasses. Created validator is cached together with the message interpolator,
+	 * so it must be thread-safe.
+	 * @param validatorFactory
+	 * @param msgInterpolator
+	 * @return
+	 */
 	protected Validator createValidator(ValidatorFactory validatorFactory, MessageInterpolator msgInterpolator) {
 		// for using specified locale
 		return validatorFactory
@@ -211,6 +229,19 @@ public class DefaultBeanValidator implements BeanValidator {
 		}
 	}
 	
+	private LocalizedValidator getLocalizedValidator(Locale locale) {
+		if (locale == null) {
+			throw new IllegalArgumentException("locale cannot be null");
+		}
+		LocalizedValidator localizedValidator = localizedValidators.get(locale);
+		if (localizedValidator == null) {
+			MessageInterpolator msgInterpolator = createMessageInterpolator(this.validatorFactory, this.messageBundleName, locale);
+			localizedValidator = localizedValidators.putIfAbsent(locale, 
+				new LocalizedValidator(msgInterpolator, createValidator(this.validatorFactory, msgInterpolator)));
+		}
+		return localizedValidator;
+	}
+	
 	private <T, U> List<InterpolatedMessage> validateFormElement(FormElement<T> element, T elementValue) {
 		List<InterpolatedMessage> messages = new ArrayList<InterpolatedMessage>();
 		for (net.formio.validation.Validator<T> validator : element.getValidators()) {
@@ -320,4 +351,17 @@ public class DefaultBeanValidator implements BeanValidator {
 	}
 	
 	private static final ConstraintViolationComparator constraintViolationComparator = new ConstraintViolationComparator();
+	
+	/**
+	 * Message interpolator and validator for one locale.
+	 */
+	private static final class LocalizedValidator {
+		final MessageInterpolator msgInterpolator;
+		final Validator validator;
+		
+		LocalizedValidator(MessageInterpolator msgInterpolator, Validator validator) {
+			this.msgInterpolator = msgInterpolator;
+			this.validator = validator;
+		}
+	}
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message with resolved message keys (steps 1-3 of message interpolation)
+ * pre-parsed to literals and placeholders of annotation attributes.
+ * Immutable, can be cached and shared by multiple threads.
+ * 
+ * @author Radek Beran
+ */
+final class MessageTemplate {
+	
+	/** Literal parts of the message, literals[i] precedes parameter placeholder i. */
+	private final String[] literals;
+	/** Names of parameters (without curly braces). */
+	private final String[] paramNames;
+	/** Whether the message contains escaped literals. */
+	private final boolean escaped;
+	private final int estimatedLength;
+	
+	/**
+	 * Parses given message with resolved message keys. The parsing corresponds
+	 * to the placeholders matched by the pattern <code>\{[^\}]+?\}</code>.
+	 * @param message
+	 * @return
+	 */
+	static MessageTemplate compile(String message) {
+		if (message == null) throw new IllegalArgumentException("message cannot be null");
+		List<String> literals = new ArrayList<String>();
+		List<String> paramNames = new ArrayList<String>();
+		int literalStart = 0;
+		int i = message.indexOf('{');
+		while (i >= 0) {
+			int end = message.indexOf('}', i + 1);
+			if (end < 0) {
+				break;
+			}
+			if (end > i + 1) {
+				literals.add(message.substring(literalStart, i));
+				paramNames.add(message.substring(i + 1, end));
+				literalStart = end + 1;
+				i = message.indexOf('{', literalStart);
+			} else {
+				// empty braces are not a placeholder
+				i = message.indexOf('{', i + 1);
+			}
+		}
+		literals.add(message.substring(literalStart));
+		return new MessageTemplate(
+			literals.toArray(new String[literals.size()]), 
+			paramNames.toArray(new String[paramNames.size()]), 
+			message.indexOf('\\') >= 0, 
+			message.length());
+	}
+	
+	private MessageTemplate(String[] literals, String[] paramNames, boolean escaped, int length) {
+		this.literals = literals;
+		this.paramNames = paramNames;
+		this.escaped = escaped;
+		this.estimatedLength = length + paramNames.length * 8;
+	}
+	
+	/**
+	 * Replaces placeholders with given annotation attributes and unescapes
+	 * escaped literals.
+	 * @param annotationParameters
+	 * @return final message
+	 */
+	String format(Map<String, Serializable> annotationParameters) {
+		if (paramNames.length == 0 && !escaped) {
+			return literals[0];
+		}
+		StringBuilder sb = new StringBuilder(estimatedLength);
+		boolean unescape = escaped;
+		for (int i = 0; i < paramNames.length; i++) {
+			sb.append(literals[i]);
+			Object variable = annotationParameters.get(paramNames[i]);
+			if (variable != null) {
+				String value = variable.getClass().isArray() ? Arrays.toString((Object[]) variable) : variable.toString();
+				if (!unescape && value.indexOf('\\') >= 0) {
+					unescape = true;
+				}
+				sb.append(value);
+			} else {
+				sb.append('{').append(paramNames[i]).append('}');
+			}
+		}
+		sb.append(literals[paramNames.length]);
+		String message = sb.toString();
+		if (unescape) {
+			message = message.replace("\\{", "{");
+			message = message.replace("\\}", "}");
+			message = message.replace("\\\\", "\\");
+		}
+		return message;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(estimatedLength);
+		for (int i = 0; i < paramNames.length; i++) {
+			sb.append(literals[i]).append('{').append(paramNames[i]).append('}');
+		}
+		return sb.append(literals[paramNames.length]).toString();
+	}
+}
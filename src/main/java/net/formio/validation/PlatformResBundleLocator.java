@@ -35,5 +35,23 @@ public class PlatformResBundleLocator implements ResBundleLocator {
 	public ResourceBundle getResourceBundle(Locale locale) {
 		return ResourceBundle.getBundle(bundleName, locale);
 	}
+	
+	@Override
+	public int hashCode() {
+		return bundleName == null ? 0 : bundleName.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		PlatformResBundleLocator other = (PlatformResBundleLocator) obj;
+		if (bundleName == null) {
+			return other.bundleName == null;
+		}
+		return bundleName.equals(other.bundleName);
+	}
 
 }
@@ -17,21 +17,24 @@
 package net.formio.validation;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.validation.MessageInterpolator;
 
+import net.formio.common.BoundedCache;
+import net.formio.common.CacheStats;
+
 /**
  * Resource bundle backed message interpolator with
  * explicit passing of default locale.
+ * Messages resolved from resource bundles are pre-parsed to message templates
+ * and cached in a cache shared by all interpolators with limited size (system property {@value #CACHE_SIZE_PROPERTY}, {@value #DEFAULT_CACHE_SIZE}
+ * entries by default).
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -45,7 +48,10 @@ public class ResBundleMessageInterpolator implements MessageInterpolator {
 	 * The name of the default message bundle.
 	 */
 	public static final String DEFAULT_VALIDATION_MESSAGES = "ValidationMessages";
-
+	
+	static final String CACHE_SIZE_PROPERTY = "net.formio.validation.messageCacheSize";
+	static final int DEFAULT_CACHE_SIZE = 1024;
+	
 	/**
 	 * Regular expression used to do message interpolation.
 	 */
@@ -66,15 +72,18 @@ public class ResBundleMessageInterpolator implements MessageInterpolator {
 	 */
 	private final ResBundleLocator defaultResourceBundleLocator;
 
-	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
-	 */
-	private final ConcurrentMap<LocalisedMessage, String> resolvedMessages = new ConcurrentHashMap<LocalisedMessage, String>();
-
 	/**
 	 * Flag indicating whether this interpolator should chance some of the interpolation steps.
 	 */
 	private final boolean cacheMessages;
+	
+	/**
+	 * Step 1-3 of message interpolation can be cached. We do this in this cache
+	 * of the interpolator, so the cache does not outlive the locator of user bundle.
+	 * Resolved messages are stored as templates parsed for step 4.
+	 */
+	private final BoundedCache<LocalisedMessage, MessageTemplate> resolvedMessages = 
+		new BoundedCache<LocalisedMessage, MessageTemplate>(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE).intValue());
 
 	public ResBundleMessageInterpolator(ResBundleLocator userResourceBundleLocator, Locale defaultLocale) {
 		this(userResourceBundleLocator, defaultLocale, true);
@@ -120,19 +129,19 @@ public class ResBundleMessageInterpolator implements MessageInterpolator {
 	 */
 	protected String interpolateMessage(String message, Map<String, Serializable> annotationParameters, Locale locale) {
 		LocalisedMessage localisedMessage = new LocalisedMessage( message, locale );
-		String resolvedMessage = null;
+		MessageTemplate template = null;
 
 		if ( cacheMessages ) {
-			resolvedMessage = resolvedMessages.get( localisedMessage );
+			template = resolvedMessages.get( localisedMessage );
 		}
 
 		// if the message is not already in the cache we have to run step 1-3 of the message resolution 
-		if ( resolvedMessage == null ) {
+		if ( template == null ) {
 			ResourceBundle userResourceBundle = tryGetResourceBundle(this.userResourceBundleLocator, locale);
 			ResourceBundle defaultResourceBundle = tryGetResourceBundle(this.defaultResourceBundleLocator, locale);
 
 			String userBundleResolvedMessage;
-			resolvedMessage = message;
+			String resolvedMessage = message;
 			boolean evaluatedDefaultBundleOnce = false;
 			do {
 				// search the user bundle recursive (step1)
@@ -151,25 +160,25 @@ public class ResBundleMessageInterpolator implements MessageInterpolator {
 				resolvedMessage = replaceVariables( userBundleResolvedMessage, defaultResourceBundle, locale, false );
 				evaluatedDefaultBundleOnce = true;
 			} while ( true );
-		}
+			template = MessageTemplate.compile( resolvedMessage );
 
-		// cache resolved message
-		if (cacheMessages) {
-			String cachedResolvedMessage = resolvedMessages.putIfAbsent( localisedMessage, resolvedMessage );
-			if ( cachedResolvedMessage != null ) {
-				resolvedMessage = cachedResolvedMessage;
+			// cache resolved message
+			if ( cacheMessages ) {
+				template = resolvedMessages.putIfAbsent( localisedMessage, template );
 			}
 		}
 
-		// resolve annotation attributes (step 4)
-		resolvedMessage = replaceAnnotationAttributes( resolvedMessage, annotationParameters );
-
+		// resolve annotation attributes (step 4),
 		// last but not least we have to take care of escaped literals
-		resolvedMessage = resolvedMessage.replace( "\\{", "{" );
-		resolvedMessage = resolvedMessage.replace( "\\}", "}" );
-		resolvedMessage = resolvedMessage.replace( "\\\\", "\\" );
-		
-		return resolvedMessage;
+		return template.format( annotationParameters );
+	}
+	
+	/**
+	 * Returns statistics of the cache of resolved messages of this interpolator.
+	 * @return
+	 */
+	public CacheStats getResolvedMessagesCacheStats() {
+		return resolvedMessages.getStats();
 	}
 	
 	private ResourceBundle tryGetResourceBundle(ResBundleLocator locator, Locale locale) {
@@ -204,32 +213,6 @@ public class ResBundleMessageInterpolator implements MessageInterpolator {
 		return sb.toString();
 	}
 
-	private String replaceAnnotationAttributes(String message, Map<String, Serializable> annotationParameters) {
-		if (message == null) return null;
-		Matcher matcher = MESSAGE_PARAMETER_PATTERN.matcher( message );
-		StringBuffer sb = new StringBuffer();
-		while ( matcher.find() ) {
-			String resolvedParameterValue;
-			String parameter = matcher.group( 1 );
-			Object variable = annotationParameters.get( removeCurlyBrace( parameter ) );
-			if ( variable != null ) {
-				if ( variable.getClass().isArray() ) {
-					resolvedParameterValue = Arrays.toString( (Object[]) variable );
-				}
-				else {
-					resolvedParameterValue = variable.toString();
-				}
-			}
-			else {
-				resolvedParameterValue = parameter;
-			}
-			resolvedParameterValue = Matcher.quoteReplacement( resolvedParameterValue );
-			matcher.appendReplacement( sb, resolvedParameterValue );
-		}
-		matcher.appendTail( sb );
-		return sb.toString();
-	}
-
 	private String resolveParameter(String parameterName, ResourceBundle bundle, Locale locale, boolean recurse) {
 		String parameterValue;
 		try {
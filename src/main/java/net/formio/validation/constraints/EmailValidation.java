@@ -25,7 +25,7 @@ import java.util.regex.Pattern;
  * @author Radek Beran
  */
 public final class EmailValidation {
-	private static final Pattern EMAIL_PATTERN = Pattern.compile("\\b[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9-]+(?:\\.[a-zA-Z0-9-]+)*\\b");
+	private static final ThreadLocalMatcher EMAIL_MATCHER = new ThreadLocalMatcher(Pattern.compile("\\b[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9-]+(?:\\.[a-zA-Z0-9-]+)*\\b"));
 	
 	/**
 	 * Returns true if given string is valid e-mail, 
@@ -36,7 +36,7 @@ public final class EmailValidation {
 	 */
 	public static boolean isEmail(String email) {
 		if (email == null || email.isEmpty()) return false;
-		Matcher matcher = EMAIL_PATTERN.matcher(email);
+		Matcher matcher = EMAIL_MATCHER.matcher(email);
 		boolean valid = matcher.matches();
 		return valid;
 	}
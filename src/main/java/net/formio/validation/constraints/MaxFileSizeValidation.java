@@ -34,7 +34,12 @@ public class MaxFileSizeValidation {
 		return fileSize <= maxFileSize;
 	}
 
-	private static long parseFileSize(String value) {
+	/**
+	 * Returns count of bytes specified by given file size.
+	 * @param value File size e.g. "2MB", "1.2GB"
+	 * @return count of bytes
+	 */
+	public static long parseFileSize(String value) {
 		if (value == null) {
 			throw new IllegalArgumentException("Value could not be null.");
 		}
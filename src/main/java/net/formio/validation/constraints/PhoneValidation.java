@@ -36,7 +36,7 @@ public final class PhoneValidation {
 	 * </ul>
 	 * <p>Delimiters can be either a space, '-', '.' or '/' and can be used anywhere in the number.</p>
 	 */
-	private static final Pattern PATTERN = Pattern.compile("^([\\+][0-9]{1,3}([ \\.\\-]))?([\\(]{1}[0-9]{2,6}[\\)])?([0-9 \\.\\-/]{3,20})((x|ext|extension)[ ]?[0-9]{1,4})?$");
+	private static final ThreadLocalMatcher MATCHER = new ThreadLocalMatcher(Pattern.compile("^([\\+][0-9]{1,3}([ \\.\\-]))?([\\(]{1}[0-9]{2,6}[\\)])?([0-9 \\.\\-/]{3,20})((x|ext|extension)[ ]?[0-9]{1,4})?$"));
 
 	/**
 	 * Returns true if given string is a valid phone number.
@@ -47,7 +47,7 @@ public final class PhoneValidation {
 	 */
 	public static boolean isPhone(String input) {
 		if (input == null || input.isEmpty()) return false;
-		Matcher matcher = PATTERN.matcher(input);
+		Matcher matcher = MATCHER.matcher(input);
 		return matcher.matches();
 	}
 	
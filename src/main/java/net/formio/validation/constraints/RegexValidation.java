@@ -16,30 +16,94 @@
  */
 package net.formio.validation.constraints;
 
-import java.util.regex.Matcher;
-
 import javax.validation.constraints.Pattern;
 
+import net.formio.common.BoundedCache;
+import net.formio.common.CacheStats;
+
 /** 
  * Validates if given value matches the regular expresssion pattern.
+ * Compiled patterns are cached in a cache with limited size 
+ * (system property {@value #CACHE_SIZE_PROPERTY}, {@value #DEFAULT_CACHE_SIZE} entries by default).
  * @author Radek Beran
  */
 public class RegexValidation {
+	
+	static final String CACHE_SIZE_PROPERTY = "net.formio.validation.patternCacheSize";
+	static final int DEFAULT_CACHE_SIZE = 256;
+	private static final BoundedCache<PatternKey, java.util.regex.Pattern> PATTERNS = 
+		new BoundedCache<PatternKey, java.util.regex.Pattern>(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE).intValue());
 
 	public static boolean isValid(CharSequence value, String regexp, Pattern.Flag ... patternFlags) {
 		if (value == null) {
 			return false;
 		}
+		return isValid(value, compile(regexp, patternFlags));
+	}
+	
+	public static boolean isValid(CharSequence value, java.util.regex.Pattern pattern) {
+		if (value == null) {
+			return false;
+		}
+		return pattern.matcher(value).matches();
+	}
+	
+	/**
+	 * Returns compiled pattern for given regular expression and flags.
+	 * @param regexp
+	 * @param patternFlags
+	 * @return cached compiled pattern
+	 */
+	public static java.util.regex.Pattern compile(String regexp, Pattern.Flag ... patternFlags) {
+		if (regexp == null) throw new IllegalArgumentException("regexp cannot be null");
 		int intFlag = 0;
-		for (Pattern.Flag flag : patternFlags) {
-			intFlag = intFlag | flag.getValue();
+		if (patternFlags != null) {
+			for (Pattern.Flag flag : patternFlags) {
+				intFlag = intFlag | flag.getValue();
+			}
 		}
-		java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(regexp, intFlag);
-		Matcher m = pattern.matcher(value);
-		return m.matches();
+		PatternKey key = new PatternKey(regexp, intFlag);
+		java.util.regex.Pattern pattern = PATTERNS.get(key);
+		if (pattern == null) {
+			pattern = PATTERNS.putIfAbsent(key, java.util.regex.Pattern.compile(regexp, intFlag));
+		}
+		return pattern;
+	}
+	
+	/**
+	 * Returns statistics of the cache of compiled patterns.
+	 * @return
+	 */
+	public static CacheStats getPatternCacheStats() {
+		return PATTERNS.getStats();
 	}
 	
 	private RegexValidation() {
 		throw new AssertionError("Not instantiable, use static members");
 	}
+	
+	private static final class PatternKey {
+		private final String regexp;
+		private final int flags;
+		
+		PatternKey(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * regexp.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof PatternKey))
+				return false;
+			PatternKey other = (PatternKey) obj;
+			return flags == other.flags && regexp.equals(other.regexp);
+		}
+	}
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation.constraints;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matcher of given pattern reused by the current thread,
+ * so validation does not allocate new matcher for each validated value.
+ * Returned matcher must not be used after the next call of {@link #matcher(CharSequence)}
+ * in the same thread.
+ * @author Radek Beran
+ */
+public final class ThreadLocalMatcher {
+	private final Pattern pattern;
+	private final ThreadLocal<Matcher> matchers = new ThreadLocal<Matcher>();
+	
+	public ThreadLocalMatcher(Pattern pattern) {
+		if (pattern == null) throw new IllegalArgumentException("pattern cannot be null");
+		this.pattern = pattern;
+	}
+	
+	/**
+	 * Returns matcher of the current thread reset to given input.
+	 * @param input
+	 * @return
+	 */
+	public Matcher matcher(CharSequence input) {
+		Matcher matcher = matchers.get();
+		if (matcher == null) {
+			matcher = pattern.matcher(input);
+			matchers.set(matcher);
+		} else {
+			matcher.reset(input);
+		}
+		return matcher;
+	}
+	
+	/**
+	 * Returns true if whole given input matches the pattern.
+	 * @param input
+	 * @return
+	 */
+	public boolean matches(CharSequence input) {
+		return matcher(input).matches();
+	}
+	
+	public Pattern getPattern() {
+		return pattern;
+	}
+}
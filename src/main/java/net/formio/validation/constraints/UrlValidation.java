@@ -24,8 +24,8 @@ import java.util.regex.Pattern;
  * @author Radek Beran (original pattern from Play! framework)
  */
 public final class UrlValidation {
-	private static final Pattern PATTERN = Pattern.compile("^(http|https|ftp)\\://[a-zA-Z0-9\\-\\.]+\\.[a-z" +
-		"A-Z]{2,3}(:[a-zA-Z0-9]*)?/?([a-zA-Z0-9\\-\\._\\?\\,\\'/\\\\\\+&amp;%\\$#\\=~\\!])*$");
+	private static final ThreadLocalMatcher MATCHER = new ThreadLocalMatcher(Pattern.compile("^(http|https|ftp)\\://[a-zA-Z0-9\\-\\.]+\\.[a-z" +
+		"A-Z]{2,3}(:[a-zA-Z0-9]*)?/?([a-zA-Z0-9\\-\\._\\?\\,\\'/\\\\\\+&amp;%\\$#\\=~\\!])*$"));
 
 	/**
 	 * Returns true if given string is a valid URL.
@@ -34,7 +34,7 @@ public final class UrlValidation {
 	 */
 	public static boolean isUrl(String input) {
 		if (input == null || input.isEmpty()) return false;
-		Matcher matcher = PATTERN.matcher(input);
+		Matcher matcher = MATCHER.matcher(input);
 		return matcher.matches();
 	}
 	
@@ -21,13 +21,15 @@ import java.text.SimpleDateFormat;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import net.formio.validation.constraints.ThreadLocalMatcher;
+
 /** 
  * Validation of Czech "Rodne cislo".
  * 
  * @author Radek Beran
  */
 public final class RodneCisloValidation {
-	private static final Pattern RC_PATTERN = Pattern.compile("^(\\d\\d)(\\d\\d)(\\d\\d)[/]?(\\d\\d\\d)(\\d?)$");
+	private static final ThreadLocalMatcher RC_MATCHER = new ThreadLocalMatcher(Pattern.compile("^(\\d\\d)(\\d\\d)(\\d\\d)[/]?(\\d\\d\\d)(\\d?)$"));
 	
 	/**
 	 * Returns true if given "rodne cislo" is valid according to complex rules
@@ -41,7 +43,7 @@ public final class RodneCisloValidation {
 	public static boolean isRodneCislo(String rodneCislo) {
 		if (rodneCislo == null || rodneCislo.isEmpty()) return false;
 		// Validni RC je napr. 780123/3540, 0531135099, 0681186066
-		Matcher matcher = RC_PATTERN.matcher(rodneCislo);
+		Matcher matcher = RC_MATCHER.matcher(rodneCislo);
 		boolean valid = matcher.matches();
 		if (valid) {
 			// Input string answers to regular expression pattern
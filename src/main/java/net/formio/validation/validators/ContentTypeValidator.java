@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation.validators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import net.formio.upload.UploadConstraint;
+import net.formio.upload.UploadedFile;
+import net.formio.validation.Arg;
+import net.formio.validation.InterpolatedMessage;
+import net.formio.validation.ValidationContext;
+
+/**
+ * Validator of content type of uploaded file. Allowed content types can contain 
+ * wildcard subtype (e.g. "image/*"), parameters of content type (e.g. charset) are ignored.
+ * When used with {@link net.formio.upload.ConstrainedUploadSink}, file with not allowed content type 
+ * is rejected before its content is uploaded.
+ * @author Radek Beran
+ */
+public class ContentTypeValidator extends AbstractValidator<UploadedFile> implements UploadConstraint {
+	
+	public static final String MESSAGE = "{constraints.ContentType.message}";
+	protected static final String ALLOWED_CONTENT_TYPES_ARG = "allowedContentTypes";
+	
+	private final String[] allowedContentTypes;
+	
+	public static ContentTypeValidator getInstance(String ... allowedContentTypes) {
+		return new ContentTypeValidator(allowedContentTypes); 
+	}
+	
+	private ContentTypeValidator(String[] allowedContentTypes) {
+		if (allowedContentTypes == null) throw new IllegalArgumentException("allowedContentTypes cannot be null");
+		this.allowedContentTypes = new String[allowedContentTypes.length];
+		for (int i = 0; i < allowedContentTypes.length; i++) {
+			this.allowedContentTypes[i] = allowedContentTypes[i].trim().toLowerCase(Locale.ENGLISH);
+		}
+	}
+
+	@Override
+	public <U extends UploadedFile> List<InterpolatedMessage> validate(ValidationContext<U> ctx) {
+		return check(ctx.getElementName(), ctx.getValidatedValue());
+	}
+	
+	@Override
+	public List<InterpolatedMessage> check(String elementName, UploadedFile file) {
+		List<InterpolatedMessage> msgs = new ArrayList<InterpolatedMessage>();
+		if (file != null) {
+			if (!isAllowed(file.getContentType())) {
+				msgs.add(error(elementName, MESSAGE, 
+					new Arg(CURRENT_VALUE_ARG, file.getContentType()),
+					new Arg(ALLOWED_CONTENT_TYPES_ARG, String.join(", ", allowedContentTypes))));
+			}
+		}
+		return msgs;
+	}
+	
+	@Override
+	public long getMaxSize() {
+		return -1;
+	}
+	
+	@Override
+	public int getLeadingBytesCount() {
+		return 0;
+	}
+	
+	public String[] getAllowedContentTypes() {
+		return allowedContentTypes.clone();
+	}
+	
+	private boolean isAllowed(String contentType) {
+		if (contentType == null) return false;
+		String type = contentType;
+		int paramsStart = type.indexOf(';');
+		if (paramsStart >= 0) {
+			type = type.substring(0, paramsStart);
+		}
+		type = type.trim().toLowerCase(Locale.ENGLISH);
+		for (String allowed : allowedContentTypes) {
+			if (allowed.endsWith("/*")) {
+				if (type.startsWith(allowed.substring(0, allowed.length() - 1))) {
+					return true;
+				}
+			} else if (allowed.equals(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
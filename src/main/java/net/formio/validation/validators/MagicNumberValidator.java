@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation.validators;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.formio.upload.UploadConstraint;
+import net.formio.upload.UploadedFile;
+import net.formio.validation.Arg;
+import net.formio.validation.InterpolatedMessage;
+import net.formio.validation.ValidationContext;
+
+/**
+ * Validator of uploaded file that checks leading bytes of file content (magic number 
+ * identifying format of the file, e.g. "%PDF" for PDF documents). The file is valid 
+ * if its content starts with one of given signatures.
+ * When used with {@link net.formio.upload.ConstrainedUploadSink}, file with other content 
+ * is rejected as soon as its leading bytes are uploaded.
+ * @author Radek Beran
+ */
+public class MagicNumberValidator extends AbstractValidator<UploadedFile> implements UploadConstraint {
+	
+	public static final String MESSAGE = "{constraints.MagicNumber.message}";
+	
+	private final byte[][] signatures;
+	private final int leadingBytesCount;
+	
+	public static MagicNumberValidator getInstance(byte[] ... signatures) {
+		return new MagicNumberValidator(signatures); 
+	}
+	
+	private MagicNumberValidator(byte[][] signatures) {
+		if (signatures == null || signatures.length == 0) throw new IllegalArgumentException("At least one signature must be specified");
+		this.signatures = new byte[signatures.length][];
+		int maxLength = 0;
+		for (int i = 0; i < signatures.length; i++) {
+			this.signatures[i] = signatures[i].clone();
+			maxLength = Math.max(maxLength, signatures[i].length);
+		}
+		this.leadingBytesCount = maxLength;
+	}
+
+	@Override
+	public <U extends UploadedFile> List<InterpolatedMessage> validate(ValidationContext<U> ctx) {
+		return check(ctx.getElementName(), ctx.getValidatedValue());
+	}
+	
+	@Override
+	public List<InterpolatedMessage> check(String elementName, UploadedFile file) {
+		List<InterpolatedMessage> msgs = new ArrayList<InterpolatedMessage>();
+		if (file != null) {
+			if (!hasSignature(readLeadingBytes(file))) {
+				msgs.add(error(elementName, MESSAGE, 
+					new Arg(CURRENT_VALUE_ARG, file.getFileName())));
+			}
+		}
+		return msgs;
+	}
+	
+	@Override
+	public long getMaxSize() {
+		return -1;
+	}
+	
+	@Override
+	public int getLeadingBytesCount() {
+		return leadingBytesCount;
+	}
+	
+	private boolean hasSignature(ByteBuffer leadingBytes) {
+		for (byte[] signature : signatures) {
+			if (leadingBytes.remaining() >= signature.length) {
+				boolean matches = true;
+				for (int i = 0; i < signature.length; i++) {
+					if (leadingBytes.get(i) != signature[i]) {
+						matches = false;
+						break;
+					}
+				}
+				if (matches) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	private ByteBuffer readLeadingBytes(UploadedFile file) {
+		ByteBuffer bb = ByteBuffer.allocate(leadingBytesCount);
+		try {
+			ReadableByteChannel content = file.getContent();
+			try {
+				while (bb.hasRemaining() && content.read(bb) >= 0) {
+					// reading until the buffer is full or the end of content
+				}
+			} finally {
+				content.close();
+			}
+		} catch (IOException ex) {
+			throw new RuntimeException(ex.getMessage(), ex);
+		}
+		bb.flip();
+		return bb;
+	}
+}
@@ -19,6 +19,7 @@ package net.formio.validation.validators;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.formio.upload.UploadConstraint;
 import net.formio.upload.UploadedFile;
 import net.formio.validation.Arg;
 import net.formio.validation.InterpolatedMessage;
@@ -28,12 +29,15 @@ import net.formio.validation.constraints.MaxFileSizeValidation;
 
 /**
  * Maximum file size validator.
+ * When used with {@link net.formio.upload.ConstrainedUploadSink}, uploading of too big file 
+ * is aborted as soon as the maximum size is exceeded.
  * @author Radek Beran
  */
-public class MaxFileSizeValidator extends AbstractValidator<UploadedFile> {
+public class MaxFileSizeValidator extends AbstractValidator<UploadedFile> implements UploadConstraint {
 	
 	protected static final String MAX_ARG = "max";
 	private final String maxFileSizeStr;
+	private final long maxFileSize;
 	
 	/**
 	 * @param maxFileSizeStr Max file size e.g. "2MB", "1.2GB"
@@ -45,20 +49,36 @@ public class MaxFileSizeValidator extends AbstractValidator<UploadedFile> {
 	
 	private MaxFileSizeValidator(String maxFileSizeStr) {
 		this.maxFileSizeStr = maxFileSizeStr;
+		this.maxFileSize = MaxFileSizeValidation.parseFileSize(maxFileSizeStr);
 	}
 
 	@Override
 	public <U extends UploadedFile> List<InterpolatedMessage> validate(ValidationContext<U> ctx) {
+		return check(ctx.getElementName(), ctx.getValidatedValue());
+	}
+	
+	@Override
+	public List<InterpolatedMessage> check(String elementName, UploadedFile file) {
 		List<InterpolatedMessage> msgs = new ArrayList<InterpolatedMessage>();
-		if (ctx.getValidatedValue() != null) {
-			if (!MaxFileSizeValidation.isValid(ctx.getValidatedValue().getSize(), maxFileSizeStr)) {
-				msgs.add(error(ctx.getElementName(), MaxFileSize.MESSAGE, 
+		if (file != null) {
+			if (file.getSize() > maxFileSize) {
+				msgs.add(error(elementName, MaxFileSize.MESSAGE, 
 					new Arg(MAX_ARG, maxFileSizeStr)));
 			}
 		}
 		return msgs;
 	}
 	
+	@Override
+	public long getMaxSize() {
+		return maxFileSize;
+	}
+	
+	@Override
+	public int getLeadingBytesCount() {
+		return 0;
+	}
+	
 	public String getMaxFileSizeStr() {
 		return maxFileSizeStr;
 	}
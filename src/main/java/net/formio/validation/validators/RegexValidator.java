@@ -37,6 +37,7 @@ public class RegexValidator extends AbstractValidator<String> {
 	
 	private final String regexp;
 	private final Pattern.Flag[] patternFlags;
+	private final java.util.regex.Pattern pattern;
 	
 	public static RegexValidator getInstance(String regexp, Pattern.Flag ... patternFlags) {
 		return new RegexValidator(regexp, patternFlags);
@@ -45,13 +46,14 @@ public class RegexValidator extends AbstractValidator<String> {
 	private RegexValidator(String regexp, Pattern.Flag ... patternFlags) {
 		this.regexp = regexp;
 		this.patternFlags = patternFlags;
+		this.pattern = RegexValidation.compile(regexp, patternFlags);
 	}
 
 	@Override
 	public <U extends String> List<InterpolatedMessage> validate(ValidationContext<U> ctx) {
 		List<InterpolatedMessage> msgs = new ArrayList<InterpolatedMessage>();
 		if (ctx.getValidatedValue() != null) {
-			if (!RegexValidation.isValid(ctx.getValidatedValue(), regexp, patternFlags)) {
+			if (!RegexValidation.isValid(ctx.getValidatedValue(), pattern)) {
 				msgs.add(error(ctx.getElementName(), "{" + Pattern.class.getName() + ".message}",
 					new Arg(CURRENT_VALUE_ARG, ctx.getValidatedValue()), 
 					new Arg(REGEXP_ARG, regexp),
@@ -68,4 +70,12 @@ public class RegexValidator extends AbstractValidator<String> {
 	public Pattern.Flag[] getPatternFlags() {
 		return patternFlags;
 	}
+	
+	/**
+	 * Returns regular expression compiled with pattern flags.
+	 * @return
+	 */
+	public java.util.regex.Pattern getPattern() {
+		return pattern;
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation.validators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.formio.upload.UploadConstraint;
+import net.formio.upload.UploadedFile;
+import net.formio.validation.Arg;
+import net.formio.validation.InterpolatedMessage;
+import net.formio.validation.ValidationContext;
+import net.formio.validation.constraints.FileExtension;
+import net.formio.validation.constraints.FileExtensionValidation;
+
+/**
+ * File extension validator of uploaded file (see {@link FileExtensionValidator} for validator of file names).
+ * When used with {@link net.formio.upload.ConstrainedUploadSink}, file with not allowed extension 
+ * is rejected before its content is uploaded.
+ * @author Radek Beran
+ */
+public class UploadedFileExtensionValidator extends AbstractValidator<UploadedFile> implements UploadConstraint {
+	
+	protected static final String ALLOWED_EXTENSIONS_ARG = "allowedExtensions";
+	
+	private final String[] allowedExtensions;
+	private final boolean ignoreCase;
+	
+	public static UploadedFileExtensionValidator getInstance(String[] allowedExtensions, boolean ignoreCase) {
+		return new UploadedFileExtensionValidator(allowedExtensions, ignoreCase); 
+	}
+	
+	private UploadedFileExtensionValidator(String[] allowedExtensions, boolean ignoreCase) {
+		this.allowedExtensions = allowedExtensions;
+		this.ignoreCase = ignoreCase;
+	}
+
+	@Override
+	public <U extends UploadedFile> List<InterpolatedMessage> validate(ValidationContext<U> ctx) {
+		return check(ctx.getElementName(), ctx.getValidatedValue());
+	}
+	
+	@Override
+	public List<InterpolatedMessage> check(String elementName, UploadedFile file) {
+		List<InterpolatedMessage> msgs = new ArrayList<InterpolatedMessage>();
+		if (file != null && file.getFileName() != null && !file.getFileName().isEmpty()) {
+			if (!FileExtensionValidation.hasFileExtension(file.getFileName(), allowedExtensions, ignoreCase)) {
+				msgs.add(error(elementName, FileExtension.MESSAGE, 
+					new Arg(CURRENT_VALUE_ARG, file.getFileName()),
+					new Arg(ALLOWED_EXTENSIONS_ARG, extensionsToString(allowedExtensions))));
+			}
+		}
+		return msgs;
+	}
+	
+	@Override
+	public long getMaxSize() {
+		return -1;
+	}
+	
+	@Override
+	public int getLeadingBytesCount() {
+		return 0;
+	}
+	
+	public String[] getAllowedExtensions() {
+		return allowedExtensions;
+	}
+	
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+	
+	private String extensionsToString(String[] exts) {
+		String str = exts != null ? Arrays.toString(exts) : "";
+		if (str != null && !str.isEmpty()) {
+			str = str.substring(1, str.length() - 1);
+		}
+		return str;
+	}
+}
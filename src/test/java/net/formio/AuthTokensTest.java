@@ -20,15 +20,19 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import net.formio.data.MockRequestContext;
 import net.formio.data.RequestContext;
+import net.formio.data.SessionStorage;
 import net.formio.data.TestForms;
 import net.formio.domain.Person;
 import net.formio.inmemory.MapParams;
 import net.formio.security.HashTokenAuthorizer;
+import net.formio.security.HmacTokenAuthorizer;
 import net.formio.security.InvalidTokenException;
 import net.formio.security.TokenAuthorizer;
 import net.formio.security.TokenMissingException;
+import net.formio.servlet.ServletRequestContext;
 
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 /**
  * Tests for {@link AuthTokens}.
@@ -79,4 +83,125 @@ public class AuthTokensTest {
 		params.put(rootMappingPath + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, "some_invalid_token_value");
 		AuthTokens.verifyAuthToken(ctx, tokenAuthorizer, rootMappingPath, params, true, pathSep);
 	}
+	
+	@Test
+	public void testStatelessAuthToken() {
+		final String signingKey = "server-key";
+		TokenAuthorizer tokenAuthorizer = new HmacTokenAuthorizer();
+		FormMapping<Person> personForm = TestForms.PERSON_FORM; 
+		String pathSep = personForm.getConfig().getPathSeparator();
+		String rootMappingPath = personForm.getName();
+		String authToken = AuthTokens.generateAuthToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, rootMappingPath, signingKey);
+		
+		MapParams params = new MapParams();
+		params.put(rootMappingPath + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, authToken);
+		try {
+			AuthTokens.verifyAuthToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, rootMappingPath, params, true, pathSep, signingKey);
+			// stateless token is not consumed
+			AuthTokens.verifyAuthToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, rootMappingPath, params, true, pathSep, signingKey);
+		} catch (InvalidTokenException ex) {
+			fail("Token is not valid: " + ex.getMessage());
+		}
+		assertInvalidStatelessToken(new StatelessRequestContext("user2", "session1"), tokenAuthorizer, rootMappingPath, params, pathSep, signingKey);
+		assertInvalidStatelessToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, rootMappingPath, params, pathSep, "another-key");
+		assertInvalidStatelessToken(new StatelessRequestContext("user1", "session2"), tokenAuthorizer, rootMappingPath, params, pathSep, signingKey);
+		MapParams anotherFormParams = new MapParams();
+		anotherFormParams.put("another" + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, authToken);
+		assertInvalidStatelessToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, "another", anotherFormParams, pathSep, signingKey);
+	}
+	
+	@Test
+	public void testStatelessSecuredForm() {
+		Config config = Forms.config().statelessAuthTokens("server-key").build();
+		FormMapping<Person> form = Forms.basic(Person.class, "person").fields("firstName", "lastName").secured(true).build(config);
+		String pathSep = config.getPathSeparator();
+		RequestContext ctx = new StatelessRequestContext("user1", "session1");
+		FormMapping<Person> filledForm = form.fill(new FormData<Person>(new Person("Michael", "Rider")), ctx);
+		String authToken = filledForm.getFields().get(Forms.AUTH_TOKEN_FIELD_NAME).getValue();
+		
+		MapParams params = new MapParams();
+		params.put("person" + pathSep + "firstName", "John");
+		params.put("person" + pathSep + "lastName", "Smith");
+		params.put("person" + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, authToken);
+		assertTrue(form.bind(params, ctx).isValid());
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testStatelessAuthTokenWithoutSession() {
+		AuthTokens.generateAuthToken(new StatelessRequestContext("user1", null), new HmacTokenAuthorizer(), "person", "server-key");
+	}
+	
+	@Test
+	public void testStatelessAuthTokenVerifiedWithoutSession() {
+		final String signingKey = "server-key";
+		TokenAuthorizer tokenAuthorizer = new HmacTokenAuthorizer();
+		String pathSep = TestForms.PERSON_FORM.getConfig().getPathSeparator();
+		String authToken = AuthTokens.generateAuthToken(new StatelessRequestContext("user1", "session1"), tokenAuthorizer, "person", signingKey);
+		
+		MapParams params = new MapParams();
+		params.put("person" + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, authToken);
+		// session has expired before the form was submitted
+		assertInvalidStatelessToken(new StatelessRequestContext("user1", null), tokenAuthorizer, "person", params, pathSep, signingKey);
+		assertInvalidStatelessToken(new StatelessRequestContext("user1", ""), tokenAuthorizer, "person", params, pathSep, signingKey);
+	}
+	
+	@Test
+	public void testStatelessAuthTokenOfAnotherServletSession() {
+		final String signingKey = "server-key";
+		TokenAuthorizer tokenAuthorizer = new HmacTokenAuthorizer();
+		String pathSep = TestForms.PERSON_FORM.getConfig().getPathSeparator();
+		// attacker requests the form with user agent and forwarded IP address of the victim
+		MockHttpServletRequest attackerRequest = newServletRequest();
+		String authToken = AuthTokens.generateAuthToken(new ServletRequestContext(attackerRequest), tokenAuthorizer, "person", signingKey);
+		
+		MapParams params = new MapParams();
+		params.put("person" + pathSep + Forms.AUTH_TOKEN_FIELD_NAME, authToken);
+		AuthTokens.verifyAuthToken(new ServletRequestContext(attackerRequest), tokenAuthorizer, "person", params, true, pathSep, signingKey);
+		assertInvalidStatelessToken(new ServletRequestContext(newServletRequest()), tokenAuthorizer, "person", params, pathSep, signingKey);
+	}
+	
+	private MockHttpServletRequest newServletRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("User-Agent", "Mozilla/5.0");
+		request.addHeader("X-Forwarded-For", "10.0.0.1");
+		request.getSession(true);
+		return request;
+	}
+	
+	private void assertInvalidStatelessToken(RequestContext ctx, TokenAuthorizer tokenAuthorizer, String rootMappingPath, MapParams params, String pathSep, String signingKey) {
+		try {
+			AuthTokens.verifyAuthToken(ctx, tokenAuthorizer, rootMappingPath, params, true, pathSep, signingKey);
+			fail("Token should be invalid");
+		} catch (InvalidTokenException ex) {
+			// expected
+		}
+	}
+	
+	/**
+	 * Context that does not allow usage of session storage.
+	 */
+	private static class StatelessRequestContext implements RequestContext {
+		private final String userId;
+		private final String sessionId;
+		
+		StatelessRequestContext(String userId, String sessionId) {
+			this.userId = userId;
+			this.sessionId = sessionId;
+		}
+		
+		@Override
+		public String getSessionId() {
+			return sessionId;
+		}
+		
+		@Override
+		public SessionStorage getSessionStorage() {
+			throw new AssertionError("Session storage should not be used");
+		}
+
+		@Override
+		public String secretWithUserIdentification(String secret) {
+			return secret + "_" + userId;
+		}
+	}
 }
@@ -24,9 +24,14 @@ import net.formio.data.TestData;
 import net.formio.data.TestForms;
 import net.formio.domain.Address;
 import net.formio.domain.Collegue;
+import net.formio.domain.Company;
+import net.formio.domain.Department;
 import net.formio.domain.Engine;
 import net.formio.domain.Person;
 import net.formio.domain.Registration;
+import net.formio.format.Location;
+import net.formio.inmemory.MapParams;
+import net.formio.validation.ConstraintViolationMessage;
 import net.formio.validation.ValidationResult;
 
 import org.junit.Test;
@@ -80,6 +85,220 @@ public class BasicFormMappingTest {
 		testBasicRegFormElements(filledForm);
 	}
 	
+	@Test
+	public void testTooLargeIndexIsNotBound() {
+		MapParams params = new MapParams();
+		params.put("registration-collegues[0]-name", "Lisa");
+		params.put("registration-collegues[900000000]-name", "Bart");
+		FormData<Registration> formData = TestForms.BASIC_REG_FORM.bind(params);
+		assertTrue(formData.getData().getCollegues().isEmpty());
+		assertNotNull(formData.getValidationResult().getFieldMessages().get("registration-collegues"));
+	}
+	
+	@Test
+	public void testBindListWithGap() {
+		MapParams params = new MapParams();
+		params.put("registration-collegues[0]-name", "Lisa");
+		params.put("registration-collegues[0]-email", "lisa@email.com");
+		params.put("registration-collegues[2]-name", "Bart");
+		params.put("registration-collegues[2]-email", "invalid email");
+		FormData<Registration> formData = TestForms.BASIC_REG_FORM.bind(params, Location.ENGLISH);
+		List<Collegue> collegues = formData.getData().getCollegues();
+		assertEquals("Position of item should be its index", 3, collegues.size());
+		assertEquals("Lisa", collegues.get(0).getName());
+		assertNull(collegues.get(1).getName());
+		assertEquals("Bart", collegues.get(2).getName());
+		assertNotNull(formData.getValidationResult().getFieldMessages().get("registration-collegues[2]-email"));
+		
+		FormMapping<Registration> filledForm = TestForms.BASIC_REG_FORM.fill(formData, Location.ENGLISH);
+		FormMapping<Collegue> bart = filledForm.getMapping(Collegue.class, "collegues").getList().get(2);
+		assertEquals("Bart", bart.getField(String.class, "name").getValue());
+		assertFalse("Messages of item should be rendered in its row", 
+			bart.getField(String.class, "email").getValidationMessages().isEmpty());
+		assertTrue(filledForm.getMapping(Collegue.class, "collegues").getList().get(0)
+			.getField(String.class, "email").getValidationMessages().isEmpty());
+	}
+	
+	@Test
+	public void testMaxListSizeExceeded() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+			.build(Forms.config().location(Location.ENGLISH).maxListSize(2).build());
+		assertEquals(2, ((BasicListFormMapping<Collegue>)form.getMapping(Collegue.class, "collegues")).getMaxListSize());
+		MapParams params = new MapParams();
+		params.put("registration-collegues[0]-name", "Lisa");
+		params.put("registration-collegues[1]-name", "Bart");
+		assertEquals(2, form.bind(params).getData().getCollegues().size());
+		
+		params.put("registration-collegues[2]-name", "Maggie");
+		FormData<Registration> formData = form.bind(params);
+		assertTrue("List items should not be bound", formData.getData().getCollegues().isEmpty());
+		List<ConstraintViolationMessage> msgs = formData.getValidationResult().getFieldMessages().get("registration-collegues");
+		assertEquals(1, msgs.size());
+		assertEquals(new MaxListSizeExceededError("", 0, 0).getMessageKey(), "{" + msgs.get(0).getMsgKey() + "}");
+		assertEquals("Count of items 3 exceeded maximum allowed count 2.", msgs.get(0).getText());
+	}
+	
+	@Test
+	public void testMaxListSizeOfMapping() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").maxListSize(1).build())
+			.build(Location.ENGLISH);
+		MapParams params = new MapParams();
+		params.put("registration-collegues[0]-name", "Lisa");
+		params.put("registration-collegues[1]-name", "Bart");
+		FormData<Registration> formData = form.bind(params);
+		assertTrue(formData.getData().getCollegues().isEmpty());
+		assertNotNull(formData.getValidationResult().getFieldMessages().get("registration-collegues"));
+	}
+	
+	@Test(timeout = 10000)
+	public void testMaxBoundListItemsOfNestedLists() {
+		FormMapping<Company> form = Forms.basic(Company.class, "company")
+			.nested(Forms.basic(Department.class, "departments", null, MappingType.LIST).fields("name")
+				.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+				.build())
+			.build(Location.ENGLISH);
+		assertEquals(Config.DEFAULT_MAX_BOUND_LIST_ITEMS, form.getConfig().getMaxBoundListItems());
+		MapParams params = new MapParams();
+		for (int i = 0; i < Config.DEFAULT_MAX_LIST_SIZE; i++) {
+			// each of the parameters would create maximum allowed count of items of nested list
+			params.put("company-departments[" + i + "]-collegues[" + (Config.DEFAULT_MAX_LIST_SIZE - 1) + "]-name", "Lisa");
+		}
+		FormData<Company> formData = form.bind(params);
+		List<Department> departments = formData.getData().getDepartments();
+		assertEquals(Config.DEFAULT_MAX_LIST_SIZE, departments.size());
+		// 1000 departments and collegues of 9 departments are within the limit of bound list items
+		assertEquals(Config.DEFAULT_MAX_LIST_SIZE, departments.get(8).getCollegues().size());
+		assertEquals("Lisa", departments.get(8).getCollegues().get(Config.DEFAULT_MAX_LIST_SIZE - 1).getName());
+		assertTrue("List items should not be bound", departments.get(9).getCollegues().isEmpty());
+		assertTrue("List items should not be bound", departments.get(Config.DEFAULT_MAX_LIST_SIZE - 1).getCollegues().isEmpty());
+		List<ConstraintViolationMessage> msgs = formData.getValidationResult().getFieldMessages().get("company-departments[9]-collegues");
+		assertEquals(1, msgs.size());
+		assertEquals(new MaxListSizeExceededError("", 0, 0).getMessageKey(), "{" + msgs.get(0).getMsgKey() + "}");
+	}
+	
+	@Test
+	public void testMaxBoundListItems() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+			.build(Forms.config().location(Location.ENGLISH).maxBoundListItems(3).build());
+		MapParams params = new MapParams();
+		params.put("registration-collegues[0]-name", "Lisa");
+		params.put("registration-collegues[1]-name", "Bart");
+		assertEquals(2, form.bind(params).getData().getCollegues().size());
+		
+		params.put("registration-collegues[2]-name", "Maggie");
+		params.put("registration-collegues[3]-name", "Homer");
+		FormData<Registration> formData = form.bind(params);
+		assertTrue("List items should not be bound", formData.getData().getCollegues().isEmpty());
+		assertNotNull(formData.getValidationResult().getFieldMessages().get("registration-collegues"));
+	}
+	
+	@Test
+	public void testNamesOfListElements() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+			.build(Location.ENGLISH);
+		FormMapping<Registration> filledForm = form.fill(new FormData<Registration>(TestData.newRegistration(), null));
+		String pathSep = filledForm.getConfig().getPathSeparator();
+		FormMapping<Collegue> collegue = filledForm.getMapping(Collegue.class, "collegues").getList().get(1);
+		String mappingName = "registration" + pathSep + "collegues[1]";
+		assertEquals(mappingName, collegue.getName());
+		assertEquals("registration" + pathSep + "collegues", collegue.getLabelKey());
+		assertEquals("id-" + mappingName, collegue.getElementId());
+		assertEquals("placeholder" + pathSep + mappingName, collegue.getElementPlaceholderId());
+		
+		FormField<String> name = collegue.getField(String.class, "name");
+		assertEquals(mappingName + pathSep + "name", name.getName());
+		assertEquals("registration" + pathSep + "collegues" + pathSep + "name", name.getLabelKey());
+		assertEquals("id-" + mappingName + pathSep + "name", name.getElementId());
+		assertEquals("id-" + mappingName + pathSep + "name" + pathSep + "2", name.getElementIdWithIndex(2));
+		assertEquals("placeholder" + pathSep + mappingName + pathSep + "name", name.getElementPlaceholderId());
+	}
+	
+	@Test
+	public void testFindElement() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+			.build(Location.ENGLISH);
+		FormMapping<Registration> filledForm = form.fill(new FormData<Registration>(TestData.newRegistration(), null));
+		String pathSep = filledForm.getConfig().getPathSeparator();
+		FormMapping<Collegue> collegue = filledForm.getMapping(Collegue.class, "collegues").getList().get(1);
+		FormField<String> name = collegue.getField(String.class, "name");
+		assertSame(name, filledForm.findElement(name.getName()));
+		assertSame(collegue, filledForm.findElement(collegue.getName()));
+		FormField<Object> attendanceReasons = filledForm.getField(Object.class, "attendanceReasons");
+		assertSame(attendanceReasons, filledForm.findElement("registration" + pathSep + "attendanceReasons"));
+		assertSame(name, attendanceReasons.findElement(name.getName()));
+		assertSame(filledForm, attendanceReasons.findElement("registration"));
+		assertNull(filledForm.findElement("registration" + pathSep + "collegues[100]"));
+		assertEquals(2, filledForm.requireElements(name.getName(), collegue.getName()).size());
+	}
+	
+	@Test
+	public void testElementsAreShared() {
+		FormMapping<Registration> filledForm = TestForms.BASIC_REG_FORM.fill(new FormData<Registration>(TestData.newRegistration(), null));
+		assertSame(filledForm.getElements(), filledForm.getElements());
+		assertSame(filledForm.getNested(), filledForm.getNested());
+		testBasicRegFormElements(filledForm);
+		try {
+			filledForm.getElements().clear();
+			fail("Elements should be unmodifiable");
+		} catch (UnsupportedOperationException ex) {
+			// expected
+		}
+	}
+	
+	@Test
+	public void testFilledFormSharesDefinition() {
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.field(Forms.<String>field("email").labelKey("contact.email").required(true))
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST).fields("name").build())
+			.build(Location.ENGLISH);
+		Registration registration = TestData.newRegistration();
+		registration.setEmail("homer@email.com");
+		FormMapping<Registration> filledForm = form.fill(new FormData<Registration>(registration, null));
+		FormField<String> emailDef = form.getField(String.class, "email");
+		FormField<String> email = filledForm.getField(String.class, "email");
+		assertEquals("homer@email.com", email.getValue());
+		assertNull(emailDef.getValue());
+		assertSame(emailDef.getProperties(), email.getProperties());
+		assertSame(emailDef.getValidators(), email.getValidators());
+		try {
+			email.getValidators().clear();
+			fail("Validators shared by filled fields should not be modifiable");
+		} catch (UnsupportedOperationException ex) {
+			// expected
+		}
+		assertEquals("contact.email", email.getLabelKey());
+		assertSame(form.getProperties(), filledForm.getProperties());
+		
+		FormMapping<Collegue> colleguesDef = form.getMapping(Collegue.class, "collegues");
+		FormMapping<Collegue> collegue = filledForm.getMapping(Collegue.class, "collegues").getList().get(0);
+		assertSame(colleguesDef.getField(String.class, "name").getProperties(), collegue.getField(String.class, "name").getProperties());
+		assertSame(colleguesDef.getProperties(), collegue.getProperties());
+	}
+	
+	@Test
+	public void testFilledElementsAreAttachedToFilledMapping() {
+		FormMapping<Registration> filledForm = TestForms.BASIC_REG_FORM.fill(new FormData<Registration>(TestData.newRegistration(), null));
+		for (FormField<?> field : filledForm.getFields().values()) {
+			assertSame(filledForm, field.getParent());
+		}
+		FormMapping<Address> contactAddress = filledForm.getMapping(Address.class, "contactAddress");
+		assertSame(filledForm, contactAddress.getParent());
+		assertSame(contactAddress, contactAddress.getField(String.class, "street").getParent());
+		assertEquals("Praha", contactAddress.getField(String.class, "city").getValue());
+		FormMapping<Collegue> collegue = filledForm.getMapping(Collegue.class, "collegues").getList().get(0);
+		assertSame(collegue, collegue.getField(String.class, "name").getParent());
+	}
+	
 	private void testBasicRegFormElements(FormMapping<Registration> mapping) {
 		String pathSep = mapping.getConfig().getPathSeparator();
 		String rootMappingName = "registration";
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import net.formio.inmemory.MapParams;
+
+import org.junit.Test;
+
+public class RequestParamsIndexTest {
+
+	@Test
+	public void testMaxIndex() {
+		RequestParamsIndex index = new RequestParamsIndex(Arrays.asList(
+			"form-items[0]-name", "form-items[2]-name", "form-items[10]-name", 
+			"form-items[2]-dates[5]-from", "form-other[7]", "form-items[x]-name", "form-items[]"));
+		assertEquals(10, index.getMaxIndex("form-items"));
+		assertEquals(Arrays.asList(Integer.valueOf(0), Integer.valueOf(2), Integer.valueOf(10)), 
+			Arrays.asList(index.getIndexes("form-items").toArray()));
+		assertEquals(5, index.getMaxIndex("form-items[2]-dates"));
+		assertEquals(7, index.getMaxIndex("form-other"));
+		assertEquals(-1, index.getMaxIndex("form-item"));
+		assertEquals(-1, index.getMaxIndex("form"));
+	}
+	
+	@Test
+	public void testPathIsNotRegularExpression() {
+		RequestParamsIndex index = new RequestParamsIndex(Arrays.asList("formAitems[1]-name", "form.items[3]-name"));
+		assertEquals(3, index.getMaxIndex("form.items"));
+		assertEquals(-1, index.getMaxIndex("form.+"));
+	}
+	
+	@Test
+	public void testContainsAndPrefix() {
+		RequestParamsIndex index = new RequestParamsIndex(Arrays.asList("b-c", "a-b", "b-a", "b", "c"));
+		assertTrue(index.contains("b-a"));
+		assertFalse(index.contains("b-"));
+		assertEquals(Arrays.asList("b-a", "b-c"), index.getParamNames("b-"));
+		assertEquals(Arrays.asList("a-b", "b", "b-a", "b-c", "c"), index.getParamNames(""));
+		assertTrue(index.getParamNames("d").isEmpty());
+	}
+	
+	@Test
+	public void testIndexOfMapParams() {
+		MapParams params = new MapParams();
+		params.put("list[1]-a", "1");
+		RequestParamsIndex index = RequestParamsIndex.of(params);
+		assertSame(index, RequestParamsIndex.of(params));
+		assertEquals(1, index.getMaxIndex("list"));
+		params.put("list[4]-a", "4");
+		assertEquals(4, RequestParamsIndex.of(params).getMaxIndex("list"));
+		params.clear();
+		assertEquals(-1, RequestParamsIndex.of(params).getMaxIndex("list"));
+	}
+	
+	@Test(timeout = 5000)
+	public void testNameWithManyIndexes() {
+		StringBuilder sb = new StringBuilder("a");
+		for (int i = 0; i < 100000; i++) {
+			sb.append("[1]");
+		}
+		String name = sb.toString();
+		RequestParamsIndex index = new RequestParamsIndex(Arrays.asList(name, "a[2]-b"));
+		assertEquals(2, index.getMaxIndex("a"));
+		assertEquals(1, index.getMaxIndex("a[1]"));
+		assertEquals(1, index.getMaxIndex(name.substring(0, name.length() - 3)));
+		assertEquals(-1, index.getMaxIndex(name));
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import net.formio.domain.Person;
+
+import org.junit.Test;
+
+public class BindingPlanTest {
+
+	@Test
+	public void testPlanIsCachedPerClassAndRegex() {
+		BindingPlan plan = BindingPlan.getInstance(Person.class, DefaultBinder.DEFAULT_SETTER_REGEX);
+		assertSame(plan, BindingPlan.getInstance(Person.class, new PropertyMethodRegex(DefaultBinder.DEFAULT_SETTER_REGEX.getRegex(), 1)));
+	}
+	
+	@Test
+	public void testSettersAreResolved() throws Throwable {
+		BindingPlan plan = BindingPlan.getInstance(Person.class, DefaultBinder.DEFAULT_SETTER_REGEX);
+		List<BindingPlan.PropertySetter> setters = plan.getSetters("salary");
+		assertEquals(1, setters.size());
+		BindingPlan.PropertySetter setter = setters.get(0);
+		assertEquals(int.class, setter.getParamClass());
+		assertEquals(Integer.valueOf(0), setter.getDefaultValue());
+		
+		Person person = new Person("Michael", "Cane");
+		setter.invoke(person, Integer.valueOf(1200));
+		assertEquals(1200, person.getSalary());
+		setter.invoke(person, null);
+		assertEquals(0, person.getSalary());
+		
+		assertEquals(1, plan.getSetters("Nation").size());
+		assertTrue(plan.getSetters("firstName").isEmpty());
+	}
+}
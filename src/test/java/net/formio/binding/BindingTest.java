@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.LinkedHashMap;
@@ -81,6 +82,27 @@ public class BindingTest {
 		assertEquals(Nation.valueOf(nation), person.getNation());
 	}
 	
+	@Test
+	public void testBindUsingOverriddenSetterRecognition() {
+		DefaultBinder binder = new DefaultBinder(new BasicFormatters()) {
+			@Override
+			protected boolean isPropertySetter(Method method, String propertyName) {
+				if ("income".equals(propertyName)) {
+					return method.getName().equals("setSalary");
+				}
+				return super.isPropertySetter(method, propertyName);
+			}
+		};
+		Map<String, BoundValuesInfo> values = new LinkedHashMap<String, BoundValuesInfo>();
+		values.put("firstName", BoundValuesInfo.getInstance(new Object[] { "Michael" }));
+		values.put("lastName", BoundValuesInfo.getInstance(new Object[] { "Cane" }));
+		values.put("income", BoundValuesInfo.getInstance(new Object[] { "40000" }));
+		
+		BoundData<Person> filledPerson = binder.bindToNewInstance(Person.class, new ConstructorInstantiator(), values);
+		assertTrue(filledPerson.isSuccessfullyBound());
+		assertEquals(40000, filledPerson.getData().getSalary());
+	}
+	
 	private DefaultBinder createBinding() { return new DefaultBinder(new BasicFormatters()); }
 
 }
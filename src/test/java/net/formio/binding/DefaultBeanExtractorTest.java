@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import net.formio.domain.Nation;
+import net.formio.domain.Person;
+
+import org.junit.Test;
+
+public class DefaultBeanExtractorTest {
+
+	@Test
+	public void testExtractAllowedProperties() {
+		Person person = new Person("Michael", "Cane");
+		person.setSalary(1200);
+		person.setNation(Nation.CZECH);
+		Map<String, Object> values = new DefaultBeanExtractor().extractBean(person, 
+			new HashSet<String>(Arrays.asList("firstName", "salary", "nation", "nonExisting")));
+		assertEquals(3, values.size());
+		assertEquals("Michael", values.get("firstName"));
+		assertEquals(Integer.valueOf(1200), values.get("salary"));
+		assertEquals(Nation.CZECH, values.get("nation"));
+		assertFalse(values.containsKey("lastName"));
+	}
+	
+	@Test
+	public void testExtractSingleProperty() {
+		DefaultBeanExtractor extractor = new DefaultBeanExtractor();
+		Person person = new Person("Michael", "Cane");
+		assertEquals(Collections.singletonMap("lastName", "Cane"), extractor.extractBean(person, Collections.singleton("lastName")));
+		assertTrue(extractor.extractBean(person, Collections.singleton("class")).isEmpty());
+		assertTrue(extractor.extractBean(null, Collections.singleton("lastName")).isEmpty());
+	}
+}
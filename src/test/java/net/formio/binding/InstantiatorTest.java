@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.formio.domain.Address;
+import net.formio.domain.Person;
+
+import org.junit.Test;
+
+public class InstantiatorTest {
+
+	@Test
+	public void testConstructorDescriptionIsCached() {
+		ConstructionDescription cd = new ConstructorInstantiator().getDescription(Person.class, new AnnotationArgumentNameResolver());
+		assertSame(cd, new ConstructorInstantiator().getDescription(Person.class, new AnnotationArgumentNameResolver()));
+		assertEquals(2, cd.getArgNames().size());
+		assertEquals("firstName", cd.getArgNames().get(0));
+	}
+	
+	@Test
+	public void testInstantiateUsingConstructor() {
+		ConstructorInstantiator instantiator = new ConstructorInstantiator();
+		ConstructionDescription cd = instantiator.getDescription(Person.class, new AnnotationArgumentNameResolver());
+		Person person = instantiator.instantiate(Person.class, cd, "Michael", "Cane");
+		assertEquals("Michael", person.getFirstName());
+		assertEquals("Cane", person.getLastName());
+	}
+	
+	@Test
+	public void testInstantiateUsingStaticFactoryMethod() {
+		StaticFactoryMethod instantiator = new StaticFactoryMethod(Address.class, "getInstance");
+		ConstructionDescription cd = instantiator.getDescription(Address.class, new AnnotationArgumentNameResolver());
+		assertSame(cd, new StaticFactoryMethod(Address.class, "getInstance").getDescription(Address.class, new AnnotationArgumentNameResolver()));
+		Address address = instantiator.instantiate(Address.class, cd, "Main street", "Prague", "10000");
+		assertEquals("Main street", address.getStreet());
+		assertEquals("Prague", address.getCity());
+		assertEquals("10000", address.getZipCode());
+	}
+	
+	@Test
+	public void testInstantiateWithIllegalArguments() {
+		ConstructorInstantiator instantiator = new ConstructorInstantiator();
+		ConstructionDescription cd = instantiator.getDescription(Person.class, new AnnotationArgumentNameResolver());
+		try {
+			instantiator.instantiate(Person.class, cd, Integer.valueOf(1), "Cane");
+			fail("Instantiation with argument of another type should fail");
+		} catch (BindingException ex) {
+			assertTrue(ex.getCause() instanceof ClassCastException);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BoundedCache}.
+ * @author Radek Beran
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void testGetAndPut() {
+		BoundedCache<String, Integer> cache = new BoundedCache<String, Integer>(10);
+		assertNull(cache.get("a"));
+		assertEquals(Integer.valueOf(1), cache.putIfAbsent("a", Integer.valueOf(1)));
+		// value stored earlier wins
+		assertEquals(Integer.valueOf(1), cache.putIfAbsent("a", Integer.valueOf(2)));
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		
+		CacheStats stats = cache.getStats();
+		assertEquals(1, stats.getHitCount());
+		assertEquals(1, stats.getMissCount());
+		assertEquals(0, stats.getEvictionCount());
+		assertEquals(1, stats.getSize());
+		assertEquals(10, stats.getMaxSize());
+		assertEquals(0.5, stats.getHitRate(), 0.0001);
+	}
+	
+	@Test
+	public void testEvictionOfLeastRecentlyUsed() {
+		BoundedCache<String, Integer> cache = new BoundedCache<String, Integer>(3);
+		cache.putIfAbsent("a", Integer.valueOf(1));
+		cache.putIfAbsent("b", Integer.valueOf(2));
+		cache.putIfAbsent("c", Integer.valueOf(3));
+		cache.get("a");
+		cache.putIfAbsent("d", Integer.valueOf(4));
+		
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getStats().getEvictionCount());
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals(Integer.valueOf(4), cache.get("d"));
+	}
+	
+	@Test
+	public void testSizeIsBounded() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(50);
+		for (int i = 0; i < 1000; i++) {
+			Integer key = Integer.valueOf(i);
+			cache.putIfAbsent(key, key);
+			cache.get(Integer.valueOf(i / 2));
+		}
+		assertTrue(cache.size() <= 50);
+		assertEquals(950, cache.getStats().getEvictionCount());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidMaxSize() {
+		new BoundedCache<String, String>(0);
+	}
+}
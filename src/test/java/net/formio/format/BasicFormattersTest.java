@@ -20,13 +20,29 @@ import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.DateFormat;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import junit.framework.Assert;
 
@@ -205,6 +221,24 @@ public class BasicFormattersTest {
 		}
 	}
 
+	@Test
+	public void testDatePatternLettersAsInSimpleDateFormat() throws ParseException {
+		final BasicFormatters formatters = new BasicFormatters();
+		final Location loc = Location.getInstance(new Locale("cs", "CZ"));
+		SimpleDateFormat sdf = new SimpleDateFormat("d.M.yyyy H:mm:ss.SSS", loc.getLocale());
+		if (loc.getTimeZone() != null) {
+			sdf.setTimeZone(loc.getTimeZone());
+		}
+		Date date = sdf.parse("21.3.2014 9:05:07.005");
+		final String pattern = "u F W w yyyy H:mm:ss.S 'u F S'";
+		sdf.applyPattern(pattern);
+		Assert.assertEquals(sdf.format(date), formatters.makeString(date, pattern, loc));
+		Assert.assertEquals("21.3.2014 9:05:07.042", 
+			formatters.makeString(new Date(date.getTime() + 37), "d.M.yyyy H:mm:ss.SSS", loc));
+		Assert.assertEquals(new Date(date.getTime() + 37), 
+			formatters.parseFromString("21.3.2014 9:05:07.042", Date.class, "d.M.yyyy H:mm:ss.SSS", loc));
+	}
+	
 	@Test
 	public void testParseLongFromString() {
 		final BasicFormatters formatters = new BasicFormatters();
@@ -264,6 +298,31 @@ public class BasicFormattersTest {
 		formatters.parseFromString("aaa", BigDecimal.class, loc);
 	}
 	
+	@Test(expected=StringParseException.class)
+	public void testByteOutOfRange() {
+		new BasicFormatters().parseFromString("300", Byte.class, Location.CZECH);
+	}
+	
+	@Test
+	public void testNumbersOutOfRangeWithPattern() {
+		final BasicFormatters formatters = new BasicFormatters();
+		Assert.assertEquals(Byte.valueOf((byte)127), formatters.parseFromString("127", Byte.class, "#,##0", Location.CZECH));
+		assertParseFails(formatters, "300", Byte.class);
+		assertParseFails(formatters, "-129", Byte.class);
+		assertParseFails(formatters, "40000", Short.class);
+		assertParseFails(formatters, "3000000000", Integer.class);
+		assertParseFails(formatters, "10000000000000000000", Long.class);
+	}
+	
+	private <T> void assertParseFails(BasicFormatters formatters, String str, Class<T> cls) {
+		try {
+			formatters.parseFromString(str, cls, "#,##0", Location.CZECH);
+			Assert.fail(str + " should not be parsed as " + cls.getSimpleName());
+		} catch (StringParseException ex) {
+			// expected
+		}
+	}
+	
 	@Test
 	public void testExtensibility() {
 		final Location loc = Location.CZECH;
@@ -277,6 +336,110 @@ public class BasicFormattersTest {
 		Assert.assertEquals(2014, cal.get(Calendar.YEAR));
 	}
 	
+	@Test
+	public void testJavaTimeFormatters() {
+		final Location loc = Location.CZECHIA;
+		final BasicFormatters formatters = new BasicFormatters();
+		
+		Assert.assertTrue(formatters.canHandle(LocalDate.class));
+		Assert.assertEquals(LocalDate.of(2014, 3, 12), formatters.parseFromString("12.3.2014", LocalDate.class, loc));
+		Assert.assertEquals("12.3.2014", formatters.makeString(LocalDate.of(2014, 3, 12), loc));
+		Assert.assertEquals("2014-03-12", formatters.makeString(LocalDate.of(2014, 3, 12), "yyyy-MM-dd", loc));
+		
+		LocalDateTime dateTime = LocalDateTime.of(2014, 3, 12, 16, 30);
+		Assert.assertEquals(dateTime, formatters.parseFromString("12.03.2014 16:30", LocalDateTime.class, "dd.MM.yyyy HH:mm", loc));
+		Assert.assertEquals(dateTime, formatters.parseFromString(formatters.makeString(dateTime, loc), LocalDateTime.class, loc));
+		
+		Assert.assertEquals(LocalTime.of(8, 5), formatters.parseFromString("8:05", LocalTime.class, loc));
+		Assert.assertEquals("08:05:00", formatters.makeString(LocalTime.of(8, 5), "HH:mm:ss", loc));
+		
+		Assert.assertEquals(YearMonth.of(2014, 3), formatters.parseFromString("3.2014", YearMonth.class, loc));
+		Assert.assertEquals("03/2014", formatters.makeString(YearMonth.of(2014, 3), "MM/yyyy", loc));
+	}
+	
+	@Test
+	public void testTimeZoneOfLocation() {
+		final Location prague = Location.getInstance(new Locale("cs", "CZ"), TimeZone.getTimeZone("Europe/Prague"));
+		final Location utc = Location.getInstance(new Locale("cs", "CZ"), TimeZone.getTimeZone("UTC"));
+		final BasicFormatters formatters = new BasicFormatters();
+		
+		Instant instant = Instant.parse("2014-03-12T15:30:00Z");
+		Assert.assertEquals("12.3.2014 16:30", formatters.makeString(instant, "d.M.yyyy HH:mm", prague));
+		Assert.assertEquals("12.3.2014 15:30", formatters.makeString(instant, "d.M.yyyy HH:mm", utc));
+		Assert.assertEquals(instant, formatters.parseFromString("12.3.2014 16:30", Instant.class, "d.M.yyyy HH:mm", prague));
+		Assert.assertEquals(instant, formatters.parseFromString(formatters.makeString(instant, prague), Instant.class, prague));
+		
+		Date date = Date.from(instant);
+		Assert.assertEquals("12.03.2014 16:30", formatters.makeString(date, "dd.MM.yyyy HH:mm", prague));
+		Assert.assertEquals(date, formatters.parseFromString("12.03.2014 15:30", Date.class, "dd.MM.yyyy HH:mm", utc));
+		// time zone in the string has precedence
+		Assert.assertEquals(date, formatters.parseFromString("12.03.2014 17:30 +0200", Date.class, "dd.MM.yyyy HH:mm Z", utc));
+		
+		ZonedDateTime zoned = ZonedDateTime.of(2014, 3, 12, 15, 30, 0, 0, ZoneId.of("UTC"));
+		Assert.assertEquals("12.3.2014 16:30", formatters.makeString(zoned, "d.M.yyyy HH:mm", prague));
+		Assert.assertEquals(zoned.withZoneSameInstant(ZoneId.of("Europe/Prague")), 
+			formatters.parseFromString("12.3.2014 16:30", ZonedDateTime.class, "d.M.yyyy HH:mm", prague));
+		Assert.assertTrue(zoned.isEqual(formatters.parseFromString(formatters.makeString(zoned, prague), ZonedDateTime.class, prague)));
+	}
+	
+	@Test(expected=StringParseException.class)
+	public void testInvalidDayOfMonth() {
+		new BasicFormatters().parseFromString("31.2.2014", Date.class, Location.CZECH);
+	}
+	
+	@Test
+	public void testConcurrentFormatting() throws Exception {
+		final Location loc = Location.CZECHIA;
+		final BasicFormatters formatters = new BasicFormatters();
+		final String dateFormat = "dd.MM.yyyy HH:mm";
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int t = 0; t < 8; t++) {
+				final int offset = t;
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() {
+						for (int i = 0; i < 500; i++) {
+							int day = 1 + (i + offset) % 28;
+							String dateStr = (day < 10 ? "0" + day : "" + day) + ".03.2014 16:30";
+							Date date = formatters.parseFromString(dateStr, Date.class, dateFormat, loc);
+							if (!dateStr.equals(formatters.makeString(date, dateFormat, loc))) {
+								return Boolean.FALSE;
+							}
+							String bdStr = (i + offset) + ",5";
+							BigDecimal bd = formatters.parseFromString(bdStr, BigDecimal.class, loc);
+							if (!bdStr.equals(formatters.makeString(bd, loc))) {
+								return Boolean.FALSE;
+							}
+						}
+						return Boolean.TRUE;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				Assert.assertEquals(Boolean.TRUE, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testFormatsCacheStats() {
+		final BasicFormatters formatters = new BasicFormatters();
+		final String pattern = "d.M.yyyy 'cache test'";
+		long misses = BasicFormatters.getFormatsCacheStats().getMissCount();
+		formatters.makeString(LocalDate.of(2014, 3, 12), pattern, Location.CZECHIA);
+		Assert.assertEquals(misses + 1, BasicFormatters.getFormatsCacheStats().getMissCount());
+		long hits = BasicFormatters.getFormatsCacheStats().getHitCount();
+		// formatter for the same locale is shared by all time zones
+		formatters.makeString(LocalDate.of(2014, 3, 12), pattern, 
+			Location.getInstance(new Locale("cs", "CZ"), TimeZone.getTimeZone("UTC")));
+		Assert.assertEquals(hits + 1, BasicFormatters.getFormatsCacheStats().getHitCount());
+		Assert.assertTrue(BasicFormatters.getFormatsCacheStats().getSize() <= BasicFormatters.getFormatsCacheStats().getMaxSize());
+	}
+	
 	@Test
 	public void testParsersKeyEquality() {
 		Assert.assertEquals(BasicFormatters.class, BasicFormatters.class);
@@ -304,7 +467,7 @@ public class BasicFormattersTest {
 				@Override
 				public Day parseFromString(String str, Class<Day> destClass, String formatPattern, Location loc) {
 					try {
-						Date date = FormatsCache.getOrCreateDateFormat(formatPattern, loc).parse(str);
+						Date date = newDateFormat(formatPattern, loc).parse(str);
 						return date != null ? Day.valueOf(date) : null;
 					} catch (Exception ex) {
 						throw new StringParseException(Day.class, str, ex);
@@ -313,11 +476,20 @@ public class BasicFormattersTest {
 				
 				@Override
 				public String makeString(Day value, String formatPattern, Location loc) {
-					return FormatsCache.getOrCreateDateFormat(formatPattern, loc).format(value);
+					return newDateFormat(formatPattern, loc).format(value);
 				}
 	
 			});
 			return Collections.unmodifiableMap(formatters);
 		}
+		
+		private static DateFormat newDateFormat(String pattern, Location loc) {
+			DateFormat format = new SimpleDateFormat(pattern != null && !pattern.isEmpty() ? pattern : FormatsCache.DEFAULT_DATE_FORMAT, loc.getLocale());
+			if (loc.getTimeZone() != null) {
+				format.setTimeZone(loc.getTimeZone());
+			}
+			format.setLenient(false); // without heuristics - allowing only strict pattern
+			return format;
+		}
 	}
 }
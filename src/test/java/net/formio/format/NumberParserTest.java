@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link NumberParser}.
+ * @author Radek Beran
+ */
+public class NumberParserTest {
+	
+	private static final Locale CS = new Locale("cs", "CZ");
+
+	@Test
+	public void testParseLong() {
+		NumberParser en = NumberParser.getInstance(Locale.ENGLISH);
+		assertEquals(1234L, en.parseLong("1,234", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(-45L, en.parseLong("-45.9", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(12L, en.parseLong("12abc", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(Long.MAX_VALUE, en.parseLong("" + Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(Long.MIN_VALUE, en.parseLong("" + Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		
+		NumberParser cs = NumberParser.getInstance(CS);
+		assertEquals(45L, cs.parseLong("45.45", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(45L, cs.parseLong("45,45", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+		assertEquals(1234L, cs.parseLong("1 234", Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+	}
+	
+	@Test
+	public void testInvalidLong() {
+		NumberParser en = NumberParser.getInstance(Locale.ENGLISH);
+		assertInvalidLong(en, "", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, "abc", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, "-", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, ",1", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, "9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, "-9223372036854775809", Long.MIN_VALUE, Long.MAX_VALUE);
+		assertInvalidLong(en, "128", Byte.MIN_VALUE, Byte.MAX_VALUE);
+		assertInvalidLong(en, "-32769", Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+	
+	@Test
+	public void testParseBigDecimal() {
+		NumberParser cs = NumberParser.getInstance(CS);
+		assertEquals(BigDecimal.valueOf(36, 1), cs.parseBigDecimal("3,6"));
+		// "." is not a decimal separator of Czech decimal numbers, as in DecimalFormat
+		assertEquals(BigDecimal.valueOf(3), cs.parseBigDecimal("3.6"));
+		assertEquals(BigDecimal.valueOf(360, 2), cs.parseBigDecimal("3,60"));
+		assertEquals(BigDecimal.valueOf(-55, 1), cs.parseBigDecimal("-5,5"));
+		assertEquals(BigDecimal.valueOf(1, -3), cs.parseBigDecimal("1E3"));
+		assertEquals(new BigDecimal("1234567890123456789012345.6789"), cs.parseBigDecimal("1 234 567 890 123 456 789 012 345,6789"));
+		
+		NumberParser en = NumberParser.getInstance(Locale.ENGLISH);
+		assertEquals(BigDecimal.valueOf(36L), en.parseBigDecimal("3,6"));
+		assertEquals(BigDecimal.valueOf(12345, 1), en.parseBigDecimal("1,234.5"));
+		assertEquals(BigDecimal.valueOf(5, 1), en.parseBigDecimal(".5"));
+	}
+	
+	@Test
+	public void testSameResultsAsDecimalFormat() throws Exception {
+		final Random random = new Random(42);
+		for (Locale locale : new Locale[] { Locale.ENGLISH, CS, Locale.GERMANY, Locale.FRANCE }) {
+			DecimalFormat format = (DecimalFormat)NumberFormat.getInstance(locale);
+			format.setMaximumFractionDigits(Short.MAX_VALUE);
+			format.setParseBigDecimal(true);
+			NumberParser parser = NumberParser.getInstance(locale);
+			for (int i = 0; i < 2000; i++) {
+				double value = i % 2 == 0 ? random.nextDouble() * Math.pow(10, random.nextInt(30) - 10) : random.nextInt() / 100.0;
+				String str = format.format(value);
+				BigDecimal expected = (BigDecimal)format.parse(str);
+				assertEquals(str, expected, parser.parseBigDecimal(str));
+				assertEquals(str, Double.valueOf(expected.doubleValue()), parser.parseDouble(str));
+			}
+		}
+	}
+	
+	private void assertInvalidLong(NumberParser parser, String str, long min, long max) {
+		try {
+			parser.parseLong(str, min, max, Long.class);
+			fail("StringParseException expected for '" + str + "'");
+		} catch (StringParseException ex) {
+			assertEquals(str, ex.getParsedString());
+		}
+	}
+}
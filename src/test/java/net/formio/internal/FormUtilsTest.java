@@ -26,6 +26,15 @@ import org.junit.Test;
  */
 public class FormUtilsTest {
 
+	@Test
+	public void testLabelKeyForName() {
+		assertEquals("registration-collegues-regDate-month", FormUtils.labelKeyForName("registration-collegues[0]-regDate[12]-month"));
+		assertEquals("registration-collegues", FormUtils.labelKeyForName("registration-collegues[]"));
+		assertEquals("registration-collegues[a]", FormUtils.labelKeyForName("registration-collegues[a]"));
+		assertEquals("registration[-collegues", FormUtils.labelKeyForName("registration[-collegues[1]"));
+		assertEquals("registration", FormUtils.labelKeyForName("registration"));
+	}
+	
 	@Test
 	public void testRemoveBrackets() {
 		assertEquals("registration-collegues-regDate-month", FormUtils.removeBrackets("registration-collegues[0]-regDate-month"));
@@ -21,6 +21,7 @@ import java.io.IOException;
 import net.formio.RequestParams;
 import net.formio.internal.FormUtils;
 import net.formio.servlet.FileUploadTest;
+import net.formio.upload.MemoryUploadSink;
 import net.formio.upload.MultipartRequestPreprocessor;
 
 import org.junit.Test;
@@ -54,4 +55,18 @@ public class PortletFileUploadTest extends FileUploadTest {
 			MultipartRequestPreprocessor.SIZE_THRESHOLD, 20L); // 20 bytes for the whole request only
 		testMaxRequestSizeExceededUpload(requestParams);
 	}
+	
+	@Test
+	public void testStreamingFileUpload() throws IOException {
+		MockMultipartActionRequest request = MockPortletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		testFileUpload(new PortletRequestParams(request, MemoryUploadSink.getInstance()));
+	}
+	
+	@Test
+	public void testStreamingMaxFileSizeExceededUpload() {
+		MockMultipartActionRequest request = MockPortletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		RequestParams requestParams = new PortletRequestParams(request, "UTF-8", MemoryUploadSink.getInstance(), 
+			MultipartRequestPreprocessor.TOTAL_SIZE_MAX, 10L); // 10 bytes per file only
+		testMaxFileSizeExceededUpload(requestParams);
+	}
 }
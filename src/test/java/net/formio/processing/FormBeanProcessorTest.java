@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.processing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.Forms;
+import net.formio.binding.BindingPlan;
+import net.formio.binding.DefaultBeanExtractor;
+import net.formio.binding.DefaultBinder;
+import net.formio.inmemory.MapParams;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Compiles sample data classes with {@link FormBeanProcessor} and uses generated form supports.
+ * @author Radek Beran
+ */
+public class FormBeanProcessorTest {
+	
+	private static final String OWNER_SOURCE = 
+		"package sample;\n" +
+		"import net.formio.binding.ArgumentName;\n" +
+		"@net.formio.processing.FormBean\n" +
+		"public class Owner {\n" +
+		"  private final String name;\n" +
+		"  private String email;\n" +
+		"  public Owner(@ArgumentName(\"name\") String name) { this.name = name; }\n" +
+		"  public String getName() { return name; }\n" +
+		"  public String getEmail() { return email; }\n" +
+		"  public void setEmail(String email) { this.email = email; }\n" +
+		"}\n";
+	
+	private static final String PET_SOURCE = 
+		"package sample;\n" +
+		"import java.util.List;\n" +
+		"import net.formio.binding.Ignored;\n" +
+		"@net.formio.processing.FormBean\n" +
+		"public class Pet {\n" +
+		"  private String name;\n" +
+		"  private int age;\n" +
+		"  private List<String> tags;\n" +
+		"  private Owner owner;\n" +
+		"  public String getName() { return name; }\n" +
+		"  public void setName(String name) { this.name = name; }\n" +
+		"  public int getAge() { return age; }\n" +
+		"  public void setAge(int age) { this.age = age; }\n" +
+		"  public List<String> getTags() { return tags; }\n" +
+		"  public void setTags(List<String> tags) { this.tags = tags; }\n" +
+		"  public Owner getOwner() { return owner; }\n" +
+		"  public void setOwner(Owner owner) { this.owner = owner; }\n" +
+		"  @Ignored public String getDescription() { return name + \" \" + age; }\n" +
+		"  public String getReadOnly() { return \"x\"; }\n" +
+		"}\n";
+	
+	private static ClassLoader classLoader;
+	
+	@BeforeClass
+	public static void compileSamples() throws IOException {
+		File dir = Files.createTempDirectory("formio-processor").toFile();
+		File srcDir = new File(dir, "src/sample");
+		srcDir.mkdirs();
+		File outDir = new File(dir, "classes");
+		outDir.mkdirs();
+		File ownerFile = writeSource(new File(srcDir, "Owner.java"), OWNER_SOURCE);
+		File petFile = writeSource(new File(srcDir, "Pet.java"), PET_SOURCE);
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		int result = compiler.run(null, null, null, 
+			"-classpath", System.getProperty("java.class.path"),
+			"-processor", FormBeanProcessor.class.getName(),
+			"-d", outDir.getAbsolutePath(),
+			"-s", outDir.getAbsolutePath(),
+			ownerFile.getAbsolutePath(), petFile.getAbsolutePath());
+		assertEquals("Compilation of sample classes failed", 0, result);
+		classLoader = new URLClassLoader(new URL[] { outDir.toURI().toURL() }, FormBeanProcessorTest.class.getClassLoader());
+	}
+	
+	@Test
+	public void testGeneratedFormSupport() throws Exception {
+		Class<?> petClass = classLoader.loadClass("sample.Pet");
+		CompiledForm<?> compiledForm = CompiledForms.forClass(petClass);
+		assertNotNull("Form support should be generated", compiledForm);
+		assertEquals(petClass, compiledForm.getDataClass());
+		
+		BindingPlan plan = BindingPlan.getInstance(petClass, DefaultBinder.DEFAULT_SETTER_REGEX);
+		assertTrue(plan == compiledForm.getBindingPlan());
+		assertEquals(1, plan.getSetters("age").size());
+		assertEquals(null, plan.getSetters("age").get(0).getMethod());
+		assertEquals(null, compiledForm.getExtractionPlan().getAccessor("description"));
+	}
+	
+	@Test
+	public void testCompiledMapping() throws Exception {
+		assertCompiledMapping(classLoader.loadClass("sample.Pet"));
+	}
+	
+	private <T> void assertCompiledMapping(Class<T> petClass) throws Exception {
+		FormMapping<T> form = Forms.compiled(petClass, "pet").build();
+		assertEquals(Arrays.asList("name", "age", "tags"), new java.util.ArrayList<String>(form.getFields().keySet()));
+		assertEquals(Collections.singleton("owner"), form.getNested().keySet());
+		
+		String sep = form.getConfig().getPathSeparator();
+		MapParams params = new MapParams();
+		params.put("pet" + sep + "name", "Rex");
+		params.put("pet" + sep + "age", "4");
+		params.put("pet" + sep + "tags", "dog");
+		params.put("pet" + sep + "owner" + sep + "name", "John");
+		params.put("pet" + sep + "owner" + sep + "email", "john@example.com");
+		FormData<T> formData = form.bind(params);
+		T pet = formData.getData();
+		assertEquals("Rex", petClass.getMethod("getName").invoke(pet));
+		assertEquals(Integer.valueOf(4), petClass.getMethod("getAge").invoke(pet));
+		assertEquals(Collections.singletonList("dog"), (List<?>)petClass.getMethod("getTags").invoke(pet));
+		Object owner = petClass.getMethod("getOwner").invoke(pet);
+		assertEquals("John", owner.getClass().getMethod("getName").invoke(owner));
+		assertEquals("john@example.com", owner.getClass().getMethod("getEmail").invoke(owner));
+		
+		FormMapping<T> filledForm = form.fill(formData);
+		assertEquals("Rex", filledForm.getFields().get("name").getValue());
+		assertEquals("John", filledForm.getNested().get("owner").getFields().get("name").getValue());
+		assertEquals("Rex", new DefaultBeanExtractor().extractBean(pet, Collections.singleton("name")).get("name"));
+	}
+	
+	@Test
+	public void testSubclassedExtractorDiscoversAccessors() throws Exception {
+		Class<?> petClass = classLoader.loadClass("sample.Pet");
+		Object pet = petClass.getConstructor().newInstance();
+		petClass.getMethod("setName", String.class).invoke(pet, "Rex");
+		DefaultBeanExtractor extractor = new DefaultBeanExtractor() {
+			@Override
+			public boolean isIgnored(Method method) {
+				return method.getName().equals("getName") || super.isIgnored(method);
+			}
+		};
+		assertFalse("Overridden isIgnored should be used", 
+			extractor.extractBean(pet, Collections.singleton("name")).containsKey("name"));
+	}
+	
+	private static File writeSource(File file, String source) throws IOException {
+		Writer writer = new OutputStreamWriter(new java.io.FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(source);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}
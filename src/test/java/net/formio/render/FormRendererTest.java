@@ -16,12 +16,21 @@
  */
 package net.formio.render;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import net.formio.FormElement;
+import net.formio.FormField;
 import net.formio.FormData;
 import net.formio.FormMapping;
 import net.formio.Forms;
 import net.formio.data.TestData;
 import net.formio.data.TestForms;
+import net.formio.domain.Car;
 import net.formio.domain.inputs.Profile;
 import net.formio.format.Location;
 import net.formio.validation.ValidationResult;
@@ -47,5 +56,137 @@ public class FormRendererTest {
 		
 		Forms.previewForm(filledForm, loc);
 	}
+	
+	@Test
+	public void testRenderToAppendable() throws IOException {
+		final Location loc = Location.ENGLISH;
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fillAndValidate(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		FormRenderer renderer = new FormRenderer(loc);
+		
+		StringWriter writer = new StringWriter();
+		renderer.renderElement(writer, filledForm);
+		String markup = renderer.renderElement(filledForm);
+		assertTrue(markup.contains("<input type=\"text\""));
+		assertEquals(markup, writer.toString());
+	}
+	
+	@Test
+	public void testWrappedRendererCustomization() throws IOException {
+		final Location loc = Location.ENGLISH;
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fill(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		FormRenderer customRenderer = new FormRenderer(loc) {
+			@Override
+			protected <T> void renderMarkupInputEnvelopeBegin(Appendable out, FormField<T> field) throws IOException {
+				out.append("<div class=\"custom-envelope\">").append(newLine());
+			}
+		};
+		WholeFormRenderer renderer = new WholeFormRenderer(customRenderer);
+		
+		StringWriter writer = new StringWriter();
+		renderer.renderHtmlForm(writer, filledForm, "#", FormMethod.POST);
+		String markup = writer.toString();
+		assertTrue(markup.contains("<div class=\"custom-envelope\">"));
+		assertEquals(markup, renderer.renderHtmlForm(filledForm, "#", FormMethod.POST));
+	}
+	
+	@Test
+	public void testCompiledRenderer() {
+		final Location loc = Location.ENGLISH;
+		FormRenderer renderer = new FormRenderer(loc);
+		CompiledFormRenderer<Profile> compiledRenderer = renderer.compile(TestForms.ALL_FIELDS_FORM);
+		
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fill(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		assertEquals(renderer.renderElement(filledForm), compiledRenderer.renderElement(filledForm));
+		
+		// validation messages and severity classes
+		FormMapping<Profile> validatedForm = TestForms.ALL_FIELDS_FORM.fillAndValidate(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		assertEquals(renderer.renderElement(validatedForm), compiledRenderer.renderElement(validatedForm));
+		
+		FormMapping<Profile> emptyForm = TestForms.ALL_FIELDS_FORM.fill(new FormData<Profile>(new Profile(), ValidationResult.empty), loc);
+		assertEquals(renderer.renderElement(emptyForm), compiledRenderer.renderElement(emptyForm));
+	}
+	
+	@Test
+	public void testCompiledRendererAccessibility() {
+		final Location loc = Location.ENGLISH;
+		FormRenderer renderer = new FormRenderer(loc);
+		CompiledFormRenderer<Car> compiledRenderer = renderer.compile(TestForms.CAR_ACCESSIBILITY_FORM);
+		
+		FormMapping<Car> filledForm = TestForms.CAR_ACCESSIBILITY_FORM.fill(new FormData<Car>(TestData.newCar(), ValidationResult.empty), loc);
+		String markup = compiledRenderer.renderElement(filledForm);
+		assertTrue(markup.contains("readonly=\"readonly\""));
+		assertEquals(renderer.renderElement(filledForm), markup);
+	}
+	
+	@Test
+	@SuppressWarnings("deprecation") // subclass of existing application overrides deprecated String hooks
+	public void testOverriddenStringHooks() throws IOException {
+		final Location loc = Location.ENGLISH;
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fill(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		FormRenderer legacyRenderer = new FormRenderer(loc) {
+			@Override
+			protected <T> String renderMarkupInput(FormField<T> field) {
+				return "<!-- legacy input -->" + super.renderMarkupInput(field);
+			}
+			
+			@Override
+			protected <T> String renderMarkupInputEnvelope(FormField<T> field, String innerMarkup) {
+				return "<div class=\"legacy-envelope\">" + innerMarkup + "</div>";
+			}
+		};
+		
+		StringWriter writer = new StringWriter();
+		legacyRenderer.renderElement(writer, filledForm);
+		String markup = writer.toString();
+		assertTrue(markup.contains("<div class=\"legacy-envelope\"><!-- legacy input --><input type=\"text\""));
+		assertEquals(markup, legacyRenderer.renderElement(filledForm));
+		assertEquals(markup, legacyRenderer.compile(TestForms.ALL_FIELDS_FORM).renderElement(filledForm));
+		assertTrue(new WholeFormRenderer(legacyRenderer).renderHtmlForm(filledForm, "#", FormMethod.POST).contains(markup));
+		assertTrue(legacyRenderer.ajaxResponse().update(filledForm.getFields().get("firstName")).asString().contains("<!-- legacy input -->"));
+	}
+	
+	@Test
+	@SuppressWarnings("deprecation") // subclass of existing application overrides deprecated String hooks
+	public void testStringHooksCallingSuperRenderSameMarkup() {
+		final Location loc = Location.ENGLISH;
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fillAndValidate(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		FormRenderer legacyRenderer = new FormRenderer(loc) {
+			@Override
+			public <T> String renderElement(FormElement<T> element) {
+				return super.renderElement(element);
+			}
+			
+			@Override
+			protected <T> String renderMarkupElementPlaceholder(FormElement<T> element, String innerMarkup) {
+				return super.renderMarkupElementPlaceholder(element, innerMarkup);
+			}
+			
+			@Override
+			protected <T> String renderMarkupMappingBox(FormMapping<T> mapping, String innerMarkup) {
+				return super.renderMarkupMappingBox(mapping, innerMarkup);
+			}
+			
+			@Override
+			protected <T> String renderMarkupFormGroup(FormField<T> field, String innerMarkup) {
+				return super.renderMarkupFormGroup(field, innerMarkup);
+			}
+			
+			@Override
+			protected <T> String renderFieldText(FormField<T> field) {
+				return super.renderFieldText(field);
+			}
+			
+			@Override
+			protected <T> String renderMarkupSelect(FormField<T> field) {
+				return super.renderMarkupSelect(field);
+			}
+			
+			@Override
+			protected <T> String renderMarkupMessageList(FormElement<T> element) {
+				return super.renderMarkupMessageList(element);
+			}
+		};
+		assertEquals(new FormRenderer(loc).renderElement(filledForm), legacyRenderer.renderElement(filledForm));
+	}
 
 }
@@ -17,10 +17,19 @@
 package net.formio.render.tdi;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.data.TestData;
+import net.formio.data.TestForms;
+import net.formio.domain.inputs.Profile;
 import net.formio.format.Location;
+import net.formio.validation.ValidationResult;
 import net.formio.render.FormRenderer;
 
 import org.junit.Test;
@@ -37,6 +46,26 @@ public class TdiResponseBuilderTest {
 				.status("OK").asString());
 	}
 	
+	@Test
+	public void testWriteTo() throws IOException {
+		Location loc = Location.getInstance(Locale.ENGLISH);
+		FormMapping<Profile> filledForm = TestForms.ALL_FIELDS_FORM.fill(new FormData<Profile>(TestData.newAllFields(), ValidationResult.empty), loc);
+		FormRenderer renderer = new FormRenderer(loc);
+		TdiResponseBuilder builder = new TdiResponseBuilder(renderer)
+			.update(filledForm.getFields().get("firstName"))
+			.focusForName("profile-firstName");
+		
+		StringWriter writer = new StringWriter();
+		builder.writeTo(writer);
+		String response = writer.toString();
+		assertTrue(response.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>" + newLine() + 
+			"<response>" + newLine() + 
+			"<status>OK</status>" + newLine() +
+			"<update target=\""));
+		assertTrue(response.contains(renderer.renderElementMarkup(filledForm.getFields().get("firstName"))));
+		assertEquals(builder.asString(), response);
+	}
+	
 	private String newLine() {
 		return System.getProperty("line.separator");
 	}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @author Radek Beran
+ */
+public class HmacTokenAuthorizerTest {
+	
+	private static final String SECRET = "e#2fgTN^f31";
+
+	@Test
+	public void testValidToken() {
+		HmacTokenAuthorizer authorizer = new HmacTokenAuthorizer();
+		String token = authorizer.generateToken(SECRET);
+		assertTrue("Token should be valid", authorizer.isValidToken(token, SECRET));
+		assertTrue("Token should be valid", authorizer.isValidToken(authorizer.generateToken(SECRET), SECRET));
+	}
+	
+	@Test
+	public void testInvalidToken() {
+		HmacTokenAuthorizer authorizer = new HmacTokenAuthorizer();
+		String token = authorizer.generateToken("e#2fgTN^f323");
+		assertFalse("Token should be invalid", authorizer.isValidToken(token, SECRET));
+		assertFalse("Token should be invalid", authorizer.isValidToken("some_invalid_token_value", SECRET));
+		assertFalse("Token should be invalid", authorizer.isValidToken("@@@_123", SECRET));
+		assertFalse("Token should be invalid", authorizer.isValidToken("_123", SECRET));
+	}
+	
+	@Test
+	public void testTamperedTime() {
+		HmacTokenAuthorizer authorizer = new HmacTokenAuthorizer();
+		long time = System.currentTimeMillis();
+		String token = authorizer.tokenFromSecretAndTime(SECRET, time);
+		String signature = token.substring(0, token.lastIndexOf('_'));
+		assertFalse("Token should be invalid", authorizer.isValidToken(signature + "_" + (time + 1), SECRET));
+	}
+	
+	@Test(expected=InvalidTokenException.class)
+	public void testInvalidTokenException() {
+		HmacTokenAuthorizer authorizer = new HmacTokenAuthorizer();
+		authorizer.validateToken(authorizer.generateToken("e#2fgTN^f323"), SECRET);
+	}
+	
+	@Test
+	public void testExpiredToken() {
+		HmacTokenAuthorizer authorizer = new HmacTokenAuthorizer();
+		long currentTime = System.currentTimeMillis();
+		String validToken = authorizer.tokenFromSecretAndTime(SECRET, currentTime - authorizer.getMaxAllowedTimeDifference() + 10000);
+		assertTrue("Token should be valid", authorizer.isValidToken(validToken, SECRET));
+		String expiredToken = authorizer.tokenFromSecretAndTime(SECRET, currentTime - authorizer.getMaxAllowedTimeDifference() - 10000);
+		assertFalse("Token should be invalid", authorizer.isValidToken(expiredToken, SECRET));
+	}
+	
+	@Test
+	public void testGenerateSecret() {
+		String secret = SecurityUtils.generateSecret(16);
+		assertEquals(22, secret.length());
+		assertFalse(secret.equals(SecurityUtils.generateSecret(16)));
+	}
+}
@@ -16,13 +16,56 @@
  */
 package net.formio.servlet;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 
+import net.formio.FieldProps;
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.Forms;
 import net.formio.RequestParams;
+import net.formio.domain.Registration;
+import net.formio.format.Location;
 import net.formio.internal.FormUtils;
+import net.formio.upload.ConstrainedUploadSink;
+import net.formio.upload.DiscardUploadSink;
+import net.formio.upload.FileChannelUploadSink;
+import net.formio.upload.MemoryUploadSink;
 import net.formio.upload.MultipartRequestPreprocessor;
+import net.formio.upload.PathUploadedFile;
+import net.formio.upload.UploadConstraint;
+import net.formio.upload.UploadRejectedError;
+import net.formio.upload.UploadedFile;
+import net.formio.validation.ConstraintViolationMessage;
+import net.formio.validation.Validator;
+import net.formio.validation.constraints.FileExtension;
+import net.formio.validation.constraints.MaxFileSize;
+import net.formio.validation.validators.ContentTypeValidator;
+import net.formio.validation.validators.MagicNumberValidator;
+import net.formio.validation.validators.MaxFileSizeValidator;
+import net.formio.validation.validators.UploadedFileExtensionValidator;
 
+import org.apache.commons.fileupload.util.Streams;
 import org.junit.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 /**
@@ -53,4 +96,255 @@ public class ServletFileUploadTest extends FileUploadTest {
 			MultipartRequestPreprocessor.SIZE_THRESHOLD, 20L); // 20 bytes for the whole request only
 		testMaxRequestSizeExceededUpload(requestParams);
 	}
+	
+	@Test
+	public void testStreamingFileUploadToDirectory() throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			RequestParams requestParams = new ServletRequestParams(request, new FileChannelUploadSink(dir));
+			PathUploadedFile file = (PathUploadedFile)requestParams.getUploadedFile(CV_PARAM_NAME);
+			assertEquals(dir, file.getPath().getParent());
+			assertEquals(13390L, Files.size(file.getPath()));
+			testFileUpload(requestParams);
+			assertFalse("File should be deleted", Files.exists(file.getPath()));
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	@Test
+	public void testStreamingFileUploadToMemory() throws IOException {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		testFileUpload(new ServletRequestParams(request, MemoryUploadSink.getInstance()));
+	}
+	
+	@Test
+	public void testStreamingDiscardedFileUpload() {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		RequestParams requestParams = new ServletRequestParams(request, DiscardUploadSink.getInstance());
+		assertNull(requestParams.getRequestError());
+		assertNull(requestParams.getUploadedFile(CV_PARAM_NAME));
+	}
+	
+	@Test
+	public void testStreamingMaxFileSizeExceededUpload() throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			RequestParams requestParams = new ServletRequestParams(request, "UTF-8", new FileChannelUploadSink(dir), 
+				MultipartRequestPreprocessor.TOTAL_SIZE_MAX, 10L); // 10 bytes per file only
+			testMaxFileSizeExceededUpload(requestParams);
+			Stream<Path> files = Files.list(dir);
+			try {
+				assertTrue("Partially written file should be deleted", files.count() == 0);
+			} finally {
+				files.close();
+			}
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	@Test
+	public void testStreamingMaxRequestSizeExceededUpload() {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		RequestParams requestParams = new ServletRequestParams(request, "UTF-8", MemoryUploadSink.getInstance(), 
+			20L, MultipartRequestPreprocessor.SINGLE_FILE_SIZE_MAX); // 20 bytes for the whole request only
+		testMaxRequestSizeExceededUpload(requestParams);
+	}
+	
+	@Test
+	public void testTransferStoredFileToPath() throws IOException {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		RequestParams requestParams = new ServletRequestParams(request, "UTF-8", FormUtils.getTempDir());
+		assertTransferredToPath(requestParams.getUploadedFile(CV_PARAM_NAME));
+	}
+	
+	@Test
+	public void testTransferInMemoryFileToPath() throws IOException {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		RequestParams requestParams = new ServletRequestParams(request, "UTF-8", FormUtils.getTempDir(), 
+			20480, MultipartRequestPreprocessor.TOTAL_SIZE_MAX, MultipartRequestPreprocessor.SINGLE_FILE_SIZE_MAX);
+		assertTransferredToPath(requestParams.getUploadedFile(CV_PARAM_NAME));
+	}
+	
+	@Test
+	public void testTransferStreamedFileToPath() throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			RequestParams requestParams = new ServletRequestParams(request, new FileChannelUploadSink(dir));
+			PathUploadedFile file = (PathUploadedFile)requestParams.getUploadedFile(CV_PARAM_NAME);
+			assertTransferredToPath(file);
+			assertFalse("Temporary file should be moved", Files.exists(file.getPath()));
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	@Test
+	public void testTransferToChannel() throws IOException {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		assertTransferredToChannel(new ServletRequestParams(request, "UTF-8", FormUtils.getTempDir()).getUploadedFile(CV_PARAM_NAME));
+		request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		assertTransferredToChannel(new ServletRequestParams(request, MemoryUploadSink.getInstance()).getUploadedFile(CV_PARAM_NAME));
+	}
+	
+	@Test
+	public void testCloseDeletesTempFiles() throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			ServletRequestParams requestParams = new ServletRequestParams(request, "UTF-8", dir.toFile());
+			try {
+				assertEquals(1, countFiles(dir));
+				assertEquals(13390L, requestParams.getUploadedFile(CV_PARAM_NAME).getSize());
+			} finally {
+				requestParams.close();
+			}
+			assertEquals("Temporary file should be deleted", 0, countFiles(dir));
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	@Test
+	public void testCloseDeletesStreamedFiles() throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			try (ServletRequestParams requestParams = new ServletRequestParams(request, new FileChannelUploadSink(dir))) {
+				assertEquals(13390L, requestParams.getUploadedFile(CV_PARAM_NAME).getSize());
+				assertEquals(1, countFiles(dir));
+			}
+			assertEquals("Stored file should be deleted", 0, countFiles(dir));
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	@Test
+	public void testConstrainedUploadAccepted() throws IOException {
+		FormMapping<Registration> form = formWithCvValidators(
+			MaxFileSizeValidator.getInstance("20KB"), 
+			UploadedFileExtensionValidator.getInstance(new String[] { "pdf" }, true),
+			ContentTypeValidator.getInstance("application/*"), 
+			MagicNumberValidator.getInstance("%PDF".getBytes("US-ASCII")));
+		Map<String, List<UploadConstraint>> constraints = ConstrainedUploadSink.collectConstraints(form);
+		assertEquals(4, constraints.get(CV_PARAM_NAME).size());
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		testFileUpload(new ServletRequestParams(request, new ConstrainedUploadSink(MemoryUploadSink.getInstance(), form)));
+	}
+	
+	@Test
+	public void testUploadRejectedByExtension() throws IOException {
+		assertUploadRejected(formWithCvValidators(UploadedFileExtensionValidator.getInstance(new String[] { "doc", "docx" }, true)), 
+			FileExtension.MESSAGE);
+	}
+	
+	@Test
+	public void testUploadRejectedByContentType() throws IOException {
+		assertUploadRejected(formWithCvValidators(ContentTypeValidator.getInstance("image/*")), ContentTypeValidator.MESSAGE);
+	}
+	
+	@Test
+	public void testUploadRejectedByMagicNumber() throws IOException {
+		byte[] pngSignature = new byte[] { (byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+		assertUploadRejected(formWithCvValidators(MagicNumberValidator.getInstance(pngSignature)), MagicNumberValidator.MESSAGE);
+	}
+	
+	@Test
+	public void testUploadRejectedBySize() throws IOException {
+		assertUploadRejected(formWithCvValidators(MaxFileSizeValidator.getInstance("1KB")), MaxFileSize.MESSAGE);
+	}
+	
+	@Test
+	public void testRejectedFileIsNotRead() throws IOException {
+		MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		Streams.copy(request.getInputStream(), bos, true);
+		final ByteArrayInputStream content = new ByteArrayInputStream(bos.toByteArray());
+		HttpServletRequest countingRequest = new HttpServletRequestWrapper(request) {
+			@Override
+			public ServletInputStream getInputStream() {
+				return new DelegatingServletInputStream(content);
+			}
+		};
+		FormMapping<Registration> form = formWithCvValidators(UploadedFileExtensionValidator.getInstance(new String[] { "doc" }, true));
+		RequestParams requestParams = new ServletRequestParams(countingRequest, new ConstrainedUploadSink(MemoryUploadSink.getInstance(), form));
+		assertTrue("Params should contain request error", requestParams.getRequestError() instanceof UploadRejectedError);
+		assertTrue("Rest of the rejected file should not be read", content.available() > 5000);
+	}
+	
+	@SafeVarargs
+	private final FormMapping<Registration> formWithCvValidators(Validator<UploadedFile> ... validators) {
+		FieldProps<UploadedFile> cvField = Forms.<UploadedFile>field("cv", "file");
+		for (Validator<UploadedFile> validator : validators) {
+			cvField = cvField.validator(validator);
+		}
+		return Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons")
+			.field(cvField.build())
+			.build(Location.ENGLISH);
+	}
+	
+	private void assertUploadRejected(FormMapping<Registration> form, String expectedMessageKey) throws IOException {
+		Path dir = Files.createTempDirectory("formio-upload");
+		try {
+			MockHttpServletRequest request = MockServletRequests.newRequest(CV_PARAM_NAME, "/" + PDF_FILE_NAME, PDF_MIME_TYPE);
+			RequestParams requestParams = new ServletRequestParams(request, new ConstrainedUploadSink(new FileChannelUploadSink(dir), form));
+			assertTrue("Params should contain request error", requestParams.getRequestError() instanceof UploadRejectedError);
+			assertNull(requestParams.getUploadedFile(CV_PARAM_NAME));
+			assertEquals("Rejected file should not be stored", 0, countFiles(dir));
+			
+			FormData<Registration> formData = form.bind(requestParams, Location.ENGLISH);
+			assertFalse(formData.isValid());
+			List<ConstraintViolationMessage> cvErrors = formData.getValidationResult().getFieldMessages().get(CV_PARAM_NAME);
+			assertEquals(expectedMessageKey, "{" + cvErrors.get(0).getMsgKey() + "}");
+		} finally {
+			Files.delete(dir);
+		}
+	}
+	
+	private void assertTransferredToPath(UploadedFile file) throws IOException {
+		byte[] expected = readContent(file);
+		Path target = Files.createTempFile("formio-transfer", ".pdf");
+		try {
+			file.transferTo(target);
+			assertTrue(Arrays.equals(expected, Files.readAllBytes(target)));
+		} finally {
+			Files.delete(target);
+		}
+	}
+	
+	private void assertTransferredToChannel(UploadedFile file) throws IOException {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			assertEquals(13390L, file.transferTo(Channels.newChannel(bos)));
+			assertTrue(Arrays.equals(readContent(file), bos.toByteArray()));
+		} finally {
+			file.deleteTempFile();
+		}
+	}
+	
+	private byte[] readContent(UploadedFile file) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		ReadableByteChannel content = file.getContent();
+		try {
+			Channels.newInputStream(content).transferTo(bos);
+		} finally {
+			content.close();
+		}
+		return bos.toByteArray();
+	}
+	
+	private long countFiles(Path dir) throws IOException {
+		Stream<Path> files = Files.list(dir);
+		try {
+			return files.count();
+		} finally {
+			files.close();
+		}
+	}
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import net.formio.Config;
+import net.formio.FormData;
+import net.formio.FormMapping;
+import net.formio.Forms;
+import net.formio.MappingType;
+import net.formio.binding.DefaultBeanExtractor;
+import net.formio.domain.AttendanceReason;
+import net.formio.domain.Collegue;
+import net.formio.domain.RegDate;
+import net.formio.domain.Registration;
+import net.formio.format.Location;
+import net.formio.inmemory.MapParams;
+
+import org.junit.Test;
+
+/**
+ * @author Radek Beran
+ */
+public class DefaultBeanValidatorTest {
+
+	@Test
+	public void testValidatorCreatedOncePerLocale() {
+		CountingBeanValidator beanValidator = new CountingBeanValidator();
+		Config config = Forms.config().beanValidator(beanValidator).build();
+		FormMapping<Registration> form = Forms.basic(Registration.class, "registration")
+			.fields("attendanceReasons", "email")
+			.nested(Forms.basic(Collegue.class, "collegues", null, MappingType.LIST)
+				.fields("name", "email")
+				.nested(Forms.basic(RegDate.class, "regDate").fields("month", "year").build(config))
+				.build(config))
+			.build(config);
+		
+		final int colleguesCount = 50;
+		final String pathSep = config.getPathSeparator();
+		MapParams params = new MapParams();
+		params.put("registration" + pathSep + "email", "registration@email.com");
+		params.put("registration" + pathSep + "attendanceReasons", AttendanceReason.CERTIFICATION.name());
+		for (int i = 0; i < colleguesCount; i++) {
+			String prefix = "registration" + pathSep + "collegues[" + i + "]" + pathSep;
+			params.put(prefix + "name", "Collegue " + i);
+			params.put(prefix + "email", "collegue" + i + "@email.com");
+			params.put(prefix + "regDate" + pathSep + "month", "" + (i % 12 + 1));
+			params.put(prefix + "regDate" + pathSep + "year", "2014");
+		}
+		
+		FormData<Registration> formData = form.bind(params, Location.ENGLISH);
+		assertEquals(colleguesCount, formData.getData().getCollegues().size());
+		form.bind(params, Location.ENGLISH);
+		assertEquals(1, beanValidator.createdValidators.get());
+		
+		form.bind(params, Location.CZECH);
+		assertEquals(2, beanValidator.createdValidators.get());
+	}
+	
+	static class CountingBeanValidator extends DefaultBeanValidator {
+		final AtomicInteger createdValidators = new AtomicInteger();
+		
+		CountingBeanValidator() {
+			super(Validation.buildDefaultValidatorFactory(), new DefaultBeanExtractor());
+		}
+		
+		@Override
+		protected Validator createValidator(ValidatorFactory validatorFactory, MessageInterpolator msgInterpolator) {
+			createdValidators.incrementAndGet();
+			return super.createValidator(validatorFactory, msgInterpolator);
+		}
+	}
+}
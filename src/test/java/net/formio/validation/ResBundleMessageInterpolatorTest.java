@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.formio.validation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Radek Beran
+ */
+public class ResBundleMessageInterpolatorTest {
+	
+	private final ResBundleMessageInterpolator interpolator = new ResBundleMessageInterpolator(
+		new PlatformResBundleLocator(ResBundleMessageInterpolator.DEFAULT_VALIDATION_MESSAGES), Locale.ENGLISH);
+
+	@Test
+	public void testInterpolateBundleMessage() {
+		Map<String, Serializable> params = new LinkedHashMap<String, Serializable>();
+		params.put("min", Integer.valueOf(1));
+		params.put("max", Integer.valueOf(10));
+		for (int i = 0; i < 2; i++) {
+			// second pass uses cached template
+			assertEquals("Size must be between 1 and 10.", 
+				interpolator.interpolateMessage("{javax.validation.constraints.Size.message}", params, Locale.ENGLISH));
+		}
+		assertEquals(1, interpolator.getResolvedMessagesCacheStats().getHitCount());
+		assertEquals(1, interpolator.getResolvedMessagesCacheStats().getSize());
+		
+		params.clear();
+		params.put("allowedExtensions", new String[] { "jpg", "png" });
+		assertEquals("\"File extension must be one of the following [jpg, png]\".", 
+			interpolator.interpolateMessage("{constraints.FileExtension.message}", params, Locale.ENGLISH));
+	}
+	
+	@Test
+	public void testInterpolatePlaceholders() {
+		Map<String, Serializable> params = new LinkedHashMap<String, Serializable>();
+		params.put("min", Integer.valueOf(1));
+		params.put("max", Integer.valueOf(5));
+		assertEquals("Value {unknown} stays, {} is not a placeholder, max is 5", 
+			interpolator.interpolateMessage("Value {unknown} stays, {} is not a placeholder, max is {max}", params, Locale.ENGLISH));
+		assertEquals("Escaped {min} and 1", 
+			interpolator.interpolateMessage("Escaped \\{min\\} and {min}", params, Locale.ENGLISH));
+		assertEquals("No placeholders", 
+			interpolator.interpolateMessage("No placeholders", params, Locale.ENGLISH));
+	}
+	
+	@Test
+	public void testCompileTemplate() {
+		assertEquals("a {b} c {d{e}", MessageTemplate.compile("a {b} c {d{e}").toString());
+		assertEquals("{}", MessageTemplate.compile("{}").toString());
+		assertEquals("unclosed {", MessageTemplate.compile("unclosed {").toString());
+	}
+}
@@ -33,5 +33,16 @@ public class RegexValidationTest {
 		assertFalse("Value is valid", RegexValidation.isValid(email, myEmailPattern));
 		assertFalse("Value is valid", RegexValidation.isValid("some@mail", myEmailPattern));
 	}
+	
+	@Test
+	public void testCompiledPatternIsCached() {
+		String regexp = "[0-9]{3} ?[0-9]{2}";
+		java.util.regex.Pattern pattern = RegexValidation.compile(regexp, Pattern.Flag.MULTILINE);
+		assertSame(pattern, RegexValidation.compile(regexp, Pattern.Flag.MULTILINE));
+		assertNotSame(pattern, RegexValidation.compile(regexp));
+		assertEquals(java.util.regex.Pattern.MULTILINE, pattern.flags());
+		assertTrue(RegexValidation.isValid("252 41", pattern));
+		assertFalse(RegexValidation.isValid("25241x", pattern));
+	}
 
 }